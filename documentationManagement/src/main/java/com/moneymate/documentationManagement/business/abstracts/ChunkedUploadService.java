@@ -0,0 +1,20 @@
+package com.moneymate.documentationManagement.business.abstracts;
+
+import java.io.InputStream;
+
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.Result;
+import com.moneymate.documentationManagement.entities.concretes.Document;
+import com.moneymate.documentationManagement.entities.concretes.UploadSession;
+import com.moneymate.documentationManagement.entities.concretes.UploadSessionPart;
+
+public interface ChunkedUploadService {
+    DataResult<UploadSession> initiateUpload(String originalFileName, String contentType, String title,
+                                    String institutionName, String institutionType, String institutionUrl,
+                                    String documentType, String documentDescription);
+
+    DataResult<UploadSessionPart> uploadPart(String uploadId, int partNumber, InputStream inputStream, long size);
+    DataResult<Document> completeUpload(String uploadId);
+    Result abortUpload(String uploadId);
+    void cleanupStaleUploads();
+}
@@ -0,0 +1,15 @@
+package com.moneymate.documentationManagement.business.abstracts;
+
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
+import com.moneymate.documentationManagement.entities.concretes.DirectUpload;
+import com.moneymate.documentationManagement.entities.concretes.Document;
+
+public interface DirectUploadService {
+    DataResult<DirectUpload> initiateUpload(String originalFileName, String contentType, Long size, String sha256);
+
+    DataResult<Document> confirmUpload(String uploadId, String title, String institutionName,
+                                    String institutionType, String institutionUrl,
+                                    String documentType, String documentDescription);
+
+    void cleanupExpiredUploads();
+}
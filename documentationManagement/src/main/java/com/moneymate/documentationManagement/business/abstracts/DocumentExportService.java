@@ -0,0 +1,14 @@
+package com.moneymate.documentationManagement.business.abstracts;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import com.moneymate.documentationManagement.business.requests.DocumentExportRequest;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
+import com.moneymate.documentationManagement.entities.concretes.Document;
+
+public interface DocumentExportService {
+    DataResult<List<Document>> findDocuments(DocumentExportRequest request);
+    void writeZip(List<Document> documents, OutputStream outputStream) throws IOException;
+}
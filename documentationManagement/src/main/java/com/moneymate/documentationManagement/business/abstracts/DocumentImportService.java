@@ -0,0 +1,12 @@
+package com.moneymate.documentationManagement.business.abstracts;
+
+import com.moneymate.documentationManagement.business.requests.DocumentImportRequest;
+import com.moneymate.documentationManagement.business.responses.ImportReport;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
+
+public interface DocumentImportService {
+    DataResult<ImportReport> startImport(DocumentImportRequest request);
+    DataResult<ImportReport> resumeImport(String importId);
+    DataResult<ImportReport> getImport(String importId);
+    void markInterruptedImports();
+}
@@ -0,0 +1,19 @@
+package com.moneymate.documentationManagement.business.abstracts;
+
+import com.moneymate.documentationManagement.business.events.DocumentDeletedEvent;
+import com.moneymate.documentationManagement.business.events.DocumentSavedEvent;
+import com.moneymate.documentationManagement.business.events.DocumentUpdatedEvent;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
+
+public interface DocumentSearchIndexService {
+    void onDocumentSaved(DocumentSavedEvent event);
+    void onDocumentUpdated(DocumentUpdatedEvent event);
+    void onDocumentDeleted(DocumentDeletedEvent event);
+    void scheduleRebuild();
+    DataResult<Long> rebuildIndex();
+    void scheduleCatchUp();
+    DataResult<Long> catchUpIndex();
+    void scheduleReconcile();
+    DataResult<Long> reconcileIndex();
+    void refreshIndex();
+}
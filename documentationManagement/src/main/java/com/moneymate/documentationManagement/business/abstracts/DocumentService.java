@@ -4,17 +4,31 @@ import java.util.List;
 import java.util.Optional;
 
 import com.moneymate.documentationManagement.business.requests.DocumentUpdateRequest;
+import com.moneymate.documentationManagement.business.responses.CursorPage;
+import com.moneymate.documentationManagement.business.responses.DocumentSearchHit;
 import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
 import com.moneymate.documentationManagement.core.utilities.exceptions.Results.Result;
 import com.moneymate.documentationManagement.entities.concretes.Document;
 
 public interface DocumentService {
     DataResult<Document> saveDocument(Document document);
+    DataResult<List<Document>> saveDocuments(List<Document> documents);
+    DataResult<List<Document>> insertDocuments(List<Document> documents);
     DataResult<Optional<Document>>  getDocumentById(Long id);
-    DataResult<List<Document>> getAllDocuments();
-    DataResult<List<Document>>  getDocumentsByInstitution(String institutionName);
-    DataResult<List<Document>>  getDocumentsByType(String documentType);
-    DataResult<List<Document>>  searchDocumentsByTitle(String title);
+    DataResult<CursorPage<Document>> getAllDocuments(String cursor, Integer size);
+    DataResult<CursorPage<Document>> getDocumentsByInstitution(String institutionName, String cursor, Integer size);
+    DataResult<CursorPage<Document>> getDocumentsByType(String documentType, String cursor, Integer size);
+    DataResult<CursorPage<Document>> searchDocumentsByTitle(String title, String cursor, Integer size);
+    DataResult<List<Document>>  searchDocumentsByContent(String query);
+    DataResult<List<DocumentSearchHit>> searchDocuments(String query, Integer size);
+    DataResult<List<DocumentSearchHit>> searchDocumentsFuzzy(String query, Double threshold, Integer size);
+    DataResult<List<DocumentSearchHit>> searchDocumentsInstant(String query, Integer size);
     Result deleteDocument(Long id);
     DataResult<Document> updateDocument(Long id, DocumentUpdateRequest document);
+
+    /**
+     * Katmanlama kuralı için dökümanın son erişim zamanını yazar. Yalnızca içerik okunduğunda ya da istemciye
+     * içeriğe erişim URL'i verildiğinde çağrılır; metadata okumaları erişim sayılmaz.
+     */
+    void recordAccess(Document document);
 }
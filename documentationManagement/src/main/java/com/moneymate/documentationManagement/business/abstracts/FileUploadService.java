@@ -1,17 +1,49 @@
 package com.moneymate.documentationManagement.business.abstracts;
 
+import com.moneymate.documentationManagement.business.requests.BatchUploadItemRequest;
+import com.moneymate.documentationManagement.business.responses.BatchUploadItemResponse;
 import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
 import com.moneymate.documentationManagement.core.utilities.exceptions.Results.Result;
+import com.moneymate.documentationManagement.dataAccess.abstracts.StorageBackend.ObjectStat;
 import com.moneymate.documentationManagement.entities.concretes.Document;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
 
 public interface FileUploadService {
     DataResult<Document> uploadFileWithMetadata(MultipartFile file, String title, String institutionName,
                                     String institutionType, String institutionUrl,
                                     String documentType, String documentDescription);
+
+    DataResult<Document> uploadStreamWithMetadata(InputStream inputStream, String originalFileName,
+                                    String contentType, String title, String institutionName,
+                                    String institutionType, String institutionUrl,
+                                    String documentType, String documentDescription);
+
+    /**
+     * Boyutu önceden bilinen stream'i yükler (ör. diske alınmış dosya); parça boyutundan küçük dosyalar
+     * multipart yerine tek PUT ile gönderilir. Boyut bilinmiyorsa -1 verilir.
+     */
+    DataResult<Document> uploadStreamWithMetadata(InputStream inputStream, long size, String originalFileName,
+                                    String contentType, String title, String institutionName,
+                                    String institutionType, String institutionUrl,
+                                    String documentType, String documentDescription);
+
+    /**
+     * Dosyayı depolamaya yükler ve kaydedilmemiş dökümanı döner (toplu içe aktarım).
+     * Döküman kaydedilemezse nesne releaseFile ile bırakılmalıdır.
+     */
+    DataResult<Document> prepareDocument(InputStream inputStream, long size, String originalFileName,
+                                    String contentType, BatchUploadItemRequest metadata);
+
+    DataResult<List<BatchUploadItemResponse>> uploadBatch(List<MultipartFile> files,
+                                    List<BatchUploadItemRequest> metadata);
     
     Result uploadFile(MultipartFile file);
     Result deleteFile(String fileName);
-    Result getFileUrl(String fileName);
+    Result releaseFile(String fileName);
+    DataResult<String> getFileUrl(String fileName);
+    DataResult<ObjectStat> getFileInfo(String fileName);
+    void writeFile(String fileName, long offset, long length, OutputStream outputStream) throws Exception;
 }
@@ -0,0 +1,11 @@
+package com.moneymate.documentationManagement.business.abstracts;
+
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
+import com.moneymate.documentationManagement.core.utilities.io.StorageCodec;
+
+public interface FileUrlService {
+    DataResult<String> getFileUrl(String objectName);
+    DataResult<String> getFileUrl(String objectName, StorageCodec storageCodec);
+    DataResult<String> getDocumentUrl(Long documentId, String objectName, StorageCodec storageCodec);
+    void evict(String objectName);
+}
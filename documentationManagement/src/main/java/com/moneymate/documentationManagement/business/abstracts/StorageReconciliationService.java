@@ -0,0 +1,10 @@
+package com.moneymate.documentationManagement.business.abstracts;
+
+import com.moneymate.documentationManagement.business.responses.ReconciliationReport;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
+
+public interface StorageReconciliationService {
+    DataResult<ReconciliationReport> reconcile(boolean delete);
+    DataResult<ReconciliationReport> getLastReport();
+    void reconcileScheduled();
+}
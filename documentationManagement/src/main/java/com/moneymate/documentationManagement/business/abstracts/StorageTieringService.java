@@ -0,0 +1,10 @@
+package com.moneymate.documentationManagement.business.abstracts;
+
+import com.moneymate.documentationManagement.business.responses.TieringReport;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
+
+public interface StorageTieringService {
+    DataResult<TieringReport> migrate();
+    DataResult<TieringReport> getLastReport();
+    void migrateScheduled();
+}
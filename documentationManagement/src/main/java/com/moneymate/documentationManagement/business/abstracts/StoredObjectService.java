@@ -0,0 +1,34 @@
+package com.moneymate.documentationManagement.business.abstracts;
+
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.Result;
+import com.moneymate.documentationManagement.core.utilities.io.StorageCodec;
+import com.moneymate.documentationManagement.entities.concretes.Document;
+import com.moneymate.documentationManagement.entities.concretes.StoredObject;
+
+public interface StoredObjectService {
+
+    /**
+     * Yüklenen nesneyi içerik özetiyle kaydeder. Aynı özete sahip bir nesne zaten varsa
+     * onun referans sayısı artırılır ve mevcut nesne döner.
+     */
+    DataResult<StoredObject> register(String sha256, String objectName, long size, StorageCodec storageCodec);
+
+    /**
+     * Nesne adına göre kaydı getirir. Tekilleştirme öncesi yüklenmiş nesnelerin kaydı yoktur.
+     */
+    DataResult<StoredObject> getByObjectName(String objectName);
+
+    /**
+     * Nesneye olan bir referansı bırakır.
+     * @return Nesneye başka referans kalmadıysa (fiziksel olarak silinmesi gerekiyorsa) true
+     */
+    DataResult<Boolean> release(String objectName);
+
+    /**
+     * Nesne başka bir katmana taşındıktan sonra nesne kaydının ve onu kullanan dökümanların katman ve codec
+     * bilgisini tek transaction'da günceller.
+     * @return Nesneyi kullanan döküman kalmadıysa (taşıma sırasında silindiyse) hata
+     */
+    Result updateStorageTier(String objectName, Document.StorageTier tier, StorageCodec storageCodec);
+}
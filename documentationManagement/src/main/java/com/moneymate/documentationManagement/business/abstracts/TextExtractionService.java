@@ -0,0 +1,11 @@
+package com.moneymate.documentationManagement.business.abstracts;
+
+import com.moneymate.documentationManagement.business.events.DocumentSavedEvent;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
+import com.moneymate.documentationManagement.entities.concretes.DocumentText;
+
+public interface TextExtractionService {
+    void onDocumentSaved(DocumentSavedEvent event);
+    DataResult<DocumentText.Status> extractText(Long documentId);
+    void backfillTexts();
+}
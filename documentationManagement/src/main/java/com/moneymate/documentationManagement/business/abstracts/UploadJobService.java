@@ -0,0 +1,17 @@
+package com.moneymate.documentationManagement.business.abstracts;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
+import com.moneymate.documentationManagement.entities.concretes.UploadJob;
+
+public interface UploadJobService {
+    DataResult<UploadJob> submitUpload(MultipartFile file, String title, String institutionName,
+                                    String institutionType, String institutionUrl,
+                                    String documentType, String documentDescription);
+
+    DataResult<UploadJob> getJob(String jobId);
+    CompletableFuture<DataResult<UploadJob>> awaitJob(String jobId);
+}
@@ -0,0 +1,323 @@
+package com.moneymate.documentationManagement.business.concretes;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.moneymate.documentationManagement.business.abstracts.ChunkedUploadService;
+import com.moneymate.documentationManagement.business.abstracts.DocumentService;
+import com.moneymate.documentationManagement.business.abstracts.StoredObjectService;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.ErrorDataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.ErrorResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.Result;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.SuccessDataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.SuccessResult;
+import com.moneymate.documentationManagement.core.utilities.io.FileNames;
+import com.moneymate.documentationManagement.core.utilities.io.StorageCodec;
+import com.moneymate.documentationManagement.dataAccess.abstracts.StorageBackend;
+import com.moneymate.documentationManagement.dataAccess.abstracts.StorageBackend.CompletedPart;
+import com.moneymate.documentationManagement.dataAccess.abstracts.UploadSessionPartRepository;
+import com.moneymate.documentationManagement.dataAccess.abstracts.UploadSessionRepository;
+import com.moneymate.documentationManagement.entities.concretes.Document;
+import com.moneymate.documentationManagement.entities.concretes.StoredObject;
+import com.moneymate.documentationManagement.entities.concretes.UploadSession;
+import com.moneymate.documentationManagement.entities.concretes.UploadSessionPart;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class ChunkedUploadManager implements ChunkedUploadService {
+
+    // S3 kuralları: son parça hariç her parça en az 5MB, en fazla 10000 parça
+    private static final long MIN_PART_SIZE = 5 * 1024 * 1024;
+    private static final int MAX_PART_COUNT = 10_000;
+
+    private final StorageBackend storageBackend;
+    private final UploadSessionRepository uploadSessionRepository;
+    private final UploadSessionPartRepository uploadSessionPartRepository;
+    private final DocumentService documentService;
+    private final StoredObjectService storedObjectService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${upload.chunked.part-size:8388608}")
+    private long partSize;
+
+    @Value("${upload.chunked.max-part-size:67108864}")
+    private long maxPartSize;
+
+    @Value("${upload.chunked.max-file-size:2147483648}")
+    private long maxFileSize;
+
+    @Value("${upload.chunked.stale-after-hours:24}")
+    private long staleAfterHours;
+
+    @Override
+    public DataResult<UploadSession> initiateUpload(String originalFileName, String contentType, String title,
+                                           String institutionName, String institutionType, String institutionUrl,
+                                           String documentType, String documentDescription) {
+        try {
+            String objectName = FileNames.generateObjectName(originalFileName);
+            String storageUploadId = storageBackend.createMultipartUpload(objectName, contentType);
+
+            UploadSession session = UploadSession.builder()
+                    .id(UUID.randomUUID().toString())
+                    .storageUploadId(storageUploadId)
+                    .objectName(objectName)
+                    .originalFileName(originalFileName)
+                    .contentType(contentType)
+                    .status(UploadSession.Status.ACTIVE)
+                    .title(title)
+                    .institutionName(institutionName)
+                    .institutionType(institutionType)
+                    .institutionUrl(institutionUrl)
+                    .documentType(documentType)
+                    .documentDescription(documentDescription)
+                    .partSize(partSize)
+                    .build();
+            return new SuccessDataResult<>(uploadSessionRepository.save(session), "Yükleme oturumu başlatıldı");
+        } catch (Exception e) {
+            return new ErrorDataResult<>("Yükleme oturumu başlatılamadı: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public DataResult<UploadSessionPart> uploadPart(String uploadId, int partNumber, InputStream inputStream, long size) {
+        if (partNumber < 1 || partNumber > MAX_PART_COUNT) {
+            return new ErrorDataResult<>("Parça numarası 1 ile " + MAX_PART_COUNT + " arasında olmalıdır");
+        }
+        if (size <= 0 || size > maxPartSize) {
+            return new ErrorDataResult<>("Parça boyutu 0 ile " + FileNames.formatFileSize(maxPartSize) + " arasında olmalıdır");
+        }
+
+        Optional<UploadSession> session = findActiveSession(uploadId);
+        if (session.isEmpty()) {
+            return new ErrorDataResult<>("Aktif yükleme oturumu bulunamadı");
+        }
+
+        try {
+            UploadSession uploadSession = session.get();
+            String etag = storageBackend.uploadPart(uploadSession.getObjectName(), uploadSession.getStorageUploadId(),
+                    partNumber, inputStream, size);
+
+            // Oturumun son aktivite zamanını güncelle (eski oturum temizliği buna bakar).
+            // Oturum bu arada tamamlandı ya da iptal edildiyse 0 satır güncellenir ve parça kaydedilmez
+            if (uploadSessionRepository.touch(uploadId, UploadSession.Status.ACTIVE, LocalDateTime.now()) == 0) {
+                return new ErrorDataResult<>("Aktif yükleme oturumu bulunamadı");
+            }
+
+            // Aynı parça tekrar gönderildiyse (retry) önceki kaydın yerine geçer
+            UploadSessionPart part = uploadSessionPartRepository.findBySessionIdAndPartNumber(uploadId, partNumber)
+                    .orElseGet(() -> UploadSessionPart.builder().sessionId(uploadId).partNumber(partNumber).build());
+            part.setEtag(etag);
+            part.setSize(size);
+            UploadSessionPart savedPart = uploadSessionPartRepository.save(part);
+            return new SuccessDataResult<>(savedPart, "Parça yüklendi");
+        } catch (Exception e) {
+            return new ErrorDataResult<>("Parça yüklenemedi: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public DataResult<Document> completeUpload(String uploadId) {
+        Optional<UploadSession> session = findActiveSession(uploadId);
+        if (session.isEmpty()) {
+            return new ErrorDataResult<>("Aktif yükleme oturumu bulunamadı");
+        }
+
+        UploadSession uploadSession = session.get();
+        List<UploadSessionPart> parts = uploadSessionPartRepository.findBySessionIdOrderByPartNumber(uploadId);
+        if (parts.isEmpty()) {
+            return new ErrorDataResult<>("Yüklenmiş parça bulunamadı");
+        }
+
+        long totalSize = 0;
+        for (int i = 0; i < parts.size(); i++) {
+            UploadSessionPart part = parts.get(i);
+            if (part.getPartNumber() != i + 1) {
+                return new ErrorDataResult<>("Eksik parça: " + (i + 1));
+            }
+            if (i < parts.size() - 1 && part.getSize() < MIN_PART_SIZE) {
+                return new ErrorDataResult<>("Son parça hariç parçalar en az 5MB olmalıdır: " + part.getPartNumber());
+            }
+            totalSize += part.getSize();
+        }
+        if (totalSize > maxFileSize) {
+            return new ErrorDataResult<>("Dosya boyutu " + FileNames.formatFileSize(maxFileSize) + "'dan büyük olamaz");
+        }
+
+        // Oturum koşullu güncellemeyle sahiplenilir: eşzamanlı ikinci tamamlama, iptal ve temizlik 0 satır günceller
+        if (uploadSessionRepository.updateStatus(uploadId, UploadSession.Status.ACTIVE,
+                UploadSession.Status.COMPLETED, LocalDateTime.now()) == 0) {
+            return new ErrorDataResult<>("Aktif yükleme oturumu bulunamadı");
+        }
+
+        String objectName = uploadSession.getObjectName();
+        try {
+            storageBackend.completeMultipartUpload(objectName, uploadSession.getStorageUploadId(),
+                    parts.stream().map(part -> new CompletedPart(part.getPartNumber(), part.getEtag())).toList());
+        } catch (Exception e) {
+            // Parçalar depolamada duruyor; oturum tekrar aktif edilir, istemci yeniden deneyebilir ya da iptal edebilir
+            uploadSessionRepository.updateStatus(uploadId, UploadSession.Status.COMPLETED,
+                    UploadSession.Status.ACTIVE, LocalDateTime.now());
+            return new ErrorDataResult<>("Yükleme tamamlanamadı: " + e.getMessage());
+        }
+        uploadSessionPartRepository.deleteBySessionId(uploadId);
+
+        ContentDigest digest;
+        try {
+            digest = digest(objectName);
+        } catch (Exception e) {
+            discard(uploadSession);
+            return new ErrorDataResult<>("Dosya özeti hesaplanamadı: " + e.getMessage());
+        }
+
+        long size = totalSize;
+        DataResult<Document> result;
+        try {
+            // Nesnenin StoredObject kaydı ve döküman tek transaction'da yazılır; döküman kaydedilemezse
+            // referans sayısı da geri alınır
+            result = transactionTemplate.execute(status -> {
+                StoredObject storedObject = storedObjectService.register(digest.sha256(), objectName, size,
+                        StorageCodec.NONE).getData();
+                Document document = new Document(
+                        uploadSession.getTitle(),
+                        storedObject.getObjectName(),
+                        uploadSession.getInstitutionName(),
+                        uploadSession.getInstitutionType(),
+                        uploadSession.getInstitutionUrl(),
+                        uploadSession.getDocumentType(),
+                        uploadSession.getDocumentDescription(),
+                        FileNames.formatFileSize(size)
+                );
+                document.setContentHash(digest.sha256());
+                document.setCrc32c(digest.crc32c());
+                StorageCodec codec = StorageCodec.of(storedObject.getStorageCodec());
+                if (codec != StorageCodec.NONE) {
+                    document.setStorageCodec(codec);
+                }
+
+                DataResult<Document> saved = documentService.saveDocument(document);
+                if (!saved.isSuccess()) {
+                    throw new IllegalStateException(saved.getMessage());
+                }
+                return saved;
+            });
+        } catch (RuntimeException e) {
+            discard(uploadSession);
+            return new ErrorDataResult<>("Döküman kaydedilemedi: " + e.getMessage());
+        }
+
+        if (!objectName.equals(result.getData().getMinioFileName())) {
+            // Aynı içerik zaten depolanmış; döküman mevcut nesneyi kullanır, birleştirilen kopya silinir
+            removeObject(objectName);
+        }
+        return result;
+    }
+
+    @Override
+    public Result abortUpload(String uploadId) {
+        Optional<UploadSession> session = findActiveSession(uploadId);
+        if (session.isEmpty()) {
+            return new ErrorResult("Aktif yükleme oturumu bulunamadı");
+        }
+
+        try {
+            if (!abort(session.get())) {
+                return new ErrorResult("Aktif yükleme oturumu bulunamadı");
+            }
+            return new SuccessResult("Yükleme iptal edildi");
+        } catch (Exception e) {
+            return new ErrorResult("Yükleme iptal edilemedi: " + e.getMessage());
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${upload.chunked.cleanup-interval-ms:3600000}")
+    public void cleanupStaleUploads() {
+        LocalDateTime threshold = LocalDateTime.now().minusHours(staleAfterHours);
+        for (UploadSession session : uploadSessionRepository.findByStatusAndUpdateAtBefore(
+                UploadSession.Status.ACTIVE, threshold)) {
+            try {
+                abort(session);
+            } catch (Exception e) {
+                // Bir sonraki çalışmada tekrar denenir
+            }
+        }
+    }
+
+    /**
+     * Oturum önce koşullu olarak iptal edilir; bu arada tamamlanmışsa depolamaya dokunulmaz.
+     * @return Oturum başka bir istek tarafından tamamlandı ya da iptal edildiyse false
+     */
+    private boolean abort(UploadSession session) throws Exception {
+        if (uploadSessionRepository.updateStatus(session.getId(), UploadSession.Status.ACTIVE,
+                UploadSession.Status.ABORTED, LocalDateTime.now()) == 0) {
+            return false;
+        }
+        try {
+            storageBackend.abortMultipartUpload(session.getObjectName(), session.getStorageUploadId());
+        } catch (Exception e) {
+            // Oturum tekrar aktif edilir; iptal ya da temizlik yeniden denenebilir
+            uploadSessionRepository.updateStatus(session.getId(), UploadSession.Status.ABORTED,
+                    UploadSession.Status.ACTIVE, LocalDateTime.now());
+            throw e;
+        }
+        uploadSessionPartRepository.deleteBySessionId(session.getId());
+        return true;
+    }
+
+    /**
+     * Parçalar farklı örneklere sırasız ve tekrar tekrar gönderilebildiğinden hiçbir istek içeriği baştan sona
+     * sırayla görmez; SHA-256 da parça özetlerinden birleştirilemez. Özet ve CRC32C, birleştirilen nesne
+     * sahiplenildikten sonra bir kez okunarak hesaplanır.
+     */
+    private ContentDigest digest(String objectName) throws Exception {
+        try (InputStream inputStream = storageBackend.getObject(objectName)) {
+            DigestInputStream digestStream = new DigestInputStream(inputStream, MessageDigest.getInstance("SHA-256"));
+            CheckedInputStream checksumStream = new CheckedInputStream(digestStream, new CRC32C());
+            checksumStream.transferTo(OutputStream.nullOutputStream());
+            return new ContentDigest(HexFormat.of().formatHex(digestStream.getMessageDigest().digest()),
+                    HexFormat.of().toHexDigits((int) checksumStream.getChecksum().getValue()));
+        }
+    }
+
+    /**
+     * Birleştirilen nesne dökümana bağlanamadı; oturum iptal edilmiş sayılır ve nesne silinir.
+     */
+    private void discard(UploadSession session) {
+        uploadSessionRepository.updateStatus(session.getId(), UploadSession.Status.COMPLETED,
+                UploadSession.Status.ABORTED, LocalDateTime.now());
+        removeObject(session.getObjectName());
+    }
+
+    private void removeObject(String objectName) {
+        try {
+            storageBackend.removeObject(objectName);
+        } catch (Exception e) {
+            // Hiçbir kayıtla ilişkili olmayan nesne depolama mutabakatında bulunur
+        }
+    }
+
+    private Optional<UploadSession> findActiveSession(String uploadId) {
+        return uploadSessionRepository.findById(uploadId)
+                .filter(session -> session.getStatus() == UploadSession.Status.ACTIVE);
+    }
+
+    private record ContentDigest(String sha256, String crc32c) {
+    }
+}
@@ -0,0 +1,211 @@
+package com.moneymate.documentationManagement.business.concretes;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.moneymate.documentationManagement.business.abstracts.DirectUploadService;
+import com.moneymate.documentationManagement.business.abstracts.DocumentService;
+import com.moneymate.documentationManagement.business.abstracts.StoredObjectService;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.ErrorDataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.SuccessDataResult;
+import com.moneymate.documentationManagement.core.utilities.io.FileNames;
+import com.moneymate.documentationManagement.core.utilities.io.StorageCodec;
+import com.moneymate.documentationManagement.dataAccess.abstracts.DirectUploadRepository;
+import com.moneymate.documentationManagement.dataAccess.abstracts.StorageBackend;
+import com.moneymate.documentationManagement.dataAccess.abstracts.StorageBackend.ObjectStat;
+import com.moneymate.documentationManagement.entities.concretes.DirectUpload;
+import com.moneymate.documentationManagement.entities.concretes.Document;
+import com.moneymate.documentationManagement.entities.concretes.StoredObject;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Dosya içeriği uygulamaya uğramaz: istemci imzalı PUT URL'i ile depolamaya yükler,
+ * ardından metadata ile onaylar. İstemci içeriğin SHA-256 özetini başlatırken bildirir; özet PUT imzasına
+ * girer ve depolama tarafından doğrulanır, onayda nesne yeniden okunmaz. Onayda nesnenin varlığı ve boyutu
+ * statObject ile doğrulanır; kaydın sahiplenilmesi, nesnenin StoredObject olarak kaydı ve döküman tek
+ * transaction'da yazılır.
+ */
+@Service
+@RequiredArgsConstructor
+public class DirectUploadManager implements DirectUploadService {
+
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-fA-F]{64}");
+
+    private final StorageBackend storageBackend;
+    private final DirectUploadRepository directUploadRepository;
+    private final DocumentService documentService;
+    private final StoredObjectService storedObjectService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${upload.direct.url-expiry-seconds:900}")
+    private int urlExpirySeconds;
+
+    @Value("${upload.direct.max-file-size:2147483648}")
+    private long maxFileSize;
+
+    @Value("${upload.direct.confirm-grace-minutes:60}")
+    private long confirmGraceMinutes;
+
+    @Override
+    public DataResult<DirectUpload> initiateUpload(String originalFileName, String contentType, Long size,
+                                                   String sha256) {
+        if (originalFileName == null || originalFileName.trim().isEmpty()) {
+            return new ErrorDataResult<>("Dosya adı boş olamaz");
+        }
+        if (sha256 == null || !SHA256_HEX.matcher(sha256).matches()) {
+            return new ErrorDataResult<>("sha256 dosya içeriğinin 64 karakterlik hex SHA-256 özeti olmalıdır");
+        }
+        if (size != null && (size <= 0 || size > maxFileSize)) {
+            return new ErrorDataResult<>("Dosya boyutu 0 ile " + FileNames.formatFileSize(maxFileSize) + " arasında olmalıdır");
+        }
+        if (!storageBackend.supportsDirectUpload()) {
+            return new ErrorDataResult<>("Bu depolama türünde doğrudan yükleme desteklenmez; /api/v1/documents/ üzerinden yükleyin");
+        }
+
+        try {
+            String objectName = FileNames.generateObjectName(originalFileName);
+            String contentHash = sha256.toLowerCase(Locale.ROOT);
+            String uploadUrl = storageBackend.getPresignedUploadUrl(objectName, urlExpirySeconds, contentHash);
+
+            DirectUpload directUpload = DirectUpload.builder()
+                    .id(UUID.randomUUID().toString())
+                    .objectName(objectName)
+                    .originalFileName(originalFileName)
+                    .contentType(contentType)
+                    .expectedSize(size)
+                    .contentHash(contentHash)
+                    .status(DirectUpload.Status.PENDING)
+                    .expiresAt(LocalDateTime.now().plusSeconds(urlExpirySeconds))
+                    .build();
+            DirectUpload saved = directUploadRepository.save(directUpload);
+            saved.setUploadUrl(uploadUrl);
+            saved.setUploadHeaders(StorageBackend.checksumHeaders(contentHash));
+            return new SuccessDataResult<>(saved, "Yükleme URL'i oluşturuldu");
+        } catch (Exception e) {
+            return new ErrorDataResult<>("Yükleme URL'i oluşturulamadı: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public DataResult<Document> confirmUpload(String uploadId, String title, String institutionName,
+                                              String institutionType, String institutionUrl,
+                                              String documentType, String documentDescription) {
+        Optional<DirectUpload> pending = directUploadRepository.findById(uploadId)
+                .filter(upload -> upload.getStatus() == DirectUpload.Status.PENDING);
+        if (pending.isEmpty()) {
+            return new ErrorDataResult<>("Bekleyen yükleme bulunamadı");
+        }
+        DirectUpload directUpload = pending.get();
+
+        // Süresi ve ek onay süresi dolan kayıtların nesneleri temizlikte silinir
+        LocalDateTime confirmDeadline = LocalDateTime.now().minusMinutes(confirmGraceMinutes);
+        if (!directUpload.getExpiresAt().isAfter(confirmDeadline)) {
+            return new ErrorDataResult<>("Yükleme süresi doldu, yeni bir yükleme başlatın");
+        }
+        // Özet sütunundan önce başlatılmış yüklemeler; içerik doğrulanmadığından kabul edilmez
+        if (directUpload.getContentHash() == null) {
+            return new ErrorDataResult<>("Yüklemenin içerik özeti yok, yeni bir yükleme başlatın");
+        }
+
+        ObjectStat stat;
+        try {
+            // Nesne önbellek dışından yazıldı; önceki başarısız onaydan kalan bilgi kullanılmaz
+            stat = storageBackend.statObjectUncached(directUpload.getObjectName());
+        } catch (Exception e) {
+            return new ErrorDataResult<>("Dosya depolamada bulunamadı, önce dosyayı yükleyin");
+        }
+
+        // Onay başarısız olursa kayıt beklemede kalır; istemci URL geçerliyken dosyayı tekrar yükleyebilir
+        if (stat.size() <= 0) {
+            return new ErrorDataResult<>("Dosya boş olamaz");
+        }
+        if (directUpload.getExpectedSize() != null && stat.size() != directUpload.getExpectedSize()) {
+            return new ErrorDataResult<>("Yüklenen dosya boyutu beklenenden farklı: " + stat.size()
+                    + " (beklenen " + directUpload.getExpectedSize() + ")");
+        }
+        if (stat.size() > maxFileSize) {
+            return new ErrorDataResult<>("Dosya boyutu " + FileNames.formatFileSize(maxFileSize) + "'dan büyük olamaz");
+        }
+
+        // Nesne yeniden okunmaz: depolama PUT sırasında içeriği imzalı özetle doğruladı
+        String contentHash = directUpload.getContentHash();
+        DataResult<Document> result;
+        try {
+            result = transactionTemplate.execute(status -> {
+                // Kayıt koşullu güncellemeyle sahiplenilir: eşzamanlı ikinci onay ve temizlik 0 satır günceller.
+                // Döküman kaydedilemezse transaction geri alınır ve kayıt beklemede kalır
+                if (directUploadRepository.updateStatusIfExpiresAfter(uploadId, DirectUpload.Status.PENDING,
+                        DirectUpload.Status.COMPLETED, LocalDateTime.now(), confirmDeadline) == 0) {
+                    return new ErrorDataResult<>("Bekleyen yükleme bulunamadı ya da süresi doldu");
+                }
+
+                StoredObject storedObject = storedObjectService.register(contentHash,
+                        directUpload.getObjectName(), stat.size(), StorageCodec.NONE).getData();
+                Document document = new Document(
+                        title,
+                        storedObject.getObjectName(),
+                        institutionName,
+                        institutionType,
+                        institutionUrl,
+                        documentType,
+                        documentDescription,
+                        FileNames.formatFileSize(stat.size())
+                );
+                // CRC32C içerik okunmadan hesaplanamaz; doğrudan yüklemelerde boş kalır
+                document.setContentHash(contentHash);
+                StorageCodec codec = StorageCodec.of(storedObject.getStorageCodec());
+                if (codec != StorageCodec.NONE) {
+                    document.setStorageCodec(codec);
+                }
+
+                DataResult<Document> saved = documentService.saveDocument(document);
+                if (!saved.isSuccess()) {
+                    throw new IllegalStateException(saved.getMessage());
+                }
+                return saved;
+            });
+        } catch (RuntimeException e) {
+            return new ErrorDataResult<>("Döküman kaydedilemedi: " + e.getMessage());
+        }
+
+        if (result.isSuccess() && !directUpload.getObjectName().equals(result.getData().getMinioFileName())) {
+            // Aynı içerik zaten depolanmış; döküman mevcut nesneyi kullanır, yüklenen kopya silinir
+            try {
+                storageBackend.removeObject(directUpload.getObjectName());
+            } catch (Exception e) {
+                // Hiçbir kayıtla ilişkili olmayan nesne depolama mutabakatında bulunur
+            }
+        }
+        return result;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${upload.direct.cleanup-interval-ms:3600000}")
+    public void cleanupExpiredUploads() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(confirmGraceMinutes);
+        for (DirectUpload directUpload : directUploadRepository.findByStatusAndExpiresAtBefore(
+                DirectUpload.Status.PENDING, threshold)) {
+            // Kayıt önce koşullu olarak sona erdirilir; bu arada onaylanmışsa nesneye dokunulmaz
+            if (directUploadRepository.updateStatus(directUpload.getId(), DirectUpload.Status.PENDING,
+                    DirectUpload.Status.EXPIRED, LocalDateTime.now()) == 0) {
+                continue;
+            }
+            try {
+                // Yüklenip onaylanmamış nesne varsa silinir; hiç yüklenmemişse silme işlemi etkisizdir
+                storageBackend.removeObject(directUpload.getObjectName());
+            } catch (Exception e) {
+                // Silinemeyen nesne artık hiçbir kayıtla ilişkili değil; depolama mutabakatında bulunur
+            }
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package com.moneymate.documentationManagement.business.concretes;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.moneymate.documentationManagement.business.abstracts.DocumentExportService;
+import com.moneymate.documentationManagement.business.requests.DocumentExportRequest;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.ErrorDataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.SuccessDataResult;
+import com.moneymate.documentationManagement.core.utilities.io.StorageCodec;
+import com.moneymate.documentationManagement.dataAccess.abstracts.DocumentRepository;
+import com.moneymate.documentationManagement.dataAccess.abstracts.StorageBackend;
+import com.moneymate.documentationManagement.entities.concretes.Document;
+
+/**
+ * Filtreye uyan dökümanları tek bir ZIP arşivi olarak doğrudan yanıt stream'ine yazar.
+ * Nesneler sırayla yazılırken sonraki birkaç nesne arka planda açılıp başlarından sınırlı miktarda okunur
+ * (prefetch penceresi); bellekte en fazla pencere x prefetch-bytes kadar veri tutulur, arşivin boyutundan
+ * bağımsızdır. Zaten sıkıştırılmış formatlar sıkıştırılmadan (seviye 0) yazılır. Arşivin sonuna her dökümanın
+ * durumunu içeren manifest.csv eklenir; okunamayan nesneler arşivi bozmaz, manifest'te hata olarak görünür.
+ */
+@Service
+public class DocumentExportManager implements DocumentExportService {
+
+    private static final String MANIFEST_ENTRY = "manifest.csv";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_TITLE_LENGTH = 100;
+
+    private final StorageBackend storageBackend;
+    private final DocumentRepository documentRepository;
+    private final ExecutorService executor;
+    private final int prefetchWindow;
+    private final int prefetchBytes;
+    private final int maxDocuments;
+    private final int compressionLevel;
+    private final Set<String> storedExtensions;
+
+    public DocumentExportManager(StorageBackend storageBackend,
+                                 DocumentRepository documentRepository,
+                                 @Qualifier("exportExecutor") ExecutorService executor,
+                                 @Value("${export.prefetch-window:4}") int prefetchWindow,
+                                 @Value("${export.prefetch-bytes:262144}") int prefetchBytes,
+                                 @Value("${export.max-documents:10000}") int maxDocuments,
+                                 @Value("${export.compression-level:6}") int compressionLevel,
+                                 @Value("${export.stored-extensions:pdf,jpg,jpeg,png,gif,webp,zip,gz,7z,rar,docx,xlsx,pptx,odt,ods,mp3,mp4}") List<String> storedExtensions) {
+        this.storageBackend = storageBackend;
+        this.documentRepository = documentRepository;
+        this.executor = executor;
+        this.prefetchWindow = prefetchWindow;
+        this.prefetchBytes = prefetchBytes;
+        this.maxDocuments = maxDocuments;
+        this.compressionLevel = compressionLevel;
+        this.storedExtensions = storedExtensions.stream()
+                .map(extension -> extension.trim().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public DataResult<List<Document>> findDocuments(DocumentExportRequest request) {
+        String institutionName = request.getInstitutionName();
+        String documentType = request.getDocumentType();
+        boolean hasInstitution = institutionName != null && !institutionName.isBlank();
+        boolean hasType = documentType != null && !documentType.isBlank();
+
+        List<Document> documents;
+        if (request.getIds() != null && !request.getIds().isEmpty()) {
+            if (request.getIds().size() > maxDocuments) {
+                return new ErrorDataResult<>("Tek seferde en fazla " + maxDocuments + " döküman dışa aktarılabilir");
+            }
+            documents = documentRepository.findAllById(request.getIds());
+        } else if (hasInstitution && hasType) {
+            documents = documentRepository.findByInstitutionAndType(institutionName, documentType);
+        } else if (hasInstitution) {
+            documents = documentRepository.findByInstitutionName(institutionName);
+        } else if (hasType) {
+            documents = documentRepository.findByDocumentType(documentType);
+        } else {
+            return new ErrorDataResult<>("Dışa aktarım için kurum adı, döküman tipi ya da id listesi gerekli");
+        }
+
+        if (documents.size() > maxDocuments) {
+            return new ErrorDataResult<>("Filtreye uyan " + documents.size() + " döküman var; tek seferde en fazla "
+                    + maxDocuments + " döküman dışa aktarılabilir");
+        }
+        List<Document> sorted = documents.stream().sorted(Comparator.comparing(Document::getId)).toList();
+        return new SuccessDataResult<>(sorted, sorted.size() + " döküman dışa aktarılacak");
+    }
+
+    @Override
+    public void writeZip(List<Document> documents, OutputStream outputStream) throws IOException {
+        // Yanıt stream'i kapatılmaz; kapatmayı sunucu yapar
+        ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(outputStream, BUFFER_SIZE),
+                StandardCharsets.UTF_8);
+        StringBuilder manifest = new StringBuilder("id;entry;title;institution;type;sha256;status\n");
+        Iterator<Document> remaining = documents.iterator();
+        Deque<Fetch> window = new ArrayDeque<>();
+        try {
+            fill(window, remaining);
+            while (!window.isEmpty()) {
+                Fetch fetch = window.poll();
+                fill(window, remaining);
+
+                Document document = fetch.document;
+                String entryName = entryName(document);
+                String status = writeEntry(zip, fetch, entryName);
+                manifest.append(document.getId()).append(';')
+                        .append(csv(entryName)).append(';')
+                        .append(csv(document.getTitle())).append(';')
+                        .append(csv(document.getInstitutionName())).append(';')
+                        .append(csv(document.getDocumentType())).append(';')
+                        .append(document.getContentHash() != null ? document.getContentHash() : "").append(';')
+                        .append(csv(status)).append('\n');
+            }
+
+            zip.setLevel(compressionLevel);
+            zip.putNextEntry(new ZipEntry(MANIFEST_ENTRY));
+            zip.write(manifest.toString().getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+            zip.finish();
+            zip.flush();
+        } finally {
+            // İstemci bağlantıyı kopardıysa açılmış ama yazılmamış nesneler bırakılır
+            window.forEach(Fetch::abandon);
+        }
+    }
+
+    private void fill(Deque<Fetch> window, Iterator<Document> remaining) {
+        while (window.size() < prefetchWindow && remaining.hasNext()) {
+            Fetch fetch = new Fetch(remaining.next());
+            try {
+                executor.execute(fetch);
+            } catch (RejectedExecutionException e) {
+                // Havuz doluysa nesne sırası geldiğinde yazan thread'de açılır
+            }
+            window.add(fetch);
+        }
+    }
+
+    /**
+     * Nesneyi arşive yazar ve manifest'teki durumunu döner. Depolama hataları arşivi bozmaz; yanıta yazma
+     * hataları (istemci bağlantısı koptu) ise IOException olarak yukarı iletilir.
+     */
+    private String writeEntry(ZipOutputStream zip, Fetch fetch, String entryName) throws IOException {
+        InputStream content;
+        try {
+            content = fetch.await();
+        } catch (Exception e) {
+            return "HATA: " + e.getMessage();
+        }
+
+        try (content) {
+            Document document = fetch.document;
+            zip.setLevel(isPrecompressed(document) ? Deflater.NO_COMPRESSION : compressionLevel);
+            ZipEntry entry = new ZipEntry(entryName);
+            if (document.getUploadAt() != null) {
+                entry.setTimeLocal(document.getUploadAt());
+            }
+            zip.putNextEntry(entry);
+
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (true) {
+                int read;
+                try {
+                    read = content.read(buffer);
+                } catch (IOException e) {
+                    // Kayıt o ana kadar okunan içerikle kapatılır; arşivin geri kalanı geçerli kalır
+                    zip.closeEntry();
+                    return "EKSİK: " + e.getMessage();
+                }
+                if (read < 0) {
+                    break;
+                }
+                zip.write(buffer, 0, read);
+            }
+            zip.closeEntry();
+            return "OK";
+        }
+    }
+
+    /**
+     * Depolamada gzip'lenmiş nesneler sıkıştırılabilir içeriklerdir; diğerleri uzantıya göre değerlendirilir.
+     */
+    private boolean isPrecompressed(Document document) {
+        return StorageCodec.of(document.getStorageCodec()) == StorageCodec.NONE
+                && storedExtensions.contains(extension(document.getMinioFileName()));
+    }
+
+    /**
+     * Arşivdeki dosya adı: "<id>-<başlık>.<uzantı>". id ön eki adları benzersiz yapar; başlıktaki yol ve
+     * dosya sistemi için geçersiz karakterler '_' ile değiştirilir.
+     */
+    static String entryName(Document document) {
+        String title = document.getTitle() != null ? document.getTitle() : "";
+        title = title.replaceAll("[\\\\/:*?\"<>|\\p{Cntrl}]", "_").strip();
+        if (title.length() > MAX_TITLE_LENGTH) {
+            title = title.substring(0, MAX_TITLE_LENGTH).strip();
+        }
+        String extension = extension(document.getMinioFileName());
+        return document.getId() + (title.isEmpty() ? "" : "-" + title) + (extension.isEmpty() ? "" : "." + extension);
+    }
+
+    private static String extension(String fileName) {
+        if (fileName == null || !fileName.contains(".")) {
+            return "";
+        }
+        return fileName.substring(fileName.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(";") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    private InputStream open(Document document) throws Exception {
+        InputStream stored = storageBackend.getObject(document.getMinioFileName());
+        try {
+            InputStream content = StorageCodec.of(document.getStorageCodec()).decode(stored);
+            byte[] head = content.readNBytes(prefetchBytes);
+            return new SequenceInputStream(new ByteArrayInputStream(head), content);
+        } catch (Exception e) {
+            stored.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Prefetch penceresindeki tek bir nesne. Havuzda ya da (havuz henüz başlatmadıysa) yazan thread'de
+     * yalnızca bir kez açılır; bırakılırsa açılmış stream kapatılır.
+     */
+    private final class Fetch implements Runnable {
+
+        private final Document document;
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final CompletableFuture<InputStream> result = new CompletableFuture<>();
+
+        private Fetch(Document document) {
+            this.document = document;
+        }
+
+        @Override
+        public void run() {
+            if (!started.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                InputStream content = open(document);
+                if (!result.complete(content)) {
+                    content.close();
+                }
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        private InputStream await() throws Exception {
+            run();
+            try {
+                return result.get();
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof Exception cause ? cause : e;
+            }
+        }
+
+        private void abandon() {
+            started.set(true);
+            if (!result.completeExceptionally(new CancellationException()) && !result.isCompletedExceptionally()) {
+                try {
+                    result.join().close();
+                } catch (IOException e) {
+                    // Bırakılan stream'in kapatılamaması dışa aktarımı etkilemez
+                }
+            }
+        }
+    }
+}
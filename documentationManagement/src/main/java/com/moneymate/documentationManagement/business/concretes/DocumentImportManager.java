@@ -0,0 +1,524 @@
+package com.moneymate.documentationManagement.business.concretes;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.moneymate.documentationManagement.business.abstracts.DocumentImportService;
+import com.moneymate.documentationManagement.business.abstracts.DocumentService;
+import com.moneymate.documentationManagement.business.abstracts.FileUploadService;
+import com.moneymate.documentationManagement.business.requests.BatchUploadItemRequest;
+import com.moneymate.documentationManagement.business.requests.DocumentImportRequest;
+import com.moneymate.documentationManagement.business.responses.ImportReport;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.ErrorDataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.SuccessDataResult;
+import com.moneymate.documentationManagement.dataAccess.abstracts.ImportJobRepository;
+import com.moneymate.documentationManagement.entities.concretes.Document;
+import com.moneymate.documentationManagement.entities.concretes.ImportJob;
+
+/**
+ * Sunucudaki bir dizinden ya da tar arşivinden toplu döküman içe aktarımı.
+ * Kaynak tek bir thread'de sabit sırayla (dizinde yol sırası, tar'da arşiv sırası) okunur; dosyalar sınırlı bir
+ * havuzda depolamaya yüklenir. Yükleme penceresi dosya sayısı ve (tar için bellekteki) bayt ile sınırlıdır; pencere
+ * dolunca okuma en eski yüklemenin bitmesini bekler. Dökümanlar sırayla batch'ler halinde JDBC batch insert ile
+ * yazılır ve iş kaydındaki checkpoint aynı transaction'da ilerletilir; böylece yarıda kalan iş, yazılmış dosyaları
+ * tekrar eklemeden kaldığı yerden devam ettirilebilir.
+ */
+@Service
+public class DocumentImportManager implements DocumentImportService {
+
+    private static final int MAX_REPORTED_FAILURES = 100;
+
+    private final FileUploadService fileUploadService;
+    private final DocumentService documentService;
+    private final ImportJobRepository importJobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService importJobExecutor;
+    private final ExecutorService importUploadExecutor;
+    private final Path rootDirectory;
+    private final int maxInFlight;
+    private final long maxBufferedBytes;
+    private final long maxBufferedEntrySize;
+    private final long maxFileSize;
+    private final int batchSize;
+    private final String instanceId;
+
+    private final Set<String> runningJobs = ConcurrentHashMap.newKeySet();
+    private final Map<String, List<String>> recentFailures = new ConcurrentHashMap<>();
+
+    public DocumentImportManager(FileUploadService fileUploadService,
+                                 DocumentService documentService,
+                                 ImportJobRepository importJobRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Qualifier("importJobExecutor") ExecutorService importJobExecutor,
+                                 @Qualifier("importUploadExecutor") ExecutorService importUploadExecutor,
+                                 @Value("${import.root-dir:${java.io.tmpdir}/docman-imports}") Path rootDirectory,
+                                 @Value("${import.max-in-flight:32}") int maxInFlight,
+                                 @Value("${import.max-buffered-bytes:67108864}") long maxBufferedBytes,
+                                 @Value("${import.max-buffered-entry-size:8388608}") long maxBufferedEntrySize,
+                                 @Value("${import.max-file-size:2147483648}") long maxFileSize,
+                                 @Value("${import.batch-size:500}") int batchSize,
+                                 @Value("${app.instance-id:${HOSTNAME:local}}") String instanceId) {
+        this.fileUploadService = fileUploadService;
+        this.documentService = documentService;
+        this.importJobRepository = importJobRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.importJobExecutor = importJobExecutor;
+        this.importUploadExecutor = importUploadExecutor;
+        this.rootDirectory = rootDirectory.toAbsolutePath().normalize();
+        this.maxInFlight = maxInFlight;
+        this.maxBufferedBytes = maxBufferedBytes;
+        this.maxBufferedEntrySize = maxBufferedEntrySize;
+        this.maxFileSize = maxFileSize;
+        this.batchSize = batchSize;
+        this.instanceId = instanceId;
+    }
+
+    @Override
+    public DataResult<ImportReport> startImport(DocumentImportRequest request) {
+        Path source = resolve(request.getSource());
+        if (source == null || !Files.exists(source)) {
+            return new ErrorDataResult<>("Kaynak bulunamadı ya da içe aktarım dizini (import.root-dir) dışında");
+        }
+        Path manifest = null;
+        if (request.getManifest() != null && !request.getManifest().isBlank()) {
+            manifest = resolve(request.getManifest());
+            if (manifest == null || !Files.isRegularFile(manifest)) {
+                return new ErrorDataResult<>("Manifest bulunamadı ya da içe aktarım dizini (import.root-dir) dışında");
+            }
+        }
+
+        ImportJob job = importJobRepository.save(ImportJob.builder()
+                .id(UUID.randomUUID().toString())
+                .source(source.toString())
+                .manifest(manifest != null ? manifest.toString() : null)
+                .status(ImportJob.Status.QUEUED)
+                .ownerInstance(instanceId)
+                .build());
+        return submit(job, "İçe aktarım kuyruğa alındı");
+    }
+
+    @Override
+    public DataResult<ImportReport> resumeImport(String importId) {
+        Optional<ImportJob> found = importJobRepository.findById(importId);
+        if (found.isEmpty()) {
+            return new ErrorDataResult<>("İçe aktarım işi bulunamadı");
+        }
+        ImportJob job = found.get();
+        if (job.getStatus() == ImportJob.Status.COMPLETED) {
+            return new ErrorDataResult<>(report(job), "İçe aktarım zaten tamamlandı");
+        }
+        if (runningJobs.contains(importId) || !job.getStatus().isFinished()) {
+            return new ErrorDataResult<>(report(job), "İçe aktarım zaten çalışıyor");
+        }
+        // Devam ettiren örnek işin yeni sahibi olur
+        job.setStatus(ImportJob.Status.QUEUED);
+        job.setOwnerInstance(instanceId);
+        job.setFinishedAt(null);
+        return submit(importJobRepository.save(job), "İçe aktarım " + job.getCheckpointIndex()
+                + ". dosyadan sonrasından devam edecek");
+    }
+
+    @Override
+    public DataResult<ImportReport> getImport(String importId) {
+        return importJobRepository.findById(importId)
+                .<DataResult<ImportReport>>map(job -> new SuccessDataResult<>(report(job), "İçe aktarım işi getirildi"))
+                .orElseGet(() -> new ErrorDataResult<>("İçe aktarım işi bulunamadı"));
+    }
+
+    // Yeniden başlatmada bu örneğin yarım kalan işleri checkpoint'lerinden devam ettirilebilir olarak işaretlenir;
+    // diğer örneklerde çalışan işlere dokunulmaz
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void markInterruptedImports() {
+        for (ImportJob job : importJobRepository.findByOwnerInstanceAndStatusIn(instanceId,
+                EnumSet.of(ImportJob.Status.QUEUED, ImportJob.Status.RUNNING))) {
+            if (!runningJobs.contains(job.getId())) {
+                job.setStatus(ImportJob.Status.INTERRUPTED);
+                job.setMessage("Sunucu yeniden başlatıldı; /resume ile kaldığı yerden devam ettirilebilir");
+                importJobRepository.save(job);
+            }
+        }
+    }
+
+    private DataResult<ImportReport> submit(ImportJob job, String message) {
+        runningJobs.add(job.getId());
+        try {
+            importJobExecutor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            runningJobs.remove(job.getId());
+            job.setStatus(ImportJob.Status.FAILED);
+            job.setMessage("İçe aktarım kuyruğu dolu, daha sonra tekrar deneyiniz");
+            importJobRepository.save(job);
+            return new ErrorDataResult<>(report(job), job.getMessage());
+        }
+        return new SuccessDataResult<>(report(job), message);
+    }
+
+    private Path resolve(String path) {
+        if (path == null || path.isBlank()) {
+            return null;
+        }
+        Path resolved = rootDirectory.resolve(path).toAbsolutePath().normalize();
+        return resolved.startsWith(rootDirectory) ? resolved : null;
+    }
+
+    private ImportReport report(ImportJob job) {
+        List<String> failures = recentFailures.get(job.getId());
+        if (failures == null) {
+            return ImportReport.of(job, List.of());
+        }
+        synchronized (failures) {
+            return ImportReport.of(job, List.copyOf(failures));
+        }
+    }
+
+    void run(ImportJob job) {
+        ImportRun run = new ImportRun(job);
+        try {
+            job.setStatus(ImportJob.Status.RUNNING);
+            job.setMessage(null);
+            importJobRepository.save(job);
+
+            Path source = Path.of(job.getSource());
+            if (Files.isDirectory(source)) {
+                importDirectory(run, source);
+            } else {
+                importTar(run, source);
+            }
+            run.complete();
+
+            job.setStatus(ImportJob.Status.COMPLETED);
+            job.setMessage(job.getImportedFiles() + " dosya içe aktarıldı, " + job.getFailedFiles() + " dosya aktarılamadı");
+            job.setFinishedAt(LocalDateTime.now());
+            importJobRepository.save(job);
+        } catch (Exception e) {
+            run.abort();
+            // Bellekteki sayaçlar son batch'in gerisinde kalmış olabilir; kaydedilmiş checkpoint esas alınır
+            ImportJob failed = importJobRepository.findById(job.getId()).orElse(job);
+            failed.setStatus(ImportJob.Status.FAILED);
+            failed.setMessage("İçe aktarım durdu (/resume ile devam ettirilebilir): " + e.getMessage());
+            failed.setFinishedAt(LocalDateTime.now());
+            importJobRepository.save(failed);
+        } finally {
+            runningJobs.remove(job.getId());
+        }
+    }
+
+    private void importDirectory(ImportRun run, Path source) throws Exception {
+        ImportManifest manifest;
+        Path manifestPath = run.job.getManifest() != null ? Path.of(run.job.getManifest()) : findManifest(source);
+        if (manifestPath == null) {
+            throw new IOException("Dizinde manifest.csv ya da manifest.json bulunamadı");
+        }
+        try (InputStream inputStream = Files.newInputStream(manifestPath)) {
+            manifest = ImportManifest.parse(inputStream, manifestPath.getFileName().toString());
+        }
+
+        // Devam ettirmede aynı sıranın elde edilmesi için yollar sıralanır
+        List<String> paths;
+        try (Stream<Path> files = Files.walk(source)) {
+            paths = files.filter(Files::isRegularFile)
+                    .filter(file -> !file.equals(manifestPath))
+                    .map(file -> source.relativize(file).toString().replace('\\', '/'))
+                    .sorted()
+                    .toList();
+        }
+
+        long index = 0;
+        for (String path : paths) {
+            index++;
+            if (index <= run.job.getCheckpointIndex()) {
+                continue;
+            }
+            Path file = source.resolve(path);
+            long size = Files.size(file);
+            BatchUploadItemRequest metadata = metadata(manifest, path, size);
+            if (metadata == null) {
+                run.fail(index, path, failureReason(manifest, path, size));
+                continue;
+            }
+            run.awaitCapacity(0);
+            long entryIndex = index;
+            run.add(entryIndex, path, size, 0, importUploadExecutor.submit(() -> {
+                try (InputStream inputStream = Files.newInputStream(file)) {
+                    return upload(inputStream, path, size, metadata);
+                }
+            }));
+        }
+    }
+
+    private void importTar(ImportRun run, Path source) throws Exception {
+        ImportManifest manifest = null;
+        if (run.job.getManifest() != null) {
+            try (InputStream inputStream = Files.newInputStream(Path.of(run.job.getManifest()))) {
+                manifest = ImportManifest.parse(inputStream, run.job.getManifest());
+            }
+        }
+
+        try (InputStream fileStream = new BufferedInputStream(Files.newInputStream(source), 64 * 1024);
+             TarArchiveInputStream tar = new TarArchiveInputStream(isGzip(source) ? new GZIPInputStream(fileStream, 64 * 1024) : fileStream)) {
+            long index = 0;
+            TarArchiveEntry entry;
+            while ((entry = tar.getNextTarEntry()) != null) {
+                if (!entry.isFile()) {
+                    continue;
+                }
+                String path = ImportManifest.normalize(entry.getName());
+                if (ImportManifest.isManifest(path)) {
+                    if (manifest == null && index == 0) {
+                        manifest = ImportManifest.parse(tar, path);
+                    }
+                    continue;
+                }
+                if (manifest == null) {
+                    throw new IOException("Tar arşivinde manifest ilk dosya olmalı ya da manifest parametresi verilmeli");
+                }
+
+                index++;
+                if (index <= run.job.getCheckpointIndex()) {
+                    continue;
+                }
+                long size = entry.getSize();
+                BatchUploadItemRequest metadata = metadata(manifest, path, size);
+                if (metadata == null) {
+                    run.fail(index, path, failureReason(manifest, path, size));
+                    continue;
+                }
+
+                if (size <= maxBufferedEntrySize) {
+                    // Tar sıralı okunur; küçük dosyalar belleğe alınıp havuzda yüklenir
+                    run.awaitCapacity(size);
+                    byte[] content = tar.readNBytes((int) size);
+                    run.add(index, path, size, size, importUploadExecutor.submit(
+                            () -> upload(new ByteArrayInputStream(content), path, size, metadata)));
+                } else {
+                    // Büyük dosya arşivden doğrudan yüklenir; bu sırada havuzdaki yüklemeler devam eder
+                    InputStream entryStream = new FilterInputStream(tar) {
+                        @Override
+                        public void close() {
+                            // Arşivin kendisi kapatılmaz
+                        }
+                    };
+                    run.add(index, path, size, 0, CompletableFuture.completedFuture(upload(entryStream, path, size, metadata)));
+                }
+            }
+            if (manifest == null) {
+                throw new IOException("Tar arşivinde manifest bulunamadı");
+            }
+        }
+    }
+
+    private BatchUploadItemRequest metadata(ImportManifest manifest, String path, long size) {
+        BatchUploadItemRequest metadata = manifest.get(path);
+        if (metadata == null || ImportManifest.missingField(metadata) != null || size > maxFileSize) {
+            return null;
+        }
+        return metadata;
+    }
+
+    private String failureReason(ImportManifest manifest, String path, long size) {
+        BatchUploadItemRequest metadata = manifest.get(path);
+        if (metadata == null) {
+            return "Manifest'te kaydı yok";
+        }
+        String missingField = ImportManifest.missingField(metadata);
+        if (missingField != null) {
+            return "Manifest kaydında zorunlu alan eksik: " + missingField;
+        }
+        return "Dosya boyutu sınırı aşıyor (" + size + " > " + maxFileSize + ")";
+    }
+
+    private DataResult<Document> upload(InputStream inputStream, String path, long size,
+                                        BatchUploadItemRequest metadata) {
+        String fileName = path.substring(path.lastIndexOf('/') + 1);
+        String contentType = MediaTypeFactory.getMediaType(fileName).map(MediaType::toString).orElse(null);
+        return fileUploadService.prepareDocument(inputStream, size, fileName, contentType, metadata);
+    }
+
+    private static Path findManifest(Path directory) {
+        for (String name : List.of("manifest.csv", "manifest.json")) {
+            Path candidate = directory.resolve(name);
+            if (Files.isRegularFile(candidate)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isGzip(Path source) {
+        String name = source.getFileName().toString().toLowerCase(Locale.ROOT);
+        return name.endsWith(".gz") || name.endsWith(".tgz");
+    }
+
+    private void recordFailure(String jobId, String failure) {
+        List<String> failures = recentFailures.computeIfAbsent(jobId, id -> Collections.synchronizedList(new LinkedList<>()));
+        synchronized (failures) {
+            failures.add(failure);
+            if (failures.size() > MAX_REPORTED_FAILURES) {
+                failures.remove(0);
+            }
+        }
+    }
+
+    /**
+     * Tek bir çalışmanın yükleme penceresi ve yazılmayı bekleyen batch'i. Yalnızca iş thread'inden kullanılır.
+     * Sayaçlar iş kaydına yalnızca batch yazılırken aktarılır; böylece kayıttaki sayaçlar checkpoint ile tutarlıdır.
+     */
+    private final class ImportRun {
+
+        private final ImportJob job;
+        private final Deque<Pending> window = new ArrayDeque<>();
+        private final List<Document> batch = new ArrayList<>();
+        private final long startedAt = System.nanoTime();
+        private final long activeMillisAtStart;
+        private long bufferedBytes;
+        private long completedIndex;
+        private long processedFiles;
+        private long failedFiles;
+        private long batchBytes;
+
+        private ImportRun(ImportJob job) {
+            this.job = job;
+            this.activeMillisAtStart = job.getActiveMillis();
+            this.completedIndex = job.getCheckpointIndex();
+        }
+
+        /**
+         * Pencerede yer açılana kadar (sırayla) en eski yüklemeleri tamamlar.
+         */
+        private void awaitCapacity(long bytes) throws Exception {
+            while (!window.isEmpty() && (window.size() >= maxInFlight || bufferedBytes + bytes > maxBufferedBytes)) {
+                completeHead();
+            }
+        }
+
+        private void add(long index, String path, long size, long buffered, Future<DataResult<Document>> result) {
+            bufferedBytes += buffered;
+            window.add(new Pending(index, path, size, buffered, result));
+        }
+
+        private void fail(long index, String path, String reason) throws Exception {
+            // Sıra korunur: hatalı dosya, kendisinden önceki yüklemeler bitince işlenmiş sayılır
+            window.add(new Pending(index, path, 0, 0,
+                    CompletableFuture.completedFuture(new ErrorDataResult<>(reason))));
+            awaitCapacity(0);
+        }
+
+        private void completeHead() throws Exception {
+            Pending head = window.poll();
+            bufferedBytes -= head.bufferedBytes();
+            DataResult<Document> result;
+            try {
+                result = head.result().get();
+            } catch (ExecutionException e) {
+                result = new ErrorDataResult<>("Dosya yükleme işlemi başarısız: " + e.getCause().getMessage());
+            }
+
+            processedFiles++;
+            completedIndex = head.index();
+            if (result.isSuccess()) {
+                batch.add(result.getData());
+                batchBytes += head.size();
+            } else {
+                failedFiles++;
+                recordFailure(job.getId(), head.path() + ": " + result.getMessage());
+            }
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            List<Document> documents = List.copyOf(batch);
+            long importedBytes = batchBytes;
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!documents.isEmpty()) {
+                    documentService.insertDocuments(documents);
+                }
+                job.setCheckpointIndex(completedIndex);
+                job.setProcessedFiles(job.getProcessedFiles() + processedFiles);
+                job.setImportedFiles(job.getImportedFiles() + documents.size());
+                job.setFailedFiles(job.getFailedFiles() + failedFiles);
+                job.setImportedBytes(job.getImportedBytes() + importedBytes);
+                job.setActiveMillis(activeMillisAtStart + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+                importJobRepository.save(job);
+            });
+            batch.clear();
+            batchBytes = 0;
+            processedFiles = 0;
+            failedFiles = 0;
+        }
+
+        private void complete() throws Exception {
+            while (!window.isEmpty()) {
+                completeHead();
+            }
+            flush();
+        }
+
+        /**
+         * Yüklenmiş ama dökümanı yazılmamış nesneleri bırakır; devam ettirmede bu dosyalar tekrar yüklenir.
+         */
+        private void abort() {
+            for (Document document : batch) {
+                fileUploadService.releaseFile(document.getMinioFileName());
+            }
+            batch.clear();
+            for (Pending pending : window) {
+                try {
+                    DataResult<Document> result = pending.result().get();
+                    if (result.isSuccess()) {
+                        fileUploadService.releaseFile(result.getData().getMinioFileName());
+                    }
+                } catch (Exception e) {
+                    // Yüklenemeyen dosyanın bırakılacak nesnesi yok
+                }
+            }
+            window.clear();
+        }
+    }
+
+    private record Pending(long index, String path, long size, long bufferedBytes,
+                           Future<DataResult<Document>> result) {
+    }
+}
@@ -1,12 +1,29 @@
 package com.moneymate.documentationManagement.business.concretes;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.moneymate.documentationManagement.business.abstracts.DocumentService;
+import com.moneymate.documentationManagement.business.abstracts.FileUrlService;
+import com.moneymate.documentationManagement.business.events.DocumentDeletedEvent;
+import com.moneymate.documentationManagement.business.events.DocumentSavedEvent;
+import com.moneymate.documentationManagement.business.events.DocumentUpdatedEvent;
 import com.moneymate.documentationManagement.business.requests.DocumentUpdateRequest;
+import com.moneymate.documentationManagement.business.responses.CursorPage;
+import com.moneymate.documentationManagement.business.responses.DocumentSearchHit;
 import com.moneymate.documentationManagement.core.utilities.Messages;
 import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
 import com.moneymate.documentationManagement.core.utilities.exceptions.Results.ErrorDataResult;
@@ -15,7 +32,12 @@ import com.moneymate.documentationManagement.core.utilities.exceptions.Results.R
 import com.moneymate.documentationManagement.core.utilities.exceptions.Results.SuccessDataResult;
 import com.moneymate.documentationManagement.core.utilities.exceptions.Results.SuccessResult;
 import com.moneymate.documentationManagement.core.utilities.mappers.DocumentMapperUtil;
+import com.moneymate.documentationManagement.core.utilities.paging.KeysetCursor;
+import com.moneymate.documentationManagement.dataAccess.abstracts.DocumentBatchRepository;
+import com.moneymate.documentationManagement.dataAccess.abstracts.DocumentFuzzySearchRepository;
 import com.moneymate.documentationManagement.dataAccess.abstracts.DocumentRepository;
+import com.moneymate.documentationManagement.dataAccess.abstracts.DocumentSearchIndex;
+import com.moneymate.documentationManagement.dataAccess.abstracts.DocumentTextRepository;
 import com.moneymate.documentationManagement.entities.concretes.Document;
 
 import lombok.RequiredArgsConstructor;
@@ -24,54 +46,174 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class DocumentManager implements DocumentService {
 
+    private static final int CONTENT_SEARCH_LIMIT = 100;
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int DEFAULT_SEARCH_SIZE = 20;
+    private static final int MAX_SEARCH_SIZE = 100;
+
     private final DocumentRepository documentRepository;
+    private final DocumentBatchRepository documentBatchRepository;
+    private final DocumentFuzzySearchRepository documentFuzzySearchRepository;
+    private final DocumentSearchIndex documentSearchIndex;
+    private final DocumentTextRepository documentTextRepository;
     private final DocumentMapperUtil documentMapperUtil;
+    private final FileUrlService fileUrlService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public DataResult<Document> saveDocument(Document document) {
     	documentMapperUtil.setCreationTimestamps(document);
         Document savedDocument = documentRepository.save(document);
+        // Önizleme gibi türetilmiş içerikler arka planda üretilir
+        eventPublisher.publishEvent(new DocumentSavedEvent(savedDocument.getId()));
         return new SuccessDataResult<>(savedDocument, Messages.DocumentAdded);
     }
 
+    @Override
+    @Transactional
+    public DataResult<List<Document>> saveDocuments(List<Document> documents) {
+        // Tüm kayıtlar tek transaction'da eklenir; biri başarısız olursa hiçbiri kalıcı olmaz
+        List<Document> savedDocuments = documents.stream()
+                .map(document -> saveDocument(document).getData())
+                .toList();
+        return new SuccessDataResult<>(savedDocuments, Messages.DocumentAdded);
+    }
+
+    @Override
+    @Transactional
+    public DataResult<List<Document>> insertDocuments(List<Document> documents) {
+        // Toplu içe aktarım: kayıtlar JDBC batch ile eklenir, entity listener'ları çalışmaz
+        documents.forEach(documentMapperUtil::setCreationTimestamps);
+        documentBatchRepository.insertAll(documents);
+        documents.forEach(document -> eventPublisher.publishEvent(new DocumentSavedEvent(document.getId())));
+        return new SuccessDataResult<>(documents, Messages.DocumentAdded);
+    }
+
     @Override
     public DataResult<Optional<Document>> getDocumentById(Long id) {
         Optional<Document> result = documentRepository.findById(id);
         if (result.isPresent()) {
+            withFileUrl(result.get());
             return new SuccessDataResult<>(result, Messages.GetByIdDocument);
         }
         return new ErrorDataResult<>(Messages.DocumentsFindFailed);
     }
 
     @Override
-    public DataResult<List<Document>> getAllDocuments() {
-        List<Document> documents = documentRepository.findAll();
-        return new SuccessDataResult<>(documents, Messages.GetByAllDocument);
+    public DataResult<CursorPage<Document>> getAllDocuments(String cursor, Integer size) {
+        return page(cursor, size, documentRepository::findByIdLessThanOrderByIdDesc);
     }
 
     @Override
-    public DataResult<List<Document>> getDocumentsByInstitution(String institutionName) {
-        List<Document> documents = documentRepository.findByInstitutionName(institutionName);
-        return new SuccessDataResult<>(documents, Messages.DocumentsGetSuccess);
+    public DataResult<CursorPage<Document>> getDocumentsByInstitution(String institutionName, String cursor, Integer size) {
+        return page(cursor, size, (beforeId, pageable) ->
+                documentRepository.findByInstitutionNameAndIdLessThanOrderByIdDesc(institutionName, beforeId, pageable));
     }
 
     @Override
-    public DataResult<List<Document>> getDocumentsByType(String documentType) {
-        List<Document> documents = documentRepository.findByDocumentType(documentType);
-        return new SuccessDataResult<>(documents, Messages.DocumentsGetSuccess);
+    public DataResult<CursorPage<Document>> getDocumentsByType(String documentType, String cursor, Integer size) {
+        return page(cursor, size, (beforeId, pageable) ->
+                documentRepository.findByDocumentTypeAndIdLessThanOrderByIdDesc(documentType, beforeId, pageable));
+    }
+
+    @Override
+    public DataResult<CursorPage<Document>> searchDocumentsByTitle(String title, String cursor, Integer size) {
+        return page(cursor, size, (beforeId, pageable) ->
+                documentRepository.findByTitleContainingIgnoreCaseAndIdLessThanOrderByIdDesc(title, beforeId, pageable));
     }
 
     @Override
-    public DataResult<List<Document>> searchDocumentsByTitle(String title) {
-        List<Document> documents = documentRepository.findByTitleContainingIgnoreCase(title);
+    public DataResult<List<Document>> searchDocumentsByContent(String query) {
+        if (query == null || query.trim().isEmpty()) {
+            return new ErrorDataResult<>("Arama metni boş olamaz");
+        }
+        List<Document> documents = documentTextRepository.searchByContent(query.trim(), PageRequest.of(0, CONTENT_SEARCH_LIMIT));
+        documents.forEach(this::withFileUrl);
         return new SuccessDataResult<>(documents, Messages.DocumentsGetSuccess);
     }
 
+    @Override
+    public DataResult<List<DocumentSearchHit>> searchDocuments(String query, Integer size) {
+        if (query == null || query.trim().isEmpty()) {
+            return new ErrorDataResult<>("Arama metni boş olamaz");
+        }
+        if (size != null && size < 1) {
+            return new ErrorDataResult<>("Sonuç sayısı en az 1 olmalı");
+        }
+        int limit = size == null ? DEFAULT_SEARCH_SIZE : Math.min(size, MAX_SEARCH_SIZE);
+
+        List<DocumentRepository.SearchRow> rows = documentRepository.searchFullText(query.trim(), limit);
+        Map<Long, Document> documents = findByIds(rows.stream().map(DocumentRepository.SearchRow::getId).toList());
+
+        // Sıralama puana göre; arada silinmiş dökümanlar atlanır
+        List<DocumentSearchHit> hits = new ArrayList<>(rows.size());
+        for (DocumentRepository.SearchRow row : rows) {
+            Document document = documents.get(row.getId());
+            if (document != null) {
+                hits.add(new DocumentSearchHit(withFileUrl(document), row.getRank(),
+                        row.getTitleHighlight(), row.getDescriptionSnippet()));
+            }
+        }
+        return new SuccessDataResult<>(hits, Messages.DocumentsGetSuccess);
+    }
+
+    @Override
+    public DataResult<List<DocumentSearchHit>> searchDocumentsFuzzy(String query, Double threshold, Integer size) {
+        if (query == null || query.trim().isEmpty()) {
+            return new ErrorDataResult<>("Arama metni boş olamaz");
+        }
+        if (threshold != null && (threshold <= 0 || threshold > 1)) {
+            return new ErrorDataResult<>("Benzerlik eşiği 0'dan büyük ve en fazla 1 olmalı");
+        }
+        if (size != null && size < 1) {
+            return new ErrorDataResult<>("Sonuç sayısı en az 1 olmalı");
+        }
+        int limit = size == null ? DEFAULT_SEARCH_SIZE : Math.min(size, MAX_SEARCH_SIZE);
+
+        List<DocumentFuzzySearchRepository.Match> matches =
+                documentFuzzySearchRepository.search(query.trim(), threshold, limit);
+        Map<Long, Document> documents = findByIds(matches.stream().map(DocumentFuzzySearchRepository.Match::id).toList());
+
+        List<DocumentSearchHit> hits = new ArrayList<>(matches.size());
+        for (DocumentFuzzySearchRepository.Match match : matches) {
+            Document document = documents.get(match.id());
+            if (document != null) {
+                hits.add(new DocumentSearchHit(withFileUrl(document), match.similarity(), null, null));
+            }
+        }
+        return new SuccessDataResult<>(hits, Messages.DocumentsGetSuccess);
+    }
+
+    @Override
+    public DataResult<List<DocumentSearchHit>> searchDocumentsInstant(String query, Integer size) {
+        if (query == null || query.trim().isEmpty()) {
+            return new ErrorDataResult<>("Arama metni boş olamaz");
+        }
+        if (size != null && size < 1) {
+            return new ErrorDataResult<>("Sonuç sayısı en az 1 olmalı");
+        }
+        int limit = size == null ? DEFAULT_SEARCH_SIZE : Math.min(size, MAX_SEARCH_SIZE);
+
+        // Her tuş vuruşunda çağrılır; dökümanlar dizinde saklanan alanlardan gelir, veritabanına gidilmez
+        List<DocumentSearchIndex.Hit> matches;
+        try {
+            matches = documentSearchIndex.search(query.trim(), limit);
+        } catch (IOException e) {
+            return new ErrorDataResult<>("Arama dizini okunamadı");
+        }
+        List<DocumentSearchHit> hits = matches.stream()
+                .map(match -> new DocumentSearchHit(match.document(), match.score(), null, null))
+                .toList();
+        return new SuccessDataResult<>(hits, Messages.DocumentsGetSuccess);
+    }
+
     @Override
     public Result deleteDocument(Long id) {
         Optional<Document> existingDoc = documentRepository.findById(id);
         if (existingDoc.isPresent()) {
             documentRepository.deleteById(id);
+            eventPublisher.publishEvent(new DocumentDeletedEvent(id));
             return new SuccessResult(Messages.DocumentsDeletedSuccess);
         }
         return new ErrorResult(Messages.DocumentsDeletedFailed);
@@ -84,9 +226,59 @@ public class DocumentManager implements DocumentService {
         if (existingDoc.isPresent()) {
             Document doc = existingDoc.get();
             documentMapperUtil.updateDocumentFields(doc, document);
-            Document updatedDocument = documentRepository.save(doc);
+            Document updatedDocument = withFileUrl(documentRepository.save(doc));
+            eventPublisher.publishEvent(new DocumentUpdatedEvent(id));
             return new SuccessDataResult<>(updatedDocument, Messages.DocumentUpdateSuccess);
         }
         return new ErrorDataResult<>(Messages.DocumentsFindFailed);
     }
-}
\ No newline at end of file
+
+    // Katmanlama kuralı için son erişim zamanı; günde bir kereden sık yazılmaz
+    @Override
+    public void recordAccess(Document document) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime threshold = now.minusDays(1);
+        if (document.getLastAccessedAt() == null || document.getLastAccessedAt().isBefore(threshold)) {
+            documentRepository.touchLastAccessedAt(document.getId(), now, threshold);
+        }
+    }
+
+    /**
+     * Keyset sayfası: imleçteki id'den küçük ilk size + 1 kayıt okunur; fazladan gelen kayıt sonraki sayfanın
+     * varlığını gösterir. İmleç yoksa en yeni kayıttan başlanır.
+     */
+    private DataResult<CursorPage<Document>> page(String cursor, Integer size,
+                                                  BiFunction<Long, Pageable, List<Document>> query) {
+        if (size != null && size < 1) {
+            return new ErrorDataResult<>("Sayfa boyutu en az 1 olmalı");
+        }
+        long beforeId;
+        try {
+            beforeId = cursor == null || cursor.isBlank() ? Long.MAX_VALUE : KeysetCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return new ErrorDataResult<>(e.getMessage());
+        }
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+
+        List<Document> rows = query.apply(beforeId, PageRequest.of(0, pageSize + 1));
+        boolean hasMore = rows.size() > pageSize;
+        List<Document> documents = hasMore ? rows.subList(0, pageSize) : rows;
+        documents.forEach(this::withFileUrl);
+        String nextCursor = hasMore ? KeysetCursor.encode(documents.get(documents.size() - 1).getId()) : null;
+        return new SuccessDataResult<>(new CursorPage<>(documents, nextCursor), Messages.DocumentsGetSuccess);
+    }
+
+    private Map<Long, Document> findByIds(List<Long> ids) {
+        return documentRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Document::getId, Function.identity()));
+    }
+
+    // Presigned URL'ler saklanmadığından okunan dökümanlara önbellekten doldurulur
+    private Document withFileUrl(Document document) {
+        if (document != null) {
+            document.setFileUrl(fileUrlService.getDocumentUrl(document.getId(), document.getMinioFileName(),
+                    document.getStorageCodec()).getData());
+        }
+        return document;
+    }
+}
@@ -0,0 +1,248 @@
+package com.moneymate.documentationManagement.business.concretes;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.moneymate.documentationManagement.business.abstracts.DocumentSearchIndexService;
+import com.moneymate.documentationManagement.business.events.DocumentDeletedEvent;
+import com.moneymate.documentationManagement.business.events.DocumentSavedEvent;
+import com.moneymate.documentationManagement.business.events.DocumentUpdatedEvent;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.ErrorDataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.SuccessDataResult;
+import com.moneymate.documentationManagement.dataAccess.abstracts.DocumentRepository;
+import com.moneymate.documentationManagement.dataAccess.abstracts.DocumentSearchIndex;
+import com.moneymate.documentationManagement.entities.concretes.Document;
+
+/**
+ * Uygulama içi arama dizinini veritabanıyla eşitler. Kaydedilen, güncellenen ve silinen dökümanlar commit'ten
+ * sonra dizine yazılır; açılışta dizin tüm tablodan yeniden oluşturulur (beklenmedik kapanışta commit edilmemiş
+ * güncellemeler ve dizin dışında yapılan değişiklikler böylece tamamlanır).
+ * Tüm yazmalar tek thread'de sırayla yapılır: yeniden oluşturma sırasında gelen değişiklikler ondan sonra uygulanır,
+ * eski sayfadan okunan bir döküman daha yeni bir güncellemenin üzerine yazılamaz.
+ *
+ * Olaylar yalnızca değişikliği yapan uygulama örneğinde yayınlanır; birden fazla örnek çalıştığında her biri diğerlerinin
+ * değişikliklerini periyodik olarak veritabanından alır. Yakalama taraması update_at'i son taramadan beri değişen
+ * dökümanları yeniden dizinler; örnekler arası saat farkı ve geç commit edilen işlemler için tarama bir önceki
+ * başlangıçtan catch-up-overlap-ms kadar geriden başlar. Silinen dökümanların izi tabloda kalmadığından, mutabakat
+ * dizindeki id'leri veritabanıyla karşılaştırıp artık olmayanları siler.
+ */
+@Service
+public class DocumentSearchIndexManager implements DocumentSearchIndexService {
+
+    private final DocumentSearchIndex documentSearchIndex;
+    private final DocumentRepository documentRepository;
+    private final ExecutorService searchIndexExecutor;
+    private final int rebuildBatchSize;
+    private final Duration catchUpOverlap;
+    // Zamanlayıcı, önceki görev kuyrukta beklerken yenisini eklemez
+    private final AtomicBoolean catchUpPending = new AtomicBoolean();
+    private final AtomicBoolean reconcilePending = new AtomicBoolean();
+    // Bir sonraki yakalama taramasının başlangıcı; ilk yeniden oluşturma başlayana kadar null
+    private volatile LocalDateTime catchUpSince;
+
+    public DocumentSearchIndexManager(DocumentSearchIndex documentSearchIndex,
+                                      DocumentRepository documentRepository,
+                                      @Qualifier("searchIndexExecutor") ExecutorService searchIndexExecutor,
+                                      @Value("${search.index.rebuild-batch-size:500}") int rebuildBatchSize,
+                                      @Value("${search.index.catch-up-overlap-ms:60000}") long catchUpOverlapMs) {
+        this.documentSearchIndex = documentSearchIndex;
+        this.documentRepository = documentRepository;
+        this.searchIndexExecutor = searchIndexExecutor;
+        this.rebuildBatchSize = rebuildBatchSize;
+        this.catchUpOverlap = Duration.ofMillis(catchUpOverlapMs);
+    }
+
+    @Override
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocumentSaved(DocumentSavedEvent event) {
+        submit(() -> index(event.documentId()));
+    }
+
+    @Override
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocumentUpdated(DocumentUpdatedEvent event) {
+        submit(() -> index(event.documentId()));
+    }
+
+    @Override
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocumentDeleted(DocumentDeletedEvent event) {
+        submit(() -> documentSearchIndex.delete(event.documentId()));
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleRebuild() {
+        submit(this::rebuildIndex);
+    }
+
+    @Override
+    public DataResult<Long> rebuildIndex() {
+        // Yeniden oluşturma sırasında değişen dökümanlar bir sonraki yakalama taramasında alınır
+        catchUpSince = LocalDateTime.now().minus(catchUpOverlap);
+        long generation = documentSearchIndex.beginRebuild();
+        long indexed = 0;
+        try {
+            // Keyset sayfalama; tablo büyüdükçe OFFSET gibi yavaşlamaz
+            long beforeId = Long.MAX_VALUE;
+            List<Document> documents;
+            do {
+                documents = documentRepository.findByIdLessThanOrderByIdDesc(beforeId, PageRequest.of(0, rebuildBatchSize));
+                for (Document document : documents) {
+                    documentSearchIndex.upsert(document);
+                }
+                indexed += documents.size();
+                if (!documents.isEmpty()) {
+                    beforeId = documents.get(documents.size() - 1).getId();
+                    documentSearchIndex.refresh();
+                }
+            } while (documents.size() == rebuildBatchSize);
+            documentSearchIndex.finishRebuild(generation);
+        } catch (IOException e) {
+            // Eski nesilden kalan dökümanlar silinmez; bir sonraki yeniden oluşturmada temizlenir
+            return new ErrorDataResult<>(indexed, "Arama dizini oluşturulamadı: " + e.getMessage());
+        }
+        return new SuccessDataResult<>(indexed, "Arama dizini yeniden oluşturuldu");
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${search.index.catch-up-interval-ms:30000}",
+            initialDelayString = "${search.index.catch-up-interval-ms:30000}")
+    public void scheduleCatchUp() {
+        if (catchUpPending.compareAndSet(false, true)) {
+            submit(() -> {
+                catchUpPending.set(false);
+                catchUpIndex();
+            });
+        }
+    }
+
+    @Override
+    public DataResult<Long> catchUpIndex() {
+        LocalDateTime since = catchUpSince;
+        if (since == null) {
+            return new SuccessDataResult<>(0L, "Arama dizini henüz oluşturulmadı; yakalama taraması atlandı");
+        }
+        LocalDateTime scanStart = LocalDateTime.now();
+        long indexed = 0;
+        try {
+            LocalDateTime afterUpdateAt = since;
+            long afterId = 0;
+            List<Document> documents;
+            do {
+                documents = documentRepository.findUpdatedAfter(afterUpdateAt, afterId, PageRequest.of(0, rebuildBatchSize));
+                for (Document document : documents) {
+                    documentSearchIndex.upsert(document);
+                }
+                indexed += documents.size();
+                if (!documents.isEmpty()) {
+                    Document last = documents.get(documents.size() - 1);
+                    afterUpdateAt = last.getUpdateAt();
+                    afterId = last.getId();
+                }
+            } while (documents.size() == rebuildBatchSize);
+        } catch (IOException e) {
+            // Başlangıç ilerletilmez; aynı aralık bir sonraki çalışmada yeniden taranır
+            return new ErrorDataResult<>(indexed, "Arama dizini güncellenemedi: " + e.getMessage());
+        }
+        catchUpSince = scanStart.minus(catchUpOverlap);
+        return new SuccessDataResult<>(indexed, "Değişen dökümanlar arama dizinine alındı");
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${search.index.reconcile-interval-ms:600000}",
+            initialDelayString = "${search.index.reconcile-interval-ms:600000}")
+    public void scheduleReconcile() {
+        if (reconcilePending.compareAndSet(false, true)) {
+            submit(() -> {
+                reconcilePending.set(false);
+                reconcileIndex();
+            });
+        }
+    }
+
+    @Override
+    public DataResult<Long> reconcileIndex() {
+        long removed = 0;
+        try {
+            // Yazmalar bu thread'de yapıldığından, dizindeki bir id veritabanında yoksa döküman silinmiştir
+            documentSearchIndex.refresh();
+            Long afterId = null;
+            List<Long> ids;
+            do {
+                ids = documentSearchIndex.documentIds(afterId, rebuildBatchSize);
+                if (!ids.isEmpty()) {
+                    Set<Long> existing = new HashSet<>(documentRepository.findExistingIds(ids));
+                    for (Long id : ids) {
+                        if (!existing.contains(id)) {
+                            documentSearchIndex.delete(id);
+                            removed++;
+                        }
+                    }
+                    afterId = ids.get(ids.size() - 1);
+                }
+            } while (ids.size() == rebuildBatchSize);
+        } catch (IOException e) {
+            return new ErrorDataResult<>(removed, "Arama dizini veritabanıyla karşılaştırılamadı: " + e.getMessage());
+        }
+        return new SuccessDataResult<>(removed, "Silinen dökümanlar arama dizininden çıkarıldı");
+    }
+
+    // Değişiklikler en geç bu aralıkla aramalara yansır; her yazmada yeni okuyucu açmak küçük segmentler üretir
+    @Override
+    @Scheduled(fixedDelayString = "${search.index.refresh-interval-ms:1000}")
+    public void refreshIndex() {
+        try {
+            documentSearchIndex.refresh();
+        } catch (IOException e) {
+            // Bir sonraki çalışmada tekrar denenir
+        }
+    }
+
+    private void index(Long documentId) throws IOException {
+        Optional<Document> document = documentRepository.findById(documentId);
+        if (document.isPresent()) {
+            documentSearchIndex.upsert(document.get());
+        } else {
+            // Olay işlenene kadar döküman silinmiş
+            documentSearchIndex.delete(documentId);
+        }
+    }
+
+    private void submit(IndexTask task) {
+        try {
+            searchIndexExecutor.execute(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    // Dizin güncellenemedi; döküman bir sonraki açılıştaki yeniden oluşturmada dizine alınır
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Uygulama kapanıyor
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexTask {
+        void run() throws Exception;
+    }
+}
@@ -1,81 +1,94 @@
 package com.moneymate.documentationManagement.business.concretes;
 
+import java.io.BufferedInputStream;
 import java.io.InputStream;
-import java.util.UUID;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.moneymate.documentationManagement.business.abstracts.DocumentService;
 import com.moneymate.documentationManagement.business.abstracts.FileUploadService;
+import com.moneymate.documentationManagement.business.abstracts.FileUrlService;
+import com.moneymate.documentationManagement.business.abstracts.StoredObjectService;
+import com.moneymate.documentationManagement.business.requests.BatchUploadItemRequest;
+import com.moneymate.documentationManagement.business.responses.BatchUploadItemResponse;
+import com.moneymate.documentationManagement.core.utilities.io.CompressionPolicy;
+import com.moneymate.documentationManagement.core.utilities.io.CountingInputStream;
+import com.moneymate.documentationManagement.core.utilities.io.FileNames;
+import com.moneymate.documentationManagement.core.utilities.io.StorageCodec;
 import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
 import com.moneymate.documentationManagement.core.utilities.exceptions.Results.Result;
 import com.moneymate.documentationManagement.core.utilities.exceptions.Results.SuccessDataResult;
 import com.moneymate.documentationManagement.core.utilities.exceptions.Results.ErrorDataResult;
 import com.moneymate.documentationManagement.core.utilities.exceptions.Results.SuccessResult;
 import com.moneymate.documentationManagement.core.utilities.exceptions.Results.ErrorResult;
+import com.moneymate.documentationManagement.dataAccess.abstracts.StorageBackend;
+import com.moneymate.documentationManagement.dataAccess.abstracts.StorageBackend.ObjectStat;
+import com.moneymate.documentationManagement.dataAccess.concretes.ParallelMultipartUploader;
 import com.moneymate.documentationManagement.entities.concretes.Document;
-
-import io.minio.BucketExistsArgs;
-import io.minio.GetObjectArgs;
-import io.minio.GetPresignedObjectUrlArgs;
-import io.minio.MakeBucketArgs;
-import io.minio.MinioClient;
-import io.minio.PutObjectArgs;
-import io.minio.RemoveObjectArgs;
-import io.minio.http.Method;
+import com.moneymate.documentationManagement.entities.concretes.StoredObject;
 
 @Service
 public class FileUploadManager implements FileUploadService {
 
     @Autowired
-    private MinioClient minioClient;
+    private StorageBackend storageBackend;
     
     @Autowired
     private DocumentService documentService;
 
-    @Value("${minio.bucket-name}")
-    private String bucketName;
+    @Autowired
+    private StoredObjectService storedObjectService;
+
+    @Autowired
+    private FileUrlService fileUrlService;
+
+    @Autowired
+    private ParallelMultipartUploader parallelMultipartUploader;
+
+    @Autowired
+    private CompressionPolicy compressionPolicy;
+
+    @Autowired
+    @Qualifier("batchUploadExecutor")
+    private ExecutorService batchUploadExecutor;
+
+    @Value("${upload.batch.max-files:500}")
+    private int maxBatchFiles;
+
+    private static final long MAX_FILE_SIZE = 10 * 1024 * 1024;
 
     @Override
     public DataResult<Document> uploadFileWithMetadata(MultipartFile file, String title, String institutionName,
                                            String institutionType, String institutionUrl,
                                            String documentType, String documentDescription) {
         try {
-            // 1. Dosyayı MinIO'ya yükle
-            DataResult<String> uploadResult = uploadFile(file);
-            if (!uploadResult.isSuccess()) {
-                return new ErrorDataResult<>("Dosya yüklenemedi: " + uploadResult.getMessage());
-            }
-            
-            String fileName = uploadResult.getData();
-            
-            // 2. Dosya URL'ini al
-            DataResult<String> urlResult = getFileUrl(fileName);
-            if (!urlResult.isSuccess()) {
-                return new ErrorDataResult<>("Dosya URL'i alınamadı: " + urlResult.getMessage());
+            // 1. Dosyayı MinIO'ya yükle (aynı içerik varsa mevcut nesne kullanılır)
+            StoredFile storedFile;
+            try (InputStream inputStream = file.getInputStream()) {
+                storedFile = storeFile(inputStream, file.getSize(), file.getOriginalFilename(), file.getContentType());
             }
-            
-            String fileUrl = urlResult.getData();
-            String fileSize = formatFileSize(file.getSize());
-
-            // 3. Document entity'sini oluştur
-            Document document = new Document(
-                    title,
-                    fileName,
-                    institutionName,
-                    institutionType,
-                    institutionUrl,
-                    documentType,
-                    documentDescription,
-                    fileSize,
-                    fileUrl
-            );
-
-            // 4. Veritabanına kaydet
-            return documentService.saveDocument(document);
+
+            // 2. Document entity'sini oluştur ve veritabanına kaydet (URL okunurken üretilir)
+            return saveDocument(storedFile, title, institutionName, institutionType,
+                    institutionUrl, documentType, documentDescription);
             
         } catch (Exception e) {
             return new ErrorDataResult<>("Dosya yükleme işlemi başarısız: " + e.getMessage());
@@ -83,23 +96,105 @@ public class FileUploadManager implements FileUploadService {
     }
 
     @Override
-    public DataResult<String> uploadFile(MultipartFile file) {
+    public DataResult<Document> uploadStreamWithMetadata(InputStream inputStream, String originalFileName,
+                                           String contentType, String title, String institutionName,
+                                           String institutionType, String institutionUrl,
+                                           String documentType, String documentDescription) {
+        // Gelen stream'in boyutu bilinmiyor
+        return uploadStreamWithMetadata(inputStream, -1, originalFileName, contentType, title, institutionName,
+                institutionType, institutionUrl, documentType, documentDescription);
+    }
+
+    @Override
+    public DataResult<Document> uploadStreamWithMetadata(InputStream inputStream, long size, String originalFileName,
+                                           String contentType, String title, String institutionName,
+                                           String institutionType, String institutionUrl,
+                                           String documentType, String documentDescription) {
         try {
-            createBucketIfNotExists();
-            String fileName = generateFileName(file.getOriginalFilename());
+            // 1. Gelen stream'i diske/belleğe almadan doğrudan depolamaya aktar
+            StoredFile storedFile = storeFile(inputStream, size, originalFileName, contentType);
 
-            try (InputStream inputStream = file.getInputStream()) {
-                minioClient.putObject(
-                        PutObjectArgs.builder()
-                                .bucket(bucketName)
-                                .object(fileName)
-                                .stream(inputStream, file.getSize(), -1)
-                                .contentType(file.getContentType())
-                                .build()
-                );
-
-                return new SuccessDataResult<>(fileName, "Dosya başarıyla yüklendi");
+            // 2. Document entity'sini oluştur ve veritabanına kaydet (URL okunurken üretilir)
+            return saveDocument(storedFile, title, institutionName,
+                    institutionType, institutionUrl, documentType, documentDescription);
+
+        } catch (Exception e) {
+            return new ErrorDataResult<>("Dosya yükleme işlemi başarısız: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public DataResult<List<BatchUploadItemResponse>> uploadBatch(List<MultipartFile> files,
+                                                                 List<BatchUploadItemRequest> metadata) {
+        if (files == null || files.isEmpty()) {
+            return new ErrorDataResult<>("Dosya listesi boş olamaz");
+        }
+        if (metadata == null || metadata.size() != files.size()) {
+            return new ErrorDataResult<>("Her dosya için bir metadata kaydı gönderilmelidir");
+        }
+        if (files.size() > maxBatchFiles) {
+            return new ErrorDataResult<>("Tek istekte en fazla " + maxBatchFiles + " dosya yüklenebilir");
+        }
+
+        // 1. Dosyaları sınırlı paralellikle depolamaya yükle
+        List<Future<Document>> futures = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            MultipartFile file = files.get(i);
+            BatchUploadItemRequest item = metadata.get(i);
+            futures.add(batchUploadExecutor.submit(() -> prepareDocument(file, item)));
+        }
+
+        BatchUploadItemResponse[] responses = new BatchUploadItemResponse[files.size()];
+        List<Integer> preparedIndexes = new ArrayList<>();
+        List<Document> preparedDocuments = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            String fileName = files.get(i).getOriginalFilename();
+            try {
+                preparedDocuments.add(futures.get(i).get());
+                preparedIndexes.add(i);
+            } catch (ExecutionException e) {
+                responses[i] = BatchUploadItemResponse.error(i, fileName,
+                        "Dosya yükleme işlemi başarısız: " + e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                responses[i] = BatchUploadItemResponse.error(i, fileName, "Dosya yükleme işlemi kesildi");
             }
+        }
+
+        // 2. Başarıyla yüklenen dosyaların dökümanlarını tek transaction'da kaydet
+        if (!preparedDocuments.isEmpty()) {
+            saveBatchDocuments(files, preparedIndexes, preparedDocuments, responses);
+        }
+
+        long successCount = Arrays.stream(responses).filter(BatchUploadItemResponse::isSuccess).count();
+        String message = successCount + "/" + files.size() + " dosya başarıyla yüklendi";
+        List<BatchUploadItemResponse> results = List.of(responses);
+        if (successCount == 0) {
+            return new ErrorDataResult<>(results, message);
+        }
+        return new SuccessDataResult<>(results, message);
+    }
+
+    @Override
+    public DataResult<Document> prepareDocument(InputStream inputStream, long size, String originalFileName,
+                                                String contentType, BatchUploadItemRequest metadata) {
+        try {
+            StoredFile storedFile = storeFile(inputStream, size, originalFileName, contentType);
+            Document document = buildDocument(storedFile, metadata.getTitle(), metadata.getInstitutionName(),
+                    metadata.getInstitutionType(), metadata.getInstitutionUrl(), metadata.getDocumentType(),
+                    metadata.getDocumentDescription());
+            return new SuccessDataResult<>(document, "Dosya başarıyla yüklendi");
+        } catch (Exception e) {
+            return new ErrorDataResult<>("Dosya yükleme işlemi başarısız: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public DataResult<String> uploadFile(MultipartFile file) {
+        try (InputStream inputStream = file.getInputStream()) {
+            StoredFile storedFile = storeFile(inputStream, file.getSize(), file.getOriginalFilename(),
+                    file.getContentType());
+            return new SuccessDataResult<>(storedFile.objectName(), "Dosya başarıyla yüklendi");
         } catch (Exception e) {
             return new ErrorDataResult<>("Dosya yüklenirken hata oluştu: " + e.getMessage());
         }
@@ -112,67 +207,226 @@ public class FileUploadManager implements FileUploadService {
         }
         
         try {
-            minioClient.removeObject(
-                RemoveObjectArgs.builder()
-                    .bucket(bucketName)
-                    .object(fileName)
-                    .build()
-            );
+            storageBackend.removeObject(fileName);
+            fileUrlService.evict(fileName);
+            removeThumbnail(fileName);
             return new SuccessResult("Dosya başarıyla silindi");
         } catch (Exception e) {
             return new ErrorResult("Dosya silinemedi: " + e.getMessage());
         }
     }
 
+    @Override
+    public Result releaseFile(String fileName) {
+        if (fileName == null || fileName.trim().isEmpty()) {
+            return new ErrorResult("Dosya adı geçersiz");
+        }
+
+        try {
+            DataResult<Boolean> releaseResult = storedObjectService.release(fileName);
+            if (!releaseResult.getData()) {
+                return new SuccessResult("Dosya başka dökümanlarca kullanıldığı için silinmedi");
+            }
+            return deleteFile(fileName);
+        } catch (Exception e) {
+            return new ErrorResult("Dosya silinemedi: " + e.getMessage());
+        }
+    }
+
     @Override
     public DataResult<String> getFileUrl(String fileName) {
+        return fileUrlService.getFileUrl(fileName);
+    }
+    
+    @Override
+    public DataResult<ObjectStat> getFileInfo(String fileName) {
         if (fileName == null || fileName.trim().isEmpty()) {
             return new ErrorDataResult<>("Dosya adı boş olamaz");
         }
-        
+
         try {
-            String url = minioClient.getPresignedObjectUrl(
-                    GetPresignedObjectUrlArgs.builder()
-                            .method(Method.GET)
-                            .bucket(bucketName)
-                            .object(fileName)
-                            .expiry(60 * 60 * 24)
-                            .build()
-            );
-            return new SuccessDataResult<>(url, "URL başarıyla oluşturuldu");
+            ObjectStat stat = storageBackend.statObject(fileName);
+            StoredObject storedObject = findStoredObject(fileName);
+            if (storedObject != null && StorageCodec.of(storedObject.getStorageCodec()) != StorageCodec.NONE) {
+                // Sıkıştırılmış nesnede istemciye açılmış içeriğin boyutu bildirilir
+                stat = new ObjectStat(storedObject.getSize(), stat.etag(), stat.contentType());
+            }
+            return new SuccessDataResult<>(stat, "Dosya bilgisi getirildi");
         } catch (Exception e) {
-            return new ErrorDataResult<>("URL oluşturulamadı: " + e.getMessage());
+            return new ErrorDataResult<>("Dosya bulunamadı: " + e.getMessage());
         }
     }
-    
-    private void createBucketIfNotExists() throws Exception {
-        boolean bucketExists = minioClient.bucketExists(
-                BucketExistsArgs.builder()
-                        .bucket(bucketName)
-                        .build()
-        );
 
-        if (!bucketExists) {
-            minioClient.makeBucket(
-                    MakeBucketArgs.builder()
-                            .bucket(bucketName)
-                            .build()
-            );
+    @Override
+    public void writeFile(String fileName, long offset, long length, OutputStream outputStream) throws Exception {
+        StoredObject storedObject = findStoredObject(fileName);
+        StorageCodec codec = storedObject != null ? StorageCodec.of(storedObject.getStorageCodec()) : StorageCodec.NONE;
+        if (codec == StorageCodec.NONE) {
+            // Servlet çıktısı native kanal olmadığından kernel'de kopyalama yapılamaz; backend mmap ile yazar
+            storageBackend.transferTo(fileName, offset, length, Channels.newChannel(outputStream));
+            return;
+        }
+
+        // Sıkıştırılmış nesnede aralık okunamaz; içerik baştan açılıp istenen aralık yazılır
+        try (InputStream inputStream = codec.decode(storageBackend.getObject(fileName))) {
+            inputStream.skipNBytes(offset);
+            byte[] buffer = new byte[64 * 1024];
+            long remaining = length;
+            while (remaining > 0) {
+                int read = inputStream.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read == -1) {
+                    break;
+                }
+                outputStream.write(buffer, 0, read);
+                remaining -= read;
+            }
+        }
+    }
+
+    /**
+     * Stream'i tek geçişte hem depolamaya yazar hem de SHA-256 özetini ve CRC32C sağlama toplamını hesaplar.
+     * Büyük dosyalar parçalara bölünerek paralel yüklenir; özet, stream sıralı okunurken hesaplanır.
+     * Sıkıştırmaya uygun dosyalar yükleme sırasında gzip'lenir; özet ve boyut orijinal içerik üzerinden hesaplanır.
+     * Aynı özete sahip bir nesne zaten varsa yeni yüklenen kopya silinir ve mevcut nesne referanslanır.
+     */
+    private StoredFile storeFile(InputStream inputStream, long size, String originalFileName,
+                                 String contentType) throws Exception {
+        String fileName = FileNames.generateObjectName(originalFileName);
+
+        InputStream source = inputStream;
+        StorageCodec codec = StorageCodec.NONE;
+        if (compressionPolicy.isCandidate(contentType, size)) {
+            int sampleSize = compressionPolicy.getSampleSize();
+            BufferedInputStream bufferedStream = new BufferedInputStream(inputStream, sampleSize);
+            bufferedStream.mark(sampleSize);
+            codec = compressionPolicy.choose(bufferedStream.readNBytes(sampleSize));
+            bufferedStream.reset();
+            source = bufferedStream;
+        }
+
+        CountingInputStream countingStream = new CountingInputStream(source);
+        DigestInputStream digestStream = new DigestInputStream(countingStream, MessageDigest.getInstance("SHA-256"));
+        CheckedInputStream checksumStream = new CheckedInputStream(digestStream, new CRC32C());
+
+        if (codec == StorageCodec.NONE) {
+            parallelMultipartUploader.upload(fileName, checksumStream, size, contentType);
+        } else {
+            // Sıkıştırılmış boyut önceden bilinmez
+            try (InputStream encodedStream = codec.encode(checksumStream, compressionPolicy.getLevel())) {
+                parallelMultipartUploader.upload(fileName, encodedStream, -1, contentType);
+            }
+        }
+
+        String sha256 = HexFormat.of().formatHex(digestStream.getMessageDigest().digest());
+        String crc32c = HexFormat.of().toHexDigits((int) checksumStream.getChecksum().getValue());
+        StoredObject storedObject = registerStoredObject(sha256, fileName, countingStream.getCount(), codec);
+        if (!fileName.equals(storedObject.getObjectName())) {
+            storageBackend.removeObject(fileName);
         }
+        return new StoredFile(storedObject.getObjectName(), sha256, crc32c, countingStream.getCount(),
+                StorageCodec.of(storedObject.getStorageCodec()));
     }
 
-    private String generateFileName(String originalFileName) {
-        String extension = "";
-        if (originalFileName != null && originalFileName.contains(".")) {
-            extension = originalFileName.substring(originalFileName.lastIndexOf("."));
+    private void removeThumbnail(String fileName) {
+        try {
+            storageBackend.removeObject(FileNames.thumbnailObjectName(fileName));
+        } catch (Exception e) {
+            // Önizleme hiç üretilmemiş olabilir
+        }
+    }
+
+    private StoredObject findStoredObject(String fileName) {
+        DataResult<StoredObject> result = storedObjectService.getByObjectName(fileName);
+        return result != null && result.isSuccess() ? result.getData() : null;
+    }
+
+    private Document prepareDocument(MultipartFile file, BatchUploadItemRequest item) throws Exception {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("Dosya boş olamaz");
+        }
+        if (file.getSize() > MAX_FILE_SIZE) {
+            throw new IllegalArgumentException("Dosya boyutu 10MB'dan büyük olamaz");
+        }
+
+        StoredFile storedFile;
+        try (InputStream inputStream = file.getInputStream()) {
+            storedFile = storeFile(inputStream, file.getSize(), file.getOriginalFilename(), file.getContentType());
+        }
+        return buildDocument(storedFile, item.getTitle(), item.getInstitutionName(),
+                item.getInstitutionType(), item.getInstitutionUrl(), item.getDocumentType(),
+                item.getDocumentDescription());
+    }
+
+    private void saveBatchDocuments(List<MultipartFile> files, List<Integer> indexes, List<Document> documents,
+                                    BatchUploadItemResponse[] responses) {
+        String failureMessage;
+        try {
+            DataResult<List<Document>> result = documentService.saveDocuments(documents);
+            if (result.isSuccess()) {
+                for (int i = 0; i < indexes.size(); i++) {
+                    int index = indexes.get(i);
+                    responses[index] = BatchUploadItemResponse.success(index, files.get(index).getOriginalFilename(),
+                            result.getMessage(), result.getData().get(i));
+                }
+                return;
+            }
+            failureMessage = result.getMessage();
+        } catch (Exception e) {
+            failureMessage = e.getMessage();
+        }
+
+        // Transaction geri alındı; yüklenen dosyaların referanslarını bırak
+        for (int i = 0; i < indexes.size(); i++) {
+            int index = indexes.get(i);
+            releaseFile(documents.get(i).getMinioFileName());
+            responses[index] = BatchUploadItemResponse.error(index, files.get(index).getOriginalFilename(),
+                    "Döküman kaydedilemedi: " + failureMessage);
+        }
+    }
+
+    private StoredObject registerStoredObject(String sha256, String fileName, long size, StorageCodec codec) {
+        try {
+            return storedObjectService.register(sha256, fileName, size, codec).getData();
+        } catch (DataIntegrityViolationException e) {
+            // Aynı içerik eşzamanlı olarak yüklendi; diğer isteğin oluşturduğu kaydı kullan
+            return storedObjectService.register(sha256, fileName, size, codec).getData();
+        }
+    }
+
+    private DataResult<Document> saveDocument(StoredFile storedFile, String title,
+                                              String institutionName, String institutionType, String institutionUrl,
+                                              String documentType, String documentDescription) {
+        Document document = buildDocument(storedFile, title, institutionName, institutionType,
+                institutionUrl, documentType, documentDescription);
+
+        DataResult<Document> result = documentService.saveDocument(document);
+        if (!result.isSuccess()) {
+            releaseFile(storedFile.objectName());
+        }
+        return result;
+    }
+
+    private Document buildDocument(StoredFile storedFile, String title, String institutionName,
+                                   String institutionType, String institutionUrl, String documentType,
+                                   String documentDescription) {
+        Document document = new Document(
+                title,
+                storedFile.objectName(),
+                institutionName,
+                institutionType,
+                institutionUrl,
+                documentType,
+                documentDescription,
+                FileNames.formatFileSize(storedFile.size())
+        );
+        document.setContentHash(storedFile.sha256());
+        document.setCrc32c(storedFile.crc32c());
+        if (storedFile.codec() != StorageCodec.NONE) {
+            document.setStorageCodec(storedFile.codec());
         }
-        return UUID.randomUUID().toString() + extension;
+        return document;
     }
 
-    private String formatFileSize(long size) {
-        if (size < 1024) return size + " B";
-        if (size < 1024 * 1024) return String.format("%.1f KB", size / 1024.0);
-        if (size < 1024 * 1024 * 1024) return String.format("%.1f MB", size / (1024.0 * 1024.0));
-        return String.format("%.1f GB", size / (1024.0 * 1024.0 * 1024.0));
+    private record StoredFile(String objectName, String sha256, String crc32c, long size, StorageCodec codec) {
     }
 }
@@ -0,0 +1,86 @@
+package com.moneymate.documentationManagement.business.concretes;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.moneymate.documentationManagement.business.abstracts.FileUrlService;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.ErrorDataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.SuccessDataResult;
+import com.moneymate.documentationManagement.core.utilities.io.StorageCodec;
+import com.moneymate.documentationManagement.dataAccess.abstracts.StorageBackend;
+
+/**
+ * Presigned URL'leri döküman okunurken üretir ve nesne adına göre önbellekte tutar.
+ * Önbellekten dönen bir URL'in en az refresh-margin-seconds kadar geçerlilik süresi kalmıştır;
+ * sık okunan nesnelerin URL'leri süre yarılanınca arka planda yenilenir.
+ */
+@Service
+public class FileUrlManager implements FileUrlService {
+
+    private static final String CONTENT_URL = "/api/v1/documents/%d/content";
+
+    private final StorageBackend storageBackend;
+    private final LoadingCache<UrlKey, String> urlCache;
+
+    public FileUrlManager(StorageBackend storageBackend,
+                          @Value("${storage.presigned-url.expiry-seconds:86400}") int expirySeconds,
+                          @Value("${storage.presigned-url.refresh-margin-seconds:3600}") int refreshMarginSeconds,
+                          @Value("${storage.presigned-url.cache-size:10000}") long cacheSize) {
+        if (refreshMarginSeconds >= expirySeconds) {
+            throw new IllegalArgumentException("refresh-margin-seconds, expiry-seconds'dan küçük olmalıdır");
+        }
+        this.storageBackend = storageBackend;
+        Duration usableLifetime = Duration.ofSeconds(expirySeconds - refreshMarginSeconds);
+        this.urlCache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(usableLifetime)
+                .refreshAfterWrite(usableLifetime.dividedBy(2))
+                .build(key -> storageBackend.getPresignedUrl(key.objectName(), expirySeconds,
+                        key.storageCodec().getContentEncoding()));
+    }
+
+    @Override
+    public DataResult<String> getFileUrl(String objectName) {
+        return getFileUrl(objectName, StorageCodec.NONE);
+    }
+
+    @Override
+    public DataResult<String> getFileUrl(String objectName, StorageCodec storageCodec) {
+        if (objectName == null || objectName.trim().isEmpty()) {
+            return new ErrorDataResult<>("Dosya adı boş olamaz");
+        }
+
+        try {
+            return new SuccessDataResult<>(urlCache.get(new UrlKey(objectName, StorageCodec.of(storageCodec))), "URL başarıyla oluşturuldu");
+        } catch (Exception e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return new ErrorDataResult<>("URL oluşturulamadı: " + cause.getMessage());
+        }
+    }
+
+    @Override
+    public DataResult<String> getDocumentUrl(Long documentId, String objectName, StorageCodec storageCodec) {
+        if (documentId != null && !storageBackend.supportsPresignedUrls()) {
+            // Depolama istemciden erişilemiyor (dosya sistemi); içerik uygulama üzerinden okunur
+            return new SuccessDataResult<>(CONTENT_URL.formatted(documentId), "URL başarıyla oluşturuldu");
+        }
+        return getFileUrl(objectName, storageCodec);
+    }
+
+    @Override
+    public void evict(String objectName) {
+        if (objectName != null) {
+            for (StorageCodec storageCodec : StorageCodec.values()) {
+                urlCache.invalidate(new UrlKey(objectName, storageCodec));
+            }
+        }
+    }
+
+    private record UrlKey(String objectName, StorageCodec storageCodec) {
+    }
+}
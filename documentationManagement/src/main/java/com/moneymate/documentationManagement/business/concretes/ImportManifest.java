@@ -0,0 +1,165 @@
+package com.moneymate.documentationManagement.business.concretes;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moneymate.documentationManagement.business.requests.BatchUploadItemRequest;
+
+/**
+ * Toplu içe aktarımda dosyaların metadata'sı. Her kayıt, kaynağa göre göreli dosya yolunu ("file") ve
+ * BatchUploadItemRequest alanlarını içerir. CSV (başlık satırlı; ',' ya da ';' ayraçlı) ve JSON (nesne dizisi)
+ * desteklenir.
+ */
+class ImportManifest {
+
+    static final String FILE_FIELD = "file";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final Map<String, BatchUploadItemRequest> items;
+
+    private ImportManifest(Map<String, BatchUploadItemRequest> items) {
+        this.items = items;
+    }
+
+    static boolean isManifest(String path) {
+        String name = path.substring(path.lastIndexOf('/') + 1).toLowerCase(Locale.ROOT);
+        return name.equals("manifest.csv") || name.equals("manifest.json");
+    }
+
+    static ImportManifest parse(InputStream inputStream, String fileName) throws IOException {
+        String content = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        if (content.startsWith("\uFEFF")) {
+            content = content.substring(1);
+        }
+        List<Map<String, String>> rows = fileName.toLowerCase(Locale.ROOT).endsWith(".json")
+                ? OBJECT_MAPPER.readValue(content, new TypeReference<List<Map<String, String>>>() { })
+                : parseCsv(content);
+
+        Map<String, BatchUploadItemRequest> items = new HashMap<>(rows.size() * 2);
+        for (Map<String, String> row : rows) {
+            String file = row.get(FILE_FIELD);
+            if (file == null || file.isBlank()) {
+                throw new IOException("Manifest kaydında dosya yolu (" + FILE_FIELD + ") yok");
+            }
+            items.put(normalize(file), OBJECT_MAPPER.convertValue(row, BatchUploadItemRequest.class));
+        }
+        return new ImportManifest(items);
+    }
+
+    BatchUploadItemRequest get(String path) {
+        return items.get(normalize(path));
+    }
+
+    int size() {
+        return items.size();
+    }
+
+    /**
+     * Dökümanın zorunlu alanlarından eksik olanın adı; tümü doluysa null.
+     */
+    static String missingField(BatchUploadItemRequest item) {
+        if (isBlank(item.getTitle())) return "title";
+        if (isBlank(item.getInstitutionName())) return "institutionName";
+        if (isBlank(item.getInstitutionType())) return "institutionType";
+        if (isBlank(item.getDocumentType())) return "documentType";
+        return null;
+    }
+
+    static String normalize(String path) {
+        String normalized = path.trim().replace('\\', '/');
+        while (normalized.startsWith("./")) {
+            normalized = normalized.substring(2);
+        }
+        while (normalized.startsWith("/")) {
+            normalized = normalized.substring(1);
+        }
+        return normalized;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static List<Map<String, String>> parseCsv(String content) throws IOException {
+        int headerEnd = content.indexOf('\n');
+        String headerLine = headerEnd < 0 ? content : content.substring(0, headerEnd);
+        char separator = headerLine.indexOf(';') >= 0 && headerLine.indexOf(',') < 0 ? ';' : ',';
+
+        List<List<String>> records = readRecords(content, separator);
+        if (records.isEmpty()) {
+            return List.of();
+        }
+        List<String> header = records.get(0).stream().map(String::trim).toList();
+        List<Map<String, String>> rows = new ArrayList<>(records.size() - 1);
+        for (int i = 1; i < records.size(); i++) {
+            List<String> record = records.get(i);
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            if (record.size() > header.size()) {
+                throw new IOException("Manifest " + (i + 1) + ". satırda başlıktan fazla alan var");
+            }
+            Map<String, String> row = new LinkedHashMap<>();
+            for (int j = 0; j < record.size(); j++) {
+                row.put(header.get(j), record.get(j));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    // RFC 4180: tırnaklı alanlar ayraç, satır sonu ve "" (kaçışlı tırnak) içerebilir
+    private static List<List<String>> readRecords(String content, char separator) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        List<String> record = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < content.length() && content.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == separator) {
+                record.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                record.add(field.toString());
+                field.setLength(0);
+                records.add(record);
+                record = new ArrayList<>();
+            } else if (c != '\r') {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IOException("Manifest'te kapanmamış tırnak var");
+        }
+        if (field.length() > 0 || !record.isEmpty()) {
+            record.add(field.toString());
+            records.add(record);
+        }
+        return records;
+    }
+}
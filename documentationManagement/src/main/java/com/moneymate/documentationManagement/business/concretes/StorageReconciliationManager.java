@@ -0,0 +1,183 @@
+package com.moneymate.documentationManagement.business.concretes;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.moneymate.documentationManagement.business.abstracts.StorageReconciliationService;
+import com.moneymate.documentationManagement.business.responses.ReconciliationReport;
+import com.moneymate.documentationManagement.core.utilities.Throttle;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.ErrorDataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.SuccessDataResult;
+import com.moneymate.documentationManagement.core.utilities.io.FileNames;
+import com.moneymate.documentationManagement.dataAccess.abstracts.DirectUploadRepository;
+import com.moneymate.documentationManagement.dataAccess.abstracts.DocumentRepository;
+import com.moneymate.documentationManagement.dataAccess.abstracts.StorageBackend;
+import com.moneymate.documentationManagement.dataAccess.abstracts.StorageBackend.ObjectInfo;
+import com.moneymate.documentationManagement.dataAccess.abstracts.StoredObjectRepository;
+import com.moneymate.documentationManagement.dataAccess.abstracts.UploadSessionRepository;
+import com.moneymate.documentationManagement.entities.concretes.DirectUpload;
+import com.moneymate.documentationManagement.entities.concretes.UploadSession;
+
+/**
+ * Bucket'taki nesneleri veritabanı kayıtlarıyla karşılaştırıp sahipsiz nesneleri raporlar ya da siler.
+ * Nesne listesi stream olarak okunur ve partiler halinde tek IN sorgusuyla kontrol edilir; bucket ya da
+ * tablo belleğe alınmaz. Yeni nesneler (yüklemesi sürüyor olabilir) değerlendirilmez, silmeler hız sınırlıdır.
+ */
+@Service
+public class StorageReconciliationManager implements StorageReconciliationService {
+
+    private final StorageBackend storageBackend;
+    private final DocumentRepository documentRepository;
+    private final StoredObjectRepository storedObjectRepository;
+    private final DirectUploadRepository directUploadRepository;
+    private final UploadSessionRepository uploadSessionRepository;
+    private final boolean deleteOnSchedule;
+    private final Duration minAge;
+    private final int batchSize;
+    private final int deletesPerSecond;
+    private final long maxDeletesPerRun;
+    private final int sampleSize;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile ReconciliationReport lastReport;
+
+    public StorageReconciliationManager(StorageBackend storageBackend,
+                                        DocumentRepository documentRepository,
+                                        StoredObjectRepository storedObjectRepository,
+                                        DirectUploadRepository directUploadRepository,
+                                        UploadSessionRepository uploadSessionRepository,
+                                        @Value("${storage.reconciliation.delete:false}") boolean deleteOnSchedule,
+                                        @Value("${storage.reconciliation.min-age-hours:24}") long minAgeHours,
+                                        @Value("${storage.reconciliation.batch-size:1000}") int batchSize,
+                                        @Value("${storage.reconciliation.deletes-per-second:20}") int deletesPerSecond,
+                                        @Value("${storage.reconciliation.max-deletes-per-run:10000}") long maxDeletesPerRun,
+                                        @Value("${storage.reconciliation.sample-size:100}") int sampleSize) {
+        this.storageBackend = storageBackend;
+        this.documentRepository = documentRepository;
+        this.storedObjectRepository = storedObjectRepository;
+        this.directUploadRepository = directUploadRepository;
+        this.uploadSessionRepository = uploadSessionRepository;
+        this.deleteOnSchedule = deleteOnSchedule;
+        this.minAge = Duration.ofHours(minAgeHours);
+        this.batchSize = batchSize;
+        this.deletesPerSecond = deletesPerSecond;
+        this.maxDeletesPerRun = maxDeletesPerRun;
+        this.sampleSize = sampleSize;
+    }
+
+    @Override
+    @Scheduled(cron = "${storage.reconciliation.cron:0 0 3 * * *}")
+    public void reconcileScheduled() {
+        reconcile(deleteOnSchedule);
+    }
+
+    @Override
+    public DataResult<ReconciliationReport> reconcile(boolean delete) {
+        if (!running.compareAndSet(false, true)) {
+            return new ErrorDataResult<>("Depolama mutabakatı zaten çalışıyor");
+        }
+        ReconciliationReport report = new ReconciliationReport();
+        report.setStartedAt(LocalDateTime.now());
+        report.setDeleteEnabled(delete);
+        try {
+            scan(report, delete);
+            return new SuccessDataResult<>(report, "Depolama mutabakatı tamamlandı");
+        } catch (Exception e) {
+            // Yarım kalan tarama bir sonraki çalışmada baştan yapılır
+            report.setError(e.getMessage());
+            return new ErrorDataResult<>(report, "Depolama mutabakatı tamamlanamadı: " + e.getMessage());
+        } finally {
+            report.setFinishedAt(LocalDateTime.now());
+            lastReport = report;
+            running.set(false);
+        }
+    }
+
+    @Override
+    public DataResult<ReconciliationReport> getLastReport() {
+        ReconciliationReport report = lastReport;
+        if (report == null) {
+            return new ErrorDataResult<>("Henüz depolama mutabakatı çalıştırılmadı");
+        }
+        return new SuccessDataResult<>(report, "Son mutabakat raporu getirildi");
+    }
+
+    private void scan(ReconciliationReport report, boolean delete) throws Exception {
+        Instant cutoff = Instant.now().minus(minAge);
+        Throttle throttle = Throttle.perSecond(deletesPerSecond);
+        List<ObjectInfo> batch = new ArrayList<>(batchSize);
+
+        try (Stream<ObjectInfo> objects = storageBackend.listObjects()) {
+            Iterator<ObjectInfo> iterator = objects.iterator();
+            while (iterator.hasNext() && !report.isLimitReached()) {
+                ObjectInfo object = iterator.next();
+                report.setScannedObjects(report.getScannedObjects() + 1);
+                if (object.lastModified() == null || object.lastModified().isAfter(cutoff)) {
+                    report.setRecentObjects(report.getRecentObjects() + 1);
+                    continue;
+                }
+                batch.add(object);
+                if (batch.size() == batchSize) {
+                    processBatch(batch, report, delete, throttle);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty() && !report.isLimitReached()) {
+            processBatch(batch, report, delete, throttle);
+        }
+    }
+
+    private void processBatch(List<ObjectInfo> batch, ReconciliationReport report, boolean delete, Throttle throttle) {
+        // Önizlemeler kaynak nesneye aittir; kaynak kullanılıyorsa önizleme de kullanılıyordur
+        Set<String> ownerNames = new HashSet<>(batch.size() * 2);
+        for (ObjectInfo object : batch) {
+            ownerNames.add(FileNames.sourceObjectName(object.name()));
+        }
+
+        // Nesnenin sahibi döküman, içerik kaydı ya da henüz tamamlanmamış bir yükleme olabilir
+        Set<String> referenced = new HashSet<>(documentRepository.findMinioFileNamesIn(ownerNames));
+        referenced.addAll(storedObjectRepository.findObjectNamesIn(ownerNames));
+        referenced.addAll(directUploadRepository.findObjectNamesIn(DirectUpload.Status.PENDING, ownerNames));
+        referenced.addAll(uploadSessionRepository.findObjectNamesIn(UploadSession.Status.ACTIVE, ownerNames));
+
+        for (ObjectInfo object : batch) {
+            if (referenced.contains(FileNames.sourceObjectName(object.name()))) {
+                continue;
+            }
+            report.setOrphanObjects(report.getOrphanObjects() + 1);
+            report.setOrphanBytes(report.getOrphanBytes() + object.size());
+            if (report.getSampleOrphans().size() < sampleSize) {
+                report.getSampleOrphans().add(object.name());
+            }
+            if (!delete) {
+                continue;
+            }
+            if (report.getDeletedObjects() >= maxDeletesPerRun) {
+                report.setLimitReached(true);
+                return;
+            }
+            throttle.await();
+            try {
+                storageBackend.removeObject(object.name());
+                report.setDeletedObjects(report.getDeletedObjects() + 1);
+            } catch (Exception e) {
+                // Bir sonraki çalışmada tekrar denenir
+                report.setFailedDeletes(report.getFailedDeletes() + 1);
+            }
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.moneymate.documentationManagement.business.concretes;
+
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.moneymate.documentationManagement.business.abstracts.FileUrlService;
+import com.moneymate.documentationManagement.business.abstracts.StorageTieringService;
+import com.moneymate.documentationManagement.business.abstracts.StoredObjectService;
+import com.moneymate.documentationManagement.business.responses.TieringReport;
+import com.moneymate.documentationManagement.core.utilities.Throttle;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.ErrorDataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.Result;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.SuccessDataResult;
+import com.moneymate.documentationManagement.core.utilities.io.CompressionPolicy;
+import com.moneymate.documentationManagement.core.utilities.io.StorageCodec;
+import com.moneymate.documentationManagement.dataAccess.abstracts.DocumentRepository;
+import com.moneymate.documentationManagement.dataAccess.abstracts.StorageBackend;
+import com.moneymate.documentationManagement.dataAccess.abstracts.StorageBackend.ObjectStat;
+import com.moneymate.documentationManagement.dataAccess.concretes.TieredStorageBackend;
+import com.moneymate.documentationManagement.entities.concretes.Document.StorageTier;
+import com.moneymate.documentationManagement.entities.concretes.StoredObject;
+
+/**
+ * Eski ve uzun süredir okunmayan dökümanların nesnelerini arşiv bucket'ına taşır.
+ * Nesne önce arşive kopyalanır, sonra kayıtlar güncellenir, en son sıcak katmandan silinir; böylece taşıma
+ * yarıda kalırsa nesne her zaman en az bir katmanda bulunur. İsteğe bağlı olarak arşive yüksek seviyede
+ * gzip'lenerek yazılır. Taşımalar hız sınırlıdır ve nesne adı sırasıyla partiler halinde yapılır.
+ */
+@Service
+public class StorageTieringManager implements StorageTieringService {
+
+    private static final int MAX_REPORTED_HOT_REMOVALS = 100;
+
+    private final StorageBackend storageBackend;
+    private final DocumentRepository documentRepository;
+    private final StoredObjectService storedObjectService;
+    private final FileUrlService fileUrlService;
+    private final CompressionPolicy compressionPolicy;
+    private final long archiveAfterDays;
+    private final long idleDays;
+    private final boolean recompress;
+    private final int compressionLevel;
+    private final int batchSize;
+    private final int movesPerSecond;
+    private final long maxMovesPerRun;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    // Kaydı ARCHIVE olduğundan aday sorgusuna bir daha gelmeyecek, sıcak kopyası silinemeyen nesneler.
+    // Yeniden başlatmada kaybolur; kalanlar rapordaki örnek listeden görülebilir
+    private final Set<String> pendingHotRemovals = ConcurrentHashMap.newKeySet();
+    private volatile TieringReport lastReport;
+
+    public StorageTieringManager(StorageBackend storageBackend,
+                                 DocumentRepository documentRepository,
+                                 StoredObjectService storedObjectService,
+                                 FileUrlService fileUrlService,
+                                 CompressionPolicy compressionPolicy,
+                                 @Value("${storage.tiering.archive-after-days:180}") long archiveAfterDays,
+                                 @Value("${storage.tiering.idle-days:90}") long idleDays,
+                                 @Value("${storage.tiering.recompress:true}") boolean recompress,
+                                 @Value("${storage.tiering.compression-level:9}") int compressionLevel,
+                                 @Value("${storage.tiering.batch-size:100}") int batchSize,
+                                 @Value("${storage.tiering.moves-per-second:5}") int movesPerSecond,
+                                 @Value("${storage.tiering.max-moves-per-run:10000}") long maxMovesPerRun) {
+        this.storageBackend = storageBackend;
+        this.documentRepository = documentRepository;
+        this.storedObjectService = storedObjectService;
+        this.fileUrlService = fileUrlService;
+        this.compressionPolicy = compressionPolicy;
+        this.archiveAfterDays = archiveAfterDays;
+        this.idleDays = idleDays;
+        this.recompress = recompress;
+        this.compressionLevel = compressionLevel;
+        this.batchSize = batchSize;
+        this.movesPerSecond = movesPerSecond;
+        this.maxMovesPerRun = maxMovesPerRun;
+    }
+
+    @Override
+    @Scheduled(cron = "${storage.tiering.cron:0 30 4 * * *}")
+    public void migrateScheduled() {
+        if (storageBackend instanceof TieredStorageBackend) {
+            migrate();
+        }
+    }
+
+    @Override
+    public DataResult<TieringReport> migrate() {
+        if (!(storageBackend instanceof TieredStorageBackend tieredStorageBackend)) {
+            return new ErrorDataResult<>("Depolama katmanlama kapalı (storage.tiering.enabled)");
+        }
+        if (!running.compareAndSet(false, true)) {
+            return new ErrorDataResult<>("Katmanlama işi zaten çalışıyor");
+        }
+        TieringReport report = new TieringReport();
+        report.setStartedAt(LocalDateTime.now());
+        try {
+            retryHotRemovals(tieredStorageBackend);
+            scan(tieredStorageBackend, report);
+            return new SuccessDataResult<>(report, "Katmanlama işi tamamlandı");
+        } catch (Exception e) {
+            // Taşınamayan nesneler aday olarak kalır; bir sonraki çalışmada tekrar denenir
+            report.setError(e.getMessage());
+            return new ErrorDataResult<>(report, "Katmanlama işi tamamlanamadı: " + e.getMessage());
+        } finally {
+            report.setPendingHotRemovals(pendingHotRemovals.size());
+            pendingHotRemovals.stream().limit(MAX_REPORTED_HOT_REMOVALS).forEach(report.getSamplePendingHotRemovals()::add);
+            report.setFinishedAt(LocalDateTime.now());
+            lastReport = report;
+            running.set(false);
+        }
+    }
+
+    @Override
+    public DataResult<TieringReport> getLastReport() {
+        TieringReport report = lastReport;
+        if (report == null) {
+            return new ErrorDataResult<>("Henüz katmanlama işi çalıştırılmadı");
+        }
+        return new SuccessDataResult<>(report, "Son katmanlama raporu getirildi");
+    }
+
+    private void scan(TieredStorageBackend tieredStorageBackend, TieringReport report) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime uploadedBefore = now.minusDays(archiveAfterDays);
+        LocalDateTime accessedBefore = now.minusDays(idleDays);
+        Throttle throttle = Throttle.perSecond(movesPerSecond);
+
+        String cursor = "";
+        while (true) {
+            List<String> candidates = documentRepository.findTieringCandidates(StorageTier.ARCHIVE, cursor,
+                    uploadedBefore, accessedBefore, PageRequest.of(0, batchSize));
+            if (candidates.isEmpty()) {
+                return;
+            }
+            for (String objectName : candidates) {
+                if (report.getMovedObjects() >= maxMovesPerRun) {
+                    report.setLimitReached(true);
+                    return;
+                }
+                report.setCandidateObjects(report.getCandidateObjects() + 1);
+                throttle.await();
+                try {
+                    moveToArchive(tieredStorageBackend, objectName, report);
+                } catch (Exception e) {
+                    // Nesne sıcak katmanda kalır; bir sonraki çalışmada tekrar denenir
+                    report.setFailedObjects(report.getFailedObjects() + 1);
+                }
+            }
+            cursor = candidates.get(candidates.size() - 1);
+        }
+    }
+
+    private void moveToArchive(TieredStorageBackend tieredStorageBackend, String objectName,
+                               TieringReport report) throws Exception {
+        StorageBackend hot = tieredStorageBackend.getBackend(StorageTier.HOT);
+        StorageBackend archive = tieredStorageBackend.getBackend(StorageTier.ARCHIVE);
+
+        StorageCodec codec = storedCodec(objectName);
+        ObjectStat stat = hot.statObject(objectName);
+        StorageCodec archiveCodec = copyToArchive(hot, archive, objectName, stat, codec);
+        if (recompress && archiveCodec == StorageCodec.GZIP) {
+            report.setRecompressedObjects(report.getRecompressedObjects() + 1);
+        }
+        long archivedSize = archive.statObject(objectName).size();
+
+        Result result = storedObjectService.updateStorageTier(objectName, StorageTier.ARCHIVE, archiveCodec);
+        if (!result.isSuccess()) {
+            // Döküman taşıma sırasında silindi; arşiv kopyası sahipsiz kalmasın
+            archive.removeObject(objectName);
+            report.setSkippedObjects(report.getSkippedObjects() + 1);
+            return;
+        }
+        tieredStorageBackend.evict(objectName);
+        fileUrlService.evict(objectName);
+        report.setMovedObjects(report.getMovedObjects() + 1);
+        report.setMovedBytes(report.getMovedBytes() + stat.size());
+        report.setArchivedBytes(report.getArchivedBytes() + archivedSize);
+
+        // Taşıma kayıtta tamamlandı; sıcak kopya silinemezse nesne tekrar aday olmayacağından ayrıca izlenir
+        try {
+            hot.removeObject(objectName);
+        } catch (Exception e) {
+            pendingHotRemovals.add(objectName);
+        }
+    }
+
+    private void retryHotRemovals(TieredStorageBackend tieredStorageBackend) {
+        StorageBackend hot = tieredStorageBackend.getBackend(StorageTier.HOT);
+        for (String objectName : List.copyOf(pendingHotRemovals)) {
+            try {
+                hot.removeObject(objectName);
+                pendingHotRemovals.remove(objectName);
+            } catch (Exception e) {
+                // Bir sonraki çalışmada tekrar denenir
+            }
+        }
+    }
+
+    /**
+     * Nesneyi arşive yazar ve arşivdeki codec'ini döner.
+     * Yeniden sıkıştırma açıksa gzip'li nesneler yüksek seviyede yeniden sıkıştırılır, sıkıştırılmamış nesneler
+     * yüklemedeki kurala (içerik tipi ve örnek oranı) uyuyorsa gzip'lenir; diğerleri olduğu gibi kopyalanır.
+     * İçerik tipi artık sıkıştırılmayan (ör. aralıklı okunan PDF) gzip'li nesneler arşive açılarak yazılır.
+     */
+    private StorageCodec copyToArchive(StorageBackend hot, StorageBackend archive, String objectName,
+                                       ObjectStat stat, StorageCodec codec) throws Exception {
+        try (InputStream stored = hot.getObject(objectName)) {
+            if (!recompress || (codec == StorageCodec.NONE && !compressionPolicy.isCandidate(stat.contentType(), stat.size()))) {
+                archive.putObject(objectName, stored, stat.size(), stat.contentType());
+                return codec;
+            }
+
+            int sampleSize = compressionPolicy.getSampleSize();
+            BufferedInputStream content = new BufferedInputStream(codec.decode(stored), sampleSize);
+            // Depolamadaki boyut sıkıştırılmış boyut olduğundan kuralın boyut kontrolü uygulanmaz
+            if (codec != StorageCodec.NONE && stat.contentType() != null
+                    && !compressionPolicy.isCandidate(stat.contentType(), -1)) {
+                archive.putObject(objectName, content, -1, stat.contentType());
+                return StorageCodec.NONE;
+            }
+            if (codec == StorageCodec.NONE) {
+                content.mark(sampleSize);
+                StorageCodec chosen = compressionPolicy.choose(content.readNBytes(sampleSize));
+                content.reset();
+                if (chosen == StorageCodec.NONE) {
+                    archive.putObject(objectName, content, stat.size(), stat.contentType());
+                    return StorageCodec.NONE;
+                }
+            }
+            try (InputStream encoded = StorageCodec.GZIP.encode(content, compressionLevel)) {
+                archive.putObject(objectName, encoded, -1, stat.contentType());
+            }
+            return StorageCodec.GZIP;
+        }
+    }
+
+    private StorageCodec storedCodec(String objectName) {
+        DataResult<StoredObject> result = storedObjectService.getByObjectName(objectName);
+        return result != null && result.isSuccess() ? StorageCodec.of(result.getData().getStorageCodec()) : StorageCodec.NONE;
+    }
+}
@@ -0,0 +1,94 @@
+package com.moneymate.documentationManagement.business.concretes;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.moneymate.documentationManagement.business.abstracts.StoredObjectService;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.ErrorDataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.ErrorResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.Result;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.SuccessDataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.SuccessResult;
+import com.moneymate.documentationManagement.core.utilities.io.StorageCodec;
+import com.moneymate.documentationManagement.dataAccess.abstracts.DocumentRepository;
+import com.moneymate.documentationManagement.dataAccess.abstracts.StoredObjectRepository;
+import com.moneymate.documentationManagement.entities.concretes.Document;
+import com.moneymate.documentationManagement.entities.concretes.StoredObject;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class StoredObjectManager implements StoredObjectService {
+
+    private final StoredObjectRepository storedObjectRepository;
+    private final DocumentRepository documentRepository;
+
+    @Override
+    @Transactional
+    public DataResult<StoredObject> register(String sha256, String objectName, long size, StorageCodec storageCodec) {
+        Optional<StoredObject> existing = storedObjectRepository.findBySha256(sha256);
+        if (existing.isPresent()) {
+            StoredObject storedObject = existing.get();
+            storedObject.setReferenceCount(storedObject.getReferenceCount() + 1);
+            return new SuccessDataResult<>(storedObjectRepository.save(storedObject), "Mevcut dosya kullanıldı");
+        }
+
+        StoredObject storedObject = StoredObject.builder()
+                .sha256(sha256)
+                .objectName(objectName)
+                .size(size)
+                .storageCodec(storageCodec)
+                .referenceCount(1)
+                .build();
+        return new SuccessDataResult<>(storedObjectRepository.saveAndFlush(storedObject), "Dosya kaydedildi");
+    }
+
+    @Override
+    public DataResult<StoredObject> getByObjectName(String objectName) {
+        return storedObjectRepository.readByObjectName(objectName)
+                .<DataResult<StoredObject>>map(storedObject -> new SuccessDataResult<>(storedObject, "Dosya kaydı getirildi"))
+                .orElseGet(() -> new ErrorDataResult<>("Dosya kaydı bulunamadı"));
+    }
+
+    @Override
+    @Transactional
+    public DataResult<Boolean> release(String objectName) {
+        Optional<StoredObject> existing = storedObjectRepository.findByObjectName(objectName);
+        if (existing.isEmpty()) {
+            // Tekilleştirme öncesi yüklenmiş, kaydı olmayan nesne
+            return new SuccessDataResult<>(true, "Dosya kaydı bulunamadı");
+        }
+
+        StoredObject storedObject = existing.get();
+        int remaining = storedObject.getReferenceCount() - 1;
+        if (remaining <= 0) {
+            storedObjectRepository.delete(storedObject);
+            return new SuccessDataResult<>(true, "Dosyaya ait son referans bırakıldı");
+        }
+
+        storedObject.setReferenceCount(remaining);
+        storedObjectRepository.save(storedObject);
+        return new SuccessDataResult<>(false, "Dosya başka dökümanlarca kullanılıyor");
+    }
+
+    @Override
+    @Transactional
+    public Result updateStorageTier(String objectName, Document.StorageTier tier, StorageCodec storageCodec) {
+        // Kayıt kilitlenir; eşzamanlı release işlemi taşıma tamamlanana kadar bekler
+        Optional<StoredObject> existing = storedObjectRepository.findByObjectName(objectName);
+        existing.ifPresent(storedObject -> {
+            storedObject.setStorageCodec(storageCodec);
+            storedObjectRepository.save(storedObject);
+        });
+
+        StorageCodec documentCodec = storageCodec != StorageCodec.NONE ? storageCodec : null;
+        if (documentRepository.updateStorageTier(objectName, tier, documentCodec) == 0) {
+            return new ErrorResult("Nesneyi kullanan döküman bulunamadı");
+        }
+        return new SuccessResult("Nesnenin depolama katmanı güncellendi");
+    }
+}
@@ -0,0 +1,266 @@
+package com.moneymate.documentationManagement.business.concretes;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.ZipException;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.moneymate.documentationManagement.business.abstracts.TextExtractionService;
+import com.moneymate.documentationManagement.business.events.DocumentSavedEvent;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.ErrorDataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.SuccessDataResult;
+import com.moneymate.documentationManagement.core.utilities.io.StorageCodec;
+import com.moneymate.documentationManagement.dataAccess.abstracts.DocumentRepository;
+import com.moneymate.documentationManagement.dataAccess.abstracts.DocumentTextRepository;
+import com.moneymate.documentationManagement.dataAccess.abstracts.StorageBackend;
+import com.moneymate.documentationManagement.entities.concretes.Document;
+import com.moneymate.documentationManagement.entities.concretes.DocumentText;
+
+/**
+ * Yüklenen dökümanların düz metnini arka planda çıkarıp document_texts tablosuna yazar.
+ * Yeni dökümanlar kaydedildikten sonra işlenir; mevcut bucket ise id sırasıyla küçük partiler halinde
+ * taranır. Her döküman kendi satırıyla işaretlendiğinden tarama yeniden başlatıldığında kaldığı yerden devam eder.
+ */
+@Service
+public class TextExtractionManager implements TextExtractionService {
+
+    private static final Set<String> TEXT_EXTENSIONS = Set.of("txt", "csv", "tsv", "json", "xml", "md", "html", "htm", "log");
+
+    private final StorageBackend storageBackend;
+    private final DocumentRepository documentRepository;
+    private final DocumentTextRepository documentTextRepository;
+    private final ExecutorService textExtractionExecutor;
+    private final int maxChars;
+    private final long maxSourceSize;
+    private final int backfillBatchSize;
+
+    // Kuyrukta bekleyen ya da işlenen dökümanlar; tarama aynı dökümanı iki kez kuyruğa almaz
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final AtomicLong backfillCursor = new AtomicLong();
+
+    public TextExtractionManager(StorageBackend storageBackend,
+                                 DocumentRepository documentRepository,
+                                 DocumentTextRepository documentTextRepository,
+                                 @Qualifier("textExtractionExecutor") ExecutorService textExtractionExecutor,
+                                 @Value("${text-extraction.max-chars:1048576}") int maxChars,
+                                 @Value("${text-extraction.max-source-size:104857600}") long maxSourceSize,
+                                 @Value("${text-extraction.backfill-batch-size:200}") int backfillBatchSize) {
+        this.storageBackend = storageBackend;
+        this.documentRepository = documentRepository;
+        this.documentTextRepository = documentTextRepository;
+        this.textExtractionExecutor = textExtractionExecutor;
+        this.maxChars = maxChars;
+        this.maxSourceSize = maxSourceSize;
+        this.backfillBatchSize = backfillBatchSize;
+    }
+
+    @Override
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocumentSaved(DocumentSavedEvent event) {
+        submit(event.documentId());
+    }
+
+    @Override
+    public DataResult<DocumentText.Status> extractText(Long documentId) {
+        Optional<Document> result = documentRepository.findById(documentId);
+        if (result.isEmpty()) {
+            return new ErrorDataResult<>("Döküman bulunamadı");
+        }
+        Document document = result.get();
+
+        DocumentText text;
+        try {
+            text = extract(document);
+        } catch (StorageReadException e) {
+            // Depolamaya geçici olarak erişilemedi; satır yazılmadığından tarama daha sonra tekrar dener
+            return new ErrorDataResult<>("Döküman içeriği okunamadı: " + e.getMessage());
+        } catch (Exception | LinkageError e) {
+            // Bozuk ya da ayrıştırılamayan içerik; satır yazıldığından tarama tekrar denemez
+            text = DocumentText.builder().status(DocumentText.Status.FAILED).build();
+        }
+        text.setDocumentId(documentId);
+        text.setDocument(documentRepository.getReferenceById(documentId));
+        documentTextRepository.save(text);
+        return new SuccessDataResult<>(text.getStatus(), "Döküman metni işlendi");
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${text-extraction.backfill-interval-ms:60000}")
+    public void backfillTexts() {
+        // Yeni kaydedilen dökümanlar olay dinleyicisi tarafından işleniyor olabilir
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(5);
+        List<Long> pending = documentTextRepository.findPendingDocumentIds(backfillCursor.get(), threshold,
+                PageRequest.of(0, backfillBatchSize));
+        if (pending.isEmpty()) {
+            // Sona gelindi; kaybolan işler için bir sonraki tarama baştan başlar
+            backfillCursor.set(0);
+            return;
+        }
+        for (Long documentId : pending) {
+            if (!submit(documentId)) {
+                // Kuyruk dolu; kalan dökümanlar bir sonraki taramada bu noktadan devam eder
+                return;
+            }
+            backfillCursor.set(documentId);
+        }
+    }
+
+    private boolean submit(Long documentId) {
+        if (!inFlight.add(documentId)) {
+            return true;
+        }
+        try {
+            textExtractionExecutor.execute(() -> {
+                try {
+                    extractText(documentId);
+                } finally {
+                    inFlight.remove(documentId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(documentId);
+            return false;
+        }
+    }
+
+    private DocumentText extract(Document document) throws Exception {
+        String objectName = document.getMinioFileName();
+        String extension = extension(objectName);
+        boolean pdf = "pdf".equals(extension);
+        if (!pdf && !TEXT_EXTENSIONS.contains(extension)) {
+            return DocumentText.builder().status(DocumentText.Status.UNSUPPORTED).build();
+        }
+
+        Optional<DocumentText> shared = documentTextRepository.findFirstByDocument_MinioFileNameAndStatus(
+                objectName, DocumentText.Status.EXTRACTED);
+        if (shared.isPresent()) {
+            // Aynı içeriği paylaşan başka bir döküman için zaten çıkarıldı
+            return DocumentText.builder()
+                    .status(DocumentText.Status.EXTRACTED)
+                    .content(shared.get().getContent())
+                    .truncated(shared.get().isTruncated())
+                    .build();
+        }
+        long size;
+        try {
+            size = storageBackend.statObject(objectName).size();
+        } catch (Exception e) {
+            throw new StorageReadException(e);
+        }
+        if (size > maxSourceSize) {
+            return DocumentText.builder().status(DocumentText.Status.UNSUPPORTED).build();
+        }
+
+        StorageCodec codec = StorageCodec.of(document.getStorageCodec());
+        StringBuilder content = new StringBuilder();
+        boolean truncated = pdf ? readPdf(objectName, codec, content) : readText(objectName, codec, content);
+        return DocumentText.builder()
+                .status(DocumentText.Status.EXTRACTED)
+                // PostgreSQL text kolonları NUL karakteri kabul etmez
+                .content(content.toString().replace('\u0000', ' '))
+                .truncated(truncated)
+                .build();
+    }
+
+    // PDF sayfa sayfa okunur; sınıra ulaşılınca kalan sayfalar işlenmez
+    private boolean readPdf(String objectName, StorageCodec codec, StringBuilder content) throws Exception {
+        Path tempFile = Files.createTempFile("text-extraction-", ".pdf");
+        try {
+            try (InputStream inputStream = codec.decode(open(objectName))) {
+                Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            } catch (ZipException e) {
+                throw e;
+            } catch (IOException e) {
+                throw new StorageReadException(e);
+            }
+            try (PDDocument pdf = Loader.loadPDF(tempFile.toFile())) {
+                PDFTextStripper stripper = new PDFTextStripper();
+                for (int page = 1; page <= pdf.getNumberOfPages(); page++) {
+                    stripper.setStartPage(page);
+                    stripper.setEndPage(page);
+                    if (append(content, stripper.getText(pdf))) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private boolean readText(String objectName, StorageCodec codec, StringBuilder content) throws Exception {
+        try (Reader reader = new InputStreamReader(codec.decode(open(objectName)), StandardCharsets.UTF_8)) {
+            char[] buffer = new char[8 * 1024];
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                if (append(content, new String(buffer, 0, read))) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (ZipException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new StorageReadException(e);
+        }
+    }
+
+    // Bozuk gzip (ZipException) içerik hatasıdır; diğer okuma hataları depolamadan gelir
+    private InputStream open(String objectName) throws StorageReadException {
+        try {
+            return storageBackend.getObject(objectName);
+        } catch (Exception e) {
+            throw new StorageReadException(e);
+        }
+    }
+
+    // Sınır aşılırsa metni keser ve true döner
+    private boolean append(StringBuilder content, String text) {
+        int remaining = maxChars - content.length();
+        if (text.length() > remaining) {
+            content.append(text, 0, remaining);
+            return true;
+        }
+        content.append(text);
+        return false;
+    }
+
+    private static String extension(String objectName) {
+        int dot = objectName == null ? -1 : objectName.lastIndexOf('.');
+        return dot == -1 ? "" : objectName.substring(dot + 1).toLowerCase(Locale.ROOT);
+    }
+
+    private static class StorageReadException extends Exception {
+
+        StorageReadException(Exception cause) {
+            super(cause.getMessage(), cause);
+        }
+    }
+}
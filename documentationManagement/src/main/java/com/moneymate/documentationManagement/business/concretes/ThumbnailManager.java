@@ -0,0 +1,227 @@
+package com.moneymate.documentationManagement.business.concretes;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.moneymate.documentationManagement.business.abstracts.ThumbnailService;
+import com.moneymate.documentationManagement.business.events.DocumentSavedEvent;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.ErrorDataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.SuccessDataResult;
+import com.moneymate.documentationManagement.core.utilities.io.FileNames;
+import com.moneymate.documentationManagement.core.utilities.io.StorageCodec;
+import com.moneymate.documentationManagement.dataAccess.abstracts.DocumentRepository;
+import com.moneymate.documentationManagement.dataAccess.abstracts.StorageBackend;
+import com.moneymate.documentationManagement.entities.concretes.Document;
+
+/**
+ * PDF'lerin ilk sayfasından ve resimlerden önizleme (JPEG) üretir ve nesnenin yanına kaydeder.
+ * Döküman kaydedildikten sonra sınırlı bir havuzda çalışır; kuyruk dolduğu için atlanan ya da
+ * özellik öncesi yüklenmiş dökümanlar periyodik olarak tamamlanır.
+ */
+@Service
+public class ThumbnailManager implements ThumbnailService {
+
+    private static final Set<String> IMAGE_EXTENSIONS = Set.of("png", "jpg", "jpeg", "gif", "bmp");
+
+    private final StorageBackend storageBackend;
+    private final DocumentRepository documentRepository;
+    private final ExecutorService thumbnailExecutor;
+    private final int width;
+    private final long maxSourceSize;
+
+    public ThumbnailManager(StorageBackend storageBackend,
+                            DocumentRepository documentRepository,
+                            @Qualifier("thumbnailExecutor") ExecutorService thumbnailExecutor,
+                            @Value("${thumbnail.width:320}") int width,
+                            @Value("${thumbnail.max-source-size:104857600}") long maxSourceSize) {
+        this.storageBackend = storageBackend;
+        this.documentRepository = documentRepository;
+        this.thumbnailExecutor = thumbnailExecutor;
+        this.width = width;
+        this.maxSourceSize = maxSourceSize;
+    }
+
+    @Override
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocumentSaved(DocumentSavedEvent event) {
+        submit(event.documentId());
+    }
+
+    @Override
+    public DataResult<Document.ThumbnailStatus> generateThumbnail(Long documentId) {
+        Optional<Document> result = documentRepository.findById(documentId);
+        if (result.isEmpty()) {
+            return new ErrorDataResult<>("Döküman bulunamadı");
+        }
+        Document document = result.get();
+
+        Document.ThumbnailStatus status;
+        try {
+            status = render(document);
+        } catch (Exception | LinkageError e) {
+            // Bozuk ya da desteklenmeyen içerik; tekrar denenmez
+            status = Document.ThumbnailStatus.FAILED;
+        }
+        documentRepository.updateThumbnailStatus(documentId, status);
+        return new SuccessDataResult<>(status, "Önizleme işlendi");
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${thumbnail.backfill-interval-ms:300000}")
+    public void backfillThumbnails() {
+        // Yeni kaydedilen dökümanlar olay dinleyicisi tarafından işleniyor olabilir
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(5);
+        for (Document document : documentRepository.findTop100ByThumbnailStatusIsNullAndUploadAtBefore(threshold)) {
+            if (!submit(document.getId())) {
+                return;
+            }
+        }
+    }
+
+    private boolean submit(Long documentId) {
+        try {
+            thumbnailExecutor.execute(() -> generateThumbnail(documentId));
+            return true;
+        } catch (RejectedExecutionException e) {
+            // Kuyruk dolu; döküman bir sonraki tamamlama çalışmasında işlenir
+            return false;
+        }
+    }
+
+    private Document.ThumbnailStatus render(Document document) throws Exception {
+        String objectName = document.getMinioFileName();
+        String extension = extension(objectName);
+        boolean pdf = "pdf".equals(extension);
+        if (!pdf && !IMAGE_EXTENSIONS.contains(extension)) {
+            return Document.ThumbnailStatus.UNSUPPORTED;
+        }
+
+        String thumbnailName = FileNames.thumbnailObjectName(objectName);
+        if (exists(thumbnailName)) {
+            // Aynı içeriği paylaşan başka bir döküman için zaten üretildi
+            return Document.ThumbnailStatus.READY;
+        }
+        if (storageBackend.statObject(objectName).size() > maxSourceSize) {
+            return Document.ThumbnailStatus.UNSUPPORTED;
+        }
+
+        StorageCodec codec = StorageCodec.of(document.getStorageCodec());
+        BufferedImage source = pdf ? renderFirstPage(objectName, codec) : readImage(objectName, codec);
+        if (source == null) {
+            return Document.ThumbnailStatus.UNSUPPORTED;
+        }
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(scale(source), "jpg", outputStream);
+        storageBackend.putObject(thumbnailName, new ByteArrayInputStream(outputStream.toByteArray()),
+                outputStream.size(), "image/jpeg");
+        return Document.ThumbnailStatus.READY;
+    }
+
+    // PDF rastgele erişim gerektirdiği için geçici dosyaya alınır; içerik belleğe yüklenmez
+    private BufferedImage renderFirstPage(String objectName, StorageCodec codec) throws Exception {
+        Path tempFile = Files.createTempFile("thumbnail-", ".pdf");
+        try {
+            try (InputStream inputStream = codec.decode(storageBackend.getObject(objectName))) {
+                Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            try (PDDocument pdf = Loader.loadPDF(tempFile.toFile())) {
+                if (pdf.getNumberOfPages() == 0) {
+                    return null;
+                }
+                PDRectangle page = pdf.getPage(0).getCropBox();
+                float scale = Math.min(1f, width / page.getWidth());
+                return new PDFRenderer(pdf).renderImage(0, scale, ImageType.RGB);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    // Büyük resimler alt örnekleme ile okunur; tam çözünürlüklü resim belleğe alınmaz
+    private BufferedImage readImage(String objectName, StorageCodec codec) throws Exception {
+        try (InputStream inputStream = codec.decode(storageBackend.getObject(objectName));
+             ImageInputStream imageStream = ImageIO.createImageInputStream(inputStream)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageStream);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageStream, true, true);
+                int subsampling = Math.max(1, reader.getWidth(0) / (width * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // Genişlik en fazla width, yükseklik en fazla 2 x width olacak şekilde küçültür; saydam alanlar beyaz olur
+    private BufferedImage scale(BufferedImage source) {
+        double ratio = Math.min(1.0, Math.min(width / (double) source.getWidth(), 2.0 * width / source.getHeight()));
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, targetWidth, targetHeight);
+            graphics.drawImage(source, 0, 0, targetWidth, targetHeight, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private boolean exists(String objectName) {
+        try {
+            storageBackend.statObject(objectName);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static String extension(String objectName) {
+        int dot = objectName == null ? -1 : objectName.lastIndexOf('.');
+        return dot == -1 ? "" : objectName.substring(dot + 1).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,181 @@
+package com.moneymate.documentationManagement.business.concretes;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.moneymate.documentationManagement.business.abstracts.FileUploadService;
+import com.moneymate.documentationManagement.business.abstracts.UploadJobService;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.ErrorDataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.SuccessDataResult;
+import com.moneymate.documentationManagement.dataAccess.abstracts.UploadJobRepository;
+import com.moneymate.documentationManagement.entities.concretes.Document;
+import com.moneymate.documentationManagement.entities.concretes.UploadJob;
+
+@Service
+public class UploadJobManager implements UploadJobService {
+
+    private static final long MAX_FILE_SIZE = 10 * 1024 * 1024;
+
+    @Autowired
+    private FileUploadService fileUploadService;
+
+    @Autowired
+    private UploadJobRepository uploadJobRepository;
+
+    @Autowired
+    @Qualifier("uploadJobExecutor")
+    private ExecutorService uploadJobExecutor;
+
+    @Value("${upload.async.spool-dir:${java.io.tmpdir}/docman-upload-jobs}")
+    private Path spoolDirectory;
+
+    @Value("${app.instance-id:${HOSTNAME:local}}")
+    private String instanceId;
+
+    // Bu sunucuda çalışan işlerin tamamlanmasını bekleyen long-poll istekleri için
+    private final Map<String, CompletableFuture<DataResult<UploadJob>>> runningJobs = new ConcurrentHashMap<>();
+
+    @Override
+    public DataResult<UploadJob> submitUpload(MultipartFile file, String title, String institutionName,
+                                              String institutionType, String institutionUrl,
+                                              String documentType, String documentDescription) {
+        if (file.isEmpty()) {
+            return new ErrorDataResult<>("Dosya boş olamaz");
+        }
+        if (file.getSize() > MAX_FILE_SIZE) {
+            return new ErrorDataResult<>("Dosya boyutu 10MB'dan büyük olamaz");
+        }
+
+        UploadJob job = UploadJob.builder()
+                .id(UUID.randomUUID().toString())
+                .status(UploadJob.Status.QUEUED)
+                .ownerInstance(instanceId)
+                .originalFileName(file.getOriginalFilename())
+                .build();
+
+        // İstek bittiğinde multipart geçici dosyası silinir; işçinin okuyabilmesi için dosya kendi dizinimize alınır
+        Path spoolFile = spoolDirectory.resolve(job.getId());
+        try {
+            Files.createDirectories(spoolDirectory);
+            file.transferTo(spoolFile);
+        } catch (IOException e) {
+            return new ErrorDataResult<>("Dosya alınamadı: " + e.getMessage());
+        }
+
+        UploadJob savedJob = uploadJobRepository.save(job);
+        CompletableFuture<DataResult<UploadJob>> completion = new CompletableFuture<>();
+        runningJobs.put(savedJob.getId(), completion);
+        try {
+            uploadJobExecutor.execute(() -> runJob(savedJob, spoolFile, file.getContentType(), title,
+                    institutionName, institutionType, institutionUrl, documentType, documentDescription));
+        } catch (RejectedExecutionException e) {
+            deleteQuietly(spoolFile);
+            finish(savedJob, UploadJob.Status.FAILED, null, "Yükleme kuyruğu dolu, daha sonra tekrar deneyiniz");
+            return new ErrorDataResult<>(savedJob, savedJob.getMessage());
+        }
+        return new SuccessDataResult<>(savedJob, "Yükleme kuyruğa alındı");
+    }
+
+    @Override
+    public DataResult<UploadJob> getJob(String jobId) {
+        Optional<UploadJob> job = uploadJobRepository.findById(jobId);
+        if (job.isEmpty()) {
+            return new ErrorDataResult<>("Yükleme işi bulunamadı");
+        }
+        return new SuccessDataResult<>(job.get(), "Yükleme işi getirildi");
+    }
+
+    @Override
+    public CompletableFuture<DataResult<UploadJob>> awaitJob(String jobId) {
+        CompletableFuture<DataResult<UploadJob>> completion = runningJobs.get(jobId);
+        if (completion != null) {
+            return completion;
+        }
+        // İş bitmiş ya da başka bir sunucuda çalışıyor; mevcut durumu hemen dön
+        return CompletableFuture.completedFuture(getJob(jobId));
+    }
+
+    // Önceki çalışmadan yarım kalan işlerin geçici dosyaları artık yok; bu işler başarısız sayılır.
+    // Tablo tüm örneklerce paylaşıldığından yalnızca bu örneğin işlerine bakılır
+    @EventListener(ApplicationReadyEvent.class)
+    public void failInterruptedJobs() {
+        for (UploadJob job : uploadJobRepository.findByOwnerInstanceAndStatusIn(instanceId,
+                EnumSet.of(UploadJob.Status.QUEUED, UploadJob.Status.RUNNING))) {
+            if (!runningJobs.containsKey(job.getId())) {
+                job.setStatus(UploadJob.Status.FAILED);
+                job.setMessage("Sunucu yeniden başlatıldığı için yükleme tamamlanamadı");
+                uploadJobRepository.save(job);
+                deleteQuietly(spoolDirectory.resolve(job.getId()));
+            }
+        }
+    }
+
+    private void runJob(UploadJob job, Path spoolFile, String contentType, String title, String institutionName,
+                        String institutionType, String institutionUrl, String documentType,
+                        String documentDescription) {
+        DataResult<Document> result;
+        try {
+            job.setStatus(UploadJob.Status.RUNNING);
+            uploadJobRepository.save(job);
+
+            // Geçici dosyanın boyutu bilinir; küçük dosyalar multipart yerine tek PUT ile gönderilir
+            try (InputStream inputStream = Files.newInputStream(spoolFile)) {
+                result = fileUploadService.uploadStreamWithMetadata(inputStream, Files.size(spoolFile),
+                        job.getOriginalFileName(), contentType, title, institutionName, institutionType,
+                        institutionUrl, documentType, documentDescription);
+            }
+        } catch (Exception e) {
+            result = new ErrorDataResult<>("Dosya yükleme işlemi başarısız: " + e.getMessage());
+        } finally {
+            deleteQuietly(spoolFile);
+        }
+
+        if (result.isSuccess()) {
+            finish(job, UploadJob.Status.COMPLETED, result.getData().getId(), result.getMessage());
+        } else {
+            finish(job, UploadJob.Status.FAILED, null, result.getMessage());
+        }
+    }
+
+    private void finish(UploadJob job, UploadJob.Status status, Long documentId, String message) {
+        job.setStatus(status);
+        job.setDocumentId(documentId);
+        job.setMessage(message);
+        try {
+            uploadJobRepository.save(job);
+        } finally {
+            // Kayıt başarısız olsa bile bekleyen long-poll istekleri serbest bırakılır
+            CompletableFuture<DataResult<UploadJob>> completion = runningJobs.remove(job.getId());
+            if (completion != null) {
+                completion.complete(new SuccessDataResult<>(job, "Yükleme işi getirildi"));
+            }
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // Geçici dosya; silinemezse işletim sistemi temizler
+        }
+    }
+}
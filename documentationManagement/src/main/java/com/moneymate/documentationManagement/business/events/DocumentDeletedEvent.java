@@ -0,0 +1,7 @@
+package com.moneymate.documentationManagement.business.events;
+
+/**
+ * Bir döküman silindiğinde yayınlanır. Dinleyiciler transaction commit edildikten sonra çalışır.
+ */
+public record DocumentDeletedEvent(Long documentId) {
+}
@@ -0,0 +1,7 @@
+package com.moneymate.documentationManagement.business.events;
+
+/**
+ * Yeni bir döküman kaydedildiğinde yayınlanır. Dinleyiciler transaction commit edildikten sonra çalışır.
+ */
+public record DocumentSavedEvent(Long documentId) {
+}
@@ -0,0 +1,7 @@
+package com.moneymate.documentationManagement.business.events;
+
+/**
+ * Bir dökümanın metadata'sı güncellendiğinde yayınlanır. Dinleyiciler transaction commit edildikten sonra çalışır.
+ */
+public record DocumentUpdatedEvent(Long documentId) {
+}
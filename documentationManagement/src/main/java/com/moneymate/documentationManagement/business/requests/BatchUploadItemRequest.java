@@ -0,0 +1,31 @@
+package com.moneymate.documentationManagement.business.requests;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Toplu yüklemede bir dosyanın metadata'sı (files listesindeki aynı sıradaki dosyaya uygulanır)")
+public class BatchUploadItemRequest {
+
+    @Schema(description = "Döküman başlığı", example = "2024 Yıllık Faaliyet Raporu")
+    private String title;
+
+    @Schema(description = "Kurum adı", example = "Türkiye Cumhuriyet Merkez Bankası")
+    private String institutionName;
+
+    @Schema(description = "Kurum tipi", example = "Merkez Bankası")
+    private String institutionType;
+
+    @Schema(description = "Kurum web sitesi URL'i", example = "https://www.tcmb.gov.tr")
+    private String institutionUrl;
+
+    @Schema(description = "Döküman tipi", example = "PDF")
+    private String documentType;
+
+    @Schema(description = "Döküman açıklaması")
+    private String documentDescription;
+}
@@ -0,0 +1,24 @@
+package com.moneymate.documentationManagement.business.requests;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "ZIP olarak dışa aktarılacak dökümanların filtresi (id listesi verilirse diğer alanlar yok sayılır)")
+public class DocumentExportRequest {
+
+    @Schema(description = "Kurum adı", example = "Türkiye Cumhuriyet Merkez Bankası")
+    private String institutionName;
+
+    @Schema(description = "Döküman tipi", example = "PDF")
+    private String documentType;
+
+    @Schema(description = "Döküman id'leri")
+    private List<Long> ids;
+}
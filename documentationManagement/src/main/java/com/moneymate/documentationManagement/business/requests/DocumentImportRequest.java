@@ -0,0 +1,20 @@
+package com.moneymate.documentationManagement.business.requests;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Sunucudaki bir dizinden ya da tar arşivinden toplu içe aktarım (yollar import.root-dir altında)")
+public class DocumentImportRequest {
+
+    @Schema(description = "Dizin ya da .tar/.tar.gz dosyası", example = "tcmb-2024")
+    private String source;
+
+    @Schema(description = "Manifest dosyası (CSV/JSON). Verilmezse dizindeki ya da tar'ın ilk kaydındaki "
+            + "manifest.csv/manifest.json kullanılır", example = "tcmb-2024/manifest.csv")
+    private String manifest;
+}
@@ -0,0 +1,31 @@
+package com.moneymate.documentationManagement.business.responses;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.moneymate.documentationManagement.entities.concretes.Document;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchUploadItemResponse extends BaseResponse {
+    private int index;
+    private String fileName;
+    private Document document;
+
+    public BatchUploadItemResponse(int index, String fileName, boolean success, String message, Document document) {
+        super(success, message);
+        this.index = index;
+        this.fileName = fileName;
+        this.document = document;
+    }
+
+    public static BatchUploadItemResponse success(int index, String fileName, String message, Document document) {
+        return new BatchUploadItemResponse(index, fileName, true, message, document);
+    }
+
+    public static BatchUploadItemResponse error(int index, String fileName, String message) {
+        return new BatchUploadItemResponse(index, fileName, false, message, null);
+    }
+}
@@ -0,0 +1,23 @@
+package com.moneymate.documentationManagement.business.responses;
+
+import com.moneymate.documentationManagement.entities.concretes.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Tam metin ya da bulanık aramada bir sonuç. rank tam metin aramada ts_rank puanı, bulanık aramada 0-1 arası
+ * benzerliktir. Tam metin aramada eşleşen kelimeler titleHighlight ve descriptionSnippet içinde &lt;mark&gt; ile
+ * işaretlenir; metin HTML olarak kaçışlanmamıştır, istemci göstermeden önce kaçışlamalıdır. Bulanık aramada bu
+ * alanlar boştur.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DocumentSearchHit {
+    private Document document;
+    private float rank;
+    private String titleHighlight;
+    private String descriptionSnippet;
+}
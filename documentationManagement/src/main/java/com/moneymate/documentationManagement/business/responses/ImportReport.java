@@ -0,0 +1,56 @@
+package com.moneymate.documentationManagement.business.responses;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.moneymate.documentationManagement.entities.concretes.ImportJob;
+
+import lombok.Data;
+
+/**
+ * Toplu içe aktarım işinin durumu. Sayaçlar ve hız son kaydedilen batch'e göredir.
+ */
+@Data
+public class ImportReport {
+    private String id;
+    private String source;
+    private ImportJob.Status status;
+    // Dökümanları yazılmış son dosyanın sıra numarası; devam ettirmede buraya kadar atlanır
+    private long checkpointIndex;
+    private long processedFiles;
+    private long importedFiles;
+    private long failedFiles;
+    private long importedBytes;
+    private double elapsedSeconds;
+    private double filesPerSecond;
+    private double megabytesPerSecond;
+    private String message;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+    // Bu sunucuda görülen son hatalar ("<dosya>: <mesaj>")
+    private List<String> failures;
+
+    public static ImportReport of(ImportJob job, List<String> failures) {
+        ImportReport report = new ImportReport();
+        report.setId(job.getId());
+        report.setSource(job.getSource());
+        report.setStatus(job.getStatus());
+        report.setCheckpointIndex(job.getCheckpointIndex());
+        report.setProcessedFiles(job.getProcessedFiles());
+        report.setImportedFiles(job.getImportedFiles());
+        report.setFailedFiles(job.getFailedFiles());
+        report.setImportedBytes(job.getImportedBytes());
+        report.setMessage(job.getMessage());
+        report.setCreatedAt(job.getCreatedAt());
+        report.setFinishedAt(job.getFinishedAt());
+        report.setFailures(failures);
+
+        double seconds = job.getActiveMillis() / 1000.0;
+        report.setElapsedSeconds(seconds);
+        if (seconds > 0) {
+            report.setFilesPerSecond(job.getImportedFiles() / seconds);
+            report.setMegabytesPerSecond(job.getImportedBytes() / (1024.0 * 1024.0) / seconds);
+        }
+        return report;
+    }
+}
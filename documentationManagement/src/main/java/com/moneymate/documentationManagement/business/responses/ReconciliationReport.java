@@ -0,0 +1,29 @@
+package com.moneymate.documentationManagement.business.responses;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+
+/**
+ * Depolama mutabakatı sonucu: bucket'ta olup hiçbir kayıtla ilişkili olmayan (sahipsiz) nesneler.
+ */
+@Data
+public class ReconciliationReport {
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    // false ise sahipsiz nesneler sadece raporlanır
+    private boolean deleteEnabled;
+    private long scannedObjects;
+    // Yüklemesi sürüyor olabileceği için değerlendirilmeyen yeni nesneler
+    private long recentObjects;
+    private long orphanObjects;
+    private long orphanBytes;
+    private long deletedObjects;
+    private long failedDeletes;
+    // Çalışma başına silme sınırına ulaşıldıysa kalan nesneler bir sonraki çalışmada ele alınır
+    private boolean limitReached;
+    private String error;
+    private List<String> sampleOrphans = new ArrayList<>();
+}
@@ -0,0 +1,33 @@
+package com.moneymate.documentationManagement.business.responses;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+
+/**
+ * Katmanlama işinin sonucu: arşiv bucket'ına taşınan soğuk nesneler.
+ */
+@Data
+public class TieringReport {
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    // Yaş ve son erişim kuralına uyan nesneler
+    private long candidateObjects;
+    private long movedObjects;
+    // Sıcak katmanda boşaltılan ve arşivde kullanılan (yeniden sıkıştırma sonrası) boyutlar
+    private long movedBytes;
+    private long archivedBytes;
+    private long recompressedObjects;
+    private long failedObjects;
+    // Taşıma sırasında silinen nesneler; arşiv kopyaları kaldırılır
+    private long skippedObjects;
+    // Arşive taşınıp kaydı güncellendiği halde sıcak katmandan silinemeyen kopyalar; sonraki çalışmalarda
+    // silinmesi tekrar denenir
+    private long pendingHotRemovals;
+    private List<String> samplePendingHotRemovals = new ArrayList<>();
+    // Çalışma başına taşıma sınırına ulaşıldıysa kalan nesneler bir sonraki çalışmada ele alınır
+    private boolean limitReached;
+    private String error;
+}
@@ -0,0 +1,30 @@
+package com.moneymate.documentationManagement.core.utilities;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Arka plan işlerinin depolama işlemlerini eşit aralıklara yayar; depolamaya ani yük bindirilmez.
+ * Tek bir çalışma (thread) içinde kullanılır.
+ */
+public final class Throttle {
+
+    private final long intervalNanos;
+    private long nextAt = System.nanoTime();
+
+    private Throttle(long intervalNanos) {
+        this.intervalNanos = intervalNanos;
+    }
+
+    public static Throttle perSecond(int operationsPerSecond) {
+        return new Throttle(TimeUnit.SECONDS.toNanos(1) / Math.max(1, operationsPerSecond));
+    }
+
+    public void await() {
+        long delay = nextAt - System.nanoTime();
+        if (delay > 0) {
+            LockSupport.parkNanos(delay);
+        }
+        nextAt = Math.max(nextAt, System.nanoTime()) + intervalNanos;
+    }
+}
@@ -1,6 +1,18 @@
 package com.moneymate.documentationManagement.core.utilities.config;
 
+import java.util.concurrent.TimeUnit;
+
+import com.moneymate.documentationManagement.dataAccess.concretes.MinioHttpClientMetrics;
+import com.moneymate.documentationManagement.dataAccess.concretes.MinioMultipartClient;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.minio.MinioAsyncClient;
 import io.minio.MinioClient;
+import io.minio.http.HttpUtils;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,11 +29,61 @@ public class MinioConfig {
     @Value("${minio.secret-key}")
     private String secretKey;
 
+    @Value("${minio.http.max-idle-connections:32}")
+    private int maxIdleConnections;
+
+    @Value("${minio.http.keep-alive-seconds:300}")
+    private long keepAliveSeconds;
+
+    @Value("${minio.http.max-requests:128}")
+    private int maxRequests;
+
+    @Value("${minio.http.max-requests-per-host:64}")
+    private int maxRequestsPerHost;
+
+    @Value("${minio.http.connect-timeout-ms:10000}")
+    private long connectTimeoutMs;
+
+    @Value("${minio.http.read-timeout-ms:300000}")
+    private long readTimeoutMs;
+
+    @Value("${minio.http.write-timeout-ms:300000}")
+    private long writeTimeoutMs;
+
+    // İki istemci aynı bağlantı havuzunu ve dispatcher'ı paylaşır
+    @Bean
+    public OkHttpClient minioHttpClient(ObjectProvider<MeterRegistry> meterRegistry) {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxRequests);
+        // OkHttp varsayılanı host başına 5 istektir; tüm istekler aynı MinIO host'una gider
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+
+        MinioHttpClientMetrics metrics = new MinioHttpClientMetrics();
+        OkHttpClient httpClient = metrics.instrument(
+                HttpUtils.newDefaultHttpClient(connectTimeoutMs, writeTimeoutMs, readTimeoutMs).newBuilder()
+                        .connectionPool(new ConnectionPool(maxIdleConnections, keepAliveSeconds, TimeUnit.SECONDS))
+                        .dispatcher(dispatcher));
+        meterRegistry.ifAvailable(metrics::bindTo);
+        return httpClient;
+    }
+
     @Bean
-    public MinioClient minioClient() {
+    public MinioClient minioClient(OkHttpClient minioHttpClient) {
         return MinioClient.builder()
                 .endpoint(endpoint)
                 .credentials(accessKey, secretKey)
+                .httpClient(minioHttpClient)
                 .build();
     }
+
+    @Bean
+    public MinioMultipartClient minioMultipartClient(OkHttpClient minioHttpClient) {
+        return new MinioMultipartClient(
+                MinioAsyncClient.builder()
+                        .endpoint(endpoint)
+                        .credentials(accessKey, secretKey)
+                        .httpClient(minioHttpClient)
+                        .build()
+        );
+    }
 }
@@ -0,0 +1,106 @@
+package com.moneymate.documentationManagement.core.utilities.config;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.moneymate.documentationManagement.dataAccess.abstracts.DocumentRepository;
+import com.moneymate.documentationManagement.dataAccess.abstracts.StorageBackend;
+import com.moneymate.documentationManagement.dataAccess.concretes.CachingStorageBackend;
+import com.moneymate.documentationManagement.dataAccess.concretes.FileSystemStorageBackend;
+import com.moneymate.documentationManagement.dataAccess.concretes.MinioMultipartClient;
+import com.moneymate.documentationManagement.dataAccess.concretes.MinioStorageBackend;
+import com.moneymate.documentationManagement.dataAccess.concretes.TieredStorageBackend;
+import com.moneymate.documentationManagement.entities.concretes.Document.StorageTier;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.minio.MinioClient;
+
+@Configuration
+public class StorageConfig {
+
+    // minio | filesystem
+    @Value("${storage.backend:minio}")
+    private String backend;
+
+    @Value("${minio.bucket-name}")
+    private String bucketName;
+
+    @Value("${storage.filesystem.root-dir:./data/storage}")
+    private String rootDirectory;
+
+    @Value("${storage.cache.enabled:false}")
+    private boolean cacheEnabled;
+
+    @Value("${storage.cache.disk-dir:${java.io.tmpdir}/docman-object-cache}")
+    private String cacheDirectory;
+
+    @Value("${storage.cache.stat-cache-size:100000}")
+    private long statCacheSize;
+
+    @Value("${storage.cache.memory-max-bytes:268435456}")
+    private long memoryMaxBytes;
+
+    @Value("${storage.cache.memory-max-object-size:1048576}")
+    private long memoryMaxObjectSize;
+
+    @Value("${storage.cache.disk-max-bytes:10737418240}")
+    private long diskMaxBytes;
+
+    @Value("${storage.cache.disk-max-object-size:268435456}")
+    private long diskMaxObjectSize;
+
+    @Value("${storage.tiering.enabled:false}")
+    private boolean tieringEnabled;
+
+    @Value("${storage.tiering.archive-bucket:}")
+    private String archiveBucketName;
+
+    @Value("${storage.tiering.archive-root-dir:./data/archive}")
+    private String archiveRootDirectory;
+
+    @Value("${storage.tiering.tier-cache-size:100000}")
+    private long tierCacheSize;
+
+    @Bean
+    public StorageBackend storageBackend(ObjectProvider<MinioClient> minioClient,
+                                         ObjectProvider<MinioMultipartClient> multipartClient,
+                                         ObjectProvider<MeterRegistry> meterRegistry,
+                                         ObjectProvider<DocumentRepository> documentRepository) throws IOException {
+        StorageBackend storageBackend = createBackend(bucketName, rootDirectory, minioClient, multipartClient,
+                meterRegistry);
+        if (cacheEnabled) {
+            // Sadece sıcak katman önbelleklenir; arşivdeki nesneler nadiren okunur
+            CachingStorageBackend cachingStorageBackend = new CachingStorageBackend(storageBackend,
+                    Path.of(cacheDirectory), statCacheSize, memoryMaxBytes, memoryMaxObjectSize, diskMaxBytes,
+                    diskMaxObjectSize);
+            meterRegistry.ifAvailable(cachingStorageBackend::bindTo);
+            storageBackend = cachingStorageBackend;
+        }
+        if (!tieringEnabled) {
+            return storageBackend;
+        }
+        StorageBackend archiveBackend = createBackend(archiveBucketName, archiveRootDirectory, minioClient,
+                multipartClient, meterRegistry);
+        return new TieredStorageBackend(storageBackend, archiveBackend,
+                objectName -> documentRepository.getObject().findStorageTiers(objectName).contains(StorageTier.ARCHIVE)
+                        ? StorageTier.ARCHIVE : StorageTier.HOT,
+                tierCacheSize);
+    }
+
+    private StorageBackend createBackend(String bucket, String directory, ObjectProvider<MinioClient> minioClient,
+                                         ObjectProvider<MinioMultipartClient> multipartClient,
+                                         ObjectProvider<MeterRegistry> meterRegistry) throws IOException {
+        if ("filesystem".equalsIgnoreCase(backend)) {
+            return new FileSystemStorageBackend(Path.of(directory));
+        }
+        MinioStorageBackend minioStorageBackend = new MinioStorageBackend(minioClient.getObject(),
+                multipartClient.getObject(), bucket);
+        meterRegistry.ifAvailable(minioStorageBackend::bindTo);
+        return minioStorageBackend;
+    }
+}
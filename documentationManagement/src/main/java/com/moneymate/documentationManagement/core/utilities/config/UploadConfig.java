@@ -0,0 +1,135 @@
+package com.moneymate.documentationManagement.core.utilities.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.moneymate.documentationManagement.dataAccess.abstracts.StorageBackend;
+import com.moneymate.documentationManagement.dataAccess.concretes.ParallelMultipartUploader;
+
+@Configuration
+public class UploadConfig {
+
+    @Value("${upload.multipart.part-size:8388608}")
+    private int partSize;
+
+    @Value("${upload.multipart.parallelism:4}")
+    private int parallelism;
+
+    @Value("${upload.multipart.max-buffered-parts:16}")
+    private int maxBufferedParts;
+
+    @Value("${upload.batch.parallelism:4}")
+    private int batchParallelism;
+
+    @Value("${upload.async.workers:4}")
+    private int asyncWorkers;
+
+    @Value("${upload.async.queue-capacity:200}")
+    private int asyncQueueCapacity;
+
+    @Value("${thumbnail.workers:2}")
+    private int thumbnailWorkers;
+
+    @Value("${thumbnail.queue-capacity:100}")
+    private int thumbnailQueueCapacity;
+
+    @Value("${text-extraction.workers:1}")
+    private int textExtractionWorkers;
+
+    @Value("${text-extraction.queue-capacity:500}")
+    private int textExtractionQueueCapacity;
+
+    @Value("${export.workers:8}")
+    private int exportWorkers;
+
+    @Value("${export.queue-capacity:64}")
+    private int exportQueueCapacity;
+
+    @Value("${import.workers:8}")
+    private int importWorkers;
+
+    @Value("${import.queue-capacity:10}")
+    private int importQueueCapacity;
+
+    // Kuyruk sınırsız görünse de bekleyen iş sayısı, uploader'ın tampon sınırı (max-buffered-parts) ile sınırlıdır
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService multipartUploadExecutor() {
+        return fixedThreadPool(parallelism, "multipart-upload-");
+    }
+
+    // Toplu yüklemede aynı anda depolamaya yazılan dosya sayısını sınırlar
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService batchUploadExecutor() {
+        return fixedThreadPool(batchParallelism, "batch-upload-");
+    }
+
+    // Asenkron yükleme işlerini HTTP thread havuzundan bağımsız çalıştırır; kuyruk dolunca yeni iş reddedilir
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService uploadJobExecutor() {
+        return fixedThreadPool(asyncWorkers, asyncQueueCapacity, "upload-job-");
+    }
+
+    // Önizleme üretimi CPU ağırlıklıdır; yüklemelerden ayrı, sınırlı bir havuzda çalışır
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService thumbnailExecutor() {
+        return fixedThreadPool(thumbnailWorkers, thumbnailQueueCapacity, "thumbnail-");
+    }
+
+    // Metin çıkarma (ve mevcut bucket taraması) yüklemelerle aynı işçileri paylaşmaz
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService textExtractionExecutor() {
+        return fixedThreadPool(textExtractionWorkers, textExtractionQueueCapacity, "text-extraction-");
+    }
+
+    // ZIP dışa aktarımında sıradaki nesneleri önceden açar; havuz doluysa nesne yazan thread'de açılır
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService exportExecutor() {
+        return fixedThreadPool(exportWorkers, exportQueueCapacity, "export-prefetch-");
+    }
+
+    // Toplu içe aktarım işleri sırayla, tek thread'de çalışır; bekleyen iş sınırı dolunca yeni iş reddedilir
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService importJobExecutor() {
+        return fixedThreadPool(1, importQueueCapacity, "import-job-");
+    }
+
+    // Kuyruk sınırsız görünse de bekleyen yükleme sayısı içe aktarım penceresi (max-in-flight) ile sınırlıdır
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService importUploadExecutor() {
+        return fixedThreadPool(importWorkers, "import-upload-");
+    }
+
+    // Arama dizinine yazmalar tek thread'de sırayla yapılır; açılıştaki yeniden oluşturma da bu thread'de çalışır
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService searchIndexExecutor() {
+        return fixedThreadPool(1, "search-index-");
+    }
+
+    @Bean
+    public ParallelMultipartUploader parallelMultipartUploader(StorageBackend storageBackend,
+                                                               @Qualifier("multipartUploadExecutor") ExecutorService executor) {
+        return new ParallelMultipartUploader(storageBackend, executor, partSize, maxBufferedParts);
+    }
+
+    private static ExecutorService fixedThreadPool(int threads, String namePrefix) {
+        return fixedThreadPool(threads, Integer.MAX_VALUE, namePrefix);
+    }
+
+    private static ExecutorService fixedThreadPool(int threads, int queueCapacity, String namePrefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, namePrefix + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+}
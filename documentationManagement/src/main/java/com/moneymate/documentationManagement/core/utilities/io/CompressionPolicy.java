@@ -0,0 +1,86 @@
+package com.moneymate.documentationManagement.core.utilities.io;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.Deflater;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Yüklenen dosyanın depolamada sıkıştırılıp sıkıştırılmayacağına karar verir.
+ * İçerik tipi listede olsa bile dosyanın başından alınan örnek yeterince küçülmüyorsa dosya olduğu gibi saklanır;
+ * böylece boşuna CPU harcanmaz. PDF varsayılan listede yoktur: görüntüleyiciler PDF'i aralıklı (Range) okur ve
+ * gzip'li nesnede her aralık için içerik baştan açılmak zorunda kalır.
+ */
+@Component
+public class CompressionPolicy {
+
+    private final boolean enabled;
+    private final List<String> contentTypes;
+    private final long minSize;
+    private final int level;
+    private final int sampleSize;
+    private final double maxSampleRatio;
+
+    public CompressionPolicy(@Value("${storage.compression.enabled:true}") boolean enabled,
+                             @Value("${storage.compression.content-types:text/,application/json,application/xml,application/x-ndjson}") List<String> contentTypes,
+                             @Value("${storage.compression.min-size:1024}") long minSize,
+                             @Value("${storage.compression.level:1}") int level,
+                             @Value("${storage.compression.sample-size:65536}") int sampleSize,
+                             @Value("${storage.compression.max-sample-ratio:0.9}") double maxSampleRatio) {
+        this.enabled = enabled;
+        this.contentTypes = contentTypes.stream().map(type -> type.trim().toLowerCase(Locale.ROOT)).toList();
+        this.minSize = minSize;
+        this.level = level;
+        this.sampleSize = sampleSize;
+        this.maxSampleRatio = maxSampleRatio;
+    }
+
+    /**
+     * İçerik tipi ve (biliniyorsa) boyuta göre dosyanın sıkıştırma adayı olup olmadığını döner.
+     * @param size Dosya boyutu, bilinmiyorsa -1
+     */
+    public boolean isCandidate(String contentType, long size) {
+        if (!enabled || contentType == null || (size >= 0 && size < minSize)) {
+            return false;
+        }
+        String type = contentType.split(";", 2)[0].trim().toLowerCase(Locale.ROOT);
+        for (String candidate : contentTypes) {
+            if (candidate.endsWith("/") ? type.startsWith(candidate) : type.equals(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Dosyanın başından alınan örneği sıkıştırıp oranına göre codec seçer.
+     */
+    public StorageCodec choose(byte[] sample) {
+        if (sample.length < minSize) {
+            return StorageCodec.NONE;
+        }
+        Deflater deflater = new Deflater(level, true);
+        try {
+            deflater.setInput(sample);
+            deflater.finish();
+            byte[] output = new byte[8 * 1024];
+            long compressed = 0;
+            while (!deflater.finished()) {
+                compressed += deflater.deflate(output);
+            }
+            return compressed <= sample.length * maxSampleRatio ? StorageCodec.GZIP : StorageCodec.NONE;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getSampleSize() {
+        return sampleSize;
+    }
+}
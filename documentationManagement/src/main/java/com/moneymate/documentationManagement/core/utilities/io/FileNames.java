@@ -0,0 +1,45 @@
+package com.moneymate.documentationManagement.core.utilities.io;
+
+import java.util.UUID;
+
+public class FileNames {
+
+    private static final String THUMBNAIL_SUFFIX = ".thumb.jpg";
+
+    private FileNames() {
+    }
+
+    /**
+     * Depolama için benzersiz nesne adı üretir, orijinal dosyanın uzantısını korur.
+     */
+    public static String generateObjectName(String originalFileName) {
+        String extension = "";
+        if (originalFileName != null && originalFileName.contains(".")) {
+            extension = originalFileName.substring(originalFileName.lastIndexOf("."));
+        }
+        return UUID.randomUUID().toString() + extension;
+    }
+
+    /**
+     * Nesnenin önizleme resminin depolamadaki adı (aynı bucket'ta, nesnenin yanında).
+     */
+    public static String thumbnailObjectName(String objectName) {
+        return objectName + THUMBNAIL_SUFFIX;
+    }
+
+    /**
+     * Önizleme nesnesinin ait olduğu kaynak nesnenin adı; önizleme değilse adın kendisi.
+     */
+    public static String sourceObjectName(String objectName) {
+        return objectName.endsWith(THUMBNAIL_SUFFIX)
+                ? objectName.substring(0, objectName.length() - THUMBNAIL_SUFFIX.length())
+                : objectName;
+    }
+
+    public static String formatFileSize(long size) {
+        if (size < 1024) return size + " B";
+        if (size < 1024 * 1024) return String.format("%.1f KB", size / 1024.0);
+        if (size < 1024 * 1024 * 1024) return String.format("%.1f MB", size / (1024.0 * 1024.0));
+        return String.format("%.1f GB", size / (1024.0 * 1024.0 * 1024.0));
+    }
+}
@@ -0,0 +1,91 @@
+package com.moneymate.documentationManagement.core.utilities.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterInputStream;
+
+/**
+ * Okundukça kaynağı gzip formatında sıkıştıran InputStream.
+ * JDK'daki GZIPOutputStream'in aksine çekme (pull) modelinde çalışır; böylece ek thread ya da pipe olmadan
+ * doğrudan depolamaya yükleme stream'ine verilebilir.
+ */
+public class GzipCompressingInputStream extends InputStream {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // RFC 1952: magic, CM=deflate, FLG=0, MTIME=0, XFL=0, OS=unknown
+    private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+    private final CheckedInputStream source;
+    private final Deflater deflater;
+    private final DeflaterInputStream body;
+    private byte[] pending = HEADER;
+    private int pendingOffset;
+    private boolean bodyFinished;
+
+    public GzipCompressingInputStream(InputStream in, int level) {
+        this.source = new CheckedInputStream(in, new CRC32());
+        this.deflater = new Deflater(level, true);
+        this.body = new DeflaterInputStream(source, deflater, BUFFER_SIZE);
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] single = new byte[1];
+        int n = read(single, 0, 1);
+        return n == -1 ? -1 : single[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        while (true) {
+            if (pending != null) {
+                int n = Math.min(len, pending.length - pendingOffset);
+                System.arraycopy(pending, pendingOffset, b, off, n);
+                pendingOffset += n;
+                if (pendingOffset == pending.length) {
+                    pending = null;
+                }
+                return n;
+            }
+            if (bodyFinished) {
+                return -1;
+            }
+            int n = body.read(b, off, len);
+            if (n > 0) {
+                return n;
+            }
+            if (n == -1) {
+                bodyFinished = true;
+                pending = trailer();
+                pendingOffset = 0;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            body.close();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    // RFC 1952: CRC32 ve sıkıştırılmamış boyut (mod 2^32), little-endian
+    private byte[] trailer() {
+        long crc = source.getChecksum().getValue();
+        long size = deflater.getBytesRead();
+        byte[] trailer = new byte[8];
+        for (int i = 0; i < 4; i++) {
+            trailer[i] = (byte) (crc >>> (8 * i));
+            trailer[4 + i] = (byte) (size >>> (8 * i));
+        }
+        return trailer;
+    }
+}
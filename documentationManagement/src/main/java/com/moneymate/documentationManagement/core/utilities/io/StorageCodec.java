@@ -0,0 +1,56 @@
+package com.moneymate.documentationManagement.core.utilities.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Nesnenin depolamada hangi kodlamayla saklandığı. Kayıtlardaki null değer NONE ile aynıdır.
+ */
+public enum StorageCodec {
+
+    NONE(null) {
+        @Override
+        public InputStream encode(InputStream inputStream, int level) {
+            return inputStream;
+        }
+
+        @Override
+        public InputStream decode(InputStream inputStream) {
+            return inputStream;
+        }
+    },
+
+    GZIP("gzip") {
+        @Override
+        public InputStream encode(InputStream inputStream, int level) {
+            return new GzipCompressingInputStream(inputStream, level);
+        }
+
+        @Override
+        public InputStream decode(InputStream inputStream) throws IOException {
+            return new GZIPInputStream(inputStream, 64 * 1024);
+        }
+    };
+
+    private final String contentEncoding;
+
+    StorageCodec(String contentEncoding) {
+        this.contentEncoding = contentEncoding;
+    }
+
+    public abstract InputStream encode(InputStream inputStream, int level) throws IOException;
+
+    public abstract InputStream decode(InputStream inputStream) throws IOException;
+
+    /**
+     * HTTP Content-Encoding karşılığı; sıkıştırılmamış nesneler için null.
+     */
+    public String getContentEncoding() {
+        return contentEncoding;
+    }
+
+    public static StorageCodec of(StorageCodec codec) {
+        return codec != null ? codec : NONE;
+    }
+}
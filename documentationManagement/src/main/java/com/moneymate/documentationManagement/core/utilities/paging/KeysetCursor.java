@@ -0,0 +1,44 @@
+package com.moneymate.documentationManagement.core.utilities.paging;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset (imleç) sayfalamasında bir sonraki sayfanın başlangıcını taşıyan opak imleç.
+ * İmleç, sayfadaki son kaydın id'sini sürüm ön ekiyle birlikte base64url olarak kodlar; istemci içeriğini
+ * yorumlamaz, yalnızca bir sonraki isteğe geri gönderir. Sıralama değişirse ön ek değiştirilerek eski
+ * imleçler reddedilir.
+ */
+public final class KeysetCursor {
+
+    private static final String VERSION_PREFIX = "id1:";
+
+    private KeysetCursor() {
+    }
+
+    public static String encode(long lastId) {
+        byte[] value = (VERSION_PREFIX + lastId).getBytes(StandardCharsets.US_ASCII);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value);
+    }
+
+    /**
+     * İmleçteki son kaydın id'si.
+     * @throws IllegalArgumentException imleç bu sunucunun ürettiği bir imleç değilse
+     */
+    public static long decode(String cursor) {
+        String value;
+        try {
+            value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Geçersiz sayfa imleci", e);
+        }
+        if (!value.startsWith(VERSION_PREFIX)) {
+            throw new IllegalArgumentException("Geçersiz sayfa imleci");
+        }
+        try {
+            return Long.parseLong(value.substring(VERSION_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Geçersiz sayfa imleci", e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.moneymate.documentationManagement.dataAccess.abstracts;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.moneymate.documentationManagement.entities.concretes.DirectUpload;
+
+@Repository
+public interface DirectUploadRepository extends JpaRepository<DirectUpload, String> {
+
+    List<DirectUpload> findByStatusAndExpiresAtBefore(DirectUpload.Status status, LocalDateTime expiresAt);
+
+    // Onay ve süre aşımı temizliği aynı kaydı eşzamanlı işleyebilir; durumu koşullu güncelleyebilen (1 dönen) taraf devam eder
+    @Transactional
+    @Modifying
+    @Query("UPDATE DirectUpload u SET u.status = :to, u.updateAt = :now WHERE u.id = :id AND u.status = :from")
+    int updateStatus(@Param("id") String id, @Param("from") DirectUpload.Status from,
+                     @Param("to") DirectUpload.Status to, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE DirectUpload u SET u.status = :to, u.updateAt = :now " +
+            "WHERE u.id = :id AND u.status = :from AND u.expiresAt > :expiresAfter")
+    int updateStatusIfExpiresAfter(@Param("id") String id, @Param("from") DirectUpload.Status from,
+                                   @Param("to") DirectUpload.Status to, @Param("now") LocalDateTime now,
+                                   @Param("expiresAfter") LocalDateTime expiresAfter);
+
+    @Query("SELECT u.objectName FROM DirectUpload u WHERE u.status = :status AND u.objectName IN :names")
+    Set<String> findObjectNamesIn(@Param("status") DirectUpload.Status status, @Param("names") Collection<String> names);
+}
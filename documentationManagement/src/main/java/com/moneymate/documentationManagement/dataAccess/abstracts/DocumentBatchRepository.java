@@ -0,0 +1,18 @@
+package com.moneymate.documentationManagement.dataAccess.abstracts;
+
+import java.util.List;
+
+import com.moneymate.documentationManagement.entities.concretes.Document;
+
+/**
+ * Dökümanların toplu eklenmesi. IDENTITY id'li entity'lerde Hibernate insert'leri tek tek gönderdiği için
+ * çok sayıda kayıt (toplu içe aktarım) bu yoldan eklenir.
+ */
+public interface DocumentBatchRepository {
+
+    /**
+     * Dökümanları tek bir batch ile ekler ve üretilen id'leri dökümanlara yazar.
+     * Entity listener'ları çalışmaz; zaman damgaları çağıran tarafından atanmalıdır.
+     */
+    void insertAll(List<Document> documents);
+}
@@ -0,0 +1,18 @@
+package com.moneymate.documentationManagement.dataAccess.abstracts;
+
+import java.util.List;
+
+/**
+ * Başlık ve kurum adında yazım hatalarına toleranslı (trigram benzerliği) arama.
+ */
+public interface DocumentFuzzySearchRepository {
+
+    /**
+     * Sorguya benzerliği threshold ve üstünde olan dökümanlar, benzerliğe göre azalan sırada.
+     * @param threshold 0 (her şey eşleşir) ile 1 (birebir aynı) arasında; null ise varsayılan eşik
+     */
+    List<Match> search(String query, Double threshold, int limit);
+
+    record Match(Long id, float similarity) {
+    }
+}
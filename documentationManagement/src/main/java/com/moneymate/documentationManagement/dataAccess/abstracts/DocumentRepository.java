@@ -1,12 +1,19 @@
 package com.moneymate.documentationManagement.dataAccess.abstracts;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.moneymate.documentationManagement.core.utilities.io.StorageCodec;
 import com.moneymate.documentationManagement.entities.concretes.Document;
 
 @Repository
@@ -16,11 +23,99 @@ public interface DocumentRepository extends JpaRepository<Document, Long> {
 
     List<Document> findByDocumentType(String documentType);
 
-    List<Document> findByTitleContainingIgnoreCase(String title);
+    /**
+     * Başlık ve açıklamada tam metin arama (PostgreSQL, V4 migration'ındaki GIN indeksli search_vector).
+     * Sorgu websearch_to_tsquery ile ayrıştırılır: "tırnaklı ifade", OR ve -hariç desteklenir.
+     * Vurgulu parçalar (ts_headline) metni yeniden ayrıştırdığı için yalnızca sıralanıp kesilmiş satırlar için üretilir.
+     */
+    @Query(value = "SELECT ranked.id AS \"id\", ranked.rank AS \"rank\", "
+            + "ts_headline('docman_turkish', d.title, ranked.query, "
+            + "'HighlightAll=true, StartSel=<mark>, StopSel=</mark>') AS \"titleHighlight\", "
+            + "ts_headline('docman_turkish', coalesce(d.document_description, ''), ranked.query, "
+            + "'StartSel=<mark>, StopSel=</mark>, MaxWords=35, MinWords=15, MaxFragments=2') AS \"descriptionSnippet\" "
+            + "FROM (SELECT d.id, q.query, ts_rank(d.search_vector, q.query) AS rank "
+            + "      FROM documents d, websearch_to_tsquery('docman_turkish', :query) AS q(query) "
+            + "      WHERE d.search_vector @@ q.query "
+            + "      ORDER BY rank DESC, d.id DESC LIMIT :limit) ranked "
+            + "JOIN documents d ON d.id = ranked.id "
+            + "ORDER BY ranked.rank DESC, ranked.id DESC", nativeQuery = true)
+    List<SearchRow> searchFullText(@Param("query") String query, @Param("limit") int limit);
+
+    interface SearchRow {
+        Long getId();
+        Float getRank();
+        String getTitleHighlight();
+        String getDescriptionSnippet();
+    }
+
+    // Keyset sayfalama: id'ye göre azalan (en yeni önce), imleçteki id'den küçük kayıtlar.
+    // Sayfa ne kadar derinde olursa olsun sorgu indeksten yalnızca sayfa boyutu kadar satır okur.
+    List<Document> findByIdLessThanOrderByIdDesc(Long id, Pageable pageable);
+
+    List<Document> findByInstitutionNameAndIdLessThanOrderByIdDesc(String institutionName, Long id, Pageable pageable);
+
+    List<Document> findByDocumentTypeAndIdLessThanOrderByIdDesc(String documentType, Long id, Pageable pageable);
+
+    // Türetilmiş ContainingIgnoreCase sorgusu upper(title) LIKE üretir ve title üzerindeki trigram indeksini
+    // kullanamaz; ILIKE indeksi (V5) kullanır. escape() kullanıcı girdisindeki % ve _ karakterlerini kaçışlar.
+    @Query("SELECT d FROM Document d WHERE d.title ILIKE CONCAT('%', :#{escape(#title)}, '%') "
+            + "ESCAPE :#{escapeCharacter()} AND d.id < :id ORDER BY d.id DESC")
+    List<Document> findByTitleContainingIgnoreCaseAndIdLessThanOrderByIdDesc(@Param("title") String title,
+                                                                             @Param("id") Long id,
+                                                                             Pageable pageable);
+
+    // Arama dizini diğer uygulama örneklerinde yapılan değişiklikleri bu keyset taramasıyla yakalar (V9 indeksi)
+    @Query("SELECT d FROM Document d WHERE d.updateAt > :updateAt OR (d.updateAt = :updateAt AND d.id > :id) "
+            + "ORDER BY d.updateAt, d.id")
+    List<Document> findUpdatedAfter(@Param("updateAt") LocalDateTime updateAt, @Param("id") Long id,
+                                    Pageable pageable);
+
+    @Query("SELECT d.id FROM Document d WHERE d.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 
     @Query("SELECT d FROM Document d WHERE d.institutionName = :institutionName AND d.documentType = :documentType")
     List<Document> findByInstitutionAndType(@Param("institutionName") String institutionName,
                                             @Param("documentType") String documentType);
 
-    Optional<Document> findByFileUrl(String fileUrl);
+    // Verilen nesne adlarından dökümanlarca kullanılanlar (depolama mutabakatı)
+    @Query("SELECT d.minioFileName FROM Document d WHERE d.minioFileName IN :names")
+    Set<String> findMinioFileNamesIn(@Param("names") Collection<String> names);
+
+    List<Document> findTop100ByThumbnailStatusIsNullAndUploadAtBefore(LocalDateTime uploadAt);
+
+    // Sadece önizleme durumu güncellenir; arka plan işi kullanıcının eşzamanlı düzenlemelerini ezmez
+    @Transactional
+    @Modifying
+    @Query("UPDATE Document d SET d.thumbnailStatus = :status WHERE d.id = :id")
+    int updateThumbnailStatus(@Param("id") Long id, @Param("status") Document.ThumbnailStatus status);
+
+    // Nesnenin kayıtlı katmanları; arşivlenmiş bir nesneye sonradan bağlanan döküman null (HOT) taşıyabilir
+    @Query("SELECT DISTINCT d.storageTier FROM Document d WHERE d.minioFileName = :name")
+    List<Document.StorageTier> findStorageTiers(@Param("name") String name);
+
+    // Arşive taşınacak nesneler: onu kullanan dökümanların hepsi eski ve uzun süredir okunmamış olmalı
+    @Query("SELECT d.minioFileName FROM Document d WHERE d.minioFileName > :after " +
+            "GROUP BY d.minioFileName " +
+            "HAVING SUM(CASE WHEN d.storageTier = :archive THEN 1 ELSE 0 END) = 0 " +
+            "AND MAX(d.uploadAt) < :uploadedBefore AND MAX(COALESCE(d.lastAccessedAt, d.uploadAt)) < :accessedBefore " +
+            "ORDER BY d.minioFileName")
+    List<String> findTieringCandidates(@Param("archive") Document.StorageTier archive,
+                                       @Param("after") String after,
+                                       @Param("uploadedBefore") LocalDateTime uploadedBefore,
+                                       @Param("accessedBefore") LocalDateTime accessedBefore,
+                                       Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Document d SET d.storageTier = :tier, d.storageCodec = :codec WHERE d.minioFileName = :name")
+    int updateStorageTier(@Param("name") String name, @Param("tier") Document.StorageTier tier,
+                          @Param("codec") StorageCodec codec);
+
+    // Son erişim zamanı sadece eşikten eskiyse yazılır; her okuma bir UPDATE'e dönüşmez
+    @Transactional
+    @Modifying
+    @Query("UPDATE Document d SET d.lastAccessedAt = :now " +
+            "WHERE d.id = :id AND (d.lastAccessedAt IS NULL OR d.lastAccessedAt < :threshold)")
+    int touchLastAccessedAt(@Param("id") Long id, @Param("now") LocalDateTime now,
+                            @Param("threshold") LocalDateTime threshold);
 }
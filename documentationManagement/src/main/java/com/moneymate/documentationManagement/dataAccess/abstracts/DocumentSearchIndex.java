@@ -0,0 +1,41 @@
+package com.moneymate.documentationManagement.dataAccess.abstracts;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.moneymate.documentationManagement.entities.concretes.Document;
+
+/**
+ * Uygulama içinde tutulan döküman arama dizini (başlık, açıklama, kurum adı ve döküman tipi).
+ * Yazılan değişiklikler refresh çağrılana kadar aramalarda görünmez.
+ */
+public interface DocumentSearchIndex {
+
+    // Dökümanı id'sine göre ekler ya da günceller
+    void upsert(Document document) throws IOException;
+
+    void delete(Long documentId) throws IOException;
+
+    /**
+     * Dizindeki döküman id'lerini metin olarak artan sırada (10, 11, 9) afterId'den sonrasından başlayarak döndürür;
+     * null ilk sayfayı verir. Silinmiş ama henüz birleştirilmemiş dökümanların id'leri de dönebilir.
+     */
+    List<Long> documentIds(Long afterId, int limit) throws IOException;
+
+    // Sonuçlar puana göre azalan sırada; dökümanlar sadece dizinde saklanan alanlarla doldurulur
+    List<Hit> search(String query, int limit) throws IOException;
+
+    // Bekleyen değişiklikleri aramalara yansıtır
+    void refresh() throws IOException;
+
+    /**
+     * Yeniden oluşturmayı başlatır: bundan sonra yazılan dökümanlar yeni nesille işaretlenir.
+     * finishRebuild, bu sürede yeniden yazılmamış (veritabanında artık olmayan) dökümanları siler.
+     */
+    long beginRebuild();
+
+    void finishRebuild(long generation) throws IOException;
+
+    record Hit(Document document, float score) {
+    }
+}
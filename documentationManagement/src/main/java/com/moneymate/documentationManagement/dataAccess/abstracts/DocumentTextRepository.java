@@ -0,0 +1,34 @@
+package com.moneymate.documentationManagement.dataAccess.abstracts;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.moneymate.documentationManagement.entities.concretes.Document;
+import com.moneymate.documentationManagement.entities.concretes.DocumentText;
+
+@Repository
+public interface DocumentTextRepository extends JpaRepository<DocumentText, Long> {
+
+    // ILIKE, çıkarılmış metinler üzerindeki kısmi trigram indeksini (V8) kullanır; LOWER(..) LIKE kullanamaz.
+    // escape() kullanıcı girdisindeki % ve _ karakterlerini kaçışlar.
+    @Query("SELECT t.document FROM DocumentText t WHERE t.status = 'EXTRACTED' "
+            + "AND t.content ILIKE CONCAT('%', :#{escape(#query)}, '%') ESCAPE :#{escapeCharacter()} "
+            + "ORDER BY t.documentId DESC")
+    List<Document> searchByContent(@Param("query") String query, Pageable pageable);
+
+    // Aynı nesneyi paylaşan bir dökümanın metni varsa tekrar çıkarılmaz
+    Optional<DocumentText> findFirstByDocument_MinioFileNameAndStatus(String minioFileName, DocumentText.Status status);
+
+    // Metni henüz çıkarılmamış dökümanlar; id sırasıyla okunduğundan tarama kaldığı yerden devam eder
+    @Query("SELECT d.id FROM Document d WHERE d.id > :afterId AND d.uploadAt < :uploadedBefore "
+            + "AND NOT EXISTS (SELECT 1 FROM DocumentText t WHERE t.documentId = d.id) ORDER BY d.id")
+    List<Long> findPendingDocumentIds(@Param("afterId") Long afterId,
+                                      @Param("uploadedBefore") LocalDateTime uploadedBefore, Pageable pageable);
+}
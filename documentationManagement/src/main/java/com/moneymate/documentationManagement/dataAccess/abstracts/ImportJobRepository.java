@@ -0,0 +1,15 @@
+package com.moneymate.documentationManagement.dataAccess.abstracts;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.moneymate.documentationManagement.entities.concretes.ImportJob;
+
+@Repository
+public interface ImportJobRepository extends JpaRepository<ImportJob, String> {
+
+    List<ImportJob> findByOwnerInstanceAndStatusIn(String ownerInstance, Collection<ImportJob.Status> statuses);
+}
@@ -0,0 +1,130 @@
+package com.moneymate.documentationManagement.dataAccess.abstracts;
+
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Dosya içeriklerinin saklandığı depolama katmanı.
+ * MinIO (S3) ve yerel dosya sistemi gibi farklı implementasyonlar FileUploadService arkasında değiştirilebilir.
+ */
+public interface StorageBackend {
+
+    String CHECKSUM_SHA256_HEADER = "x-amz-checksum-sha256";
+
+    /**
+     * Nesneyi depolamaya yazar.
+     * @param size Stream boyutu, bilinmiyorsa -1
+     */
+    void putObject(String objectName, InputStream inputStream, long size, String contentType) throws Exception;
+
+    InputStream getObject(String objectName) throws Exception;
+
+    void removeObject(String objectName) throws Exception;
+
+    /**
+     * Bucket'taki tüm nesneleri tembel olarak listeler; liste belleğe alınmaz, stream kapatılmalıdır.
+     * Tamamlanmamış multipart yüklemelerin parçaları listelenmez.
+     */
+    Stream<ObjectInfo> listObjects() throws Exception;
+
+    /**
+     * Nesnenin boyut, ETag ve içerik tipi bilgisini döner (içeriği okumadan).
+     */
+    ObjectStat statObject(String objectName) throws Exception;
+
+    /**
+     * statObject'in önbelleğe bakmayan hali; depolamadaki güncel bilgiyi döner. Uygulama dışından
+     * (imzalı PUT URL'i ile) yeniden yazılabilen nesneler için kullanılır.
+     */
+    default ObjectStat statObjectUncached(String objectName) throws Exception {
+        return statObject(objectName);
+    }
+
+    default String getPresignedUrl(String objectName, int expirySeconds) throws Exception {
+        return getPresignedUrl(objectName, expirySeconds, null);
+    }
+
+    /**
+     * İmzalı GET URL'i üretir. Sadece supportsPresignedUrls true ise çağrılabilir.
+     * @param contentEncoding Sıkıştırılmış saklanan nesnelerde yanıtta dönecek Content-Encoding, yoksa null
+     */
+    String getPresignedUrl(String objectName, int expirySeconds, String contentEncoding) throws Exception;
+
+    /**
+     * İstemcinin nesneyi uygulamaya uğramadan doğrudan depolamaya yükleyebileceği imzalı PUT URL'i üretir.
+     * Sadece supportsDirectUpload true ise çağrılabilir.
+     * @param sha256 İstemcinin bildirdiği içerik özeti (hex). İmzaya x-amz-checksum-sha256 başlığı olarak girer;
+     *               istemci PUT isteğinde checksumHeaders(sha256) başlıklarını göndermeli, depolama farklı içeriği reddeder
+     */
+    String getPresignedUploadUrl(String objectName, int expirySeconds, String sha256) throws Exception;
+
+    // İmzalı PUT isteğinde gönderilmesi gereken sağlama başlığı; S3 özeti hex değil base64 bekler
+    static Map<String, String> checksumHeaders(String sha256) {
+        return Map.of(CHECKSUM_SHA256_HEADER, Base64.getEncoder().encodeToString(HexFormat.of().parseHex(sha256)));
+    }
+
+    // İstemcinin doğrudan erişebileceği imzalı GET URL'i üretilebiliyor mu; değilse içerik uygulama üzerinden okunur
+    default boolean supportsPresignedUrls() {
+        return true;
+    }
+
+    // İmzalı PUT URL'i ile doğrudan yükleme destekleniyor mu
+    default boolean supportsDirectUpload() {
+        return true;
+    }
+
+    /**
+     * Parça parça (multipart) yükleme başlatır.
+     * @return Backend'e ait upload id
+     */
+    String createMultipartUpload(String objectName, String contentType) throws Exception;
+
+    /**
+     * Tek bir parçayı yükler. Aynı parça numarası tekrar yüklenirse önceki parçanın yerine geçer.
+     * @return Parçanın ETag değeri
+     */
+    String uploadPart(String objectName, String uploadId, int partNumber, InputStream inputStream, long size) throws Exception;
+
+    void completeMultipartUpload(String objectName, String uploadId, List<CompletedPart> parts) throws Exception;
+
+    void abortMultipartUpload(String objectName, String uploadId) throws Exception;
+
+    /**
+     * Nesnenin [offset, offset + length) aralığını hedef kanala yazar.
+     * Varsayılan implementasyon stream kopyalar; dosya sistemi gibi backend'ler dosya kanalı üzerinden override eder.
+     * @return Yazılan byte sayısı
+     */
+    default long transferTo(String objectName, long offset, long length, WritableByteChannel target) throws Exception {
+        try (InputStream inputStream = getObject(objectName)) {
+            inputStream.skipNBytes(offset);
+            byte[] buffer = new byte[64 * 1024];
+            var out = Channels.newOutputStream(target);
+            long remaining = length;
+            while (remaining > 0) {
+                int read = inputStream.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read == -1) {
+                    break;
+                }
+                out.write(buffer, 0, read);
+                remaining -= read;
+            }
+            return length - remaining;
+        }
+    }
+
+    record CompletedPart(int partNumber, String etag) {
+    }
+
+    record ObjectStat(long size, String etag, String contentType) {
+    }
+
+    record ObjectInfo(String name, long size, Instant lastModified) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.moneymate.documentationManagement.dataAccess.abstracts;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.moneymate.documentationManagement.entities.concretes.StoredObject;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface StoredObjectRepository extends JpaRepository<StoredObject, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<StoredObject> findBySha256(String sha256);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<StoredObject> findByObjectName(String objectName);
+
+    @Query("SELECT s.objectName FROM StoredObject s WHERE s.objectName IN :names")
+    Set<String> findObjectNamesIn(@Param("names") Collection<String> names);
+
+    // Okuma yolu için kilitsiz sorgu (transaction gerektirmez)
+    Optional<StoredObject> readByObjectName(String objectName);
+}
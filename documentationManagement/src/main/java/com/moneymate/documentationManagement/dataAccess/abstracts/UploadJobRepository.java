@@ -0,0 +1,15 @@
+package com.moneymate.documentationManagement.dataAccess.abstracts;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.moneymate.documentationManagement.entities.concretes.UploadJob;
+
+@Repository
+public interface UploadJobRepository extends JpaRepository<UploadJob, String> {
+
+    List<UploadJob> findByOwnerInstanceAndStatusIn(String ownerInstance, Collection<UploadJob.Status> statuses);
+}
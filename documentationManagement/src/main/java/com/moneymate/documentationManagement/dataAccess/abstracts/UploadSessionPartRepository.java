@@ -0,0 +1,23 @@
+package com.moneymate.documentationManagement.dataAccess.abstracts;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.moneymate.documentationManagement.entities.concretes.UploadSessionPart;
+
+@Repository
+public interface UploadSessionPartRepository extends JpaRepository<UploadSessionPart, Long> {
+
+    Optional<UploadSessionPart> findBySessionIdAndPartNumber(String sessionId, Integer partNumber);
+
+    List<UploadSessionPart> findBySessionIdOrderByPartNumber(String sessionId);
+
+    @Modifying
+    @Transactional
+    void deleteBySessionId(String sessionId);
+}
@@ -0,0 +1,37 @@
+package com.moneymate.documentationManagement.dataAccess.abstracts;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.moneymate.documentationManagement.entities.concretes.UploadSession;
+
+@Repository
+public interface UploadSessionRepository extends JpaRepository<UploadSession, String> {
+
+    List<UploadSession> findByStatusAndUpdateAtBefore(UploadSession.Status status, LocalDateTime updateAt);
+
+    // Parça yükleme, tamamlama ve iptal aynı oturumu eşzamanlı işleyebilir; durumu koşullu güncelleyebilen (1 dönen) taraf devam eder
+    @Transactional
+    @Modifying
+    @Query("UPDATE UploadSession s SET s.status = :to, s.updateAt = :now WHERE s.id = :id AND s.status = :from")
+    int updateStatus(@Param("id") String id, @Param("from") UploadSession.Status from,
+                     @Param("to") UploadSession.Status to, @Param("now") LocalDateTime now);
+
+    // Yalnızca son aktivite zamanı yazılır; tüm entity'yi kaydetmek eşzamanlı tamamlanan oturumu ACTIVE'e döndürürdü
+    @Transactional
+    @Modifying
+    @Query("UPDATE UploadSession s SET s.updateAt = :now WHERE s.id = :id AND s.status = :status")
+    int touch(@Param("id") String id, @Param("status") UploadSession.Status status, @Param("now") LocalDateTime now);
+
+    @Query("SELECT s.objectName FROM UploadSession s WHERE s.status = :status AND s.objectName IN :names")
+    Set<String> findObjectNamesIn(@Param("status") UploadSession.Status status, @Param("names") Collection<String> names);
+}
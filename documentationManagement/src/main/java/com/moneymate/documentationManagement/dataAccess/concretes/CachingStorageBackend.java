@@ -0,0 +1,311 @@
+package com.moneymate.documentationManagement.dataAccess.concretes;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.moneymate.documentationManagement.dataAccess.abstracts.StorageBackend;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Depolamanın önüne konan okuma önbelleği (read-through).
+ * Küçük nesneler bellekte, büyükler yerel diskte tutulur; çok büyük nesneler önbelleğe alınmaz.
+ * Nesne adları UUID olduğundan içerik hiç değişmez: kayıtlar geçersiz kılınmaz, sadece byte sınırına göre
+ * (Caffeine W-TinyLFU) tahliye edilir. Silinen ya da yeniden yazılan nesneler ayrıca önbellekten düşürülür.
+ * İmzalı PUT URL'i ile bu sınıfa uğramadan yazılan nesneler için statObjectUncached depolamaya gider ve
+ * bilgi değiştiyse eski kayıtları düşürür.
+ *
+ * Disk katmanı yapılandırılan dizinin altında kendi alt dizinini (CACHE_SUBDIRECTORY) kullanır; açılışta yalnızca
+ * bu alt dizindeki önbellek dosyaları silinir, dizin paylaşılan bir yer olsa da başka dosyalara dokunulmaz.
+ */
+public class CachingStorageBackend implements StorageBackend, MeterBinder {
+
+    static final String CACHE_SUBDIRECTORY = "docman-storage-cache";
+    private static final String CACHED_FILE_SUFFIX = ".bin";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final StorageBackend delegate;
+    private final Path cacheDirectory;
+    private final long memoryMaxObjectSize;
+    private final long diskMaxObjectSize;
+
+    private final Cache<String, ObjectStat> statCache;
+    private final Cache<String, byte[]> memoryCache;
+    private final Cache<String, Path> diskCache;
+    private Counter bypassCounter;
+
+    public CachingStorageBackend(StorageBackend delegate, Path cacheDirectory, long statCacheSize,
+                                 long memoryMaxBytes, long memoryMaxObjectSize,
+                                 long diskMaxBytes, long diskMaxObjectSize) throws IOException {
+        this.delegate = delegate;
+        this.cacheDirectory = cacheDirectory.toAbsolutePath().normalize().resolve(CACHE_SUBDIRECTORY);
+        this.memoryMaxObjectSize = memoryMaxObjectSize;
+        this.diskMaxObjectSize = diskMaxObjectSize;
+
+        // Önceki çalışmadan kalan dosyaların indeksi yok; temiz başlanır
+        Files.createDirectories(this.cacheDirectory);
+        try (Stream<Path> leftovers = Files.list(this.cacheDirectory)) {
+            for (Path leftover : leftovers.filter(CachingStorageBackend::isCacheFile).toList()) {
+                Files.deleteIfExists(leftover);
+            }
+        }
+
+        this.statCache = Caffeine.newBuilder()
+                .maximumSize(statCacheSize)
+                .recordStats()
+                .build();
+        this.memoryCache = Caffeine.newBuilder()
+                .maximumWeight(memoryMaxBytes)
+                .weigher((String key, byte[] value) -> value.length)
+                .recordStats()
+                .build();
+        this.diskCache = Caffeine.newBuilder()
+                .maximumWeight(diskMaxBytes)
+                .weigher((String key, Path value) -> weight(value))
+                // Dosya tahliye anında silinir; açık okuyucular (Linux'ta) dosyayı okumaya devam edebilir
+                .removalListener((String key, Path value, RemovalCause cause) -> deleteQuietly(value))
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, statCache, "storage.stat");
+        CaffeineCacheMetrics.monitor(registry, memoryCache, "storage.memory");
+        CaffeineCacheMetrics.monitor(registry, diskCache, "storage.disk");
+        Gauge.builder("storage.cache.bytes", memoryCache, cache -> cache.policy().eviction().orElseThrow().weightedSize().orElse(0))
+                .tag("tier", "memory")
+                .description("Bellekteki nesnelerin toplam boyutu")
+                .register(registry);
+        Gauge.builder("storage.cache.bytes", diskCache, cache -> cache.policy().eviction().orElseThrow().weightedSize().orElse(0))
+                .tag("tier", "disk")
+                .description("Diskteki nesnelerin toplam boyutu")
+                .register(registry);
+        bypassCounter = Counter.builder("storage.cache.bypass")
+                .description("Önbellek sınırından büyük olduğu için doğrudan depolamadan okunan nesneler")
+                .register(registry);
+    }
+
+    @Override
+    public InputStream getObject(String objectName) throws Exception {
+        long size = statObject(objectName).size();
+        if (size <= memoryMaxObjectSize) {
+            return new ByteArrayInputStream(loadIntoMemory(objectName));
+        }
+        if (size <= diskMaxObjectSize) {
+            try {
+                return Files.newInputStream(loadIntoDisk(objectName));
+            } catch (NoSuchFileException e) {
+                // Okuma anında tahliye edildi
+                return delegate.getObject(objectName);
+            }
+        }
+        countBypass();
+        return delegate.getObject(objectName);
+    }
+
+    @Override
+    public long transferTo(String objectName, long offset, long length, WritableByteChannel target) throws Exception {
+        long size = statObject(objectName).size();
+        if (size <= memoryMaxObjectSize) {
+            byte[] content = loadIntoMemory(objectName);
+            int start = (int) Math.min(offset, content.length);
+            int end = (int) Math.min(offset + length, content.length);
+            ByteBuffer buffer = ByteBuffer.wrap(content, start, end - start);
+            while (buffer.hasRemaining()) {
+                target.write(buffer);
+            }
+            return end - start;
+        }
+        if (size <= diskMaxObjectSize) {
+            try (FileChannel channel = FileChannel.open(loadIntoDisk(objectName), StandardOpenOption.READ)) {
+                // Diskteki kopyadan dosya sistemi backend'i ile aynı yolla okunur
+                return FileSystemStorageBackend.transfer(channel, offset, length, target);
+            } catch (NoSuchFileException e) {
+                return delegate.transferTo(objectName, offset, length, target);
+            }
+        }
+        countBypass();
+        return delegate.transferTo(objectName, offset, length, target);
+    }
+
+    @Override
+    public ObjectStat statObject(String objectName) throws Exception {
+        return load(statCache, objectName, name -> {
+            try {
+                return delegate.statObject(name);
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    @Override
+    public ObjectStat statObjectUncached(String objectName) throws Exception {
+        ObjectStat stat;
+        try {
+            stat = delegate.statObjectUncached(objectName);
+        } catch (Exception e) {
+            invalidate(objectName);
+            throw e;
+        }
+        // Nesne dışarıdan yeniden yazılmışsa eski içerik kopyaları da düşürülür
+        if (!stat.equals(statCache.getIfPresent(objectName))) {
+            invalidate(objectName);
+            statCache.put(objectName, stat);
+        }
+        return stat;
+    }
+
+    @Override
+    public void putObject(String objectName, InputStream inputStream, long size, String contentType) throws Exception {
+        invalidate(objectName);
+        delegate.putObject(objectName, inputStream, size, contentType);
+    }
+
+    @Override
+    public void removeObject(String objectName) throws Exception {
+        invalidate(objectName);
+        delegate.removeObject(objectName);
+    }
+
+    @Override
+    public void completeMultipartUpload(String objectName, String uploadId, List<CompletedPart> parts) throws Exception {
+        invalidate(objectName);
+        delegate.completeMultipartUpload(objectName, uploadId, parts);
+    }
+
+    @Override
+    public Stream<ObjectInfo> listObjects() throws Exception {
+        return delegate.listObjects();
+    }
+
+    @Override
+    public boolean supportsPresignedUrls() {
+        return delegate.supportsPresignedUrls();
+    }
+
+    @Override
+    public boolean supportsDirectUpload() {
+        return delegate.supportsDirectUpload();
+    }
+
+    @Override
+    public String getPresignedUrl(String objectName, int expirySeconds, String contentEncoding) throws Exception {
+        return delegate.getPresignedUrl(objectName, expirySeconds, contentEncoding);
+    }
+
+    @Override
+    public String getPresignedUploadUrl(String objectName, int expirySeconds, String sha256) throws Exception {
+        invalidate(objectName);
+        return delegate.getPresignedUploadUrl(objectName, expirySeconds, sha256);
+    }
+
+    @Override
+    public String createMultipartUpload(String objectName, String contentType) throws Exception {
+        return delegate.createMultipartUpload(objectName, contentType);
+    }
+
+    @Override
+    public String uploadPart(String objectName, String uploadId, int partNumber, InputStream inputStream,
+                             long size) throws Exception {
+        return delegate.uploadPart(objectName, uploadId, partNumber, inputStream, size);
+    }
+
+    @Override
+    public void abortMultipartUpload(String objectName, String uploadId) throws Exception {
+        delegate.abortMultipartUpload(objectName, uploadId);
+    }
+
+    private byte[] loadIntoMemory(String objectName) throws Exception {
+        return load(memoryCache, objectName, name -> {
+            try (InputStream inputStream = delegate.getObject(name)) {
+                return inputStream.readAllBytes();
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    private Path loadIntoDisk(String objectName) throws Exception {
+        return load(diskCache, objectName, name -> {
+            // Yarım dosya önbelleğe girmesin diye önce geçici dosyaya indirilir
+            Path temp = cacheDirectory.resolve(UUID.randomUUID() + TEMP_FILE_SUFFIX);
+            Path target = cacheDirectory.resolve(UUID.randomUUID() + CACHED_FILE_SUFFIX);
+            try (InputStream inputStream = delegate.getObject(name)) {
+                Files.copy(inputStream, temp);
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                return target;
+            } catch (Exception e) {
+                deleteQuietly(temp);
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    // Aynı nesne için eşzamanlı istekler tek bir yükleme bekler
+    private static <V> V load(Cache<String, V> cache, String objectName, Function<String, V> loader) throws Exception {
+        try {
+            return cache.get(objectName, loader);
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
+    private void invalidate(String objectName) {
+        statCache.invalidate(objectName);
+        memoryCache.invalidate(objectName);
+        diskCache.invalidate(objectName);
+    }
+
+    private void countBypass() {
+        if (bypassCounter != null) {
+            bypassCounter.increment();
+        }
+    }
+
+    private static boolean isCacheFile(Path path) {
+        String fileName = path.getFileName().toString();
+        return Files.isRegularFile(path)
+                && (fileName.endsWith(CACHED_FILE_SUFFIX) || fileName.endsWith(TEMP_FILE_SUFFIX));
+    }
+
+    private static int weight(Path path) {
+        try {
+            return (int) Math.min(Integer.MAX_VALUE, Files.size(path));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // Bir sonraki açılışta dizin temizlenir
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.moneymate.documentationManagement.dataAccess.concretes;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import com.moneymate.documentationManagement.dataAccess.abstracts.StorageBackend;
+
+/**
+ * Nesneleri yerel dosya sisteminde saklayan backend.
+ * Tek node kurulumlarda ve entegrasyon ortamlarında MinIO'ya HTTP üzerinden gitmeden çalışır.
+ * Okumalar hedef dosya/soket kanalıysa FileChannel.transferTo ile kernel'de kopyalanır; servlet
+ * çıktısı gibi diğer hedeflerde dosya parça parça belleğe map edilip yazılır (heap tamponu ve
+ * read çağrısı olmaz, ancak hedef stream'in kendi tamponuna kopyalama kalır).
+ */
+public class FileSystemStorageBackend implements StorageBackend {
+
+    private static final long TRANSFER_CHUNK_SIZE = 8 * 1024 * 1024;
+    private static final String MULTIPART_DIRECTORY = ".multipart";
+
+    private final Path rootDirectory;
+    private final Path multipartDirectory;
+
+    public FileSystemStorageBackend(Path rootDirectory) throws IOException {
+        this.rootDirectory = rootDirectory.toAbsolutePath().normalize();
+        this.multipartDirectory = this.rootDirectory.resolve(MULTIPART_DIRECTORY);
+        Files.createDirectories(this.rootDirectory);
+    }
+
+    @Override
+    public void putObject(String objectName, InputStream inputStream, long size, String contentType) throws Exception {
+        writeAtomically(resolve(objectName), inputStream);
+    }
+
+    @Override
+    public InputStream getObject(String objectName) throws Exception {
+        return Files.newInputStream(resolve(objectName));
+    }
+
+    @Override
+    public void removeObject(String objectName) throws Exception {
+        Files.deleteIfExists(resolve(objectName));
+    }
+
+    @Override
+    public Stream<ObjectInfo> listObjects() throws Exception {
+        // Tamamlanmamış multipart parçaları nesne sayılmaz
+        return Files.walk(rootDirectory)
+                .filter(path -> !path.startsWith(multipartDirectory))
+                .filter(Files::isRegularFile)
+                .map(path -> {
+                    try {
+                        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                        String name = rootDirectory.relativize(path).toString().replace(path.getFileSystem().getSeparator(), "/");
+                        return new ObjectInfo(name, attributes.size(), attributes.lastModifiedTime().toInstant());
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    @Override
+    public ObjectStat statObject(String objectName) throws Exception {
+        Path path = resolve(objectName);
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        // Dosya sisteminde içerik özeti tutulmuyor; boyut ve değişiklik zamanı ETag yerine geçer
+        String etag = Long.toHexString(attributes.size()) + "-" + Long.toHexString(attributes.lastModifiedTime().toMillis());
+        return new ObjectStat(attributes.size(), etag, Files.probeContentType(path));
+    }
+
+    // Yerel dosyalar istemciden erişilemez (dosya yolu da sunucunun dizin yapısını açığa çıkarır);
+    // içerik /api/v1/documents/{id}/content üzerinden okunur
+    @Override
+    public boolean supportsPresignedUrls() {
+        return false;
+    }
+
+    @Override
+    public boolean supportsDirectUpload() {
+        return false;
+    }
+
+    @Override
+    public String getPresignedUrl(String objectName, int expirySeconds, String contentEncoding) throws Exception {
+        throw new UnsupportedOperationException("Dosya sistemi depolamada imzalı URL üretilmez");
+    }
+
+    @Override
+    public String getPresignedUploadUrl(String objectName, int expirySeconds, String sha256) throws Exception {
+        throw new UnsupportedOperationException("Dosya sistemi depolamada doğrudan yükleme desteklenmez");
+    }
+
+    @Override
+    public long transferTo(String objectName, long offset, long length, WritableByteChannel target) throws Exception {
+        try (FileChannel channel = FileChannel.open(resolve(objectName), StandardOpenOption.READ)) {
+            return transfer(channel, offset, length, target);
+        }
+    }
+
+    /**
+     * Dosya kanalının [offset, offset + length) aralığını hedefe yazar.
+     * Kernel'de kopyalama yalnızca hedef FileChannel veya SocketChannel olduğunda mümkündür;
+     * stream sarmalayan kanallarda transferTo zaten ara tampona okuduğundan mmap kullanılır.
+     */
+    static long transfer(FileChannel channel, long offset, long length, WritableByteChannel target) throws IOException {
+        long end = Math.min(offset + length, channel.size());
+        long position = offset;
+        if (target instanceof FileChannel || target instanceof SocketChannel) {
+            while (position < end) {
+                long transferred = channel.transferTo(position, end - position, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+            }
+            return Math.max(0, position - offset);
+        }
+
+        while (position < end) {
+            long window = Math.min(TRANSFER_CHUNK_SIZE, end - position);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, window);
+            while (buffer.hasRemaining()) {
+                target.write(buffer);
+            }
+            position += window;
+        }
+        return Math.max(0, position - offset);
+    }
+
+    @Override
+    public String createMultipartUpload(String objectName, String contentType) throws Exception {
+        String uploadId = UUID.randomUUID().toString();
+        Files.createDirectories(multipartDirectory.resolve(uploadId));
+        return uploadId;
+    }
+
+    @Override
+    public String uploadPart(String objectName, String uploadId, int partNumber, InputStream inputStream,
+                             long size) throws Exception {
+        DigestInputStream digestStream = new DigestInputStream(inputStream, MessageDigest.getInstance("MD5"));
+        writeAtomically(resolvePart(uploadId, partNumber), digestStream);
+        return HexFormat.of().formatHex(digestStream.getMessageDigest().digest());
+    }
+
+    @Override
+    public void completeMultipartUpload(String objectName, String uploadId, List<CompletedPart> parts) throws Exception {
+        Path target = resolve(objectName);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+        try {
+            // Parçaları sırayla birleştir; kopyalama FileChannel'lar arasında kernel'de yapılır
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                for (CompletedPart part : parts.stream().sorted(Comparator.comparingInt(CompletedPart::partNumber)).toList()) {
+                    try (FileChannel in = FileChannel.open(resolvePart(uploadId, part.partNumber()), StandardOpenOption.READ)) {
+                        long position = 0;
+                        while (position < in.size()) {
+                            position += in.transferTo(position, in.size() - position, out);
+                        }
+                    }
+                }
+                out.force(false);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        abortMultipartUpload(objectName, uploadId);
+    }
+
+    @Override
+    public void abortMultipartUpload(String objectName, String uploadId) throws Exception {
+        Path uploadDirectory = resolveUpload(uploadId);
+        if (!Files.exists(uploadDirectory)) {
+            return;
+        }
+        try (var parts = Files.list(uploadDirectory)) {
+            for (Path part : parts.toList()) {
+                Files.deleteIfExists(part);
+            }
+        }
+        Files.deleteIfExists(uploadDirectory);
+    }
+
+    private void writeAtomically(Path target, InputStream inputStream) throws IOException {
+        Files.createDirectories(target.getParent());
+
+        // Önce geçici dosyaya yaz, tamamlanınca atomik olarak yerine taşı (yarım dosya okunmasın)
+        Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE);
+                 ReadableByteChannel source = Channels.newChannel(inputStream)) {
+                long position = 0;
+                long transferred;
+                while ((transferred = channel.transferFrom(source, position, TRANSFER_CHUNK_SIZE)) > 0) {
+                    position += transferred;
+                }
+                channel.force(false);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private Path resolveUpload(String uploadId) {
+        Path path = multipartDirectory.resolve(uploadId).normalize();
+        if (!path.getParent().equals(multipartDirectory)) {
+            throw new IllegalArgumentException("Upload id geçersiz: " + uploadId);
+        }
+        return path;
+    }
+
+    private Path resolvePart(String uploadId, int partNumber) {
+        return resolveUpload(uploadId).resolve(String.valueOf(partNumber));
+    }
+
+    private Path resolve(String objectName) {
+        if (objectName == null || objectName.isBlank()) {
+            throw new IllegalArgumentException("Dosya adı geçersiz");
+        }
+        Path path = rootDirectory.resolve(objectName).normalize();
+        if (!path.startsWith(rootDirectory)) {
+            throw new IllegalArgumentException("Dosya adı geçersiz: " + objectName);
+        }
+        return path;
+    }
+}
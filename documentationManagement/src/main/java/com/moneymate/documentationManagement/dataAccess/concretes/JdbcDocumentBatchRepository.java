@@ -0,0 +1,84 @@
+package com.moneymate.documentationManagement.dataAccess.concretes;
+
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import com.moneymate.documentationManagement.dataAccess.abstracts.DocumentBatchRepository;
+import com.moneymate.documentationManagement.entities.concretes.Document;
+
+/**
+ * Dökümanları JPA yerine doğrudan JDBC batch'i ile ekler. PostgreSQL'de sürücünün reWriteBatchedInserts seçeneği
+ * açıkken batch tek bir çok satırlı INSERT olarak gönderilir. JPA ile aynı DataSource'u kullandığı için açık
+ * transaction'a katılır.
+ */
+@Repository
+public class JdbcDocumentBatchRepository implements DocumentBatchRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO documents (title, minio_file_name, institution_name, institution_type, institution_url,
+                                   document_type, upload_at, update_at, document_description, file_size,
+                                   content_hash, crc32c, storage_codec, thumbnail_status, storage_tier,
+                                   last_accessed_at)
+            VALUES (:title, :minioFileName, :institutionName, :institutionType, :institutionUrl,
+                    :documentType, :uploadAt, :updateAt, :documentDescription, :fileSize,
+                    :contentHash, :crc32c, :storageCodec, :thumbnailStatus, :storageTier,
+                    :lastAccessedAt)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcDocumentBatchRepository(DataSource dataSource) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void insertAll(List<Document> documents) {
+        if (documents.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] parameters = documents.stream()
+                .map(JdbcDocumentBatchRepository::parameters)
+                .toArray(SqlParameterSource[]::new);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(INSERT_SQL, parameters, keyHolder, new String[] {"id"});
+
+        // Anahtar map'leri büyük/küçük harf duyarsızdır (H2 "ID", PostgreSQL "id" döner)
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < documents.size(); i++) {
+            documents.get(i).setId(((Number) keys.get(i).get("id")).longValue());
+        }
+    }
+
+    private static SqlParameterSource parameters(Document document) {
+        return new MapSqlParameterSource()
+                .addValue("title", document.getTitle())
+                .addValue("minioFileName", document.getMinioFileName())
+                .addValue("institutionName", document.getInstitutionName())
+                .addValue("institutionType", document.getInstitutionType())
+                .addValue("institutionUrl", document.getInstitutionUrl())
+                .addValue("documentType", document.getDocumentType())
+                .addValue("uploadAt", document.getUploadAt())
+                .addValue("updateAt", document.getUpdateAt())
+                .addValue("documentDescription", document.getDocumentDescription())
+                .addValue("fileSize", document.getFileSize())
+                .addValue("contentHash", document.getContentHash())
+                .addValue("crc32c", document.getCrc32c())
+                .addValue("storageCodec", name(document.getStorageCodec()))
+                .addValue("thumbnailStatus", name(document.getThumbnailStatus()))
+                .addValue("storageTier", name(document.getStorageTier()))
+                .addValue("lastAccessedAt", document.getLastAccessedAt());
+    }
+
+    private static String name(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+}
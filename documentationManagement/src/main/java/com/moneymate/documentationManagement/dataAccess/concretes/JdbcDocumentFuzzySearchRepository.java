@@ -0,0 +1,55 @@
+package com.moneymate.documentationManagement.dataAccess.concretes;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.moneymate.documentationManagement.dataAccess.abstracts.DocumentFuzzySearchRepository;
+
+/**
+ * pg_trgm ile bulanık arama (PostgreSQL, V5 migration'ındaki trigram indeksleri).
+ *
+ * Sorgu, başlık ya da kurum adının içindeki en benzer kelime dizisiyle karşılaştırılır (word_similarity);
+ * "merkz bankasi", "Türkiye Cumhuriyet Merkez Bankası" ile eşleşir. İndeks yalnızca &lt;% operatörüyle
+ * kullanılabildiği ve operatörün eşiği bir ayar (pg_trgm.word_similarity_threshold) olduğu için eşik aynı
+ * transaction'da set_config ile atanır.
+ */
+@Repository
+public class JdbcDocumentFuzzySearchRepository implements DocumentFuzzySearchRepository {
+
+    private static final String SEARCH_SQL = """
+            SELECT d.id, greatest(word_similarity(:query, d.title),
+                                  word_similarity(:query, d.institution_name)) AS similarity
+            FROM documents d
+            WHERE :query <% d.title OR :query <% d.institution_name
+            ORDER BY similarity DESC, d.id DESC
+            LIMIT :limit
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final double defaultThreshold;
+
+    public JdbcDocumentFuzzySearchRepository(DataSource dataSource,
+                                             @Value("${search.fuzzy.threshold:0.5}") double defaultThreshold) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.defaultThreshold = defaultThreshold;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Match> search(String query, Double threshold, int limit) {
+        // is_local = true: ayar transaction bitince eski değerine döner, havuzdaki bağlantıda kalmaz
+        jdbcTemplate.queryForObject("SELECT set_config('pg_trgm.word_similarity_threshold', :threshold, true)",
+                new MapSqlParameterSource("threshold", String.valueOf(threshold != null ? threshold : defaultThreshold)),
+                String.class);
+        return jdbcTemplate.query(SEARCH_SQL,
+                new MapSqlParameterSource().addValue("query", query).addValue("limit", limit),
+                (resultSet, rowNum) -> new Match(resultSet.getLong("id"), resultSet.getFloat("similarity")));
+    }
+}
@@ -0,0 +1,318 @@
+package com.moneymate.documentationManagement.dataAccess.concretes;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.tr.ApostropheFilter;
+import org.apache.lucene.analysis.tr.TurkishAnalyzer;
+import org.apache.lucene.analysis.tr.TurkishLowerCaseFilter;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.MultiTerms;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherFactory;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.similarities.BM25Similarity;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import com.moneymate.documentationManagement.dataAccess.abstracts.DocumentSearchIndex;
+import com.moneymate.documentationManagement.entities.concretes.Document;
+
+/**
+ * Lucene dizini; dosyalar MMapDirectory ile belleğe eşlenir, okumalar işletim sisteminin sayfa önbelleğinden yapılır.
+ *
+ * Başlık, açıklama, kurum adı ve döküman tipi Türkçe kök bulma ile (TurkishAnalyzer) dizinlenir ve BM25 ile
+ * puanlanır. Aynı metin ayrıca köksüz ve aksansız ("şube" -> "sube") bir alanda tutulur; Türkçe klavyesiz
+ * yazılan sorgular ve yazarken arama için son kelimenin önek eşleşmesi bu alanda yapılır.
+ * Sonuçlar dizinde saklanan alanlardan oluşturulur, veritabanına gidilmez.
+ */
+@Repository
+public class LuceneDocumentSearchIndex implements DocumentSearchIndex, Closeable {
+
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String DESCRIPTION = "description";
+    private static final String INSTITUTION_NAME = "institutionName";
+    private static final String INSTITUTION_TYPE = "institutionType";
+    private static final String DOCUMENT_TYPE = "documentType";
+    private static final String FOLDED = "folded";
+    private static final String GENERATION = "generation";
+
+    // Başlıktaki eşleşme kurum adındakinden, kurum adındaki açıklamadakinden değerlidir
+    private static final Map<String, Float> FIELD_BOOSTS = orderedBoosts();
+    private static final float FOLDED_BOOST = 0.5f;
+
+    private final Analyzer wordAnalyzer = new FoldingAnalyzer(false);
+    private final Analyzer foldingAnalyzer = new FoldingAnalyzer(true);
+    private final Analyzer stemmingAnalyzer = new TurkishAnalyzer();
+    private final MMapDirectory directory;
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+    private final AtomicLong generation;
+
+    public LuceneDocumentSearchIndex(@Value("${search.index.directory:./data/search-index}") String directory)
+            throws IOException {
+        Path path = Path.of(directory).toAbsolutePath().normalize();
+        Files.createDirectories(path);
+        this.directory = new MMapDirectory(path);
+
+        IndexWriterConfig config = new IndexWriterConfig(
+                new PerFieldAnalyzerWrapper(stemmingAnalyzer, Map.of(FOLDED, foldingAnalyzer)))
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND)
+                .setSimilarity(new BM25Similarity());
+        this.indexWriter = new IndexWriter(this.directory, config);
+        this.searcherManager = new SearcherManager(indexWriter, new SearcherFactory() {
+            @Override
+            public IndexSearcher newSearcher(IndexReader reader, IndexReader previousReader) {
+                IndexSearcher searcher = new IndexSearcher(reader);
+                searcher.setSimilarity(new BM25Similarity());
+                return searcher;
+            }
+        });
+        this.generation = new AtomicLong(readGeneration(indexWriter));
+    }
+
+    @Override
+    public void upsert(Document document) throws IOException {
+        indexWriter.updateDocument(new Term(ID, document.getId().toString()), toIndexDocument(document, generation.get()));
+    }
+
+    @Override
+    public void delete(Long documentId) throws IOException {
+        indexWriter.deleteDocuments(new Term(ID, documentId.toString()));
+    }
+
+    @Override
+    public List<Hit> search(String query, int limit) throws IOException {
+        Query luceneQuery = buildQuery(query);
+        if (luceneQuery == null) {
+            return List.of();
+        }
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            TopDocs topDocs = searcher.search(luceneQuery, limit);
+            StoredFields storedFields = searcher.storedFields();
+            List<Hit> hits = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                hits.add(new Hit(toDocument(storedFields.document(scoreDoc.doc)), scoreDoc.score));
+            }
+            return hits;
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    // Dökümanlar okunmaz; id alanının terim sözlüğü sırayla gezilir
+    @Override
+    public List<Long> documentIds(Long afterId, int limit) throws IOException {
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            List<Long> ids = new ArrayList<>();
+            Terms terms = MultiTerms.getTerms(searcher.getIndexReader(), ID);
+            if (terms == null) {
+                return ids;
+            }
+            TermsEnum termsEnum = terms.iterator();
+            BytesRef term;
+            if (afterId == null) {
+                term = termsEnum.next();
+            } else {
+                TermsEnum.SeekStatus status = termsEnum.seekCeil(new BytesRef(afterId.toString()));
+                term = switch (status) {
+                    case FOUND -> termsEnum.next();
+                    case NOT_FOUND -> termsEnum.term();
+                    case END -> null;
+                };
+            }
+            while (term != null && ids.size() < limit) {
+                ids.add(Long.valueOf(term.utf8ToString()));
+                term = termsEnum.next();
+            }
+            return ids;
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    @Override
+    public void refresh() throws IOException {
+        searcherManager.maybeRefresh();
+    }
+
+    @Override
+    public long beginRebuild() {
+        return generation.incrementAndGet();
+    }
+
+    @Override
+    public void finishRebuild(long rebuildGeneration) throws IOException {
+        indexWriter.deleteDocuments(LongPoint.newRangeQuery(GENERATION, Long.MIN_VALUE, rebuildGeneration - 1));
+        commit();
+        searcherManager.maybeRefreshBlocking();
+    }
+
+    @Override
+    public void close() throws IOException {
+        searcherManager.close();
+        // Commit edilmemiş güncellemeler kapanışta yazılır; beklenmedik kapanışta açılıştaki yeniden oluşturma tamamlar
+        commit();
+        indexWriter.close();
+        directory.close();
+    }
+
+    private void commit() throws IOException {
+        indexWriter.setLiveCommitData(Map.of(GENERATION, Long.toString(generation.get())).entrySet());
+        indexWriter.commit();
+    }
+
+    /**
+     * Her kelime başlık, kurum adı, açıklama ya da tipte (kök ya da aksansız haliyle) geçmelidir.
+     * Son kelime henüz yazılıyor olabileceğinden önek olarak da eşleşir. Türkçe etkisiz kelimeler
+     * ("ve", "ile") son kelime değilse sorgudan çıkarılır.
+     */
+    private Query buildQuery(String text) throws IOException {
+        List<String> words = analyze(wordAnalyzer, FOLDED, text);
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        int clauses = 0;
+        for (int i = 0; i < words.size(); i++) {
+            boolean last = i == words.size() - 1;
+            List<String> stems = analyze(stemmingAnalyzer, TITLE, words.get(i));
+            if (stems.isEmpty() && !last) {
+                continue;
+            }
+            BooleanQuery.Builder word = new BooleanQuery.Builder();
+            for (String stem : stems) {
+                FIELD_BOOSTS.forEach((field, boost) ->
+                        word.add(new BoostQuery(new TermQuery(new Term(field, stem)), boost), BooleanClause.Occur.SHOULD));
+            }
+            for (String folded : analyze(foldingAnalyzer, FOLDED, words.get(i))) {
+                word.add(new BoostQuery(new TermQuery(new Term(FOLDED, folded)), FOLDED_BOOST), BooleanClause.Occur.SHOULD);
+                if (last) {
+                    word.add(new BoostQuery(new PrefixQuery(new Term(FOLDED, folded)), FOLDED_BOOST),
+                            BooleanClause.Occur.SHOULD);
+                }
+            }
+            query.add(word.build(), BooleanClause.Occur.MUST);
+            clauses++;
+        }
+        return clauses == 0 ? null : query.build();
+    }
+
+    private static org.apache.lucene.document.Document toIndexDocument(Document document, long generation) {
+        org.apache.lucene.document.Document indexDocument = new org.apache.lucene.document.Document();
+        indexDocument.add(new StringField(ID, document.getId().toString(), Field.Store.YES));
+        addText(indexDocument, TITLE, document.getTitle());
+        addText(indexDocument, DESCRIPTION, document.getDocumentDescription());
+        addText(indexDocument, INSTITUTION_NAME, document.getInstitutionName());
+        addText(indexDocument, DOCUMENT_TYPE, document.getDocumentType());
+        if (document.getInstitutionType() != null) {
+            indexDocument.add(new StoredField(INSTITUTION_TYPE, document.getInstitutionType()));
+        }
+        indexDocument.add(new LongPoint(GENERATION, generation));
+        return indexDocument;
+    }
+
+    private static void addText(org.apache.lucene.document.Document indexDocument, String field, String value) {
+        if (value != null) {
+            indexDocument.add(new TextField(field, value, Field.Store.YES));
+            indexDocument.add(new TextField(FOLDED, value, Field.Store.NO));
+        }
+    }
+
+    private static Document toDocument(org.apache.lucene.document.Document indexDocument) {
+        return Document.builder()
+                .id(Long.valueOf(indexDocument.get(ID)))
+                .title(indexDocument.get(TITLE))
+                .documentDescription(indexDocument.get(DESCRIPTION))
+                .institutionName(indexDocument.get(INSTITUTION_NAME))
+                .institutionType(indexDocument.get(INSTITUTION_TYPE))
+                .documentType(indexDocument.get(DOCUMENT_TYPE))
+                .build();
+    }
+
+    private static List<String> analyze(Analyzer analyzer, String field, String text) throws IOException {
+        List<String> terms = new ArrayList<>();
+        try (TokenStream tokenStream = analyzer.tokenStream(field, text)) {
+            CharTermAttribute term = tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            while (tokenStream.incrementToken()) {
+                terms.add(term.toString());
+            }
+            tokenStream.end();
+        }
+        return terms;
+    }
+
+    private static long readGeneration(IndexWriter indexWriter) {
+        Iterable<Map.Entry<String, String>> commitData = indexWriter.getLiveCommitData();
+        if (commitData != null) {
+            for (Map.Entry<String, String> entry : commitData) {
+                if (GENERATION.equals(entry.getKey())) {
+                    return Long.parseLong(entry.getValue());
+                }
+            }
+        }
+        return 0;
+    }
+
+    private static Map<String, Float> orderedBoosts() {
+        Map<String, Float> boosts = new LinkedHashMap<>();
+        boosts.put(TITLE, 3f);
+        boosts.put(INSTITUTION_NAME, 2f);
+        boosts.put(DESCRIPTION, 1f);
+        boosts.put(DOCUMENT_TYPE, 1f);
+        return boosts;
+    }
+
+    // Kök bulmadan küçük harfe çevirir (I -> ı, İ -> i); fold açıksa aksanları da kaldırır (ı -> i, ş -> s)
+    private static final class FoldingAnalyzer extends Analyzer {
+
+        private final boolean fold;
+
+        private FoldingAnalyzer(boolean fold) {
+            this.fold = fold;
+        }
+
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer tokenizer = new StandardTokenizer();
+            TokenStream tokenStream = new TurkishLowerCaseFilter(new ApostropheFilter(tokenizer));
+            return new TokenStreamComponents(tokenizer, fold ? new ASCIIFoldingFilter(tokenStream) : tokenStream);
+        }
+    }
+}
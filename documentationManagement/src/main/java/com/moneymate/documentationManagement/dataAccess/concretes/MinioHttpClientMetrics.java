@@ -0,0 +1,80 @@
+package com.moneymate.documentationManagement.dataAccess.concretes;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+
+/**
+ * MinIO istemcilerinin paylaştığı OkHttp havuzunun metrikleri.
+ * minio.http.connections (active/idle) ve minio.http.calls (running/queued) havuzun doluluğunu,
+ * minio.http.requests ise bağlantı alındıktan sonraki ağ süresini gösterir. minio.operations ile
+ * arasındaki fark bağlantı ya da dispatcher kuyruğunda beklenen süredir.
+ */
+public class MinioHttpClientMetrics implements MeterBinder, Interceptor {
+
+    private volatile MeterRegistry meterRegistry;
+    private OkHttpClient httpClient;
+
+    /**
+     * İstemciye ağ interceptor'ı olarak eklenip havuz ölçümü için istemciyi döner.
+     */
+    public OkHttpClient instrument(OkHttpClient.Builder builder) {
+        this.httpClient = builder.addNetworkInterceptor(this).build();
+        return httpClient;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        ConnectionPool connectionPool = httpClient.connectionPool();
+        Dispatcher dispatcher = httpClient.dispatcher();
+        Gauge.builder("minio.http.connections", connectionPool,
+                        pool -> pool.connectionCount() - pool.idleConnectionCount())
+                .tag("state", "active")
+                .description("Kullanımdaki MinIO bağlantıları")
+                .register(registry);
+        Gauge.builder("minio.http.connections", connectionPool, ConnectionPool::idleConnectionCount)
+                .tag("state", "idle")
+                .description("Havuzda bekleyen MinIO bağlantıları")
+                .register(registry);
+        Gauge.builder("minio.http.calls", dispatcher, Dispatcher::runningCallsCount)
+                .tag("state", "running")
+                .description("Çalışan MinIO istekleri")
+                .register(registry);
+        Gauge.builder("minio.http.calls", dispatcher, Dispatcher::queuedCallsCount)
+                .tag("state", "queued")
+                .description("Dispatcher sınırı nedeniyle sırada bekleyen MinIO istekleri")
+                .register(registry);
+        this.meterRegistry = registry;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        MeterRegistry registry = meterRegistry;
+        if (registry == null) {
+            return chain.proceed(chain.request());
+        }
+        long start = System.nanoTime();
+        String status = "IO_ERROR";
+        try {
+            Response response = chain.proceed(chain.request());
+            status = Integer.toString(response.code());
+            return response;
+        } finally {
+            Timer.builder("minio.http.requests")
+                    .description("MinIO HTTP isteklerinin ağ süresi (yanıt başlıklarına kadar)")
+                    .tag("method", chain.request().method())
+                    .tag("status", status)
+                    .register(registry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
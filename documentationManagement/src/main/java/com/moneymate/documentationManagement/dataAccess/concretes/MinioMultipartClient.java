@@ -0,0 +1,53 @@
+package com.moneymate.documentationManagement.dataAccess.concretes;
+
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Multimap;
+
+import io.minio.MinioAsyncClient;
+import io.minio.ObjectWriteResponse;
+import io.minio.messages.Part;
+
+/**
+ * MinioClient, S3 multipart upload adımlarını (create/uploadPart/complete/abort) public olarak sunmaz.
+ * Bu sınıf SDK'nın protected (deprecated olmayan) asenkron multipart metodlarını parça parça (resumable)
+ * yükleme için dışarı açar; çağıranlar sonucu bekler, SDK hataları CompletionException'dan çıkarılarak fırlatılır.
+ */
+public class MinioMultipartClient extends MinioAsyncClient {
+
+    public MinioMultipartClient(MinioAsyncClient client) {
+        super(client);
+    }
+
+    public String createMultipartUpload(String bucketName, String objectName, String contentType) throws Exception {
+        Multimap<String, String> headers = HashMultimap.create();
+        headers.put("Content-Type", contentType);
+        return await(createMultipartUploadAsync(bucketName, null, objectName, headers, null)).result().uploadId();
+    }
+
+    public String uploadPart(String bucketName, String objectName, String uploadId, int partNumber,
+                             InputStream inputStream, long size) throws Exception {
+        return await(uploadPartAsync(bucketName, null, objectName, inputStream, size, uploadId, partNumber, null, null))
+                .etag();
+    }
+
+    public ObjectWriteResponse completeMultipartUpload(String bucketName, String objectName, String uploadId,
+                                                       Part[] parts) throws Exception {
+        return await(completeMultipartUploadAsync(bucketName, null, objectName, uploadId, parts, null, null));
+    }
+
+    public void abortMultipartUpload(String bucketName, String objectName, String uploadId) throws Exception {
+        await(abortMultipartUploadAsync(bucketName, null, objectName, uploadId, null, null));
+    }
+
+    private static <T> T await(CompletableFuture<T> future) throws Exception {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+}
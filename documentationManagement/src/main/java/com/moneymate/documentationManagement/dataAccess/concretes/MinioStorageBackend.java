@@ -0,0 +1,269 @@
+package com.moneymate.documentationManagement.dataAccess.concretes;
+
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.moneymate.documentationManagement.dataAccess.abstracts.StorageBackend;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.minio.BucketExistsArgs;
+import io.minio.GetObjectArgs;
+import io.minio.GetPresignedObjectUrlArgs;
+import io.minio.ListObjectsArgs;
+import io.minio.MakeBucketArgs;
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+import io.minio.RemoveObjectArgs;
+import io.minio.Result;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+import io.minio.http.Method;
+import io.minio.messages.Item;
+import io.minio.messages.Part;
+
+/**
+ * MinIO (S3) depolama implementasyonu.
+ * Metrik kaydı bağlandığında her işlemin süresi minio.operations (operation, outcome) olarak ölçülür;
+ * bu süre bağlantı havuzunda bekleme dahil istemcinin gördüğü süredir (bkz. MinioHttpClientMetrics).
+ * Timer'lar bağlanırken her işlem ve sonuç için bir kez oluşturulur; işlem sırasında kayıt defterine gidilmez.
+ */
+public class MinioStorageBackend implements StorageBackend, MeterBinder {
+
+    // MinIO multipart yüklemede izin verilen en küçük parça boyutu 5MB'dır
+    private static final long STREAM_PART_SIZE = 10 * 1024 * 1024;
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+    private static final List<String> OPERATIONS = List.of("put", "get", "remove", "stat", "presign",
+            "bucketExists", "makeBucket", "createMultipart", "uploadPart", "completeMultipart", "abortMultipart");
+
+    private final MinioClient minioClient;
+    private final MinioMultipartClient multipartClient;
+    private final String bucketName;
+    private volatile OperationMeters meters;
+
+    public MinioStorageBackend(MinioClient minioClient, MinioMultipartClient multipartClient, String bucketName) {
+        this.minioClient = minioClient;
+        this.multipartClient = multipartClient;
+        this.bucketName = bucketName;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Map<String, OperationTimers> timers = new HashMap<>();
+        for (String operation : OPERATIONS) {
+            timers.put(operation, new OperationTimers(timer(registry, operation, "success"),
+                    timer(registry, operation, "error")));
+        }
+        this.meters = new OperationMeters(registry.config().clock(), Map.copyOf(timers));
+    }
+
+    @Override
+    public void putObject(String objectName, InputStream inputStream, long size, String contentType) throws Exception {
+        createBucketIfNotExists();
+
+        // Boyut bilinmiyorsa SDK, stream'i STREAM_PART_SIZE'lık parçalar halinde multipart olarak yükler
+        timed("put", () -> minioClient.putObject(
+                PutObjectArgs.builder()
+                        .bucket(bucketName)
+                        .object(objectName)
+                        .stream(inputStream, size, size < 0 ? STREAM_PART_SIZE : -1)
+                        .contentType(contentType != null ? contentType : DEFAULT_CONTENT_TYPE)
+                        .build()
+        ));
+    }
+
+    @Override
+    public InputStream getObject(String objectName) throws Exception {
+        // Süre yanıt başlıkları gelene kadardır; gövdenin okunması çağıran tarafa aittir
+        return timed("get", () -> minioClient.getObject(
+                GetObjectArgs.builder()
+                        .bucket(bucketName)
+                        .object(objectName)
+                        .build()
+        ));
+    }
+
+    @Override
+    public void removeObject(String objectName) throws Exception {
+        timed("remove", () -> {
+            minioClient.removeObject(
+                    RemoveObjectArgs.builder()
+                            .bucket(bucketName)
+                            .object(objectName)
+                            .build()
+            );
+            return null;
+        });
+    }
+
+    @Override
+    public Stream<ObjectInfo> listObjects() throws Exception {
+        createBucketIfNotExists();
+        // SDK sonuçları sayfa sayfa (1000'er) çeker; stream tüketildikçe bir sonraki sayfa istenir
+        Iterable<Result<Item>> results = minioClient.listObjects(
+                ListObjectsArgs.builder()
+                        .bucket(bucketName)
+                        .recursive(true)
+                        .build()
+        );
+        return StreamSupport.stream(results.spliterator(), false)
+                .map(result -> {
+                    try {
+                        return result.get();
+                    } catch (Exception e) {
+                        throw new IllegalStateException("Nesne listesi okunamadı: " + e.getMessage(), e);
+                    }
+                })
+                .filter(item -> !item.isDir())
+                .map(item -> new ObjectInfo(item.objectName(), item.size(),
+                        item.lastModified() != null ? item.lastModified().toInstant() : null));
+    }
+
+    @Override
+    public ObjectStat statObject(String objectName) throws Exception {
+        StatObjectResponse stat = timed("stat", () -> minioClient.statObject(
+                StatObjectArgs.builder()
+                        .bucket(bucketName)
+                        .object(objectName)
+                        .build()
+        ));
+        return new ObjectStat(stat.size(), stat.etag(), stat.contentType());
+    }
+
+    @Override
+    public long transferTo(String objectName, long offset, long length, WritableByteChannel target) throws Exception {
+        // Sadece istenen aralık MinIO'dan okunur (HTTP Range ile GET)
+        try (InputStream inputStream = timed("get", () -> minioClient.getObject(
+                GetObjectArgs.builder()
+                        .bucket(bucketName)
+                        .object(objectName)
+                        .offset(offset)
+                        .length(length)
+                        .build()))) {
+            return inputStream.transferTo(Channels.newOutputStream(target));
+        }
+    }
+
+    @Override
+    public String getPresignedUrl(String objectName, int expirySeconds, String contentEncoding) throws Exception {
+        GetPresignedObjectUrlArgs.Builder args = GetPresignedObjectUrlArgs.builder()
+                .method(Method.GET)
+                .bucket(bucketName)
+                .object(objectName)
+                .expiry(expirySeconds);
+        if (contentEncoding != null) {
+            // Tarayıcı içeriği URL'den indirirken kendisi açar
+            args.extraQueryParams(Map.of("response-content-encoding", contentEncoding));
+        }
+        return timed("presign", () -> minioClient.getPresignedObjectUrl(args.build()));
+    }
+
+    @Override
+    public String getPresignedUploadUrl(String objectName, int expirySeconds, String sha256) throws Exception {
+        createBucketIfNotExists();
+        // Başlık imzalı başlıklara (X-Amz-SignedHeaders) eklenir: istemci başka bir özet gönderemez,
+        // MinIO da gövdenin özetini bu değerle karşılaştırıp uyuşmayan yüklemeyi reddeder
+        return timed("presign", () -> minioClient.getPresignedObjectUrl(
+                GetPresignedObjectUrlArgs.builder()
+                        .method(Method.PUT)
+                        .bucket(bucketName)
+                        .object(objectName)
+                        .expiry(expirySeconds)
+                        .extraHeaders(StorageBackend.checksumHeaders(sha256))
+                        .build()
+        ));
+    }
+
+    @Override
+    public String createMultipartUpload(String objectName, String contentType) throws Exception {
+        createBucketIfNotExists();
+        return timed("createMultipart", () -> multipartClient.createMultipartUpload(bucketName, objectName,
+                contentType != null ? contentType : DEFAULT_CONTENT_TYPE));
+    }
+
+    @Override
+    public String uploadPart(String objectName, String uploadId, int partNumber, InputStream inputStream,
+                             long size) throws Exception {
+        return timed("uploadPart", () -> multipartClient.uploadPart(bucketName, objectName, uploadId, partNumber,
+                inputStream, size));
+    }
+
+    @Override
+    public void completeMultipartUpload(String objectName, String uploadId, List<CompletedPart> parts) throws Exception {
+        Part[] minioParts = parts.stream()
+                .sorted(Comparator.comparingInt(CompletedPart::partNumber))
+                .map(part -> new Part(part.partNumber(), part.etag()))
+                .toArray(Part[]::new);
+        timed("completeMultipart", () -> multipartClient.completeMultipartUpload(bucketName, objectName, uploadId,
+                minioParts));
+    }
+
+    @Override
+    public void abortMultipartUpload(String objectName, String uploadId) throws Exception {
+        timed("abortMultipart", () -> {
+            multipartClient.abortMultipartUpload(bucketName, objectName, uploadId);
+            return null;
+        });
+    }
+
+    private void createBucketIfNotExists() throws Exception {
+        boolean bucketExists = timed("bucketExists", () -> minioClient.bucketExists(
+                BucketExistsArgs.builder()
+                        .bucket(bucketName)
+                        .build()
+        ));
+
+        if (!bucketExists) {
+            timed("makeBucket", () -> {
+                minioClient.makeBucket(
+                        MakeBucketArgs.builder()
+                                .bucket(bucketName)
+                                .build()
+                );
+                return null;
+            });
+        }
+    }
+
+    private <T> T timed(String operation, Callable<T> call) throws Exception {
+        OperationMeters operationMeters = meters;
+        if (operationMeters == null) {
+            return call.call();
+        }
+        OperationTimers timers = operationMeters.timers().get(operation);
+        Timer.Sample sample = Timer.start(operationMeters.clock());
+        boolean success = false;
+        try {
+            T result = call.call();
+            success = true;
+            return result;
+        } finally {
+            sample.stop(success ? timers.success() : timers.error());
+        }
+    }
+
+    private static Timer timer(MeterRegistry registry, String operation, String outcome) {
+        return Timer.builder("minio.operations")
+                .description("MinIO işlem süresi (bağlantı bekleme dahil)")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+    }
+
+    private record OperationTimers(Timer success, Timer error) {
+    }
+
+    private record OperationMeters(Clock clock, Map<String, OperationTimers> timers) {
+    }
+}
@@ -0,0 +1,176 @@
+package com.moneymate.documentationManagement.dataAccess.concretes;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.moneymate.documentationManagement.dataAccess.abstracts.StorageBackend;
+import com.moneymate.documentationManagement.dataAccess.abstracts.StorageBackend.CompletedPart;
+
+/**
+ * Büyük dosyaları sabit boyutlu parçalara bölüp parçaları paylaşılan bir executor üzerinden eşzamanlı yükler.
+ * Stream tek thread'de sıralı okunur (böylece çağıran taraf SHA-256 gibi özetleri tek geçişte hesaplayabilir),
+ * okunan her parça ayrı bir bağlantı üzerinden gönderilir.
+ *
+ * Bellekte aynı anda en fazla maxBufferedParts parça tutulur; bu sınır tüm yüklemeler arasında ortaktır.
+ */
+public class ParallelMultipartUploader {
+
+    // S3 kuralları: son parça hariç her parça en az 5MB, en fazla 10000 parça
+    private static final long MIN_PART_SIZE = 5 * 1024 * 1024;
+    private static final int MAX_PART_COUNT = 10_000;
+
+    private final StorageBackend storageBackend;
+    private final ExecutorService executor;
+    private final int partSize;
+    private final Semaphore bufferPermits;
+
+    public ParallelMultipartUploader(StorageBackend storageBackend, ExecutorService executor, int partSize,
+                                     int maxBufferedParts) {
+        if (partSize < MIN_PART_SIZE) {
+            throw new IllegalArgumentException("Parça boyutu en az 5MB olmalıdır");
+        }
+        if (maxBufferedParts < 1) {
+            throw new IllegalArgumentException("En az bir parça tamponlanabilmelidir");
+        }
+        this.storageBackend = storageBackend;
+        this.executor = executor;
+        this.partSize = partSize;
+        this.bufferPermits = new Semaphore(maxBufferedParts, true);
+    }
+
+    /**
+     * Stream'i nesne olarak yükler ve yüklenen bayt sayısını döner.
+     * Boyutu bilinen ve tek parçaya sığan dosyalar doğrudan putObject ile, diğerleri multipart olarak yüklenir.
+     */
+    public long upload(String objectName, InputStream inputStream, long size, String contentType) throws Exception {
+        if (size >= 0 && size <= partSize) {
+            storageBackend.putObject(objectName, inputStream, size, contentType);
+            return size;
+        }
+
+        bufferPermits.acquire();
+        byte[] buffer;
+        try {
+            buffer = inputStream.readNBytes(partSize);
+        } catch (Exception e) {
+            bufferPermits.release();
+            throw e;
+        }
+        if (buffer.length < partSize) {
+            // Boyutu bilinmeyen stream tek parçaya sığdı; multipart oturumu açmaya gerek yok
+            try {
+                storageBackend.putObject(objectName, new ByteArrayInputStream(buffer), buffer.length, contentType);
+                return buffer.length;
+            } finally {
+                bufferPermits.release();
+            }
+        }
+
+        String uploadId;
+        try {
+            uploadId = storageBackend.createMultipartUpload(objectName, contentType);
+        } catch (Exception e) {
+            bufferPermits.release();
+            throw e;
+        }
+
+        AtomicBoolean aborted = new AtomicBoolean(false);
+        List<Future<CompletedPart>> futures = new ArrayList<>();
+        long total = 0;
+        try {
+            int partNumber = 1;
+            while (true) {
+                if (partNumber > MAX_PART_COUNT) {
+                    bufferPermits.release();
+                    throw new IllegalStateException("Dosya en fazla " + MAX_PART_COUNT + " parçaya bölünebilir");
+                }
+                total += buffer.length;
+                futures.add(submitPart(objectName, uploadId, partNumber++, buffer, aborted));
+                failFast(futures);
+
+                bufferPermits.acquire();
+                try {
+                    buffer = inputStream.readNBytes(partSize);
+                } catch (Exception e) {
+                    bufferPermits.release();
+                    throw e;
+                }
+                if (buffer.length == 0) {
+                    bufferPermits.release();
+                    break;
+                }
+            }
+
+            List<CompletedPart> parts = new ArrayList<>(futures.size());
+            for (Future<CompletedPart> future : futures) {
+                parts.add(await(future));
+            }
+            storageBackend.completeMultipartUpload(objectName, uploadId, parts);
+            return total;
+        } catch (Exception e) {
+            // Kuyruktaki parçalar yüklenmeden biter; tamponlar serbest kalmadan oturum kapatılmaz
+            aborted.set(true);
+            for (Future<CompletedPart> future : futures) {
+                try {
+                    future.get();
+                } catch (Exception ignored) {
+                    // Asıl hata yukarı fırlatılıyor
+                }
+            }
+            try {
+                storageBackend.abortMultipartUpload(objectName, uploadId);
+            } catch (Exception abortException) {
+                e.addSuppressed(abortException);
+            }
+            throw e;
+        }
+    }
+
+    private Future<CompletedPart> submitPart(String objectName, String uploadId, int partNumber, byte[] buffer,
+                                             AtomicBoolean aborted) {
+        try {
+            return executor.submit(() -> {
+                try {
+                    if (aborted.get()) {
+                        throw new IllegalStateException("Yükleme iptal edildi");
+                    }
+                    String etag = storageBackend.uploadPart(objectName, uploadId, partNumber,
+                            new ByteArrayInputStream(buffer), buffer.length);
+                    return new CompletedPart(partNumber, etag);
+                } finally {
+                    bufferPermits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            bufferPermits.release();
+            throw e;
+        }
+    }
+
+    // Başarısız olan bir parça varsa stream'in geri kalanını okumadan yüklemeyi sonlandır
+    private void failFast(List<Future<CompletedPart>> futures) throws Exception {
+        for (Future<CompletedPart> future : futures) {
+            if (future.isDone()) {
+                await(future);
+            }
+        }
+    }
+
+    private CompletedPart await(Future<CompletedPart> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
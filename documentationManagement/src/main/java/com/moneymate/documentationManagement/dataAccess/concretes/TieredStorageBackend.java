@@ -0,0 +1,161 @@
+package com.moneymate.documentationManagement.dataAccess.concretes;
+
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.moneymate.documentationManagement.dataAccess.abstracts.StorageBackend;
+import com.moneymate.documentationManagement.entities.concretes.Document.StorageTier;
+
+/**
+ * Sıcak (ana) ve arşiv depolamasını tek bir backend olarak sunar.
+ * Yazmalar her zaman sıcak katmana gider; okumalar nesnenin kayıtlı katmanına yönlendirilir.
+ * Katman bilgisi nesne adına göre önbellekte tutulur. Nesne taşınırken okunursa (kayıtlı katmanda bulunamazsa)
+ * diğer katman denenir.
+ */
+public class TieredStorageBackend implements StorageBackend {
+
+    private final StorageBackend hot;
+    private final StorageBackend archive;
+    private final LoadingCache<String, StorageTier> tierCache;
+
+    public TieredStorageBackend(StorageBackend hot, StorageBackend archive, Function<String, StorageTier> tierLookup,
+                                long tierCacheSize) {
+        this.hot = hot;
+        this.archive = archive;
+        // Başka bir uygulama örneğinin taşıdığı nesneler en geç bu sürede fark edilir; arada geri dönüş devreye girer
+        this.tierCache = Caffeine.newBuilder()
+                .maximumSize(tierCacheSize)
+                .expireAfterWrite(Duration.ofMinutes(10))
+                .build(tierLookup::apply);
+    }
+
+    public StorageBackend getBackend(StorageTier tier) {
+        return tier == StorageTier.ARCHIVE ? archive : hot;
+    }
+
+    /**
+     * Nesne taşındıktan sonra çağrılır; sonraki okumalar kayıtlı katmanı yeniden sorgular.
+     */
+    public void evict(String objectName) {
+        tierCache.invalidate(objectName);
+    }
+
+    @Override
+    public InputStream getObject(String objectName) throws Exception {
+        return read(objectName, backend -> backend.getObject(objectName));
+    }
+
+    @Override
+    public ObjectStat statObject(String objectName) throws Exception {
+        return read(objectName, backend -> backend.statObject(objectName));
+    }
+
+    @Override
+    public ObjectStat statObjectUncached(String objectName) throws Exception {
+        return read(objectName, backend -> backend.statObjectUncached(objectName));
+    }
+
+    @Override
+    public long transferTo(String objectName, long offset, long length, WritableByteChannel target) throws Exception {
+        // Bulunamayan nesne hedefe bayt yazılmadan hata verir; geri dönüş yinelenen içerik üretmez
+        return read(objectName, backend -> backend.transferTo(objectName, offset, length, target));
+    }
+
+    // Nesnenin katmanı URL üretilirken bilinmeyebilir; iki katman da imzalayabiliyorsa imzalı URL verilir
+    @Override
+    public boolean supportsPresignedUrls() {
+        return hot.supportsPresignedUrls() && archive.supportsPresignedUrls();
+    }
+
+    // Doğrudan yüklemeler sıcak katmana yapılır
+    @Override
+    public boolean supportsDirectUpload() {
+        return hot.supportsDirectUpload();
+    }
+
+    @Override
+    public String getPresignedUrl(String objectName, int expirySeconds, String contentEncoding) throws Exception {
+        return backendFor(objectName).getPresignedUrl(objectName, expirySeconds, contentEncoding);
+    }
+
+    @Override
+    public void removeObject(String objectName) throws Exception {
+        // Silme her iki katmanda da idempotent; taşıma sırasında silinen nesnenin kopyası kalmaz
+        hot.removeObject(objectName);
+        archive.removeObject(objectName);
+        tierCache.invalidate(objectName);
+    }
+
+    @Override
+    public Stream<ObjectInfo> listObjects() throws Exception {
+        Stream<ObjectInfo> hotObjects = hot.listObjects();
+        try {
+            return Stream.concat(hotObjects, archive.listObjects());
+        } catch (Exception e) {
+            hotObjects.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public void putObject(String objectName, InputStream inputStream, long size, String contentType) throws Exception {
+        hot.putObject(objectName, inputStream, size, contentType);
+    }
+
+    @Override
+    public String getPresignedUploadUrl(String objectName, int expirySeconds, String sha256) throws Exception {
+        return hot.getPresignedUploadUrl(objectName, expirySeconds, sha256);
+    }
+
+    @Override
+    public String createMultipartUpload(String objectName, String contentType) throws Exception {
+        return hot.createMultipartUpload(objectName, contentType);
+    }
+
+    @Override
+    public String uploadPart(String objectName, String uploadId, int partNumber, InputStream inputStream,
+                             long size) throws Exception {
+        return hot.uploadPart(objectName, uploadId, partNumber, inputStream, size);
+    }
+
+    @Override
+    public void completeMultipartUpload(String objectName, String uploadId, List<CompletedPart> parts) throws Exception {
+        hot.completeMultipartUpload(objectName, uploadId, parts);
+    }
+
+    @Override
+    public void abortMultipartUpload(String objectName, String uploadId) throws Exception {
+        hot.abortMultipartUpload(objectName, uploadId);
+    }
+
+    private StorageBackend backendFor(String objectName) {
+        return getBackend(tierCache.get(objectName));
+    }
+
+    private <T> T read(String objectName, Read<T> read) throws Exception {
+        StorageBackend primary = backendFor(objectName);
+        try {
+            return read.apply(primary);
+        } catch (Exception e) {
+            try {
+                T result = read.apply(primary == hot ? archive : hot);
+                tierCache.invalidate(objectName);
+                return result;
+            } catch (Exception fallbackException) {
+                e.addSuppressed(fallbackException);
+                throw e;
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Read<T> {
+        T apply(StorageBackend backend) throws Exception;
+    }
+}
@@ -0,0 +1,83 @@
+package com.moneymate.documentationManagement.entities.concretes;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * İstemcinin imzalı PUT URL'i ile doğrudan depolamaya yüklediği dosyanın kaydı.
+ * Sadece bu kayıtla verilen nesne adları onaylanabilir; döküman onay sırasında oluşturulur.
+ */
+@Entity
+@Table(name = "direct_uploads")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DirectUpload {
+
+    public enum Status {
+        PENDING, COMPLETED, EXPIRED
+    }
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "object_name", nullable = false)
+    private String objectName;
+
+    @Column(name = "original_file_name")
+    private String originalFileName;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    @Column(name = "expected_size")
+    private Long expectedSize;
+
+    // İstemcinin bildirdiği SHA-256 özeti (hex); depolama yüklenen içeriği bu özetle doğrular
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    // İmzalı URL saklanmaz, sadece oturum başlatılırken istemciye döner
+    @Transient
+    private String uploadUrl;
+
+    // İstemcinin PUT isteğinde göndermesi gereken imzalı başlıklar
+    @Transient
+    private Map<String, String> uploadHeaders;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "update_at")
+    private LocalDateTime updateAt;
+
+    @PrePersist
+    public void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+        if (updateAt == null) {
+            updateAt = LocalDateTime.now();
+        }
+    }
+
+    @PreUpdate
+    public void onUpdate() {
+        updateAt = LocalDateTime.now();
+    }
+}
@@ -1,5 +1,7 @@
 package com.moneymate.documentationManagement.entities.concretes;
 
+import com.moneymate.documentationManagement.core.utilities.io.StorageCodec;
+
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -16,6 +18,15 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class Document {
 
+    public enum ThumbnailStatus {
+        READY, UNSUPPORTED, FAILED
+    }
+
+    // HOT: ana bucket, ARCHIVE: uzun süre erişilmeyen nesnelerin taşındığı arşiv bucket'ı
+    public enum StorageTier {
+        HOT, ARCHIVE
+    }
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -50,9 +61,45 @@ public class Document {
     @Column(name = "file_size")
     private String fileSize;
 
-    @Column(name = "file_url", nullable = false, length = 1500)
+    // Presigned URL saklanmaz; döküman okunurken minioFileName'den üretilir (bkz. FileUrlService)
+    @Transient
     private String fileUrl;
 
+    // Dosya içeriğinin SHA-256 özeti (aynı içerikli dökümanlar tek nesneyi paylaşır)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // Orijinal içeriğin CRC32C sağlama toplamı (hex); SHA-256 ile aynı geçişte hesaplanır, indirilen dosya
+    // tek okumada doğrulanabilir. İçerik uygulamadan geçmeyen doğrudan yüklemelerde boştur
+    @Column(name = "crc32c", length = 8)
+    private String crc32c;
+
+    // Nesnenin depolamada sıkıştırılma biçimi (null: olduğu gibi saklanır); okuma sırasında açılır
+    @Enumerated(EnumType.STRING)
+    @Column(name = "storage_codec", length = 16)
+    private StorageCodec storageCodec;
+
+    // Önizleme (ilk sayfa küçük resmi) durumu; null: henüz işlenmedi
+    @Enumerated(EnumType.STRING)
+    @Column(name = "thumbnail_status", length = 16)
+    private ThumbnailStatus thumbnailStatus;
+
+    // Nesnenin bulunduğu depolama katmanı; null: HOT. Aynı nesneyi paylaşan dökümanlar birlikte taşınır
+    @Enumerated(EnumType.STRING)
+    @Column(name = "storage_tier", length = 16)
+    private StorageTier storageTier;
+
+    // İçeriğin ya da detayın son okunduğu zaman (günde en fazla bir kez güncellenir); null: hiç okunmadı
+    @Column(name = "last_accessed_at")
+    private LocalDateTime lastAccessedAt;
+
+    public Document(String title, String minioFileName, String institutionName, String institutionType,
+                    String institutionUrl, String documentType, String documentDescription,
+                    String fileSize) {
+        this(title, minioFileName, institutionName, institutionType, institutionUrl, documentType,
+                documentDescription, fileSize, null);
+    }
+
     public Document(String title, String minioFileName,String institutionName, String institutionType,
                     String institutionUrl, String documentType, String documentDescription,
                     String fileSize, String fileUrl) {
@@ -0,0 +1,64 @@
+package com.moneymate.documentationManagement.entities.concretes;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * Dökümandan çıkarılan düz metin. Liste sorguları metni yüklemesin diye ayrı tabloda tutulur;
+ * satırın varlığı dökümanın işlendiğini gösterir (desteklenmeyen ya da hatalı dosyalarda içerik boştur).
+ */
+@Entity
+@Table(name = "document_texts")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentText {
+
+    public enum Status {
+        EXTRACTED, UNSUPPORTED, FAILED
+    }
+
+    @Id
+    @Column(name = "document_id")
+    private Long documentId;
+
+    // Döküman silindiğinde metni de veritabanı tarafından silinir
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "document_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Document document;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    // Metin max-chars sınırında kesildiyse true
+    @Column(nullable = false)
+    private boolean truncated;
+
+    @Column(name = "extracted_at")
+    private LocalDateTime extractedAt;
+
+    @PrePersist
+    @PreUpdate
+    public void onSave() {
+        extractedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,95 @@
+package com.moneymate.documentationManagement.entities.concretes;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Bir dizinden ya da tar arşivinden yapılan toplu içe aktarım. Kaynaktaki dosyalar sabit bir sırayla işlenir;
+ * checkpointIndex, dökümanları veritabanına yazılmış son dosyanın sıra numarasıdır ve döküman batch'i ile aynı
+ * transaction'da güncellenir. Yarıda kalan iş devam ettirildiğinde bu numaraya kadar olan dosyalar atlanır.
+ */
+@Entity
+@Table(name = "import_jobs")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJob {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED, INTERRUPTED;
+
+        public boolean isFinished() {
+            return this == COMPLETED || this == FAILED || this == INTERRUPTED;
+        }
+    }
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(nullable = false, length = 1000)
+    private String source;
+
+    @Column(length = 1000)
+    private String manifest;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    @Column(name = "checkpoint_index")
+    private long checkpointIndex;
+
+    @Column(name = "processed_files")
+    private long processedFiles;
+
+    @Column(name = "imported_files")
+    private long importedFiles;
+
+    @Column(name = "failed_files")
+    private long failedFiles;
+
+    @Column(name = "imported_bytes")
+    private long importedBytes;
+
+    // Tüm çalışmalarda geçen toplam süre; hız hesabında kullanılır
+    @Column(name = "active_millis")
+    private long activeMillis;
+
+    @Column(length = 1000)
+    private String message;
+
+    // İşi çalıştıran uygulama örneği (app.instance-id); yeniden başlatmada yalnızca kendi işleri temizlenir
+    @Column(name = "owner_instance")
+    private String ownerInstance;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "update_at")
+    private LocalDateTime updateAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @PrePersist
+    public void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+        if (updateAt == null) {
+            updateAt = LocalDateTime.now();
+        }
+    }
+
+    @PreUpdate
+    public void onUpdate() {
+        updateAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,56 @@
+package com.moneymate.documentationManagement.entities.concretes;
+
+import com.moneymate.documentationManagement.core.utilities.io.StorageCodec;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Depolamadaki tek bir fiziksel nesne. Aynı içeriğe (SHA-256) sahip dökümanlar
+ * bu nesneyi paylaşır; referenceCount sıfıra düştüğünde nesne silinir.
+ */
+@Entity
+@Table(name = "stored_objects")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoredObject {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String sha256;
+
+    @Column(name = "object_name", nullable = false, unique = true)
+    private String objectName;
+
+    // Sıkıştırılmamış (orijinal) boyut
+    @Column(nullable = false)
+    private Long size;
+
+    // Nesne sıkıştırılarak saklandıysa codec'i; aynı içerikle gelen dökümanlar bunu devralır
+    @Enumerated(EnumType.STRING)
+    @Column(name = "storage_codec", length = 16)
+    private StorageCodec storageCodec;
+
+    @Column(name = "reference_count", nullable = false)
+    private Integer referenceCount;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
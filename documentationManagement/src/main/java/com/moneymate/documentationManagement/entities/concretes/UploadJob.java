@@ -0,0 +1,71 @@
+package com.moneymate.documentationManagement.entities.concretes;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Arka planda çalışan asenkron yükleme işi. İstemci iş id'si ile durumu sorgular.
+ */
+@Entity
+@Table(name = "upload_jobs")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadJob {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED;
+
+        public boolean isFinished() {
+            return this == COMPLETED || this == FAILED;
+        }
+    }
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    @Column(name = "original_file_name")
+    private String originalFileName;
+
+    @Column(name = "document_id")
+    private Long documentId;
+
+    @Column(length = 1000)
+    private String message;
+
+    // İşi çalıştıran uygulama örneği (app.instance-id); yeniden başlatmada yalnızca kendi işleri temizlenir
+    @Column(name = "owner_instance")
+    private String ownerInstance;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "update_at")
+    private LocalDateTime updateAt;
+
+    @PrePersist
+    public void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+        if (updateAt == null) {
+            updateAt = LocalDateTime.now();
+        }
+    }
+
+    @PreUpdate
+    public void onUpdate() {
+        updateAt = LocalDateTime.now();
+    }
+}
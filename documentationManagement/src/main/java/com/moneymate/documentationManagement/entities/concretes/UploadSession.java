@@ -0,0 +1,91 @@
+package com.moneymate.documentationManagement.entities.concretes;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Parça parça (resumable) yüklenen bir dosyanın oturumu.
+ * Döküman metadata'sı oturum başlatılırken alınır, yükleme tamamlanınca Document oluşturulur.
+ */
+@Entity
+@Table(name = "upload_sessions")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSession {
+
+    public enum Status {
+        ACTIVE, COMPLETED, ABORTED
+    }
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @JsonIgnore
+    @Column(name = "storage_upload_id", nullable = false, length = 1024)
+    private String storageUploadId;
+
+    @Column(name = "object_name", nullable = false)
+    private String objectName;
+
+    @Column(name = "original_file_name")
+    private String originalFileName;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(name = "institution_name", nullable = false)
+    private String institutionName;
+
+    @Column(name = "institution_type", nullable = false)
+    private String institutionType;
+
+    @Column(name = "institution_url")
+    private String institutionUrl;
+
+    @Column(name = "document_type", nullable = false)
+    private String documentType;
+
+    @Column(name = "document_description", columnDefinition = "TEXT")
+    private String documentDescription;
+
+    @Column(name = "part_size", nullable = false)
+    private Long partSize;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "update_at")
+    private LocalDateTime updateAt;
+
+    @PrePersist
+    public void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+        if (updateAt == null) {
+            updateAt = LocalDateTime.now();
+        }
+    }
+
+    @PreUpdate
+    public void onUpdate() {
+        updateAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,44 @@
+package com.moneymate.documentationManagement.entities.concretes;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "upload_session_parts",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"session_id", "part_number"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSessionPart {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "session_id", nullable = false, length = 36)
+    private String sessionId;
+
+    @Column(name = "part_number", nullable = false)
+    private Integer partNumber;
+
+    @Column(nullable = false)
+    private String etag;
+
+    @Column(nullable = false)
+    private Long size;
+
+    @Column(name = "upload_at")
+    private LocalDateTime uploadAt;
+
+    @PrePersist
+    @PreUpdate
+    public void onUpload() {
+        uploadAt = LocalDateTime.now();
+    }
+}
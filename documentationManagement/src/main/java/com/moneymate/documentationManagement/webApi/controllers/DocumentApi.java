@@ -3,9 +3,28 @@ package com.moneymate.documentationManagement.webApi.controllers;
 import static com.moneymate.documentationManagement.core.utilities.exceptions.ResponseEntityBuilder.fromDataResult;
 import static com.moneymate.documentationManagement.core.utilities.exceptions.ResponseEntityBuilder.fromResult;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
+import org.apache.commons.fileupload2.core.DiskFileItem;
+import org.apache.commons.fileupload2.core.DiskFileItemFactory;
+import org.apache.commons.fileupload2.core.FileItemInput;
+import org.apache.commons.fileupload2.core.FileItemInputIterator;
+import org.apache.commons.fileupload2.jakarta.servlet6.JakartaServletFileUpload;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -15,19 +34,35 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.moneymate.documentationManagement.business.abstracts.ChunkedUploadService;
+import com.moneymate.documentationManagement.business.abstracts.DirectUploadService;
+import com.moneymate.documentationManagement.business.abstracts.DocumentExportService;
 import com.moneymate.documentationManagement.business.abstracts.DocumentService;
 import com.moneymate.documentationManagement.business.abstracts.FileUploadService;
+import com.moneymate.documentationManagement.business.abstracts.UploadJobService;
+import com.moneymate.documentationManagement.business.requests.BatchUploadItemRequest;
+import com.moneymate.documentationManagement.business.requests.DocumentExportRequest;
 import com.moneymate.documentationManagement.business.requests.DocumentUpdateRequest;
+import com.moneymate.documentationManagement.core.utilities.exceptions.BusinessException;
 import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
 import com.moneymate.documentationManagement.core.utilities.exceptions.Results.ErrorDataResult;
+import com.moneymate.documentationManagement.core.utilities.io.FileNames;
+import com.moneymate.documentationManagement.dataAccess.abstracts.StorageBackend.ObjectStat;
 import com.moneymate.documentationManagement.entities.concretes.Document;
+import com.moneymate.documentationManagement.entities.concretes.UploadJob;
+import com.moneymate.documentationManagement.entities.concretes.UploadSessionPart;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.AllArgsConstructor;
 
 @RestController
@@ -37,13 +72,26 @@ import lombok.AllArgsConstructor;
 @Tag(name = "Document Management", description = "Döküman yönetimi API'leri")
 public class DocumentApi {
     
+    private static final long STREAM_MAX_FILE_SIZE = 10 * 1024 * 1024;
+    private static final List<String> STREAM_METADATA_FIELDS = List.of(
+            "title", "institutionName", "institutionType", "institutionUrl", "documentType", "documentDescription");
+    private static final long JOB_MAX_WAIT_SECONDS = 60;
+    // Nesne adları UUID olduğundan bir nesnenin içeriği hiç değişmez; tarayıcı bir yıl boyunca yeniden doğrulamaz
+    private static final CacheControl CONTENT_CACHE_CONTROL = CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().immutable();
+
     private final DocumentService documentService;
     private final FileUploadService fileUploadService;
+    private final ChunkedUploadService chunkedUploadService;
+    private final UploadJobService uploadJobService;
+    private final DirectUploadService directUploadService;
+    private final DocumentExportService documentExportService;
 
     @GetMapping("/")
-    @Operation(summary = "Tüm dökümanları listele")
-    public ResponseEntity<?> getAllDocuments() {
-        var documents = documentService.getAllDocuments();
+    @Operation(summary = "Tüm dökümanları listele",
+            description = "En yeni dökümandan başlayarak sayfalı döner; sonraki sayfa için yanıttaki nextCursor verilir")
+    public ResponseEntity<?> getAllDocuments(@RequestParam(required = false) String cursor,
+                                             @RequestParam(required = false) Integer size) {
+        var documents = documentService.getAllDocuments(cursor, size);
         return fromDataResult(documents);
     }
 
@@ -51,9 +99,129 @@ public class DocumentApi {
     @Operation(summary = "ID'ye göre döküman getir")
     public ResponseEntity<?> getDocumentById(@PathVariable Long id) {
         var document = documentService.getDocumentById(id);
+        // Yanıttaki URL ile içerik depolamadan doğrudan okunabilir; URL verilmesi erişim sayılır
+        if (document.isSuccess() && document.getData().get().getFileUrl() != null) {
+            documentService.recordAccess(document.getData().get());
+        }
         return fromDataResult(document);
     }
 
+    @GetMapping("/{id}/content")
+    @Operation(summary = "Döküman içeriğini indir",
+            description = "Dosya depolamadan stream edilir. Range (tek aralık), If-Range ve If-None-Match desteklenir.")
+    public ResponseEntity<StreamingResponseBody> getDocumentContent(@PathVariable Long id,
+                                                                    @RequestHeader HttpHeaders requestHeaders) {
+        DataResult<Optional<Document>> documentResult = documentService.getDocumentById(id);
+        if (!documentResult.isSuccess()) {
+            throw new BusinessException(documentResult.getMessage(), HttpStatus.NOT_FOUND);
+        }
+        Document document = documentResult.getData().get();
+        String fileName = document.getMinioFileName();
+
+        // İçerik özeti varsa o, yoksa değişmeyen nesne adı ETag olarak kullanılır; 304 için depolamaya gidilmez
+        String etag = "\"" + (document.getContentHash() != null ? document.getContentHash() : fileName) + "\"";
+        if (matchesEtag(requestHeaders.getIfNoneMatch(), etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CONTENT_CACHE_CONTROL)
+                    .build();
+        }
+
+        DataResult<ObjectStat> infoResult = fileUploadService.getFileInfo(fileName);
+        if (!infoResult.isSuccess()) {
+            throw new BusinessException(infoResult.getMessage(), HttpStatus.NOT_FOUND);
+        }
+        ObjectStat info = infoResult.getData();
+        long size = info.size();
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        long start = 0;
+        long length = size;
+
+        List<HttpRange> ranges = parseRanges(requestHeaders);
+        String ifRange = requestHeaders.getFirst(HttpHeaders.IF_RANGE);
+        // Birden fazla aralık istenirse ya da If-Range eşleşmezse dosyanın tamamı döner
+        if (ranges.size() == 1 && (ifRange == null || ifRange.equals(etag))) {
+            HttpRange range = ranges.get(0);
+            if (size == 0 || range.getRangeStart(size) >= size) {
+                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                        .header(HttpHeaders.CONTENT_RANGE, "bytes */" + size)
+                        .build();
+            }
+            start = range.getRangeStart(size);
+            length = range.getRangeEnd(size) - start + 1;
+            response = ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + (start + length - 1) + "/" + size);
+        }
+
+        // 304 yanıtında içerik okunmaz; erişim yalnızca içerik gönderilirken yazılır
+        documentService.recordAccess(document);
+        long offset = start;
+        long count = length;
+        return response
+                .eTag(etag)
+                .cacheControl(CONTENT_CACHE_CONTROL)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline().filename(fileName).build().toString())
+                .contentType(info.contentType() != null ? MediaType.parseMediaType(info.contentType()) : MediaType.APPLICATION_OCTET_STREAM)
+                .contentLength(count)
+                .body(outputStream -> {
+                    try {
+                        fileUploadService.writeFile(fileName, offset, count, outputStream);
+                    } catch (IOException e) {
+                        throw e;
+                    } catch (Exception e) {
+                        throw new IOException("Dosya okunamadı: " + e.getMessage(), e);
+                    }
+                });
+    }
+
+    @GetMapping("/{id}/thumbnail")
+    @Operation(summary = "Döküman önizlemesini indir",
+            description = "PDF'in ilk sayfasından ya da resimden arka planda üretilen JPEG önizleme. Hazır değilse 404 döner.")
+    public ResponseEntity<StreamingResponseBody> getDocumentThumbnail(@PathVariable Long id,
+                                                                      @RequestHeader HttpHeaders requestHeaders) {
+        DataResult<Optional<Document>> documentResult = documentService.getDocumentById(id);
+        if (!documentResult.isSuccess()) {
+            throw new BusinessException(documentResult.getMessage(), HttpStatus.NOT_FOUND);
+        }
+        Document document = documentResult.getData().get();
+        if (document.getThumbnailStatus() != Document.ThumbnailStatus.READY) {
+            throw new BusinessException("Önizleme bulunamadı", HttpStatus.NOT_FOUND);
+        }
+        String fileName = FileNames.thumbnailObjectName(document.getMinioFileName());
+
+        // Önizleme kaynak içerikten türetildiği için ETag de kaynağa bağlıdır
+        String etag = "\"thumb-" + (document.getContentHash() != null ? document.getContentHash() : document.getMinioFileName()) + "\"";
+        if (matchesEtag(requestHeaders.getIfNoneMatch(), etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CONTENT_CACHE_CONTROL)
+                    .build();
+        }
+
+        DataResult<ObjectStat> infoResult = fileUploadService.getFileInfo(fileName);
+        if (!infoResult.isSuccess()) {
+            throw new BusinessException(infoResult.getMessage(), HttpStatus.NOT_FOUND);
+        }
+        long size = infoResult.getData().size();
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CONTENT_CACHE_CONTROL)
+                .contentType(MediaType.IMAGE_JPEG)
+                .contentLength(size)
+                .body(outputStream -> {
+                    try {
+                        fileUploadService.writeFile(fileName, 0, size, outputStream);
+                    } catch (IOException e) {
+                        throw e;
+                    } catch (Exception e) {
+                        throw new IOException("Önizleme okunamadı: " + e.getMessage(), e);
+                    }
+                });
+    }
+
     @PostMapping("/")
     @Operation(summary = "Yeni döküman yükle")
     public ResponseEntity<?> uploadFileWithMetadata(
@@ -83,24 +251,268 @@ public class DocumentApi {
         return fromDataResult(result);
     }
 
+    @PostMapping(value = "/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Yeni döküman yükle (streaming)",
+            description = "Multipart gövde parça parça okunur ve dosya geçici dosyaya yazılmadan MinIO'ya aktarılır. "
+                    + "Metadata alanları dosya alanından önce gönderilmelidir.")
+    public ResponseEntity<?> uploadFileStreaming(HttpServletRequest request) throws IOException {
+        JakartaServletFileUpload<DiskFileItem, DiskFileItemFactory> upload = new JakartaServletFileUpload<>();
+        upload.setHeaderCharset(StandardCharsets.UTF_8);
+        upload.setFileSizeMax(STREAM_MAX_FILE_SIZE);
+
+        Map<String, String> fields = new HashMap<>();
+        FileItemInputIterator iterator = upload.getItemIterator(request);
+        while (iterator.hasNext()) {
+            FileItemInput item = iterator.next();
+            if (item.isFormField()) {
+                try (InputStream fieldStream = item.getInputStream()) {
+                    fields.put(item.getFieldName(), new String(fieldStream.readAllBytes(), StandardCharsets.UTF_8));
+                }
+                continue;
+            }
+            if (!"file".equals(item.getFieldName())) {
+                continue;
+            }
+
+            for (String field : STREAM_METADATA_FIELDS) {
+                if (!fields.containsKey(field)) {
+                    DataResult<Document> errorResult = new ErrorDataResult<>(
+                            "Metadata alanı dosyadan önce gönderilmelidir: " + field);
+                    return fromDataResult(errorResult);
+                }
+            }
+
+            try (InputStream fileStream = item.getInputStream()) {
+                DataResult<Document> result = fileUploadService.uploadStreamWithMetadata(
+                        fileStream, item.getName(), item.getContentType(),
+                        fields.get("title"), fields.get("institutionName"), fields.get("institutionType"),
+                        fields.get("institutionUrl"), fields.get("documentType"), fields.get("documentDescription")
+                );
+                return fromDataResult(result);
+            }
+        }
+
+        DataResult<Document> errorResult = new ErrorDataResult<>("Dosya boş olamaz");
+        return fromDataResult(errorResult);
+    }
+
+    @PostMapping(value = "/async", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Yeni döküman yükle (asenkron)",
+            description = "Dosya kuyruğa alınır ve 202 ile iş id'si döner. Durum GET /jobs/{jobId} ile sorgulanır "
+                    + "ya da GET /jobs/{jobId}/wait ile iş bitene kadar beklenir.")
+    public ResponseEntity<?> uploadFileAsync(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam("title") String title,
+            @RequestParam("institutionName") String institutionName,
+            @RequestParam("institutionType") String institutionType,
+            @RequestParam("institutionUrl") String institutionUrl,
+            @RequestParam("documentType") String documentType,
+            @RequestParam("documentDescription") String documentDescription) {
+        DataResult<UploadJob> result = uploadJobService.submitUpload(file, title, institutionName,
+                institutionType, institutionUrl, documentType, documentDescription);
+        if (!result.isSuccess()) {
+            return fromDataResult(result);
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(URI.create("/api/v1/documents/jobs/" + result.getData().getId()))
+                .body(result);
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    @Operation(summary = "Asenkron yükleme işinin durumunu getir")
+    public ResponseEntity<?> getUploadJob(@PathVariable String jobId) {
+        return fromDataResult(uploadJobService.getJob(jobId));
+    }
+
+    @GetMapping("/jobs/{jobId}/wait")
+    @Operation(summary = "Asenkron yükleme işinin bitmesini bekle (long-poll)",
+            description = "İş bitince ya da timeoutSeconds (en fazla 60) dolunca işin güncel durumu döner. "
+                    + "Bekleme sırasında istek thread'i serbest bırakılır.")
+    public DeferredResult<ResponseEntity<?>> awaitUploadJob(@PathVariable String jobId,
+                                                            @RequestParam(defaultValue = "30") long timeoutSeconds) {
+        long timeout = Math.max(1, Math.min(timeoutSeconds, JOB_MAX_WAIT_SECONDS));
+        DeferredResult<ResponseEntity<?>> deferredResult = new DeferredResult<>(timeout * 1000);
+        deferredResult.onTimeout(() -> deferredResult.setResult(fromDataResult(uploadJobService.getJob(jobId))));
+        uploadJobService.awaitJob(jobId).thenAccept(result -> deferredResult.setResult(fromDataResult(result)));
+        return deferredResult;
+    }
+
+    @PostMapping(value = "/batch", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Toplu döküman yükle",
+            description = "files listesindeki her dosya, metadata (JSON dizi) listesindeki aynı sıradaki kayıtla eşleşir. "
+                    + "Dosyalar paralel yüklenir, dökümanlar tek transaction'da kaydedilir ve her dosya için ayrı durum döner.")
+    public ResponseEntity<?> uploadBatch(
+            @RequestPart("files") List<MultipartFile> files,
+            @RequestPart("metadata") List<BatchUploadItemRequest> metadata) {
+        var result = fileUploadService.uploadBatch(files, metadata);
+        return fromDataResult(result);
+    }
+
+    @PostMapping("/uploads")
+    @Operation(summary = "Parçalı (resumable) yükleme başlat",
+            description = "Dönen oturum id'si ile parçalar PUT /uploads/{uploadId}/parts/{partNumber} üzerinden gönderilir.")
+    public ResponseEntity<?> initiateUpload(
+            @RequestParam("fileName") String fileName,
+            @RequestParam(value = "contentType", required = false) String contentType,
+            @RequestParam("title") String title,
+            @RequestParam("institutionName") String institutionName,
+            @RequestParam("institutionType") String institutionType,
+            @RequestParam("institutionUrl") String institutionUrl,
+            @RequestParam("documentType") String documentType,
+            @RequestParam("documentDescription") String documentDescription) {
+        var result = chunkedUploadService.initiateUpload(fileName, contentType, title, institutionName,
+                institutionType, institutionUrl, documentType, documentDescription);
+        return fromDataResult(result);
+    }
+
+    @PutMapping(value = "/uploads/{uploadId}/parts/{partNumber}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @Operation(summary = "Yükleme oturumuna parça gönder",
+            description = "Aynı parça numarası tekrar gönderilirse önceki parçanın yerine geçer. Content-Length zorunludur.")
+    public ResponseEntity<?> uploadPart(@PathVariable String uploadId, @PathVariable int partNumber,
+                                        HttpServletRequest request) throws IOException {
+        long size = request.getContentLengthLong();
+        if (size <= 0) {
+            DataResult<UploadSessionPart> errorResult = new ErrorDataResult<>("Content-Length başlığı zorunludur");
+            return fromDataResult(errorResult);
+        }
+
+        try (InputStream partStream = request.getInputStream()) {
+            var result = chunkedUploadService.uploadPart(uploadId, partNumber, partStream, size);
+            return fromDataResult(result);
+        }
+    }
+
+    @PostMapping("/uploads/{uploadId}/complete")
+    @Operation(summary = "Parçalı yüklemeyi tamamla ve dökümanı oluştur")
+    public ResponseEntity<?> completeUpload(@PathVariable String uploadId) {
+        var result = chunkedUploadService.completeUpload(uploadId);
+        return fromDataResult(result);
+    }
+
+    @DeleteMapping("/uploads/{uploadId}")
+    @Operation(summary = "Parçalı yüklemeyi iptal et")
+    public ResponseEntity<?> abortUpload(@PathVariable String uploadId) {
+        var result = chunkedUploadService.abortUpload(uploadId);
+        return fromResult(result);
+    }
+
+    @PostMapping("/direct-uploads")
+    @Operation(summary = "Doğrudan depolamaya yükleme başlat",
+            description = "Dönen uploadUrl'e dosya HTTP PUT ile doğrudan MinIO'ya yüklenir; istek uploadHeaders "
+                    + "başlıklarını içermelidir, depolama içeriği bildirilen sha256 ile doğrular. Ardından "
+                    + "POST /direct-uploads/{uploadId}/confirm ile metadata gönderilerek döküman oluşturulur.")
+    public ResponseEntity<?> initiateDirectUpload(
+            @RequestParam("fileName") String fileName,
+            @RequestParam("sha256") String sha256,
+            @RequestParam(value = "contentType", required = false) String contentType,
+            @RequestParam(value = "size", required = false) Long size) {
+        var result = directUploadService.initiateUpload(fileName, contentType, size, sha256);
+        return fromDataResult(result);
+    }
+
+    @PostMapping("/direct-uploads/{uploadId}/confirm")
+    @Operation(summary = "Doğrudan yüklemeyi onayla ve dökümanı oluştur",
+            description = "Nesnenin depolamada var olduğu ve boyutu doğrulandıktan sonra döküman kaydedilir; "
+                    + "içerik yeniden okunmaz, başlatırken bildirilen sha256 kaydedilir.")
+    public ResponseEntity<?> confirmDirectUpload(
+            @PathVariable String uploadId,
+            @RequestParam("title") String title,
+            @RequestParam("institutionName") String institutionName,
+            @RequestParam("institutionType") String institutionType,
+            @RequestParam("institutionUrl") String institutionUrl,
+            @RequestParam("documentType") String documentType,
+            @RequestParam("documentDescription") String documentDescription) {
+        var result = directUploadService.confirmUpload(uploadId, title, institutionName,
+                institutionType, institutionUrl, documentType, documentDescription);
+        return fromDataResult(result);
+    }
+
     @GetMapping("/institution/{institutionName}")
     @Operation(summary = "Kuruma göre dökümanları getir")
-    public ResponseEntity<?> getDocumentsByInstitution(@PathVariable String institutionName) {
-        var documents = documentService.getDocumentsByInstitution(institutionName);
+    public ResponseEntity<?> getDocumentsByInstitution(@PathVariable String institutionName,
+                                                       @RequestParam(required = false) String cursor,
+                                                       @RequestParam(required = false) Integer size) {
+        var documents = documentService.getDocumentsByInstitution(institutionName, cursor, size);
         return fromDataResult(documents);
     }
 
     @GetMapping("/type/{documentType}")
     @Operation(summary = "Döküman tipine göre getir")
-    public ResponseEntity<?> getDocumentsByType(@PathVariable String documentType) {
-        var documents = documentService.getDocumentsByType(documentType);
+    public ResponseEntity<?> getDocumentsByType(@PathVariable String documentType,
+                                                @RequestParam(required = false) String cursor,
+                                                @RequestParam(required = false) Integer size) {
+        var documents = documentService.getDocumentsByType(documentType, cursor, size);
         return fromDataResult(documents);
     }
 
+    @GetMapping("/export")
+    @Operation(summary = "Dökümanları ZIP olarak dışa aktar",
+            description = "Kuruma, tipe ya da id listesine uyan dökümanları tek bir ZIP arşivi olarak indirir. Arşiv "
+                    + "depolamadan okunurken yanıta yazılır; sonunda her dökümanın durumunu içeren manifest.csv bulunur.")
+    public ResponseEntity<StreamingResponseBody> exportDocuments(
+            @RequestParam(value = "institutionName", required = false) String institutionName,
+            @RequestParam(value = "documentType", required = false) String documentType,
+            @RequestParam(value = "ids", required = false) List<Long> ids) {
+        DataResult<List<Document>> result = documentExportService.findDocuments(
+                new DocumentExportRequest(institutionName, documentType, ids));
+        if (!result.isSuccess()) {
+            throw new BusinessException(result.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+        List<Document> documents = result.getData();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("documents.zip").build().toString())
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .body(outputStream -> documentExportService.writeZip(documents, outputStream));
+    }
+
     @GetMapping("/search")
     @Operation(summary = "Döküman ara")
-    public ResponseEntity<?> searchDocuments(@RequestParam String title) {
-        var documents = documentService.searchDocumentsByTitle(title);
+    public ResponseEntity<?> searchDocuments(@RequestParam String title,
+                                             @RequestParam(required = false) String cursor,
+                                             @RequestParam(required = false) Integer size) {
+        var documents = documentService.searchDocumentsByTitle(title, cursor, size);
+        return fromDataResult(documents);
+    }
+
+    @GetMapping("/search/ranked")
+    @Operation(summary = "Başlık ve açıklamada tam metin arama",
+            description = "Türkçe kök bulma ile eşleşen dökümanları ilgiye göre sıralı döner; eşleşen kelimeler "
+                    + "<mark> ile işaretlenir (metin HTML olarak kaçışlanmamıştır). Sorguda \"tırnaklı ifade\", "
+                    + "OR ve -hariç kullanılabilir")
+    public ResponseEntity<?> searchDocumentsRanked(@RequestParam String query,
+                                                   @RequestParam(required = false) Integer size) {
+        var documents = documentService.searchDocuments(query, size);
+        return fromDataResult(documents);
+    }
+
+    @GetMapping("/search/fuzzy")
+    @Operation(summary = "Başlık ve kurum adında yazım hatalarına toleranslı arama",
+            description = "Trigram benzerliğine göre sıralı döner; threshold 0-1 arası benzerlik eşiğidir "
+                    + "(verilmezse search.fuzzy.threshold)")
+    public ResponseEntity<?> searchDocumentsFuzzy(@RequestParam String query,
+                                                  @RequestParam(required = false) Double threshold,
+                                                  @RequestParam(required = false) Integer size) {
+        var documents = documentService.searchDocumentsFuzzy(query, threshold, size);
+        return fromDataResult(documents);
+    }
+
+    @GetMapping("/search/instant")
+    @Operation(summary = "Yazarken arama (uygulama içi dizin)",
+            description = "Başlık, açıklama, kurum adı ve tipte BM25 puanına göre sıralı döner; son kelime önek olarak "
+                    + "eşleşir. Veritabanına gidilmez: sonuçlarda fileUrl yoktur ve değişiklikler en geç "
+                    + "search.index.refresh-interval-ms sonra görünür.")
+    public ResponseEntity<?> searchDocumentsInstant(@RequestParam String query,
+                                                    @RequestParam(required = false) Integer size) {
+        var documents = documentService.searchDocumentsInstant(query, size);
+        return fromDataResult(documents);
+    }
+
+    @GetMapping("/search/content")
+    @Operation(summary = "Döküman içeriğinde ara",
+            description = "Arka planda çıkarılan metinlerde arar; metni henüz çıkarılmamış dökümanlar sonuçta yer almaz.")
+    public ResponseEntity<?> searchDocumentContent(@RequestParam String query) {
+        var documents = documentService.searchDocumentsByContent(query);
         return fromDataResult(documents);
     }
 
@@ -121,9 +533,31 @@ public class DocumentApi {
         
         Optional<Document> document = documentResult.getData();
         String fileName = document.get().getMinioFileName();
-        
-        fileUploadService.deleteFile(fileName);
+
+        // Önce kayıt silinir; nesne silinemezse sahipsiz kalır ve depolama mutabakatında temizlenir
         var result = documentService.deleteDocument(id);
+        if (result.isSuccess()) {
+            fileUploadService.releaseFile(fileName);
+        }
         return fromResult(result);
     }
-}
\ No newline at end of file
+
+    private static boolean matchesEtag(List<String> ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch) {
+            String value = candidate.startsWith("W/") ? candidate.substring(2) : candidate;
+            if ("*".equals(value) || etag.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<HttpRange> parseRanges(HttpHeaders requestHeaders) {
+        try {
+            return requestHeaders.getRange();
+        } catch (IllegalArgumentException e) {
+            // Geçersiz Range başlığı yok sayılır (RFC 9110)
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.moneymate.documentationManagement.webApi.controllers;
+
+import static com.moneymate.documentationManagement.core.utilities.exceptions.ResponseEntityBuilder.fromDataResult;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.moneymate.documentationManagement.business.abstracts.DocumentImportService;
+import com.moneymate.documentationManagement.business.requests.DocumentImportRequest;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/imports")
+@CrossOrigin(origins = "*")
+@AllArgsConstructor
+@Tag(name = "Document Import", description = "Toplu içe aktarım API'leri")
+public class ImportApi {
+
+    private final DocumentImportService documentImportService;
+
+    @PostMapping
+    @Operation(summary = "Toplu içe aktarım başlat",
+            description = "Sunucudaki bir dizini ya da tar arşivini manifest'teki metadata ile arka planda içe aktarır. "
+                    + "İş id'si ile ilerleme ve hız (dosya/s, MB/s) sorgulanır.")
+    public ResponseEntity<?> startImport(@RequestBody DocumentImportRequest request) {
+        return fromDataResult(documentImportService.startImport(request));
+    }
+
+    @GetMapping("/{importId}")
+    @Operation(summary = "İçe aktarım durumunu getir")
+    public ResponseEntity<?> getImport(@PathVariable String importId) {
+        return fromDataResult(documentImportService.getImport(importId));
+    }
+
+    @PostMapping("/{importId}/resume")
+    @Operation(summary = "Yarım kalan içe aktarımı devam ettir",
+            description = "Dökümanları yazılmış son dosyadan sonrasından devam eder; önceki dosyalar tekrar eklenmez.")
+    public ResponseEntity<?> resumeImport(@PathVariable String importId) {
+        return fromDataResult(documentImportService.resumeImport(importId));
+    }
+}
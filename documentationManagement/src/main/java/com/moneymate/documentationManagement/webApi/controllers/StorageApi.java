@@ -0,0 +1,55 @@
+package com.moneymate.documentationManagement.webApi.controllers;
+
+import static com.moneymate.documentationManagement.core.utilities.exceptions.ResponseEntityBuilder.fromDataResult;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.moneymate.documentationManagement.business.abstracts.StorageReconciliationService;
+import com.moneymate.documentationManagement.business.abstracts.StorageTieringService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/storage")
+@CrossOrigin(origins = "*")
+@AllArgsConstructor
+@Tag(name = "Storage Management", description = "Depolama bakım API'leri")
+public class StorageApi {
+
+    private final StorageReconciliationService storageReconciliationService;
+    private final StorageTieringService storageTieringService;
+
+    @GetMapping("/reconciliation")
+    @Operation(summary = "Son depolama mutabakatı raporu")
+    public ResponseEntity<?> getLastReconciliation() {
+        return fromDataResult(storageReconciliationService.getLastReport());
+    }
+
+    @PostMapping("/reconciliation")
+    @Operation(summary = "Depolama mutabakatını çalıştır",
+            description = "Hiçbir kayıtla ilişkili olmayan nesneleri raporlar; delete=true ise hız sınırıyla siler.")
+    public ResponseEntity<?> reconcile(@RequestParam(value = "delete", defaultValue = "false") boolean delete) {
+        return fromDataResult(storageReconciliationService.reconcile(delete));
+    }
+
+    @GetMapping("/tiering")
+    @Operation(summary = "Son katmanlama raporu")
+    public ResponseEntity<?> getLastTiering() {
+        return fromDataResult(storageTieringService.getLastReport());
+    }
+
+    @PostMapping("/tiering")
+    @Operation(summary = "Katmanlama işini çalıştır",
+            description = "Eski ve uzun süredir okunmayan dökümanların nesnelerini hız sınırıyla arşiv bucket'ına taşır.")
+    public ResponseEntity<?> migrate() {
+        return fromDataResult(storageTieringService.migrate());
+    }
+}
@@ -0,0 +1,4 @@
+-- Doğrudan yüklemede istemcinin başlatırken bildirdiği SHA-256 özeti. Özet imzalı PUT URL'ine
+-- (x-amz-checksum-sha256) girer ve depolama tarafından doğrulanır; onayda nesne yeniden okunmadan kaydedilir.
+-- Bu sütundan önce başlatılmış yüklemelerde özet yoktur, bu kayıtlar onaylanamaz ve temizlikte sona erdirilir.
+ALTER TABLE direct_uploads ADD COLUMN content_hash varchar(64);
@@ -0,0 +1,40 @@
+-- İlk sürümün şeması (Hibernate ddl-auto ile oluşturulan hali).
+-- Flyway'den önce ddl-auto ile oluşturulmuş veritabanlarında bu migration atlanır (spring.flyway.baseline-on-migrate);
+-- sonraki migration'lar bu yüzden mevcut kolon ve tabloları IF [NOT] EXISTS ile atlar.
+
+CREATE TABLE users (
+    id                  bigserial    NOT NULL,
+    user_id             varchar(255) NOT NULL UNIQUE,
+    email               varchar(255) NOT NULL UNIQUE,
+    password            varchar(255) NOT NULL,
+    first_name          varchar(255),
+    last_name           varchar(255),
+    status              smallint,
+    is_active           boolean,
+    is_multiple_session boolean,
+    first_login_status  boolean,
+    login_attempt_count smallint,
+    blocked_until       timestamp(6),
+    created_ip          varchar(255),
+    password_create_at  varchar(255),
+    password_update_at  varchar(255),
+    created_at          timestamp(6),
+    update_at           timestamp(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE documents (
+    id                   bigserial     NOT NULL,
+    title                varchar(255)  NOT NULL,
+    minio_file_name      varchar(255)  NOT NULL,
+    institution_name     varchar(255)  NOT NULL,
+    institution_type     varchar(255)  NOT NULL,
+    institution_url      varchar(255),
+    document_type        varchar(255)  NOT NULL,
+    upload_at            timestamp(6),
+    update_at            timestamp(6),
+    document_description text,
+    file_size            varchar(255),
+    file_url             varchar(1500) NOT NULL,
+    PRIMARY KEY (id)
+);
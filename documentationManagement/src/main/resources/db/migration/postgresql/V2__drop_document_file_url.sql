@@ -0,0 +1,2 @@
+-- Presigned URL'ler artık saklanmıyor, okunurken üretiliyor (NOT NULL kolon yeni kayıtları engelliyordu)
+ALTER TABLE documents DROP COLUMN IF EXISTS file_url;
@@ -0,0 +1,106 @@
+-- Depolama (içerik özeti, sıkıştırma, katman), önizleme ve arka plan işleri için eklenen kolon ve tablolar
+
+ALTER TABLE documents ADD COLUMN IF NOT EXISTS content_hash varchar(64);
+ALTER TABLE documents ADD COLUMN IF NOT EXISTS crc32c varchar(8);
+ALTER TABLE documents ADD COLUMN IF NOT EXISTS storage_codec varchar(16)
+    CHECK (storage_codec IN ('NONE', 'GZIP'));
+ALTER TABLE documents ADD COLUMN IF NOT EXISTS thumbnail_status varchar(16)
+    CHECK (thumbnail_status IN ('READY', 'UNSUPPORTED', 'FAILED'));
+ALTER TABLE documents ADD COLUMN IF NOT EXISTS storage_tier varchar(16)
+    CHECK (storage_tier IN ('HOT', 'ARCHIVE'));
+ALTER TABLE documents ADD COLUMN IF NOT EXISTS last_accessed_at timestamp(6);
+
+-- Aynı içerik (SHA-256) tek nesne olarak saklanır; reference_count nesneyi kullanan döküman sayısı
+CREATE TABLE IF NOT EXISTS stored_objects (
+    id              bigserial    NOT NULL,
+    sha256          varchar(64)  NOT NULL UNIQUE,
+    object_name     varchar(255) NOT NULL UNIQUE,
+    size            bigint       NOT NULL,
+    storage_codec   varchar(16)  CHECK (storage_codec IN ('NONE', 'GZIP')),
+    reference_count integer      NOT NULL,
+    created_at      timestamp(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS upload_sessions (
+    id                   varchar(36)   NOT NULL,
+    storage_upload_id    varchar(1024) NOT NULL,
+    object_name          varchar(255)  NOT NULL,
+    original_file_name   varchar(255),
+    content_type         varchar(255),
+    part_size            bigint        NOT NULL,
+    title                varchar(255)  NOT NULL,
+    institution_name     varchar(255)  NOT NULL,
+    institution_type     varchar(255)  NOT NULL,
+    institution_url      varchar(255),
+    document_type        varchar(255)  NOT NULL,
+    document_description text,
+    status               varchar(16)   NOT NULL CHECK (status IN ('ACTIVE', 'COMPLETED', 'ABORTED')),
+    created_at           timestamp(6),
+    update_at            timestamp(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS upload_session_parts (
+    id          bigserial    NOT NULL,
+    session_id  varchar(36)  NOT NULL,
+    part_number integer      NOT NULL,
+    etag        varchar(255) NOT NULL,
+    size        bigint       NOT NULL,
+    upload_at   timestamp(6),
+    PRIMARY KEY (id),
+    UNIQUE (session_id, part_number)
+);
+
+CREATE TABLE IF NOT EXISTS upload_jobs (
+    id                 varchar(36)   NOT NULL,
+    status             varchar(16)   NOT NULL CHECK (status IN ('QUEUED', 'RUNNING', 'COMPLETED', 'FAILED')),
+    original_file_name varchar(255),
+    document_id        bigint,
+    message            varchar(1000),
+    created_at         timestamp(6),
+    update_at          timestamp(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS direct_uploads (
+    id                 varchar(36)  NOT NULL,
+    object_name        varchar(255) NOT NULL,
+    original_file_name varchar(255),
+    content_type       varchar(255),
+    expected_size      bigint,
+    status             varchar(16)  NOT NULL CHECK (status IN ('PENDING', 'COMPLETED', 'EXPIRED')),
+    expires_at         timestamp(6) NOT NULL,
+    created_at         timestamp(6),
+    update_at          timestamp(6),
+    PRIMARY KEY (id)
+);
+
+-- Döküman silinince çıkarılan metni de silinir
+CREATE TABLE IF NOT EXISTS document_texts (
+    document_id  bigint      NOT NULL REFERENCES documents (id) ON DELETE CASCADE,
+    status       varchar(16) NOT NULL CHECK (status IN ('EXTRACTED', 'UNSUPPORTED', 'FAILED')),
+    content      text,
+    truncated    boolean     NOT NULL,
+    extracted_at timestamp(6),
+    PRIMARY KEY (document_id)
+);
+
+CREATE TABLE IF NOT EXISTS import_jobs (
+    id               varchar(36)   NOT NULL,
+    source           varchar(1000) NOT NULL,
+    manifest         varchar(1000),
+    status           varchar(16)   NOT NULL
+        CHECK (status IN ('QUEUED', 'RUNNING', 'COMPLETED', 'FAILED', 'INTERRUPTED')),
+    checkpoint_index bigint,
+    processed_files  bigint,
+    imported_files   bigint,
+    failed_files     bigint,
+    imported_bytes   bigint,
+    active_millis    bigint,
+    message          varchar(1000),
+    created_at       timestamp(6),
+    update_at        timestamp(6),
+    finished_at      timestamp(6),
+    PRIMARY KEY (id)
+);
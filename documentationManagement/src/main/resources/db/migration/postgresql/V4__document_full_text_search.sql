@@ -0,0 +1,22 @@
+-- Başlık ve açıklama üzerinde tam metin arama (/api/v1/documents/search/ranked).
+-- LIKE '%x%' B-tree indeksi kullanamadığı için her aramada tablo baştan sona okunuyordu.
+
+-- Türkçe kök bulma (turkish_stem) öncesinde aksan/noktalama işaretleri kaldırılır: ı/İ -> i/I, ş -> s, ğ -> g ...
+-- Böylece büyük harfle yazılmış metin (I'nın ı mı i mi olduğu bilinmez) ve Türkçe klavyesiz yazılan sorgular
+-- ("sube", "ISTANBUL") eşleşir; veritabanının locale'inden bağımsız olarak aynı sonuç üretilir.
+-- unaccent PostgreSQL 13+ sürümlerinde "trusted" eklentidir; veritabanı sahibi oluşturabilir.
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+CREATE TEXT SEARCH CONFIGURATION docman_turkish (COPY = pg_catalog.turkish);
+ALTER TEXT SEARCH CONFIGURATION docman_turkish
+    ALTER MAPPING FOR hword, hword_part, word WITH unaccent, turkish_stem;
+
+-- Başlıktaki eşleşmeler (A) açıklamadakilerden (B) daha yüksek puan alır.
+-- Kolon her INSERT/UPDATE'te PostgreSQL tarafından hesaplanır; uygulama bu kolonu yazmaz.
+-- Mevcut satırlar için tablo bir kez yeniden yazılır (migration süresince tablo kilitlenir).
+ALTER TABLE documents ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('docman_turkish'::regconfig, coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('docman_turkish'::regconfig, coalesce(document_description, '')), 'B')
+) STORED;
+
+CREATE INDEX idx_documents_search_vector ON documents USING gin (search_vector);
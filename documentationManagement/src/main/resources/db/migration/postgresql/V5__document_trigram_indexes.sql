@@ -0,0 +1,8 @@
+-- Yazım hatalarına toleranslı arama (/api/v1/documents/search/fuzzy) ve alt metin araması (/search) için
+-- trigram indeksleri. pg_trgm PostgreSQL 13+ sürümlerinde "trusted" eklentidir; veritabanı sahibi oluşturabilir.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- GIN trigram indeksleri hem benzerlik operatörlerini (<%, %) hem de ILIKE '%x%' sorgularını karşılar.
+-- GiST'e göre daha büyük ama okumada daha hızlıdır; bu tablolarda okuma yazmadan çok daha sık.
+CREATE INDEX idx_documents_title_trgm ON documents USING gin (title gin_trgm_ops);
+CREATE INDEX idx_documents_institution_name_trgm ON documents USING gin (institution_name gin_trgm_ops);
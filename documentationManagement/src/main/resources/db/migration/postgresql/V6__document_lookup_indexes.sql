@@ -0,0 +1,21 @@
+-- Kurum, tip ve nesne adına göre yapılan aramalar için B-tree indeksleri; bu kolonlarda indeks yoktu ve
+-- her sorgu tabloyu baştan sona okuyordu. Sorgu planları RepositoryQueryPlanTest ile doğrulanır.
+-- users.email (findByEmail) için ayrı indeks eklenmez: UNIQUE kısıtının indeksi bu sorguyu karşılar.
+-- CREATE INDEX indeks oluşturulana kadar tabloya yazmayı kilitler (okumalar devam eder).
+
+-- /institution/{name} keyset sayfası (institution_name = ? AND id < ? ORDER BY id DESC LIMIT n) indeksten
+-- sıralı okunur, sıralama adımı olmaz. findByInstitutionName de baştaki kolonu kullanır.
+CREATE INDEX idx_documents_institution_name_id ON documents (institution_name, id);
+
+-- findByInstitutionAndType
+CREATE INDEX idx_documents_institution_name_document_type ON documents (institution_name, document_type);
+
+-- /type/{type} keyset sayfası ve findByDocumentType. Az sayıda farklı tip olduğundan sayfasız sorgu yaygın
+-- tiplerde yine tablo taraması seçebilir; bu, satırların büyük kısmı döndüğünde daha ucuzdur.
+CREATE INDEX idx_documents_document_type_id ON documents (document_type, id);
+
+-- Depolama mutabakatı (minio_file_name IN ...), katman sorguları ve katmanlama adayları (nesne adı sırasıyla)
+CREATE INDEX idx_documents_minio_file_name ON documents (minio_file_name);
+
+-- Önizleme tamamlama taraması; önizlemesi olmayan dökümanlar azdır, kısmi indeks küçük kalır
+CREATE INDEX idx_documents_upload_at_thumbnail_pending ON documents (upload_at) WHERE thumbnail_status IS NULL;
@@ -0,0 +1,8 @@
+-- Asenkron yükleme ve içe aktarım işlerini çalıştıran uygulama örneği (app.instance-id).
+-- Açılışta yalnızca bu örneğe ait yarım kalmış işler başarısız/kesintiye uğramış sayılır;
+-- diğer örneklerde çalışmakta olan işlere dokunulmaz. Eski kayıtların sahibi bilinmediğinden boş kalır.
+ALTER TABLE upload_jobs ADD COLUMN IF NOT EXISTS owner_instance varchar(255);
+ALTER TABLE import_jobs ADD COLUMN IF NOT EXISTS owner_instance varchar(255);
+
+CREATE INDEX IF NOT EXISTS idx_upload_jobs_owner_status ON upload_jobs (owner_instance, status);
+CREATE INDEX IF NOT EXISTS idx_import_jobs_owner_status ON import_jobs (owner_instance, status);
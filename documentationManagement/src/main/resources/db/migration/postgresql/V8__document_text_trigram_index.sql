@@ -0,0 +1,6 @@
+-- Döküman metninde alt metin araması (/api/v1/documents/search/content) için trigram indeksi.
+-- Sorgu yalnızca çıkarılmış metinlerde aradığından indeks kısmidir; UNSUPPORTED/FAILED satırlarının içeriği yoktur.
+-- pg_trgm eklentisi V5'te oluşturuldu. GIN trigram indeksi ILIKE '%x%' sorgularını karşılar; en az 3 karakterlik
+-- aramalarda tablo taraması yerine indeks kullanılır.
+CREATE INDEX idx_document_texts_content_trgm ON document_texts USING gin (content gin_trgm_ops)
+    WHERE status = 'EXTRACTED';
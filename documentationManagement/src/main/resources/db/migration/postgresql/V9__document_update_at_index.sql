@@ -0,0 +1,4 @@
+-- Arama dizininin periyodik yakalama taraması (update_at > ? OR (update_at = ? AND id > ?) ORDER BY update_at, id).
+-- Her uygulama örneği kendi dizinini tutar; diğer örneklerde kaydedilen ve güncellenen dökümanlar bu taramayla
+-- bulunur. Tarama yalnızca son değişiklikleri okur, indeks olmadan her çalışmada tüm tablo okunurdu.
+CREATE INDEX idx_documents_update_at_id ON documents (update_at, id);
@@ -0,0 +1,389 @@
+package com.moneymate.documentationManagement.business.concretes;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.moneymate.documentationManagement.business.abstracts.DocumentService;
+import com.moneymate.documentationManagement.business.abstracts.StoredObjectService;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.ErrorDataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.Result;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.SuccessDataResult;
+import com.moneymate.documentationManagement.core.utilities.io.StorageCodec;
+import com.moneymate.documentationManagement.dataAccess.abstracts.StorageBackend;
+import com.moneymate.documentationManagement.dataAccess.abstracts.UploadSessionPartRepository;
+import com.moneymate.documentationManagement.dataAccess.abstracts.UploadSessionRepository;
+import com.moneymate.documentationManagement.entities.concretes.Document;
+import com.moneymate.documentationManagement.entities.concretes.StoredObject;
+import com.moneymate.documentationManagement.entities.concretes.UploadSession;
+import com.moneymate.documentationManagement.entities.concretes.UploadSessionPart;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChunkedUploadManager Service Tests")
+class ChunkedUploadManagerTest {
+
+    private static final long MB = 1024 * 1024;
+    // "test" içeriğinin SHA-256 özeti ve CRC32C sağlama toplamı
+    private static final String SHA256 = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+    private static final String CRC32C = "86a072c0";
+
+    @Mock
+    private StorageBackend storageBackend;
+
+    @Mock
+    private UploadSessionRepository uploadSessionRepository;
+
+    @Mock
+    private UploadSessionPartRepository uploadSessionPartRepository;
+
+    @Mock
+    private DocumentService documentService;
+
+    @Mock
+    private StoredObjectService storedObjectService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private ChunkedUploadManager chunkedUploadManager;
+
+    private UploadSession session;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(chunkedUploadManager, "partSize", 8 * MB);
+        ReflectionTestUtils.setField(chunkedUploadManager, "maxPartSize", 64 * MB);
+        ReflectionTestUtils.setField(chunkedUploadManager, "maxFileSize", 2048 * MB);
+        ReflectionTestUtils.setField(chunkedUploadManager, "staleAfterHours", 24L);
+
+        session = UploadSession.builder()
+                .id("session-1")
+                .storageUploadId("storage-upload-1")
+                .objectName("object.pdf")
+                .originalFileName("big.pdf")
+                .status(UploadSession.Status.ACTIVE)
+                .title("Büyük Döküman")
+                .institutionName("Test Kurumu")
+                .institutionType("Banka")
+                .institutionUrl("https://test.com")
+                .documentType("PDF")
+                .documentDescription("Açıklama")
+                .partSize(8 * MB)
+                .build();
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(mock(TransactionStatus.class)));
+    }
+
+    private UploadSessionPart part(int partNumber, long size) {
+        return UploadSessionPart.builder().sessionId("session-1").partNumber(partNumber)
+                .etag("etag-" + partNumber).size(size).build();
+    }
+
+    private void givenStatusUpdate(UploadSession.Status from, UploadSession.Status to, int updated) {
+        lenient().when(uploadSessionRepository.updateStatus(eq("session-1"), eq(from), eq(to), any(LocalDateTime.class)))
+                .thenReturn(updated);
+    }
+
+    private void givenCompletedParts(String storedObjectName) throws Exception {
+        when(uploadSessionRepository.findById("session-1")).thenReturn(Optional.of(session));
+        when(uploadSessionPartRepository.findBySessionIdOrderByPartNumber("session-1"))
+                .thenReturn(List.of(part(1, 8 * MB), part(2, 1 * MB)));
+        givenStatusUpdate(UploadSession.Status.ACTIVE, UploadSession.Status.COMPLETED, 1);
+        lenient().when(storageBackend.getObject("object.pdf"))
+                .thenReturn(new ByteArrayInputStream("test".getBytes(StandardCharsets.UTF_8)));
+        lenient().when(storedObjectService.register(SHA256, "object.pdf", 9 * MB, StorageCodec.NONE))
+                .thenReturn(new SuccessDataResult<>(StoredObject.builder().objectName(storedObjectName).build(), "ok"));
+    }
+
+    @Nested
+    @DisplayName("Initiate Upload Tests")
+    class InitiateUploadTests {
+
+        @Test
+        @DisplayName("Should create storage multipart upload and persist session")
+        void shouldInitiateUpload() throws Exception {
+            // Given
+            when(storageBackend.createMultipartUpload(anyString(), eq("application/pdf"))).thenReturn("storage-upload-1");
+            when(uploadSessionRepository.save(any(UploadSession.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            DataResult<UploadSession> result = chunkedUploadManager.initiateUpload("big.pdf", "application/pdf",
+                    "Büyük Döküman", "Test Kurumu", "Banka", "https://test.com", "PDF", "Açıklama");
+
+            // Then
+            assertTrue(result.isSuccess());
+            assertEquals("storage-upload-1", result.getData().getStorageUploadId());
+            assertEquals(UploadSession.Status.ACTIVE, result.getData().getStatus());
+            assertTrue(result.getData().getObjectName().endsWith(".pdf"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Upload Part Tests")
+    class UploadPartTests {
+
+        @Test
+        @DisplayName("Should replace previously uploaded part with same number")
+        void shouldReplaceRetriedPart() throws Exception {
+            // Given
+            UploadSessionPart existing = part(1, 5 * MB);
+            InputStream inputStream = new ByteArrayInputStream(new byte[16]);
+            when(uploadSessionRepository.findById("session-1")).thenReturn(Optional.of(session));
+            when(storageBackend.uploadPart("object.pdf", "storage-upload-1", 1, inputStream, 16)).thenReturn("new-etag");
+            when(uploadSessionRepository.touch(eq("session-1"), eq(UploadSession.Status.ACTIVE), any(LocalDateTime.class)))
+                    .thenReturn(1);
+            when(uploadSessionPartRepository.findBySessionIdAndPartNumber("session-1", 1)).thenReturn(Optional.of(existing));
+            when(uploadSessionPartRepository.save(any(UploadSessionPart.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            DataResult<UploadSessionPart> result = chunkedUploadManager.uploadPart("session-1", 1, inputStream, 16);
+
+            // Then
+            assertTrue(result.isSuccess());
+            assertSame(existing, result.getData());
+            assertEquals("new-etag", existing.getEtag());
+            assertEquals(16L, existing.getSize());
+            // Oturum entity'si kaydedilmez; eşzamanlı tamamlanan oturum ACTIVE'e dönemez
+            verify(uploadSessionRepository, never()).save(any(UploadSession.class));
+        }
+
+        @Test
+        @DisplayName("Should not record part when session completed concurrently")
+        void shouldNotRecordPartWhenSessionCompletedConcurrently() throws Exception {
+            // Given: oturum okunduktan sonra başka bir istek tamamladı
+            InputStream inputStream = new ByteArrayInputStream(new byte[16]);
+            when(uploadSessionRepository.findById("session-1")).thenReturn(Optional.of(session));
+            when(storageBackend.uploadPart("object.pdf", "storage-upload-1", 1, inputStream, 16)).thenReturn("new-etag");
+            when(uploadSessionRepository.touch(eq("session-1"), eq(UploadSession.Status.ACTIVE), any(LocalDateTime.class)))
+                    .thenReturn(0);
+
+            // When
+            DataResult<UploadSessionPart> result = chunkedUploadManager.uploadPart("session-1", 1, inputStream, 16);
+
+            // Then
+            assertFalse(result.isSuccess());
+            verify(uploadSessionPartRepository, never()).save(any(UploadSessionPart.class));
+            verify(uploadSessionRepository, never()).save(any(UploadSession.class));
+        }
+
+        @Test
+        @DisplayName("Should reject part larger than configured limit")
+        void shouldRejectOversizedPart() throws Exception {
+            // When
+            DataResult<UploadSessionPart> result = chunkedUploadManager.uploadPart("session-1", 1,
+                    new ByteArrayInputStream(new byte[0]), 65 * MB);
+
+            // Then
+            assertFalse(result.isSuccess());
+            verify(storageBackend, never()).uploadPart(anyString(), anyString(), anyInt(), any(), anyLong());
+        }
+
+        @Test
+        @DisplayName("Should reject part for completed session")
+        void shouldRejectPartForInactiveSession() throws Exception {
+            // Given
+            session.setStatus(UploadSession.Status.COMPLETED);
+            when(uploadSessionRepository.findById("session-1")).thenReturn(Optional.of(session));
+
+            // When
+            DataResult<UploadSessionPart> result = chunkedUploadManager.uploadPart("session-1", 1,
+                    new ByteArrayInputStream(new byte[16]), 16);
+
+            // Then
+            assertFalse(result.isSuccess());
+            verify(storageBackend, never()).uploadPart(anyString(), anyString(), anyInt(), any(), anyLong());
+        }
+    }
+
+    @Nested
+    @DisplayName("Complete Upload Tests")
+    class CompleteUploadTests {
+
+        @Test
+        @DisplayName("Should complete multipart upload, register stored object and save document")
+        void shouldCompleteUpload() throws Exception {
+            // Given
+            givenCompletedParts("object.pdf");
+            when(documentService.saveDocument(any(Document.class)))
+                    .thenAnswer(invocation -> new SuccessDataResult<>(invocation.getArgument(0), "ok"));
+
+            // When
+            DataResult<Document> result = chunkedUploadManager.completeUpload("session-1");
+
+            // Then
+            assertTrue(result.isSuccess());
+            assertEquals("object.pdf", result.getData().getMinioFileName());
+            assertEquals("9.0 MB", result.getData().getFileSize());
+            assertEquals(SHA256, result.getData().getContentHash());
+            assertEquals(CRC32C, result.getData().getCrc32c());
+            verify(storageBackend).completeMultipartUpload(eq("object.pdf"), eq("storage-upload-1"), argThat(parts -> parts.size() == 2));
+            verify(storedObjectService).register(SHA256, "object.pdf", 9 * MB, StorageCodec.NONE);
+            verify(uploadSessionPartRepository).deleteBySessionId("session-1");
+            verify(uploadSessionRepository, never()).save(any(UploadSession.class));
+            verify(storageBackend, never()).removeObject(anyString());
+        }
+
+        @Test
+        @DisplayName("Should reference existing object and remove assembled copy when content is duplicate")
+        void shouldReuseExistingObjectForDuplicateContent() throws Exception {
+            // Given
+            givenCompletedParts("existing.pdf");
+            when(documentService.saveDocument(any(Document.class)))
+                    .thenAnswer(invocation -> new SuccessDataResult<>(invocation.getArgument(0), "ok"));
+
+            // When
+            DataResult<Document> result = chunkedUploadManager.completeUpload("session-1");
+
+            // Then
+            assertTrue(result.isSuccess());
+            assertEquals("existing.pdf", result.getData().getMinioFileName());
+            verify(storageBackend).removeObject("object.pdf");
+        }
+
+        @Test
+        @DisplayName("Should not complete when session was claimed concurrently")
+        void shouldNotCompleteWhenClaimLost() throws Exception {
+            // Given
+            when(uploadSessionRepository.findById("session-1")).thenReturn(Optional.of(session));
+            when(uploadSessionPartRepository.findBySessionIdOrderByPartNumber("session-1"))
+                    .thenReturn(List.of(part(1, 8 * MB), part(2, 1 * MB)));
+            givenStatusUpdate(UploadSession.Status.ACTIVE, UploadSession.Status.COMPLETED, 0);
+
+            // When
+            DataResult<Document> result = chunkedUploadManager.completeUpload("session-1");
+
+            // Then
+            assertFalse(result.isSuccess());
+            verify(storageBackend, never()).completeMultipartUpload(anyString(), anyString(), anyList());
+            verifyNoInteractions(documentService, storedObjectService);
+        }
+
+        @Test
+        @DisplayName("Should reactivate session when storage cannot complete the upload")
+        void shouldReactivateSessionWhenStorageFails() throws Exception {
+            // Given
+            givenCompletedParts("object.pdf");
+            doThrow(new RuntimeException("storage down")).when(storageBackend)
+                    .completeMultipartUpload(anyString(), anyString(), anyList());
+
+            // When
+            DataResult<Document> result = chunkedUploadManager.completeUpload("session-1");
+
+            // Then
+            assertFalse(result.isSuccess());
+            verify(uploadSessionRepository).updateStatus(eq("session-1"), eq(UploadSession.Status.COMPLETED),
+                    eq(UploadSession.Status.ACTIVE), any(LocalDateTime.class));
+            verify(uploadSessionPartRepository, never()).deleteBySessionId(anyString());
+            verifyNoInteractions(documentService, storedObjectService);
+        }
+
+        @Test
+        @DisplayName("Should abort session and remove assembled object when document cannot be saved")
+        void shouldDiscardObjectWhenDocumentSaveFails() throws Exception {
+            // Given
+            givenCompletedParts("object.pdf");
+            when(documentService.saveDocument(any(Document.class))).thenReturn(new ErrorDataResult<>("db down"));
+
+            // When
+            DataResult<Document> result = chunkedUploadManager.completeUpload("session-1");
+
+            // Then: register ve döküman aynı transaction'da geri alınır
+            assertFalse(result.isSuccess());
+            verify(uploadSessionRepository).updateStatus(eq("session-1"), eq(UploadSession.Status.COMPLETED),
+                    eq(UploadSession.Status.ABORTED), any(LocalDateTime.class));
+            verify(storageBackend).removeObject("object.pdf");
+        }
+
+        @Test
+        @DisplayName("Should fail when a part is missing")
+        void shouldFailWhenPartIsMissing() throws Exception {
+            // Given
+            when(uploadSessionRepository.findById("session-1")).thenReturn(Optional.of(session));
+            when(uploadSessionPartRepository.findBySessionIdOrderByPartNumber("session-1"))
+                    .thenReturn(List.of(part(1, 8 * MB), part(3, 1 * MB)));
+
+            // When
+            DataResult<Document> result = chunkedUploadManager.completeUpload("session-1");
+
+            // Then
+            assertFalse(result.isSuccess());
+            verify(uploadSessionRepository, never()).updateStatus(anyString(), any(), any(), any());
+            verify(storageBackend, never()).completeMultipartUpload(anyString(), anyString(), anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("Abort Upload Tests")
+    class AbortUploadTests {
+
+        @Test
+        @DisplayName("Should abort storage upload and mark session aborted")
+        void shouldAbortUpload() throws Exception {
+            // Given
+            when(uploadSessionRepository.findById("session-1")).thenReturn(Optional.of(session));
+            givenStatusUpdate(UploadSession.Status.ACTIVE, UploadSession.Status.ABORTED, 1);
+
+            // When
+            Result result = chunkedUploadManager.abortUpload("session-1");
+
+            // Then
+            assertTrue(result.isSuccess());
+            verify(storageBackend).abortMultipartUpload("object.pdf", "storage-upload-1");
+            verify(uploadSessionPartRepository).deleteBySessionId("session-1");
+        }
+
+        @Test
+        @DisplayName("Should not abort storage upload when session completed concurrently")
+        void shouldNotAbortCompletedSession() throws Exception {
+            // Given
+            when(uploadSessionRepository.findById("session-1")).thenReturn(Optional.of(session));
+            givenStatusUpdate(UploadSession.Status.ACTIVE, UploadSession.Status.ABORTED, 0);
+
+            // When
+            Result result = chunkedUploadManager.abortUpload("session-1");
+
+            // Then
+            assertFalse(result.isSuccess());
+            verify(storageBackend, never()).abortMultipartUpload(anyString(), anyString());
+            verify(uploadSessionPartRepository, never()).deleteBySessionId(anyString());
+        }
+
+        @Test
+        @DisplayName("Should abort stale sessions during cleanup")
+        void shouldCleanupStaleUploads() throws Exception {
+            // Given
+            when(uploadSessionRepository.findByStatusAndUpdateAtBefore(eq(UploadSession.Status.ACTIVE), any()))
+                    .thenReturn(List.of(session));
+            givenStatusUpdate(UploadSession.Status.ACTIVE, UploadSession.Status.ABORTED, 1);
+
+            // When
+            chunkedUploadManager.cleanupStaleUploads();
+
+            // Then
+            verify(storageBackend).abortMultipartUpload("object.pdf", "storage-upload-1");
+            verify(uploadSessionPartRepository).deleteBySessionId("session-1");
+        }
+    }
+}
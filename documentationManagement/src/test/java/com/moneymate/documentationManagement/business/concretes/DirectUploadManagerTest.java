@@ -0,0 +1,349 @@
+package com.moneymate.documentationManagement.business.concretes;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.moneymate.documentationManagement.business.abstracts.DocumentService;
+import com.moneymate.documentationManagement.business.abstracts.StoredObjectService;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.SuccessDataResult;
+import com.moneymate.documentationManagement.core.utilities.io.StorageCodec;
+import com.moneymate.documentationManagement.dataAccess.abstracts.DirectUploadRepository;
+import com.moneymate.documentationManagement.dataAccess.abstracts.StorageBackend;
+import com.moneymate.documentationManagement.dataAccess.abstracts.StorageBackend.ObjectStat;
+import com.moneymate.documentationManagement.entities.concretes.DirectUpload;
+import com.moneymate.documentationManagement.entities.concretes.Document;
+import com.moneymate.documentationManagement.entities.concretes.StoredObject;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DirectUploadManager Service Tests")
+class DirectUploadManagerTest {
+
+    private static final long MB = 1024 * 1024;
+    private static final String SHA256 = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+
+    @Mock
+    private StorageBackend storageBackend;
+
+    @Mock
+    private DirectUploadRepository directUploadRepository;
+
+    @Mock
+    private DocumentService documentService;
+
+    @Mock
+    private StoredObjectService storedObjectService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private DirectUploadManager directUploadManager;
+
+    private DirectUpload pending;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(directUploadManager, "urlExpirySeconds", 900);
+        ReflectionTestUtils.setField(directUploadManager, "maxFileSize", 2048 * MB);
+        ReflectionTestUtils.setField(directUploadManager, "confirmGraceMinutes", 60L);
+
+        pending = DirectUpload.builder()
+                .id("upload-1")
+                .objectName("object.pdf")
+                .originalFileName("report.pdf")
+                .expectedSize(4 * MB)
+                .contentHash(SHA256)
+                .status(DirectUpload.Status.PENDING)
+                .expiresAt(LocalDateTime.now().plusMinutes(15))
+                .build();
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(mock(TransactionStatus.class)));
+    }
+
+    private void givenUploadedObject(String storedObjectName) throws Exception {
+        when(directUploadRepository.findById("upload-1")).thenReturn(Optional.of(pending));
+        when(storageBackend.statObjectUncached("object.pdf")).thenReturn(new ObjectStat(4 * MB, "etag", "application/pdf"));
+        lenient().when(directUploadRepository.updateStatusIfExpiresAfter(eq("upload-1"), eq(DirectUpload.Status.PENDING),
+                eq(DirectUpload.Status.COMPLETED), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(1);
+        lenient().when(storedObjectService.register(eq(SHA256), eq("object.pdf"), eq(4 * MB), eq(StorageCodec.NONE)))
+                .thenReturn(new SuccessDataResult<>(StoredObject.builder().objectName(storedObjectName).build(), "ok"));
+    }
+
+    private DataResult<Document> confirm() {
+        return directUploadManager.confirmUpload("upload-1", "Rapor", "Test Kurumu", "Banka",
+                "https://test.com", "PDF", "Açıklama");
+    }
+
+    @Nested
+    @DisplayName("Initiate Upload Tests")
+    class InitiateUploadTests {
+
+        @Test
+        @DisplayName("Should sign the declared checksum into the PUT URL and persist pending upload")
+        void shouldInitiateUpload() throws Exception {
+            // Given
+            when(storageBackend.supportsDirectUpload()).thenReturn(true);
+            when(storageBackend.getPresignedUploadUrl(anyString(), eq(900), eq(SHA256))).thenReturn("https://minio/put-url");
+            when(directUploadRepository.save(any(DirectUpload.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            DataResult<DirectUpload> result = directUploadManager.initiateUpload("report.pdf", "application/pdf", 4 * MB,
+                    SHA256.toUpperCase());
+
+            // Then
+            assertTrue(result.isSuccess());
+            assertEquals("https://minio/put-url", result.getData().getUploadUrl());
+            assertEquals(DirectUpload.Status.PENDING, result.getData().getStatus());
+            assertEquals(SHA256, result.getData().getContentHash());
+            assertEquals("n4bQgYhMfWWaL+qgxVrQFaO/TxsrC4Is0V1sFbDwCgg=",
+                    result.getData().getUploadHeaders().get(StorageBackend.CHECKSUM_SHA256_HEADER));
+            assertTrue(result.getData().getObjectName().endsWith(".pdf"));
+        }
+
+        @Test
+        @DisplayName("Should reject a missing or malformed checksum without signing")
+        void shouldRejectInvalidChecksum() {
+            // When
+            DataResult<DirectUpload> missing = directUploadManager.initiateUpload("report.pdf", null, 4 * MB, null);
+            DataResult<DirectUpload> malformed = directUploadManager.initiateUpload("report.pdf", null, 4 * MB, "abc");
+
+            // Then
+            assertFalse(missing.isSuccess());
+            assertFalse(malformed.isSuccess());
+            verifyNoInteractions(storageBackend, directUploadRepository);
+        }
+
+        @Test
+        @DisplayName("Should reject declared size above limit without signing")
+        void shouldRejectOversizedUpload() {
+            // When
+            DataResult<DirectUpload> result = directUploadManager.initiateUpload("report.pdf", null, 4096 * MB, SHA256);
+
+            // Then
+            assertFalse(result.isSuccess());
+            verifyNoInteractions(storageBackend, directUploadRepository);
+        }
+
+        @Test
+        @DisplayName("Should reject direct upload when backend cannot sign upload URLs")
+        void shouldRejectWhenBackendDoesNotSupportDirectUpload() throws Exception {
+            // Given
+            when(storageBackend.supportsDirectUpload()).thenReturn(false);
+
+            // When
+            DataResult<DirectUpload> result = directUploadManager.initiateUpload("report.pdf", "application/pdf", 4 * MB,
+                    SHA256);
+
+            // Then
+            assertFalse(result.isSuccess());
+            verify(storageBackend, never()).getPresignedUploadUrl(anyString(), anyInt(), anyString());
+            verifyNoInteractions(directUploadRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Confirm Upload Tests")
+    class ConfirmUploadTests {
+
+        @Test
+        @DisplayName("Should record the declared checksum without reading the object back")
+        void shouldConfirmUpload() throws Exception {
+            // Given
+            givenUploadedObject("object.pdf");
+            when(documentService.saveDocument(any(Document.class)))
+                    .thenAnswer(invocation -> new SuccessDataResult<>(invocation.getArgument(0), "Success"));
+
+            // When
+            DataResult<Document> result = confirm();
+
+            // Then
+            assertTrue(result.isSuccess());
+            assertEquals("object.pdf", result.getData().getMinioFileName());
+            assertEquals("4.0 MB", result.getData().getFileSize());
+            assertEquals(SHA256, result.getData().getContentHash());
+            assertNull(result.getData().getCrc32c());
+            verify(transactionTemplate).execute(any());
+            verify(storageBackend, never()).getObject(anyString());
+            verify(storageBackend, never()).removeObject(anyString());
+        }
+
+        @Test
+        @DisplayName("Should reference existing object and remove uploaded copy when content is duplicate")
+        void shouldReuseExistingObjectForDuplicateContent() throws Exception {
+            // Given
+            givenUploadedObject("existing.pdf");
+            when(documentService.saveDocument(any(Document.class)))
+                    .thenAnswer(invocation -> new SuccessDataResult<>(invocation.getArgument(0), "Success"));
+
+            // When
+            DataResult<Document> result = confirm();
+
+            // Then
+            assertTrue(result.isSuccess());
+            assertEquals("existing.pdf", result.getData().getMinioFileName());
+            verify(storageBackend).removeObject("object.pdf");
+        }
+
+        @Test
+        @DisplayName("Should not save a document when a concurrent confirm or cleanup claimed the upload")
+        void shouldRejectWhenClaimLost() throws Exception {
+            // Given
+            givenUploadedObject("object.pdf");
+            when(directUploadRepository.updateStatusIfExpiresAfter(anyString(), any(), any(), any(), any())).thenReturn(0);
+
+            // When
+            DataResult<Document> result = confirm();
+
+            // Then
+            assertFalse(result.isSuccess());
+            verify(storedObjectService, never()).register(anyString(), anyString(), anyLong(), any());
+            verifyNoInteractions(documentService);
+        }
+
+        @Test
+        @DisplayName("Should roll back the claim when the document cannot be saved")
+        void shouldFailWhenDocumentSaveFails() throws Exception {
+            // Given
+            givenUploadedObject("object.pdf");
+            when(documentService.saveDocument(any(Document.class))).thenThrow(new IllegalStateException("bağlantı koptu"));
+
+            // When
+            DataResult<Document> result = confirm();
+
+            // Then
+            assertFalse(result.isSuccess());
+            verify(storageBackend, never()).removeObject(anyString());
+        }
+
+        @Test
+        @DisplayName("Should reject uploads past their confirm grace period")
+        void shouldRejectExpiredUpload() {
+            // Given
+            pending.setExpiresAt(LocalDateTime.now().minusMinutes(61));
+            when(directUploadRepository.findById("upload-1")).thenReturn(Optional.of(pending));
+
+            // When
+            DataResult<Document> result = confirm();
+
+            // Then
+            assertFalse(result.isSuccess());
+            verifyNoInteractions(storageBackend, documentService, storedObjectService);
+        }
+
+        @Test
+        @DisplayName("Should reject uploads started before checksums were declared")
+        void shouldRejectUploadWithoutChecksum() {
+            // Given
+            pending.setContentHash(null);
+            when(directUploadRepository.findById("upload-1")).thenReturn(Optional.of(pending));
+
+            // When
+            DataResult<Document> result = confirm();
+
+            // Then
+            assertFalse(result.isSuccess());
+            verifyNoInteractions(storageBackend, documentService, storedObjectService);
+        }
+
+        @Test
+        @DisplayName("Should keep upload pending when object is missing")
+        void shouldFailWhenObjectMissing() throws Exception {
+            // Given
+            when(directUploadRepository.findById("upload-1")).thenReturn(Optional.of(pending));
+            when(storageBackend.statObjectUncached("object.pdf")).thenThrow(new RuntimeException("NoSuchKey"));
+
+            // When
+            DataResult<Document> result = confirm();
+
+            // Then
+            assertFalse(result.isSuccess());
+            assertEquals(DirectUpload.Status.PENDING, pending.getStatus());
+            verifyNoInteractions(documentService);
+        }
+
+        @Test
+        @DisplayName("Should reject object whose size differs from declared size")
+        void shouldRejectSizeMismatch() throws Exception {
+            // Given
+            when(directUploadRepository.findById("upload-1")).thenReturn(Optional.of(pending));
+            when(storageBackend.statObjectUncached("object.pdf")).thenReturn(new ObjectStat(3 * MB, "etag", "application/pdf"));
+
+            // When
+            DataResult<Document> result = confirm();
+
+            // Then
+            assertFalse(result.isSuccess());
+            verifyNoInteractions(documentService);
+        }
+
+        @Test
+        @DisplayName("Should not confirm an already completed upload twice")
+        void shouldRejectCompletedUpload() {
+            // Given
+            pending.setStatus(DirectUpload.Status.COMPLETED);
+            when(directUploadRepository.findById("upload-1")).thenReturn(Optional.of(pending));
+
+            // When
+            DataResult<Document> result = confirm();
+
+            // Then
+            assertFalse(result.isSuccess());
+            verifyNoInteractions(storageBackend, documentService);
+        }
+    }
+
+    @Nested
+    @DisplayName("Cleanup Tests")
+    class CleanupTests {
+
+        @Test
+        @DisplayName("Should expire unconfirmed uploads before removing their objects")
+        void shouldExpireUnconfirmedUploads() throws Exception {
+            // Given
+            when(directUploadRepository.findByStatusAndExpiresAtBefore(eq(DirectUpload.Status.PENDING),
+                    any(LocalDateTime.class))).thenReturn(List.of(pending));
+            when(directUploadRepository.updateStatus(eq("upload-1"), eq(DirectUpload.Status.PENDING),
+                    eq(DirectUpload.Status.EXPIRED), any(LocalDateTime.class))).thenReturn(1);
+
+            // When
+            directUploadManager.cleanupExpiredUploads();
+
+            // Then
+            verify(storageBackend).removeObject("object.pdf");
+        }
+
+        @Test
+        @DisplayName("Should keep the object when the upload was confirmed meanwhile")
+        void shouldSkipUploadsConfirmedDuringCleanup() throws Exception {
+            // Given
+            when(directUploadRepository.findByStatusAndExpiresAtBefore(eq(DirectUpload.Status.PENDING),
+                    any(LocalDateTime.class))).thenReturn(List.of(pending));
+            when(directUploadRepository.updateStatus(anyString(), any(), any(), any())).thenReturn(0);
+
+            // When
+            directUploadManager.cleanupExpiredUploads();
+
+            // Then
+            verifyNoInteractions(storageBackend);
+        }
+    }
+}
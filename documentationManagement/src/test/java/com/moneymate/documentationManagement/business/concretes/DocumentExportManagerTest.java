@@ -0,0 +1,255 @@
+package com.moneymate.documentationManagement.business.concretes;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.moneymate.documentationManagement.business.requests.DocumentExportRequest;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
+import com.moneymate.documentationManagement.core.utilities.io.StorageCodec;
+import com.moneymate.documentationManagement.dataAccess.abstracts.DocumentRepository;
+import com.moneymate.documentationManagement.dataAccess.concretes.FileSystemStorageBackend;
+import com.moneymate.documentationManagement.entities.concretes.Document;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DocumentExportManager Service Tests")
+class DocumentExportManagerTest {
+
+    @TempDir
+    Path storageDirectory;
+
+    @TempDir
+    Path outputDirectory;
+
+    @Mock
+    private DocumentRepository documentRepository;
+
+    // Açık kalan nesne stream'lerini sayar
+    private final AtomicInteger openStreams = new AtomicInteger();
+    private FileSystemStorageBackend storageBackend;
+    private ExecutorService executor;
+    private DocumentExportManager documentExportManager;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        storageBackend = new FileSystemStorageBackend(storageDirectory) {
+            @Override
+            public InputStream getObject(String objectName) throws Exception {
+                InputStream inputStream = super.getObject(objectName);
+                openStreams.incrementAndGet();
+                return new FilterInputStream(inputStream) {
+                    @Override
+                    public void close() throws IOException {
+                        openStreams.decrementAndGet();
+                        super.close();
+                    }
+                };
+            }
+        };
+        executor = Executors.newFixedThreadPool(2);
+        documentExportManager = new DocumentExportManager(storageBackend, documentRepository, executor,
+                2, 1024, 3, 6, List.of("jpg", "pdf"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private Document document(long id, String title, String objectName, byte[] content, StorageCodec codec)
+            throws Exception {
+        InputStream stored = codec.encode(new ByteArrayInputStream(content), 6);
+        storageBackend.putObject(objectName, stored, -1, null);
+        return Document.builder().id(id).title(title).minioFileName(objectName)
+                .institutionName("TCMB").documentType("PDF")
+                .storageCodec(codec == StorageCodec.NONE ? null : codec).build();
+    }
+
+    private ZipFile export(List<Document> documents) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        documentExportManager.writeZip(documents, outputStream);
+        Path zipPath = outputDirectory.resolve("export.zip");
+        Files.write(zipPath, outputStream.toByteArray());
+        return new ZipFile(zipPath.toFile());
+    }
+
+    private String read(ZipFile zipFile, String entryName) throws Exception {
+        try (InputStream inputStream = zipFile.getInputStream(zipFile.getEntry(entryName))) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Nested
+    @DisplayName("Write Zip Tests")
+    class WriteZipTests {
+
+        @Test
+        @DisplayName("Should write decoded objects and a manifest")
+        void shouldWriteEntriesAndManifest() throws Exception {
+            // Given
+            String csv = "tarih;tutar\n".repeat(1000);
+            Document report = document(1L, "Rapor: 2024/Q1", "a.csv", csv.getBytes(StandardCharsets.UTF_8),
+                    StorageCodec.GZIP);
+            Document note = document(2L, "Not", "b.txt", "kısa not".getBytes(StandardCharsets.UTF_8), StorageCodec.NONE);
+
+            // When
+            try (ZipFile zipFile = export(List.of(report, note))) {
+                // Then
+                assertEquals(csv, read(zipFile, "1-Rapor_ 2024_Q1.csv"));
+                assertEquals("kısa not", read(zipFile, "2-Not.txt"));
+                String manifest = read(zipFile, "manifest.csv");
+                assertTrue(manifest.contains("1;1-Rapor_ 2024_Q1.csv;Rapor: 2024/Q1;TCMB;PDF;;OK"));
+                assertTrue(manifest.contains("2;2-Not.txt;Not;TCMB;PDF;;OK"));
+            }
+            assertEquals(0, openStreams.get());
+        }
+
+        @Test
+        @DisplayName("Should not compress already compressed formats")
+        void shouldStorePrecompressedEntries() throws Exception {
+            // Given
+            String text = "aynı satır tekrar ediyor\n".repeat(2000);
+            Document image = document(1L, "Foto", "a.jpg", text.getBytes(StandardCharsets.UTF_8), StorageCodec.NONE);
+            Document log = document(2L, "Log", "b.log", text.getBytes(StandardCharsets.UTF_8), StorageCodec.NONE);
+
+            // When
+            try (ZipFile zipFile = export(List.of(image, log))) {
+                // Then
+                ZipEntry imageEntry = zipFile.getEntry("1-Foto.jpg");
+                ZipEntry logEntry = zipFile.getEntry("2-Log.log");
+                assertTrue(imageEntry.getCompressedSize() >= imageEntry.getSize());
+                assertTrue(logEntry.getCompressedSize() < logEntry.getSize() / 10);
+                assertEquals(text, read(zipFile, "1-Foto.jpg"));
+            }
+        }
+
+        @Test
+        @DisplayName("Should record missing objects in the manifest and keep going")
+        void shouldSkipMissingObjects() throws Exception {
+            // Given
+            Document missing = Document.builder().id(1L).title("Kayıp").minioFileName("missing.pdf").build();
+            Document present = document(2L, "Var", "b.txt", "içerik".getBytes(StandardCharsets.UTF_8), StorageCodec.NONE);
+
+            // When
+            try (ZipFile zipFile = export(List.of(missing, present))) {
+                // Then
+                assertNull(zipFile.getEntry("1-Kayıp.pdf"));
+                assertEquals("içerik", read(zipFile, "2-Var.txt"));
+                assertTrue(read(zipFile, "manifest.csv").contains("1;1-Kayıp.pdf;Kayıp;;;;HATA"));
+            }
+        }
+
+        @Test
+        @DisplayName("Should close prefetched objects when the client disconnects")
+        void shouldReleaseObjectsOnDisconnect() throws Exception {
+            // Given
+            byte[] content = new byte[256 * 1024];
+            new Random(1).nextBytes(content);
+            List<Document> documents = List.of(
+                    document(1L, "A", "a.bin", content, StorageCodec.NONE),
+                    document(2L, "B", "b.bin", content, StorageCodec.NONE),
+                    document(3L, "C", "c.bin", content, StorageCodec.NONE));
+            OutputStream disconnected = new OutputStream() {
+                private long written;
+
+                @Override
+                public void write(int b) throws IOException {
+                    write(new byte[] {(byte) b}, 0, 1);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    written += len;
+                    if (written > 100_000) {
+                        throw new IOException("Broken pipe");
+                    }
+                }
+            };
+
+            // When
+            assertThrows(IOException.class, () -> documentExportManager.writeZip(documents, disconnected));
+
+            // Then: havuzda açılmakta olan nesneler de iş bitince kapatılır
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+            assertEquals(0, openStreams.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("Find Documents Tests")
+    class FindDocumentsTests {
+
+        @Test
+        @DisplayName("Should require at least one filter")
+        void shouldRequireFilter() {
+            // When
+            DataResult<List<Document>> result = documentExportManager.findDocuments(new DocumentExportRequest());
+
+            // Then
+            assertFalse(result.isSuccess());
+            verifyNoInteractions(documentRepository);
+        }
+
+        @Test
+        @DisplayName("Should prefer the id list and sort by id")
+        void shouldFindByIds() {
+            // Given
+            when(documentRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(
+                    Document.builder().id(2L).build(), Document.builder().id(1L).build()));
+
+            // When
+            DataResult<List<Document>> result = documentExportManager.findDocuments(
+                    new DocumentExportRequest("TCMB", null, List.of(2L, 1L)));
+
+            // Then
+            assertTrue(result.isSuccess());
+            assertEquals(List.of(1L, 2L), result.getData().stream().map(Document::getId).toList());
+            verify(documentRepository, never()).findByInstitutionName(anyString());
+        }
+
+        @Test
+        @DisplayName("Should reject exports over the document limit")
+        void shouldRejectTooManyDocuments() {
+            // Given
+            when(documentRepository.findByInstitutionAndType("TCMB", "PDF")).thenReturn(List.of(
+                    Document.builder().id(1L).build(), Document.builder().id(2L).build(),
+                    Document.builder().id(3L).build(), Document.builder().id(4L).build()));
+
+            // When
+            DataResult<List<Document>> result = documentExportManager.findDocuments(
+                    new DocumentExportRequest("TCMB", "PDF", null));
+
+            // Then
+            assertFalse(result.isSuccess());
+        }
+    }
+}
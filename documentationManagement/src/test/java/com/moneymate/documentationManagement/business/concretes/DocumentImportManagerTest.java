@@ -0,0 +1,294 @@
+package com.moneymate.documentationManagement.business.concretes;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.moneymate.documentationManagement.business.abstracts.DocumentService;
+import com.moneymate.documentationManagement.business.abstracts.FileUploadService;
+import com.moneymate.documentationManagement.business.requests.BatchUploadItemRequest;
+import com.moneymate.documentationManagement.business.requests.DocumentImportRequest;
+import com.moneymate.documentationManagement.business.responses.ImportReport;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.SuccessDataResult;
+import com.moneymate.documentationManagement.dataAccess.abstracts.ImportJobRepository;
+import com.moneymate.documentationManagement.entities.concretes.Document;
+import com.moneymate.documentationManagement.entities.concretes.ImportJob;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DocumentImportManager Service Tests")
+class DocumentImportManagerTest {
+
+    @TempDir
+    Path rootDirectory;
+
+    @Mock
+    private FileUploadService fileUploadService;
+
+    @Mock
+    private DocumentService documentService;
+
+    @Mock
+    private ImportJobRepository importJobRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    // Veritabanının yerine geçer
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+    private final List<List<String>> insertedBatches = new ArrayList<>();
+    private final AtomicLong ids = new AtomicLong();
+    private ExecutorService jobExecutor;
+    private ExecutorService uploadExecutor;
+
+    @BeforeEach
+    void setUp() {
+        jobExecutor = Executors.newSingleThreadExecutor();
+        uploadExecutor = Executors.newFixedThreadPool(3);
+        lenient().when(importJobRepository.save(any(ImportJob.class))).thenAnswer(invocation -> {
+            ImportJob job = invocation.getArgument(0);
+            jobs.put(job.getId(), job);
+            return job;
+        });
+        lenient().when(importJobRepository.findById(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(jobs.get(invocation.<String>getArgument(0))));
+        lenient().when(fileUploadService.prepareDocument(any(), anyLong(), anyString(), any(), any()))
+                .thenAnswer(invocation -> {
+                    try (InputStream inputStream = invocation.getArgument(0)) {
+                        inputStream.readAllBytes();
+                    }
+                    BatchUploadItemRequest metadata = invocation.getArgument(4);
+                    return new SuccessDataResult<>(Document.builder()
+                            .title(metadata.getTitle())
+                            .minioFileName("object-" + invocation.getArgument(2))
+                            .build(), "ok");
+                });
+        lenient().when(documentService.insertDocuments(anyList())).thenAnswer(invocation -> {
+            List<Document> documents = invocation.getArgument(0);
+            documents.forEach(document -> document.setId(ids.incrementAndGet()));
+            insertedBatches.add(documents.stream().map(Document::getTitle).toList());
+            return new SuccessDataResult<>(documents, "ok");
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobExecutor.shutdownNow();
+        uploadExecutor.shutdownNow();
+    }
+
+    private DocumentImportManager manager(long maxBufferedEntrySize) {
+        return new DocumentImportManager(fileUploadService, documentService, importJobRepository, transactionManager,
+                jobExecutor, uploadExecutor, rootDirectory, 2, 1024 * 1024, maxBufferedEntrySize,
+                1024 * 1024, 2, "node-1");
+    }
+
+    private ImportReport awaitJob(DocumentImportManager manager, DataResult<ImportReport> started) throws Exception {
+        assertTrue(started.isSuccess(), started.getMessage());
+        jobExecutor.shutdown();
+        assertTrue(jobExecutor.awaitTermination(10, TimeUnit.SECONDS));
+        return manager.getImport(started.getData().getId()).getData();
+    }
+
+    private Path directory(int files) throws Exception {
+        Path source = Files.createDirectory(rootDirectory.resolve("tcmb"));
+        StringBuilder manifest = new StringBuilder("file;title;institutionName;institutionType;documentType\n");
+        for (int i = 1; i <= files; i++) {
+            Files.writeString(source.resolve("file-" + i + ".txt"), "içerik " + i);
+            manifest.append("file-").append(i).append(".txt;Rapor ").append(i).append(";TCMB;Merkez Bankası;TXT\n");
+        }
+        Files.writeString(source.resolve("manifest.csv"), manifest);
+        return source;
+    }
+
+    @Nested
+    @DisplayName("Directory Import Tests")
+    class DirectoryImportTests {
+
+        @Test
+        @DisplayName("Should upload files and insert documents in ordered batches")
+        void shouldImportDirectory() throws Exception {
+            // Given
+            Path source = directory(5);
+            Files.writeString(source.resolve("extra.txt"), "manifest'te yok");
+            DocumentImportManager manager = manager(1024);
+
+            // When
+            ImportReport report = awaitJob(manager, manager.startImport(new DocumentImportRequest("tcmb", null)));
+
+            // Then: extra.txt sıralamada ilk dosya
+            assertEquals(ImportJob.Status.COMPLETED, report.getStatus());
+            assertEquals(5, report.getImportedFiles());
+            assertEquals(1, report.getFailedFiles());
+            assertEquals(6, report.getProcessedFiles());
+            assertEquals(6, report.getCheckpointIndex());
+            assertEquals(List.of(List.of("Rapor 1", "Rapor 2"), List.of("Rapor 3", "Rapor 4"), List.of("Rapor 5")),
+                    insertedBatches);
+            assertEquals(List.of("extra.txt: Manifest'te kaydı yok"), report.getFailures());
+            assertTrue(report.getImportedBytes() > 0);
+        }
+
+        @Test
+        @DisplayName("Should resume after the last checkpoint")
+        void shouldResumeFromCheckpoint() throws Exception {
+            // Given
+            Path source = directory(5);
+            jobs.put("job-1", ImportJob.builder().id("job-1").source(source.toString())
+                    .status(ImportJob.Status.INTERRUPTED).checkpointIndex(3).importedFiles(3).build());
+            DocumentImportManager manager = manager(1024);
+
+            // When
+            ImportReport report = awaitJob(manager, manager.resumeImport("job-1"));
+
+            // Then
+            assertEquals(ImportJob.Status.COMPLETED, report.getStatus());
+            assertEquals(5, report.getImportedFiles());
+            assertEquals(List.of(List.of("Rapor 4", "Rapor 5")), insertedBatches);
+            assertEquals("node-1", jobs.get("job-1").getOwnerInstance());
+            verify(fileUploadService, times(2)).prepareDocument(any(), anyLong(), anyString(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should keep the checkpoint and release objects when a batch insert fails")
+        void shouldReleaseObjectsWhenInsertFails() throws Exception {
+            // Given
+            directory(3);
+            when(documentService.insertDocuments(anyList()))
+                    .thenAnswer(invocation -> {
+                        List<Document> documents = invocation.getArgument(0);
+                        insertedBatches.add(documents.stream().map(Document::getTitle).toList());
+                        return new SuccessDataResult<>(documents, "ok");
+                    })
+                    .thenThrow(new IllegalStateException("bağlantı koptu"));
+            DocumentImportManager manager = manager(1024);
+
+            // When
+            ImportReport report = awaitJob(manager, manager.startImport(new DocumentImportRequest("tcmb", null)));
+
+            // Then
+            assertEquals(ImportJob.Status.FAILED, report.getStatus());
+            assertEquals(2, report.getCheckpointIndex());
+            assertEquals(2, report.getImportedFiles());
+            verify(fileUploadService).releaseFile("object-file-3.txt");
+        }
+
+        @Test
+        @DisplayName("Should reject sources outside the import root")
+        void shouldRejectSourceOutsideRoot() {
+            // When
+            DataResult<ImportReport> result = manager(1024).startImport(new DocumentImportRequest("../etc", null));
+
+            // Then
+            assertFalse(result.isSuccess());
+            verifyNoInteractions(importJobRepository);
+        }
+
+        @Test
+        @DisplayName("Should mark only this instance's unfinished imports as interrupted")
+        void shouldMarkOwnInterruptedImports() {
+            // Given
+            ImportJob job = ImportJob.builder().id("job-1").status(ImportJob.Status.RUNNING).ownerInstance("node-1").build();
+            when(importJobRepository.findByOwnerInstanceAndStatusIn(eq("node-1"), anyCollection())).thenReturn(List.of(job));
+
+            // When
+            manager(1024).markInterruptedImports();
+
+            // Then
+            assertEquals(ImportJob.Status.INTERRUPTED, job.getStatus());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tar Import Tests")
+    class TarImportTests {
+
+        private void addEntry(TarArchiveOutputStream tar, String name, byte[] content) throws Exception {
+            TarArchiveEntry entry = new TarArchiveEntry(name);
+            entry.setSize(content.length);
+            tar.putArchiveEntry(entry);
+            tar.write(content);
+            tar.closeArchiveEntry();
+        }
+
+        @Test
+        @DisplayName("Should import a gzip'd tar stream with a JSON manifest")
+        void shouldImportTar() throws Exception {
+            // Given
+            String manifest = """
+                    [{"file": "a.txt", "title": "A", "institutionName": "BDDK", "institutionType": "Kurul", "documentType": "TXT"},
+                     {"file": "docs/b.pdf", "title": "B", "institutionName": "BDDK", "institutionType": "Kurul", "documentType": "PDF"}]
+                    """;
+            try (OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(rootDirectory.resolve("bddk.tar.gz")));
+                 TarArchiveOutputStream tar = new TarArchiveOutputStream(outputStream)) {
+                addEntry(tar, "./manifest.json", manifest.getBytes(StandardCharsets.UTF_8));
+                addEntry(tar, "./a.txt", "küçük".getBytes(StandardCharsets.UTF_8));
+                // Tampon sınırından büyük; arşivden doğrudan yüklenir
+                addEntry(tar, "./docs/b.pdf", new byte[4096]);
+            }
+            DocumentImportManager manager = manager(1024);
+
+            // When
+            ImportReport report = awaitJob(manager, manager.startImport(new DocumentImportRequest("bddk.tar.gz", null)));
+
+            // Then
+            assertEquals(ImportJob.Status.COMPLETED, report.getStatus(), report.getMessage());
+            assertEquals(2, report.getImportedFiles());
+            assertEquals(List.of(List.of("A", "B")), insertedBatches);
+            verify(fileUploadService).prepareDocument(any(), eq(4096L), eq("b.pdf"), eq("application/pdf"), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Manifest Tests")
+    class ManifestTests {
+
+        @Test
+        @DisplayName("Should parse quoted CSV fields")
+        void shouldParseQuotedCsv() throws Exception {
+            // Given
+            String csv = "file,title,institutionName,institutionType,documentType,documentDescription\r\n"
+                    + "./a.pdf,\"Rapor, 2024\",TCMB,Merkez Bankası,PDF,\"çok \"\"satırlı\"\"\naçıklama\"\r\n";
+
+            // When
+            ImportManifest manifest = ImportManifest.parse(
+                    new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), "manifest.csv");
+
+            // Then
+            BatchUploadItemRequest item = manifest.get("a.pdf");
+            assertEquals(1, manifest.size());
+            assertEquals("Rapor, 2024", item.getTitle());
+            assertEquals("çok \"satırlı\"\naçıklama", item.getDocumentDescription());
+            assertNull(ImportManifest.missingField(item));
+        }
+    }
+}
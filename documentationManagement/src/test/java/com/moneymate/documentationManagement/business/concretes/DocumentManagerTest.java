@@ -6,8 +6,10 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -20,13 +22,27 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import com.moneymate.documentationManagement.business.abstracts.FileUrlService;
+import com.moneymate.documentationManagement.business.events.DocumentDeletedEvent;
+import com.moneymate.documentationManagement.business.events.DocumentSavedEvent;
+import com.moneymate.documentationManagement.business.events.DocumentUpdatedEvent;
 import com.moneymate.documentationManagement.business.requests.DocumentUpdateRequest;
+import com.moneymate.documentationManagement.business.responses.CursorPage;
+import com.moneymate.documentationManagement.business.responses.DocumentSearchHit;
 import com.moneymate.documentationManagement.core.utilities.Messages;
 import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
 import com.moneymate.documentationManagement.core.utilities.exceptions.Results.Result;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.SuccessDataResult;
 import com.moneymate.documentationManagement.core.utilities.mappers.DocumentMapperUtil;
+import com.moneymate.documentationManagement.core.utilities.paging.KeysetCursor;
+import com.moneymate.documentationManagement.dataAccess.abstracts.DocumentFuzzySearchRepository;
 import com.moneymate.documentationManagement.dataAccess.abstracts.DocumentRepository;
+import com.moneymate.documentationManagement.dataAccess.abstracts.DocumentSearchIndex;
+import com.moneymate.documentationManagement.dataAccess.abstracts.DocumentTextRepository;
 import com.moneymate.documentationManagement.entities.concretes.Document;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +55,21 @@ class DocumentManagerTest {
     @Mock
     private DocumentMapperUtil documentMapperUtil;
 
+    @Mock
+    private FileUrlService fileUrlService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private DocumentTextRepository documentTextRepository;
+
+    @Mock
+    private DocumentFuzzySearchRepository documentFuzzySearchRepository;
+
+    @Mock
+    private DocumentSearchIndex documentSearchIndex;
+
     @InjectMocks
     private DocumentManager documentManager;
 
@@ -47,6 +78,9 @@ class DocumentManagerTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(fileUrlService.getDocumentUrl(any(), any(), any()))
+                .thenReturn(new SuccessDataResult<>("http://localhost:9000/test-bucket/test-file.pdf"));
+
         testDocument = Document.builder()
                 .id(1L)
                 .title("Test Document")
@@ -106,21 +140,46 @@ class DocumentManagerTest {
 
             verify(documentMapperUtil).setCreationTimestamps(documentToSave);
             verify(documentRepository).save(documentToSave);
+            verify(eventPublisher).publishEvent(new DocumentSavedEvent(savedDocument.getId()));
         }
 
         @Test
         @DisplayName("Should handle null document when saving")
         void shouldHandleNullDocumentWhenSaving() {
-            // Given
+            // Given: Spring Data null entity'yi reddeder
             Document nullDocument = null;
+            when(documentRepository.save(nullDocument))
+                    .thenThrow(new IllegalArgumentException("Entity must not be null"));
+
+            // When & Then
+            assertThrows(IllegalArgumentException.class, () -> documentManager.saveDocument(nullDocument));
+            verify(documentMapperUtil).setCreationTimestamps(nullDocument);
+            verify(documentRepository).save(nullDocument);
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Save Documents Tests")
+    class SaveDocumentsTests {
+
+        @Test
+        @DisplayName("Should save every document and keep input order")
+        void shouldSaveDocumentsInOrder() {
+            // Given
+            Document first = Document.builder().title("First").build();
+            Document second = Document.builder().title("Second").build();
+            when(documentRepository.save(any(Document.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
             // When
-            DataResult<Document> result = documentManager.saveDocument(nullDocument);
+            DataResult<List<Document>> result = documentManager.saveDocuments(List.of(first, second));
 
             // Then
-            assertTrue(result.isSuccess()); // Service doesn't validate null, repository might handle it
-            verify(documentMapperUtil).setCreationTimestamps(nullDocument);
-            verify(documentRepository).save(nullDocument);
+            assertTrue(result.isSuccess());
+            assertEquals(List.of(first, second), result.getData());
+            verify(documentMapperUtil).setCreationTimestamps(first);
+            verify(documentMapperUtil).setCreationTimestamps(second);
+            verify(documentRepository, times(2)).save(any(Document.class));
         }
     }
 
@@ -146,6 +205,35 @@ class DocumentManagerTest {
             assertEquals(Messages.GetByIdDocument, result.getMessage());
 
             verify(documentRepository).findById(documentId);
+            // Metadata okuması erişim sayılmaz; erişim içerik okunurken ya da URL verilirken yazılır
+            verify(documentRepository, never()).touchLastAccessedAt(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should record access when last access is older than a day")
+        void shouldRecordAccessWhenStale() {
+            // Given
+            testDocument.setLastAccessedAt(LocalDateTime.now().minusDays(2));
+
+            // When
+            documentManager.recordAccess(testDocument);
+
+            // Then
+            verify(documentRepository).touchLastAccessedAt(eq(testDocument.getId()), any(LocalDateTime.class),
+                    any(LocalDateTime.class));
+        }
+
+        @Test
+        @DisplayName("Should not write access time more than once a day")
+        void shouldSkipRecentAccess() {
+            // Given
+            testDocument.setLastAccessedAt(LocalDateTime.now().minusHours(1));
+
+            // When
+            documentManager.recordAccess(testDocument);
+
+            // Then
+            verify(documentRepository, never()).touchLastAccessedAt(any(), any(), any());
         }
 
         @Test
@@ -184,231 +272,278 @@ class DocumentManagerTest {
     }
 
     @Nested
-    @DisplayName("Get All Documents Tests")
-    class GetAllDocumentsTests {
+    @DisplayName("Search Documents By Content Tests")
+    class SearchDocumentsByContentTests {
 
         @Test
-        @DisplayName("Should get all documents successfully when documents exist")
-        void shouldGetAllDocumentsSuccessfullyWhenExist() {
+        @DisplayName("Should search extracted texts with trimmed query")
+        void shouldSearchDocumentsByContent() {
             // Given
-            Document document2 = Document.builder()
-                    .id(2L)
-                    .title("Another Document")
-                    .institutionName("Another University")
-                    .institutionType("College")
-                    .documentType("DOCX")
-                    .fileUrl("https://example.com/another.docs")
-                    .build();
-
-            List<Document> documents = Arrays.asList(testDocument, document2);
-            when(documentRepository.findAll()).thenReturn(documents);
+            when(documentTextRepository.searchByContent(eq("faiz oranı"), any(Pageable.class)))
+                    .thenReturn(List.of(testDocument));
 
             // When
-            DataResult<List<Document>> result = documentManager.getAllDocuments();
+            DataResult<List<Document>> result = documentManager.searchDocumentsByContent("  faiz oranı ");
 
             // Then
             assertTrue(result.isSuccess());
-            assertNotNull(result.getData());
-            assertEquals(2, result.getData().size());
-            assertEquals(documents, result.getData());
-            assertEquals(Messages.GetByAllDocument, result.getMessage());
-
-            verify(documentRepository).findAll();
+            assertEquals(List.of(testDocument), result.getData());
+            verify(fileUrlService).getDocumentUrl(testDocument.getId(), testDocument.getMinioFileName(), testDocument.getStorageCodec());
         }
 
         @Test
-        @DisplayName("Should return empty list when no documents exist")
-        void shouldReturnEmptyListWhenNoDocumentsExist() {
-            // Given
-            List<Document> emptyList = Collections.emptyList();
-            when(documentRepository.findAll()).thenReturn(emptyList);
-
+        @DisplayName("Should reject blank query without querying")
+        void shouldRejectBlankQuery() {
             // When
-            DataResult<List<Document>> result = documentManager.getAllDocuments();
+            DataResult<List<Document>> result = documentManager.searchDocumentsByContent(" ");
 
             // Then
-            assertTrue(result.isSuccess());
-            assertNotNull(result.getData());
-            assertTrue(result.getData().isEmpty());
-            assertEquals(Messages.GetByAllDocument, result.getMessage());
-
-            verify(documentRepository).findAll();
+            assertFalse(result.isSuccess());
+            verifyNoInteractions(documentTextRepository);
         }
     }
 
     @Nested
-    @DisplayName("Get Documents By Institution Tests")
-    class GetDocumentsByInstitutionTests {
+    @DisplayName("Keyset Pagination Tests")
+    class KeysetPaginationTests {
+
+        private List<Document> documents(long... ids) {
+            return Arrays.stream(ids).mapToObj(id -> Document.builder().id(id).title("Doc " + id).build()).toList();
+        }
 
         @Test
-        @DisplayName("Should get documents by institution name successfully")
-        void shouldGetDocumentsByInstitutionNameSuccessfully() {
-            // Given
-            String institutionName = "Test University";
-            List<Document> documents = Arrays.asList(testDocument);
-            when(documentRepository.findByInstitutionName(institutionName)).thenReturn(documents);
+        @DisplayName("Should start from the newest document and return a cursor when more rows exist")
+        void shouldReturnFirstPageWithCursor() {
+            // Given: size + 1 kayıt dönerse sonraki sayfa vardır
+            when(documentRepository.findByIdLessThanOrderByIdDesc(eq(Long.MAX_VALUE), any(Pageable.class)))
+                    .thenReturn(documents(9L, 8L, 7L));
 
             // When
-            DataResult<List<Document>> result = documentManager.getDocumentsByInstitution(institutionName);
+            DataResult<CursorPage<Document>> result = documentManager.getAllDocuments(null, 2);
 
             // Then
             assertTrue(result.isSuccess());
-            assertNotNull(result.getData());
-            assertEquals(1, result.getData().size());
-            assertEquals(testDocument, result.getData().get(0));
-            assertEquals(Messages.DocumentsGetSuccess, result.getMessage());
-
-            verify(documentRepository).findByInstitutionName(institutionName);
+            assertEquals(List.of(9L, 8L), result.getData().getItems().stream().map(Document::getId).toList());
+            assertEquals(8L, KeysetCursor.decode(result.getData().getNextCursor()));
+            verify(documentRepository).findByIdLessThanOrderByIdDesc(Long.MAX_VALUE, PageRequest.of(0, 3));
+            verify(fileUrlService, times(2)).getDocumentUrl(any(), any(), any());
         }
 
         @Test
-        @DisplayName("Should return empty list when no documents found for institution")
-        void shouldReturnEmptyListWhenNoDocumentsForInstitution() {
+        @DisplayName("Should continue after the cursor and end without a cursor")
+        void shouldReturnLastPage() {
             // Given
-            String institutionName = "Nonexistent University";
-            List<Document> emptyList = Collections.emptyList();
-            when(documentRepository.findByInstitutionName(institutionName)).thenReturn(emptyList);
+            when(documentRepository.findByInstitutionNameAndIdLessThanOrderByIdDesc(
+                    eq("TCMB"), eq(8L), any(Pageable.class))).thenReturn(documents(7L));
 
             // When
-            DataResult<List<Document>> result = documentManager.getDocumentsByInstitution(institutionName);
+            DataResult<CursorPage<Document>> result =
+                    documentManager.getDocumentsByInstitution("TCMB", KeysetCursor.encode(8L), 2);
 
             // Then
             assertTrue(result.isSuccess());
-            assertNotNull(result.getData());
-            assertTrue(result.getData().isEmpty());
-            assertEquals(Messages.DocumentsGetSuccess, result.getMessage());
-
-            verify(documentRepository).findByInstitutionName(institutionName);
+            assertEquals(1, result.getData().getItems().size());
+            assertNull(result.getData().getNextCursor());
+            assertFalse(result.getData().isHasMore());
         }
 
         @Test
-        @DisplayName("Should handle null institution name")
-        void shouldHandleNullInstitutionName() {
+        @DisplayName("Should cap the page size")
+        void shouldCapPageSize() {
             // Given
-            String nullInstitutionName = null;
-            List<Document> emptyList = Collections.emptyList();
-            when(documentRepository.findByInstitutionName(nullInstitutionName)).thenReturn(emptyList);
+            when(documentRepository.findByDocumentTypeAndIdLessThanOrderByIdDesc(
+                    eq("PDF"), eq(Long.MAX_VALUE), any(Pageable.class))).thenReturn(Collections.emptyList());
 
             // When
-            DataResult<List<Document>> result = documentManager.getDocumentsByInstitution(nullInstitutionName);
+            documentManager.getDocumentsByType("PDF", null, 10_000);
 
             // Then
-            assertTrue(result.isSuccess());
-            assertNotNull(result.getData());
-            assertTrue(result.getData().isEmpty());
+            verify(documentRepository).findByDocumentTypeAndIdLessThanOrderByIdDesc("PDF", Long.MAX_VALUE,
+                    PageRequest.of(0, 201));
+        }
+
+        @Test
+        @DisplayName("Should reject invalid cursors and sizes without querying")
+        void shouldRejectInvalidInput() {
+            // When
+            DataResult<CursorPage<Document>> badCursor = documentManager.searchDocumentsByTitle("rapor", "bozuk!", 10);
+            DataResult<CursorPage<Document>> foreignCursor = documentManager.searchDocumentsByTitle("rapor",
+                    Base64.getUrlEncoder().encodeToString("offset:10".getBytes()), 10);
+            DataResult<CursorPage<Document>> badSize = documentManager.searchDocumentsByTitle("rapor", null, 0);
 
-            verify(documentRepository).findByInstitutionName(nullInstitutionName);
+            // Then
+            assertFalse(badCursor.isSuccess());
+            assertEquals("Geçersiz sayfa imleci", badCursor.getMessage());
+            assertFalse(foreignCursor.isSuccess());
+            assertFalse(badSize.isSuccess());
+            verifyNoInteractions(documentRepository);
         }
     }
 
     @Nested
-    @DisplayName("Get Documents By Type Tests")
-    class GetDocumentsByTypeTests {
+    @DisplayName("Full Text Search Tests")
+    class FullTextSearchTests {
+
+        private record Row(Long getId, Float getRank, String getTitleHighlight, String getDescriptionSnippet)
+                implements DocumentRepository.SearchRow {
+        }
 
         @Test
-        @DisplayName("Should get documents by document type successfully")
-        void shouldGetDocumentsByDocumentTypeSuccessfully() {
-            // Given
-            String documentType = "PDF";
-            List<Document> documents = Arrays.asList(testDocument);
-            when(documentRepository.findByDocumentType(documentType)).thenReturn(documents);
+        @DisplayName("Should return hits in rank order with highlights")
+        void shouldReturnRankedHits() {
+            // Given: findAllById sırayı korumaz
+            when(documentRepository.searchFullText("faiz kararı", 20)).thenReturn(List.of(
+                    new Row(2L, 0.6f, "<mark>Faiz</mark> <mark>Kararı</mark>", ""),
+                    new Row(1L, 0.2f, "Basın Duyurusu", "politika <mark>faizi</mark>")));
+            when(documentRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(
+                    Document.builder().id(1L).title("Basın Duyurusu").build(),
+                    Document.builder().id(2L).title("Faiz Kararı").build()));
 
             // When
-            DataResult<List<Document>> result = documentManager.getDocumentsByType(documentType);
+            DataResult<List<DocumentSearchHit>> result = documentManager.searchDocuments("  faiz kararı ", null);
 
             // Then
             assertTrue(result.isSuccess());
-            assertNotNull(result.getData());
-            assertEquals(1, result.getData().size());
-            assertEquals(testDocument, result.getData().get(0));
-            assertEquals(Messages.DocumentsGetSuccess, result.getMessage());
-
-            verify(documentRepository).findByDocumentType(documentType);
+            assertEquals(List.of(2L, 1L), result.getData().stream().map(hit -> hit.getDocument().getId()).toList());
+            assertEquals("<mark>Faiz</mark> <mark>Kararı</mark>", result.getData().get(0).getTitleHighlight());
+            assertEquals("politika <mark>faizi</mark>", result.getData().get(1).getDescriptionSnippet());
+            verify(fileUrlService, times(2)).getDocumentUrl(any(), any(), any());
         }
 
         @Test
-        @DisplayName("Should return empty list when no documents found for type")
-        void shouldReturnEmptyListWhenNoDocumentsForType() {
+        @DisplayName("Should skip documents deleted between the search and the load")
+        void shouldSkipDeletedDocuments() {
             // Given
-            String documentType = "XLS";
-            List<Document> emptyList = Collections.emptyList();
-            when(documentRepository.findByDocumentType(documentType)).thenReturn(emptyList);
+            when(documentRepository.searchFullText("rapor", 5)).thenReturn(List.of(
+                    new Row(3L, 0.5f, "<mark>Rapor</mark>", ""), new Row(4L, 0.1f, "Eski <mark>rapor</mark>", "")));
+            when(documentRepository.findAllById(List.of(3L, 4L)))
+                    .thenReturn(List.of(Document.builder().id(4L).build()));
 
             // When
-            DataResult<List<Document>> result = documentManager.getDocumentsByType(documentType);
+            DataResult<List<DocumentSearchHit>> result = documentManager.searchDocuments("rapor", 5);
 
             // Then
-            assertTrue(result.isSuccess());
-            assertNotNull(result.getData());
-            assertTrue(result.getData().isEmpty());
-            assertEquals(Messages.DocumentsGetSuccess, result.getMessage());
+            assertEquals(1, result.getData().size());
+            assertEquals(4L, result.getData().get(0).getDocument().getId());
+        }
+
+        @Test
+        @DisplayName("Should cap the result size and reject blank queries")
+        void shouldValidateInput() {
+            // Given
+            when(documentRepository.searchFullText("rapor", 100)).thenReturn(Collections.emptyList());
+
+            // When
+            DataResult<List<DocumentSearchHit>> capped = documentManager.searchDocuments("rapor", 5000);
+            DataResult<List<DocumentSearchHit>> blank = documentManager.searchDocuments("   ", null);
+            DataResult<List<DocumentSearchHit>> badSize = documentManager.searchDocuments("rapor", 0);
 
-            verify(documentRepository).findByDocumentType(documentType);
+            // Then
+            assertTrue(capped.isSuccess());
+            assertFalse(blank.isSuccess());
+            assertFalse(badSize.isSuccess());
+            verify(documentRepository).searchFullText("rapor", 100);
         }
     }
 
     @Nested
-    @DisplayName("Search Documents By Title Tests")
-    class SearchDocumentsByTitleTests {
+    @DisplayName("Fuzzy Search Tests")
+    class FuzzySearchTests {
 
         @Test
-        @DisplayName("Should search documents by title successfully")
-        void shouldSearchDocumentsByTitleSuccessfully() {
+        @DisplayName("Should return documents in similarity order")
+        void shouldReturnDocumentsBySimilarity() {
             // Given
-            String searchTitle = "test";
-            List<Document> documents = Arrays.asList(testDocument);
-            when(documentRepository.findByTitleContainingIgnoreCase(searchTitle)).thenReturn(documents);
+            when(documentFuzzySearchRepository.search("merkz bankasi", 0.4, 20)).thenReturn(List.of(
+                    new DocumentFuzzySearchRepository.Match(7L, 0.8f),
+                    new DocumentFuzzySearchRepository.Match(3L, 0.45f)));
+            when(documentRepository.findAllById(List.of(7L, 3L))).thenReturn(List.of(
+                    Document.builder().id(3L).institutionName("Merkez Bankası").build(),
+                    Document.builder().id(7L).title("Merkez Bankası Faiz Kararı").build()));
 
             // When
-            DataResult<List<Document>> result = documentManager.searchDocumentsByTitle(searchTitle);
+            DataResult<List<DocumentSearchHit>> result = documentManager.searchDocumentsFuzzy("merkz bankasi ", 0.4, null);
 
             // Then
             assertTrue(result.isSuccess());
-            assertNotNull(result.getData());
-            assertEquals(1, result.getData().size());
-            assertEquals(testDocument, result.getData().get(0));
-            assertEquals(Messages.DocumentsGetSuccess, result.getMessage());
-
-            verify(documentRepository).findByTitleContainingIgnoreCase(searchTitle);
+            assertEquals(List.of(7L, 3L), result.getData().stream().map(hit -> hit.getDocument().getId()).toList());
+            assertEquals(0.8f, result.getData().get(0).getRank());
+            assertNull(result.getData().get(0).getTitleHighlight());
         }
 
         @Test
-        @DisplayName("Should return empty list when no matching titles found")
-        void shouldReturnEmptyListWhenNoMatchingTitlesFound() {
+        @DisplayName("Should use the configured threshold when none is given")
+        void shouldPassNullThreshold() {
             // Given
-            String searchTitle = "nonexistent";
-            List<Document> emptyList = Collections.emptyList();
-            when(documentRepository.findByTitleContainingIgnoreCase(searchTitle)).thenReturn(emptyList);
+            when(documentFuzzySearchRepository.search("tcmb", null, 100)).thenReturn(Collections.emptyList());
 
             // When
-            DataResult<List<Document>> result = documentManager.searchDocumentsByTitle(searchTitle);
+            DataResult<List<DocumentSearchHit>> result = documentManager.searchDocumentsFuzzy("tcmb", null, 500);
 
             // Then
             assertTrue(result.isSuccess());
-            assertNotNull(result.getData());
             assertTrue(result.getData().isEmpty());
-            assertEquals(Messages.DocumentsGetSuccess, result.getMessage());
+        }
 
-            verify(documentRepository).findByTitleContainingIgnoreCase(searchTitle);
+        @Test
+        @DisplayName("Should reject thresholds outside (0, 1]")
+        void shouldRejectInvalidThreshold() {
+            // When
+            DataResult<List<DocumentSearchHit>> zero = documentManager.searchDocumentsFuzzy("tcmb", 0.0, null);
+            DataResult<List<DocumentSearchHit>> aboveOne = documentManager.searchDocumentsFuzzy("tcmb", 1.5, null);
+
+            // Then
+            assertFalse(zero.isSuccess());
+            assertFalse(aboveOne.isSuccess());
+            verifyNoInteractions(documentFuzzySearchRepository);
         }
+    }
+
+    @Nested
+    @DisplayName("Instant Search Tests")
+    class InstantSearchTests {
 
         @Test
-        @DisplayName("Should handle empty search title")
-        void shouldHandleEmptySearchTitle() {
+        @DisplayName("Should return index hits without touching the database")
+        void shouldReturnIndexHits() throws Exception {
             // Given
-            String emptyTitle = "";
-            List<Document> allDocuments = Arrays.asList(testDocument);
-            when(documentRepository.findByTitleContainingIgnoreCase(emptyTitle)).thenReturn(allDocuments);
+            Document indexed = Document.builder().id(5L).title("Faiz kararı").build();
+            when(documentSearchIndex.search("faiz kar", 20)).thenReturn(List.of(new DocumentSearchIndex.Hit(indexed, 2.5f)));
 
             // When
-            DataResult<List<Document>> result = documentManager.searchDocumentsByTitle(emptyTitle);
+            DataResult<List<DocumentSearchHit>> result = documentManager.searchDocumentsInstant(" faiz kar ", null);
 
             // Then
             assertTrue(result.isSuccess());
-            assertNotNull(result.getData());
-            assertEquals(1, result.getData().size());
+            assertEquals(indexed, result.getData().get(0).getDocument());
+            assertEquals(2.5f, result.getData().get(0).getRank());
+            verifyNoInteractions(documentRepository, fileUrlService);
+        }
+
+        @Test
+        @DisplayName("Should cap result size and reject invalid input")
+        void shouldValidateInput() throws Exception {
+            // Given
+            when(documentSearchIndex.search("tcmb", 100)).thenReturn(Collections.emptyList());
+
+            // When & Then
+            assertTrue(documentManager.searchDocumentsInstant("tcmb", 500).isSuccess());
+            assertFalse(documentManager.searchDocumentsInstant(" ", null).isSuccess());
+            assertFalse(documentManager.searchDocumentsInstant("tcmb", 0).isSuccess());
+            verify(documentSearchIndex).search(anyString(), anyInt());
+        }
 
-            verify(documentRepository).findByTitleContainingIgnoreCase(emptyTitle);
+        @Test
+        @DisplayName("Should return error when index cannot be read")
+        void shouldReturnErrorOnIndexFailure() throws Exception {
+            // Given
+            when(documentSearchIndex.search("tcmb", 20)).thenThrow(new IOException("okunamadı"));
+
+            // When
+            DataResult<List<DocumentSearchHit>> result = documentManager.searchDocumentsInstant("tcmb", null);
+
+            // Then
+            assertFalse(result.isSuccess());
         }
     }
 
@@ -433,6 +568,7 @@ class DocumentManagerTest {
 
             verify(documentRepository).findById(documentId);
             verify(documentRepository).deleteById(documentId);
+            verify(eventPublisher).publishEvent(new DocumentDeletedEvent(documentId));
         }
 
         @Test
@@ -451,6 +587,7 @@ class DocumentManagerTest {
 
             verify(documentRepository).findById(documentId);
             verify(documentRepository, never()).deleteById(documentId);
+            verifyNoInteractions(eventPublisher);
         }
 
         @Test
@@ -507,6 +644,7 @@ class DocumentManagerTest {
             verify(documentRepository).findById(documentId);
             verify(documentMapperUtil).updateDocumentFields(testDocument, updateRequest);
             verify(documentRepository).save(testDocument);
+            verify(eventPublisher).publishEvent(new DocumentUpdatedEvent(documentId));
         }
 
         @Test
@@ -0,0 +1,318 @@
+package com.moneymate.documentationManagement.business.concretes;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import com.moneymate.documentationManagement.business.events.DocumentDeletedEvent;
+import com.moneymate.documentationManagement.business.events.DocumentSavedEvent;
+import com.moneymate.documentationManagement.business.events.DocumentUpdatedEvent;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
+import com.moneymate.documentationManagement.dataAccess.abstracts.DocumentRepository;
+import com.moneymate.documentationManagement.dataAccess.abstracts.DocumentSearchIndex;
+import com.moneymate.documentationManagement.entities.concretes.Document;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DocumentSearchIndexManager Service Tests")
+class DocumentSearchIndexManagerTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final long OVERLAP_MS = 60_000;
+
+    @Mock
+    private DocumentSearchIndex documentSearchIndex;
+
+    @Mock
+    private DocumentRepository documentRepository;
+
+    @Mock
+    private ExecutorService searchIndexExecutor;
+
+    private DocumentSearchIndexManager documentSearchIndexManager;
+
+    @BeforeEach
+    void setUp() {
+        documentSearchIndexManager = new DocumentSearchIndexManager(documentSearchIndex, documentRepository,
+                searchIndexExecutor, BATCH_SIZE, OVERLAP_MS);
+    }
+
+    private void runSubmittedTasks() {
+        // Executor mock'u görevleri çağıran thread'de çalıştırır
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(searchIndexExecutor).execute(any(Runnable.class));
+    }
+
+    private static Document document(Long id) {
+        return Document.builder().id(id).title("Döküman " + id).build();
+    }
+
+    private static Document document(Long id, LocalDateTime updateAt) {
+        return Document.builder().id(id).title("Döküman " + id).updateAt(updateAt).build();
+    }
+
+    @Nested
+    @DisplayName("Incremental Update Tests")
+    class IncrementalUpdateTests {
+
+        @Test
+        @DisplayName("Should index saved and updated documents")
+        void shouldIndexSavedAndUpdatedDocuments() throws Exception {
+            // Given
+            runSubmittedTasks();
+            Document document = document(1L);
+            when(documentRepository.findById(1L)).thenReturn(Optional.of(document));
+
+            // When
+            documentSearchIndexManager.onDocumentSaved(new DocumentSavedEvent(1L));
+            documentSearchIndexManager.onDocumentUpdated(new DocumentUpdatedEvent(1L));
+
+            // Then
+            verify(documentSearchIndex, times(2)).upsert(document);
+        }
+
+        @Test
+        @DisplayName("Should remove deleted documents")
+        void shouldRemoveDeletedDocuments() throws Exception {
+            // Given
+            runSubmittedTasks();
+
+            // When
+            documentSearchIndexManager.onDocumentDeleted(new DocumentDeletedEvent(1L));
+
+            // Then
+            verify(documentSearchIndex).delete(1L);
+            verifyNoInteractions(documentRepository);
+        }
+
+        @Test
+        @DisplayName("Should remove document deleted before the event was processed")
+        void shouldRemoveMissingDocument() throws Exception {
+            // Given
+            runSubmittedTasks();
+            when(documentRepository.findById(1L)).thenReturn(Optional.empty());
+
+            // When
+            documentSearchIndexManager.onDocumentSaved(new DocumentSavedEvent(1L));
+
+            // Then
+            verify(documentSearchIndex).delete(1L);
+            verify(documentSearchIndex, never()).upsert(any());
+        }
+
+        @Test
+        @DisplayName("Should not propagate index failures to the caller")
+        void shouldSwallowIndexFailures() throws Exception {
+            // Given
+            runSubmittedTasks();
+            doThrow(new IOException("disk dolu")).when(documentSearchIndex).delete(1L);
+
+            // When & Then
+            assertDoesNotThrow(() -> documentSearchIndexManager.onDocumentDeleted(new DocumentDeletedEvent(1L)));
+        }
+
+        @Test
+        @DisplayName("Should not write to the index on the publishing thread")
+        void shouldSubmitToExecutor() {
+            // When
+            documentSearchIndexManager.onDocumentSaved(new DocumentSavedEvent(1L));
+
+            // Then
+            verify(searchIndexExecutor).execute(any(Runnable.class));
+            verifyNoInteractions(documentRepository, documentSearchIndex);
+        }
+    }
+
+    @Nested
+    @DisplayName("Rebuild Tests")
+    class RebuildTests {
+
+        @Test
+        @DisplayName("Should page through all documents by id and finish the rebuild")
+        void shouldRebuildInKeysetPages() throws Exception {
+            // Given
+            when(documentSearchIndex.beginRebuild()).thenReturn(4L);
+            when(documentRepository.findByIdLessThanOrderByIdDesc(Long.MAX_VALUE, PageRequest.of(0, BATCH_SIZE)))
+                    .thenReturn(List.of(document(5L), document(4L)));
+            when(documentRepository.findByIdLessThanOrderByIdDesc(4L, PageRequest.of(0, BATCH_SIZE)))
+                    .thenReturn(List.of(document(2L)));
+
+            // When
+            DataResult<Long> result = documentSearchIndexManager.rebuildIndex();
+
+            // Then
+            assertTrue(result.isSuccess());
+            assertEquals(3L, result.getData());
+            InOrder inOrder = inOrder(documentSearchIndex);
+            inOrder.verify(documentSearchIndex).beginRebuild();
+            inOrder.verify(documentSearchIndex, times(3)).upsert(any());
+            inOrder.verify(documentSearchIndex).finishRebuild(4L);
+        }
+
+        @Test
+        @DisplayName("Should fetch the next page when the last page is exactly full")
+        void shouldStopOnEmptyPage() throws Exception {
+            // Given
+            when(documentSearchIndex.beginRebuild()).thenReturn(1L);
+            when(documentRepository.findByIdLessThanOrderByIdDesc(Long.MAX_VALUE, PageRequest.of(0, BATCH_SIZE)))
+                    .thenReturn(List.of(document(2L), document(1L)));
+            when(documentRepository.findByIdLessThanOrderByIdDesc(1L, PageRequest.of(0, BATCH_SIZE)))
+                    .thenReturn(List.of());
+
+            // When
+            DataResult<Long> result = documentSearchIndexManager.rebuildIndex();
+
+            // Then
+            assertEquals(2L, result.getData());
+            verify(documentSearchIndex).finishRebuild(1L);
+        }
+
+        @Test
+        @DisplayName("Should not remove old documents when rebuild fails")
+        void shouldNotFinishFailedRebuild() throws Exception {
+            // Given
+            when(documentSearchIndex.beginRebuild()).thenReturn(1L);
+            when(documentRepository.findByIdLessThanOrderByIdDesc(Long.MAX_VALUE, PageRequest.of(0, BATCH_SIZE)))
+                    .thenReturn(List.of(document(1L)));
+            doThrow(new IOException("disk dolu")).when(documentSearchIndex).upsert(any());
+
+            // When
+            DataResult<Long> result = documentSearchIndexManager.rebuildIndex();
+
+            // Then
+            assertFalse(result.isSuccess());
+            verify(documentSearchIndex, never()).finishRebuild(anyLong());
+        }
+
+        @Test
+        @DisplayName("Should run startup rebuild on the index executor")
+        void shouldScheduleRebuildOnExecutor() {
+            // When
+            documentSearchIndexManager.scheduleRebuild();
+
+            // Then
+            verify(searchIndexExecutor).execute(any(Runnable.class));
+            verifyNoInteractions(documentRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Multi-Instance Sync Tests")
+    class MultiInstanceSyncTests {
+
+        private void rebuildEmptyIndex() {
+            when(documentRepository.findByIdLessThanOrderByIdDesc(Long.MAX_VALUE, PageRequest.of(0, BATCH_SIZE)))
+                    .thenReturn(List.of());
+            documentSearchIndexManager.rebuildIndex();
+        }
+
+        @Test
+        @DisplayName("Should skip catch-up until the index has been built")
+        void shouldSkipCatchUpBeforeRebuild() {
+            // When
+            DataResult<Long> result = documentSearchIndexManager.catchUpIndex();
+
+            // Then
+            assertTrue(result.isSuccess());
+            assertEquals(0L, result.getData());
+            verifyNoInteractions(documentRepository, documentSearchIndex);
+        }
+
+        @Test
+        @DisplayName("Should re-index documents changed since the rebuild in (updateAt, id) pages")
+        void shouldCatchUpInKeysetPages() throws Exception {
+            // Given: başlangıç yeniden oluşturmanın başlangıcından overlap kadar geridedir
+            LocalDateTime beforeRebuild = LocalDateTime.now();
+            rebuildEmptyIndex();
+            LocalDateTime changedAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+            when(documentRepository.findUpdatedAfter(any(LocalDateTime.class), eq(0L), eq(PageRequest.of(0, BATCH_SIZE))))
+                    .thenReturn(List.of(document(7L, changedAt), document(3L, changedAt.plusSeconds(1))));
+            when(documentRepository.findUpdatedAfter(changedAt.plusSeconds(1), 3L, PageRequest.of(0, BATCH_SIZE)))
+                    .thenReturn(List.of(document(9L, changedAt.plusSeconds(2))));
+
+            // When
+            DataResult<Long> result = documentSearchIndexManager.catchUpIndex();
+
+            // Then
+            assertTrue(result.isSuccess());
+            assertEquals(3L, result.getData());
+            verify(documentSearchIndex, times(3)).upsert(any());
+            verify(documentRepository).findUpdatedAfter(
+                    argThat(since -> !since.isAfter(beforeRebuild.minusSeconds(59))
+                            && !since.isBefore(beforeRebuild.minusSeconds(61))),
+                    eq(0L), eq(PageRequest.of(0, BATCH_SIZE)));
+        }
+
+        @Test
+        @DisplayName("Should rescan the same window when catch-up fails")
+        void shouldNotAdvanceAfterFailedCatchUp() throws Exception {
+            // Given
+            rebuildEmptyIndex();
+            when(documentRepository.findUpdatedAfter(any(LocalDateTime.class), eq(0L), eq(PageRequest.of(0, BATCH_SIZE))))
+                    .thenReturn(List.of(document(1L, LocalDateTime.of(2026, 1, 1, 12, 0))));
+            doThrow(new IOException("disk dolu")).doNothing().when(documentSearchIndex).upsert(any());
+
+            // When
+            DataResult<Long> failed = documentSearchIndexManager.catchUpIndex();
+            DataResult<Long> retried = documentSearchIndexManager.catchUpIndex();
+
+            // Then: ikinci tarama aynı başlangıçtan yapılır
+            assertFalse(failed.isSuccess());
+            assertTrue(retried.isSuccess());
+            ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+            verify(documentRepository, times(2)).findUpdatedAfter(since.capture(), eq(0L), eq(PageRequest.of(0, BATCH_SIZE)));
+            assertEquals(since.getAllValues().get(0), since.getAllValues().get(1));
+        }
+
+        @Test
+        @DisplayName("Should remove indexed ids that no longer exist in the database")
+        void shouldRemoveDeletedIdsOnReconcile() throws Exception {
+            // Given: id'ler dizinde metin sırasıyla gelir
+            when(documentSearchIndex.documentIds(null, BATCH_SIZE)).thenReturn(List.of(10L, 11L));
+            when(documentSearchIndex.documentIds(11L, BATCH_SIZE)).thenReturn(List.of(9L));
+            when(documentRepository.findExistingIds(List.of(10L, 11L))).thenReturn(List.of(10L));
+            when(documentRepository.findExistingIds(List.of(9L))).thenReturn(List.of());
+
+            // When
+            DataResult<Long> result = documentSearchIndexManager.reconcileIndex();
+
+            // Then
+            assertTrue(result.isSuccess());
+            assertEquals(2L, result.getData());
+            verify(documentSearchIndex).delete(11L);
+            verify(documentSearchIndex).delete(9L);
+            verify(documentSearchIndex, never()).delete(10L);
+        }
+
+        @Test
+        @DisplayName("Should not queue another catch-up while one is pending")
+        void shouldNotQueueDuplicateCatchUp() {
+            // When: executor mock'u görevi çalıştırmaz, ilk görev beklemede kalır
+            documentSearchIndexManager.scheduleCatchUp();
+            documentSearchIndexManager.scheduleCatchUp();
+            documentSearchIndexManager.scheduleReconcile();
+
+            // Then
+            verify(searchIndexExecutor, times(2)).execute(any(Runnable.class));
+            verifyNoInteractions(documentRepository, documentSearchIndex);
+        }
+    }
+}
@@ -5,33 +5,54 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.zip.CRC32C;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.moneymate.documentationManagement.business.abstracts.DocumentService;
+import com.moneymate.documentationManagement.business.abstracts.StoredObjectService;
+import com.moneymate.documentationManagement.business.requests.BatchUploadItemRequest;
+import com.moneymate.documentationManagement.business.responses.BatchUploadItemResponse;
 import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
 import com.moneymate.documentationManagement.core.utilities.exceptions.Results.Result;
 import com.moneymate.documentationManagement.core.utilities.exceptions.Results.SuccessDataResult;
 import com.moneymate.documentationManagement.core.utilities.exceptions.Results.ErrorDataResult;
+import com.moneymate.documentationManagement.core.utilities.io.CompressionPolicy;
+import com.moneymate.documentationManagement.core.utilities.io.FileNames;
+import com.moneymate.documentationManagement.core.utilities.io.StorageCodec;
+import com.moneymate.documentationManagement.dataAccess.concretes.MinioStorageBackend;
+import com.moneymate.documentationManagement.dataAccess.concretes.ParallelMultipartUploader;
 import com.moneymate.documentationManagement.entities.concretes.Document;
+import com.moneymate.documentationManagement.entities.concretes.StoredObject;
 
 import io.minio.BucketExistsArgs;
 import io.minio.GetObjectArgs;
+import io.minio.GetObjectResponse;
 import io.minio.GetPresignedObjectUrlArgs;
 import io.minio.MakeBucketArgs;
 import io.minio.MinioClient;
 import io.minio.PutObjectArgs;
 import io.minio.RemoveObjectArgs;
+import okhttp3.Headers;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("FileUploadManager Service Tests")
@@ -43,6 +64,9 @@ class FileUploadManagerTest {
     @Mock
     private DocumentService documentService;
 
+    @Mock
+    private StoredObjectService storedObjectService;
+
     @Mock
     private MultipartFile multipartFile;
 
@@ -56,8 +80,110 @@ class FileUploadManagerTest {
 
     @BeforeEach
     void setUp() {
-        // Set bucket name using reflection (simulating @Value injection)
-        ReflectionTestUtils.setField(fileUploadManager, "bucketName", bucketName);
+        // MinIO backend'ini mock client ile kur (StorageConfig'in yaptığı gibi)
+        MinioStorageBackend storageBackend = new MinioStorageBackend(minioClient, null, bucketName);
+        ReflectionTestUtils.setField(fileUploadManager, "storageBackend", storageBackend);
+        ReflectionTestUtils.setField(fileUploadManager, "fileUrlService", new FileUrlManager(storageBackend, 86400, 3600, 100));
+        ReflectionTestUtils.setField(fileUploadManager, "parallelMultipartUploader",
+                new ParallelMultipartUploader(storageBackend, Executors.newSingleThreadExecutor(), 5 * 1024 * 1024, 2));
+        ReflectionTestUtils.setField(fileUploadManager, "batchUploadExecutor", Executors.newFixedThreadPool(2));
+        ReflectionTestUtils.setField(fileUploadManager, "maxBatchFiles", 500);
+        // Sıkıştırma sadece CompressionTests'te açılır; diğer testler nesnelerin olduğu gibi yazıldığını varsayar
+        ReflectionTestUtils.setField(fileUploadManager, "compressionPolicy",
+                new CompressionPolicy(false, List.of("text/"), 1024, 6, 65536, 0.9));
+
+        // Varsayılan olarak her yükleme yeni bir içerik kabul edilir (tekilleştirme yok)
+        lenient().when(storedObjectService.register(anyString(), anyString(), anyLong(), any()))
+                .thenAnswer(invocation -> new SuccessDataResult<>(StoredObject.builder()
+                        .sha256(invocation.getArgument(0))
+                        .objectName(invocation.getArgument(1))
+                        .size(invocation.getArgument(2))
+                        .storageCodec(invocation.getArgument(3))
+                        .referenceCount(1)
+                        .build()));
+        lenient().when(storedObjectService.release(anyString())).thenReturn(new SuccessDataResult<>(true));
+        lenient().when(storedObjectService.getByObjectName(anyString())).thenReturn(new ErrorDataResult<>("Dosya kaydı bulunamadı"));
+    }
+
+    @Nested
+    @DisplayName("Deduplication Tests")
+    class DeduplicationTests {
+
+        @Test
+        @DisplayName("Should reuse existing object and remove uploaded copy when content already stored")
+        void shouldReuseExistingObjectForDuplicateContent() throws Exception {
+            // Given
+            String existingObjectName = "existing-object.pdf";
+            when(storedObjectService.register(anyString(), anyString(), anyLong(), any()))
+                    .thenReturn(new SuccessDataResult<>(StoredObject.builder()
+                            .objectName(existingObjectName)
+                            .referenceCount(2)
+                            .build()));
+            when(minioClient.bucketExists(any(BucketExistsArgs.class))).thenReturn(true);
+            when(documentService.saveDocument(any(Document.class)))
+                    .thenAnswer(invocation -> new SuccessDataResult<>(invocation.getArgument(0), "Success"));
+
+            // When
+            DataResult<Document> result = fileUploadManager.uploadStreamWithMetadata(
+                    new ByteArrayInputStream(testFileContent.getBytes()), testFileName, "application/pdf",
+                    "Title", "Institution", "Type", "URL", "PDF", "Description");
+
+            // Then
+            assertTrue(result.isSuccess());
+            assertEquals(existingObjectName, result.getData().getMinioFileName());
+            assertEquals(64, result.getData().getContentHash().length());
+            CRC32C crc32c = new CRC32C();
+            crc32c.update(testFileContent.getBytes());
+            assertEquals(HexFormat.of().toHexDigits((int) crc32c.getValue()), result.getData().getCrc32c());
+            verify(minioClient).removeObject(argThat(args -> !existingObjectName.equals(args.object())));
+        }
+
+        @Test
+        @DisplayName("Should keep object when other documents still reference it")
+        void shouldKeepObjectWhenStillReferenced() throws Exception {
+            // Given
+            when(storedObjectService.release("shared.pdf")).thenReturn(new SuccessDataResult<>(false));
+
+            // When
+            Result result = fileUploadManager.releaseFile("shared.pdf");
+
+            // Then
+            assertTrue(result.isSuccess());
+            verify(minioClient, never()).removeObject(any(RemoveObjectArgs.class));
+        }
+
+        @Test
+        @DisplayName("Should remove object when last reference is released")
+        void shouldRemoveObjectWhenLastReferenceReleased() throws Exception {
+            // When
+            Result result = fileUploadManager.releaseFile("single.pdf");
+
+            // Then
+            assertTrue(result.isSuccess());
+            verify(minioClient).removeObject(argThat(args -> "single.pdf".equals(args.object())));
+        }
+
+        @Test
+        @DisplayName("Should release uploaded object when document save fails")
+        void shouldReleaseObjectWhenDocumentSaveFails() throws Exception {
+            // Given
+            when(minioClient.bucketExists(any(BucketExistsArgs.class))).thenReturn(true);
+            when(documentService.saveDocument(any(Document.class))).thenReturn(new ErrorDataResult<>("Database error"));
+
+            // When
+            DataResult<Document> result = fileUploadManager.uploadStreamWithMetadata(
+                    new ByteArrayInputStream(testFileContent.getBytes()), testFileName, "application/pdf",
+                    "Title", "Institution", "Type", "URL", "PDF", "Description");
+
+            // Then
+            assertFalse(result.isSuccess());
+            ArgumentCaptor<String> released = ArgumentCaptor.forClass(String.class);
+            verify(storedObjectService).release(released.capture());
+            String objectName = released.getValue();
+            // Nesneyle birlikte (varsa) önizlemesi de silinir
+            verify(minioClient).removeObject(argThat(args -> objectName.equals(args.object())));
+            verify(minioClient).removeObject(argThat(args -> FileNames.thumbnailObjectName(objectName).equals(args.object())));
+        }
     }
 
     @Nested
@@ -109,7 +235,6 @@ class FileUploadManagerTest {
 
             verify(minioClient).bucketExists(any(BucketExistsArgs.class));
             verify(minioClient).putObject(any(PutObjectArgs.class));
-            verify(minioClient).getPresignedObjectUrl(any(GetPresignedObjectUrlArgs.class));
             verify(documentService).saveDocument(any(Document.class));
         }
 
@@ -147,7 +272,6 @@ class FileUploadManagerTest {
 
             when(minioClient.bucketExists(any(BucketExistsArgs.class))).thenReturn(true);
             // putObject is void, no mocking needed
-            when(minioClient.getPresignedObjectUrl(any(GetPresignedObjectUrlArgs.class))).thenReturn(fileUrl);
 
             // Mock document service to return error
             DataResult<Document> errorResult = new ErrorDataResult<>("Database error");
@@ -177,7 +301,6 @@ class FileUploadManagerTest {
 
             when(minioClient.bucketExists(any(BucketExistsArgs.class))).thenReturn(true);
             // putObject is void, no mocking needed
-            when(minioClient.getPresignedObjectUrl(any(GetPresignedObjectUrlArgs.class))).thenReturn(fileUrl);
 
             Document expectedDocument = new Document(null, "", "", null, 
                     "", null, null, "1.0 KB", fileUrl);
@@ -195,6 +318,250 @@ class FileUploadManagerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Upload Stream With Metadata Tests")
+    class UploadStreamWithMetadataTests {
+
+        @Test
+        @DisplayName("Should stream file to MinIO and save document with counted size")
+        void shouldStreamFileAndSaveDocumentWithCountedSize() throws Exception {
+            // Given
+            byte[] content = new byte[2048];
+
+            when(minioClient.bucketExists(any(BucketExistsArgs.class))).thenReturn(true);
+            when(minioClient.putObject(any(PutObjectArgs.class))).thenAnswer(invocation -> {
+                PutObjectArgs args = invocation.getArgument(0);
+                args.stream().readAllBytes();
+                return null;
+            });
+            when(documentService.saveDocument(any(Document.class)))
+                    .thenAnswer(invocation -> new SuccessDataResult<>(invocation.getArgument(0), "Success"));
+
+            // When
+            DataResult<Document> result = fileUploadManager.uploadStreamWithMetadata(
+                    new ByteArrayInputStream(content), testFileName, "application/pdf",
+                    "Title", "Institution", "Type", "URL", "PDF", "Description");
+
+            // Then - URL kaydedilmez, okunurken üretilir
+            assertTrue(result.isSuccess());
+            assertEquals("2.0 KB", result.getData().getFileSize());
+            assertTrue(result.getData().getMinioFileName().endsWith(".pdf"));
+            assertNull(result.getData().getFileUrl());
+
+            // Tek parçaya sığan stream tamponlanıp boyutu bilinen tek bir putObject ile gönderilir
+            verify(minioClient).putObject(argThat(args -> args.objectSize() == content.length));
+        }
+
+        @Test
+        @DisplayName("Should send stream with known size as single putObject")
+        void shouldSendSizedStreamAsSinglePut() throws Exception {
+            // Given
+            byte[] content = new byte[4096];
+
+            when(minioClient.bucketExists(any(BucketExistsArgs.class))).thenReturn(true);
+            when(minioClient.putObject(any(PutObjectArgs.class))).thenAnswer(invocation -> {
+                PutObjectArgs args = invocation.getArgument(0);
+                args.stream().readAllBytes();
+                return null;
+            });
+            when(documentService.saveDocument(any(Document.class)))
+                    .thenAnswer(invocation -> new SuccessDataResult<>(invocation.getArgument(0), "Success"));
+
+            // When
+            DataResult<Document> result = fileUploadManager.uploadStreamWithMetadata(
+                    new ByteArrayInputStream(content), content.length, testFileName, "application/pdf",
+                    "Title", "Institution", "Type", "URL", "PDF", "Description");
+
+            // Then
+            assertTrue(result.isSuccess());
+            assertEquals("4.0 KB", result.getData().getFileSize());
+            verify(minioClient).putObject(argThat(args -> args.objectSize() == content.length));
+        }
+
+        @Test
+        @DisplayName("Should return error and skip save when streaming to MinIO fails")
+        void shouldReturnErrorWhenStreamingFails() throws Exception {
+            // Given
+            when(minioClient.bucketExists(any(BucketExistsArgs.class))).thenReturn(true);
+            doThrow(new RuntimeException("Stream interrupted")).when(minioClient).putObject(any(PutObjectArgs.class));
+
+            // When
+            DataResult<Document> result = fileUploadManager.uploadStreamWithMetadata(
+                    new ByteArrayInputStream(testFileContent.getBytes()), testFileName, null,
+                    "Title", "Institution", "Type", "URL", "PDF", "Description");
+
+            // Then
+            assertFalse(result.isSuccess());
+            assertTrue(result.getMessage().contains("Dosya yükleme işlemi başarısız"));
+            verify(documentService, never()).saveDocument(any(Document.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Compression Tests")
+    class CompressionTests {
+
+        private final ByteArrayOutputStream storedBytes = new ByteArrayOutputStream();
+
+        @BeforeEach
+        void enableCompression() throws Exception {
+            ReflectionTestUtils.setField(fileUploadManager, "compressionPolicy",
+                    new CompressionPolicy(true, List.of("text/"), 1024, 6, 65536, 0.9));
+        }
+
+        private void captureStoredObject() throws Exception {
+            when(minioClient.bucketExists(any(BucketExistsArgs.class))).thenReturn(true);
+            when(minioClient.putObject(any(PutObjectArgs.class))).thenAnswer(invocation -> {
+                PutObjectArgs args = invocation.getArgument(0);
+                args.stream().transferTo(storedBytes);
+                return null;
+            });
+            when(documentService.saveDocument(any(Document.class)))
+                    .thenAnswer(invocation -> new SuccessDataResult<>(invocation.getArgument(0), "Success"));
+        }
+
+        private DataResult<Document> upload(byte[] content, String contentType) {
+            return fileUploadManager.uploadStreamWithMetadata(new ByteArrayInputStream(content), "data.csv",
+                    contentType, "Title", "Institution", "Type", "URL", "CSV", "Description");
+        }
+
+        @Test
+        @DisplayName("Should store compressible upload gzipped and record codec on document")
+        void shouldStoreCompressibleUploadGzipped() throws Exception {
+            // Given
+            byte[] content = "id;tutar;kurum\n1;100.00;Banka\n".repeat(1000).getBytes(StandardCharsets.UTF_8);
+            captureStoredObject();
+
+            // When
+            DataResult<Document> result = upload(content, "text/csv; charset=utf-8");
+
+            // Then - boyut ve özet orijinal içeriğe aittir
+            assertTrue(result.isSuccess());
+            assertEquals(StorageCodec.GZIP, result.getData().getStorageCodec());
+            assertEquals(FileNames.formatFileSize(content.length), result.getData().getFileSize());
+            assertTrue(storedBytes.size() < content.length / 10);
+            try (InputStream decoded = new GZIPInputStream(new ByteArrayInputStream(storedBytes.toByteArray()))) {
+                assertArrayEquals(content, decoded.readAllBytes());
+            }
+            verify(storedObjectService).register(anyString(), anyString(), eq((long) content.length), eq(StorageCodec.GZIP));
+        }
+
+        @Test
+        @DisplayName("Should store upload as is when sample does not compress")
+        void shouldStoreIncompressibleUploadAsIs() throws Exception {
+            // Given
+            byte[] content = new byte[8192];
+            new Random(42).nextBytes(content);
+            captureStoredObject();
+
+            // When
+            DataResult<Document> result = upload(content, "text/plain");
+
+            // Then
+            assertTrue(result.isSuccess());
+            assertNull(result.getData().getStorageCodec());
+            assertArrayEquals(content, storedBytes.toByteArray());
+        }
+
+        @Test
+        @DisplayName("Should decompress gzipped object when writing a range")
+        void shouldDecompressOnRead() throws Exception {
+            // Given
+            byte[] content = "0123456789".repeat(500).getBytes(StandardCharsets.UTF_8);
+            byte[] gzipped;
+            try (InputStream encoded = StorageCodec.GZIP.encode(new ByteArrayInputStream(content), 6)) {
+                gzipped = encoded.readAllBytes();
+            }
+            when(storedObjectService.getByObjectName("data.csv")).thenReturn(new SuccessDataResult<>(
+                    StoredObject.builder().objectName("data.csv").size((long) content.length)
+                            .storageCodec(StorageCodec.GZIP).build()));
+            when(minioClient.getObject(any(GetObjectArgs.class))).thenReturn(new GetObjectResponse(
+                    Headers.of(), bucketName, null, "data.csv", new ByteArrayInputStream(gzipped)));
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+            // When
+            fileUploadManager.writeFile("data.csv", 1003, 5, outputStream);
+
+            // Then
+            assertEquals("34567", outputStream.toString(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Nested
+    @DisplayName("Upload Batch Tests")
+    class UploadBatchTests {
+
+        private final BatchUploadItemRequest metadata = new BatchUploadItemRequest(
+                "Title", "Institution", "Type", "https://test.com", "PDF", "Description");
+
+        private void stubStorage() throws Exception {
+            when(minioClient.bucketExists(any(BucketExistsArgs.class))).thenReturn(true);
+        }
+
+        @Test
+        @DisplayName("Should save uploaded files in one call and report per-item status")
+        void shouldReportPerItemStatus() throws Exception {
+            // Given
+            stubStorage();
+            MockMultipartFile valid = new MockMultipartFile("files", "valid.pdf", "application/pdf", "content".getBytes());
+            MockMultipartFile empty = new MockMultipartFile("files", "empty.pdf", "application/pdf", new byte[0]);
+            when(documentService.saveDocuments(anyList()))
+                    .thenAnswer(invocation -> new SuccessDataResult<>(invocation.getArgument(0), "Success"));
+
+            // When
+            DataResult<List<BatchUploadItemResponse>> result = fileUploadManager.uploadBatch(
+                    List.of(valid, empty), List.of(metadata, metadata));
+
+            // Then
+            assertTrue(result.isSuccess());
+            assertEquals("1/2 dosya başarıyla yüklendi", result.getMessage());
+            assertTrue(result.getData().get(0).isSuccess());
+            assertEquals("Title", result.getData().get(0).getDocument().getTitle());
+            assertFalse(result.getData().get(1).isSuccess());
+            assertEquals("empty.pdf", result.getData().get(1).getFileName());
+            verify(documentService).saveDocuments(argThat(documents -> documents.size() == 1));
+            verify(documentService, never()).saveDocument(any(Document.class));
+        }
+
+        @Test
+        @DisplayName("Should release stored files when batch insert fails")
+        void shouldReleaseFilesWhenInsertFails() throws Exception {
+            // Given
+            stubStorage();
+            MockMultipartFile first = new MockMultipartFile("files", "a.pdf", "application/pdf", "a".getBytes());
+            MockMultipartFile second = new MockMultipartFile("files", "b.pdf", "application/pdf", "b".getBytes());
+            when(documentService.saveDocuments(anyList())).thenThrow(new RuntimeException("Database error"));
+
+            // When
+            DataResult<List<BatchUploadItemResponse>> result = fileUploadManager.uploadBatch(
+                    List.of(first, second), List.of(metadata, metadata));
+
+            // Then
+            assertFalse(result.isSuccess());
+            assertTrue(result.getData().stream().noneMatch(BatchUploadItemResponse::isSuccess));
+            ArgumentCaptor<String> released = ArgumentCaptor.forClass(String.class);
+            verify(storedObjectService, times(2)).release(released.capture());
+            for (String objectName : released.getAllValues()) {
+                verify(minioClient).removeObject(argThat(args -> objectName.equals(args.object())));
+                verify(minioClient).removeObject(argThat(args -> FileNames.thumbnailObjectName(objectName).equals(args.object())));
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject batch when metadata count does not match files")
+        void shouldRejectMismatchedMetadata() {
+            // Given
+            MockMultipartFile file = new MockMultipartFile("files", "a.pdf", "application/pdf", "a".getBytes());
+
+            // When
+            DataResult<List<BatchUploadItemResponse>> result = fileUploadManager.uploadBatch(List.of(file), List.of());
+
+            // Then
+            assertFalse(result.isSuccess());
+            verifyNoInteractions(minioClient, documentService);
+        }
+    }
+
     @Nested
     @DisplayName("Upload File Tests")
     class UploadFileTests {
@@ -330,7 +697,8 @@ class FileUploadManagerTest {
             assertTrue(result.isSuccess());
             assertEquals("Dosya başarıyla silindi", result.getMessage());
 
-            verify(minioClient).removeObject(any(RemoveObjectArgs.class));
+            // Nesne ve varsa önizlemesi
+            verify(minioClient, times(2)).removeObject(any(RemoveObjectArgs.class));
         }
 
         @Test
@@ -500,7 +868,6 @@ class FileUploadManagerTest {
 
             when(minioClient.bucketExists(any(BucketExistsArgs.class))).thenReturn(true);
             // putObject is void, no mocking needed
-            when(minioClient.getPresignedObjectUrl(any(GetPresignedObjectUrlArgs.class))).thenReturn(fileUrl);
 
             Document expectedDocument = new Document("Title", "minioFileName", "Institution", "Type",
                     "URL", "PDF", "Description", "1.0 KB", fileUrl);
@@ -515,7 +882,6 @@ class FileUploadManagerTest {
             var inOrder = inOrder(minioClient, documentService);
             inOrder.verify(minioClient).bucketExists(any(BucketExistsArgs.class));
             inOrder.verify(minioClient).putObject(any(PutObjectArgs.class));
-            inOrder.verify(minioClient).getPresignedObjectUrl(any(GetPresignedObjectUrlArgs.class));
             inOrder.verify(documentService).saveDocument(any(Document.class));
         }
 
@@ -0,0 +1,144 @@
+package com.moneymate.documentationManagement.business.concretes;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
+import com.moneymate.documentationManagement.core.utilities.io.StorageCodec;
+import com.moneymate.documentationManagement.dataAccess.abstracts.StorageBackend;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FileUrlManager Service Tests")
+class FileUrlManagerTest {
+
+    private static final int EXPIRY_SECONDS = 86400;
+
+    @Mock
+    private StorageBackend storageBackend;
+
+    private FileUrlManager fileUrlManager;
+
+    @BeforeEach
+    void setUp() {
+        fileUrlManager = new FileUrlManager(storageBackend, EXPIRY_SECONDS, 3600, 100);
+    }
+
+    @Nested
+    @DisplayName("Get File URL Tests")
+    class GetFileUrlTests {
+
+        @Test
+        @DisplayName("Should sign once and serve repeated reads from cache")
+        void shouldServeRepeatedReadsFromCache() throws Exception {
+            // Given
+            when(storageBackend.getPresignedUrl("file.pdf", EXPIRY_SECONDS, null)).thenReturn("https://url/file.pdf");
+
+            // When
+            DataResult<String> first = fileUrlManager.getFileUrl("file.pdf");
+            DataResult<String> second = fileUrlManager.getFileUrl("file.pdf");
+
+            // Then
+            assertTrue(first.isSuccess());
+            assertEquals("https://url/file.pdf", second.getData());
+            verify(storageBackend, times(1)).getPresignedUrl("file.pdf", EXPIRY_SECONDS, null);
+        }
+
+        @Test
+        @DisplayName("Should sign again after eviction")
+        void shouldSignAgainAfterEviction() throws Exception {
+            // Given
+            when(storageBackend.getPresignedUrl("file.pdf", EXPIRY_SECONDS, null))
+                    .thenReturn("https://url/old", "https://url/new");
+            fileUrlManager.getFileUrl("file.pdf");
+
+            // When
+            fileUrlManager.evict("file.pdf");
+            DataResult<String> result = fileUrlManager.getFileUrl("file.pdf");
+
+            // Then
+            assertEquals("https://url/new", result.getData());
+            verify(storageBackend, times(2)).getPresignedUrl("file.pdf", EXPIRY_SECONDS, null);
+        }
+
+        @Test
+        @DisplayName("Should sign compressed objects with response content encoding")
+        void shouldSignCompressedObjectsWithContentEncoding() throws Exception {
+            // Given
+            when(storageBackend.getPresignedUrl("data.csv", EXPIRY_SECONDS, "gzip")).thenReturn("https://url/data.csv?gzip");
+
+            // When
+            DataResult<String> result = fileUrlManager.getFileUrl("data.csv", StorageCodec.GZIP);
+
+            // Then
+            assertEquals("https://url/data.csv?gzip", result.getData());
+        }
+
+        @Test
+        @DisplayName("Should return error when signing fails")
+        void shouldReturnErrorWhenSigningFails() throws Exception {
+            // Given
+            when(storageBackend.getPresignedUrl(anyString(), anyInt(), any())).thenThrow(new RuntimeException("MinIO down"));
+
+            // When
+            DataResult<String> result = fileUrlManager.getFileUrl("file.pdf");
+
+            // Then
+            assertFalse(result.isSuccess());
+            assertTrue(result.getMessage().contains("MinIO down"));
+        }
+
+        @Test
+        @DisplayName("Should reject blank object name without signing")
+        void shouldRejectBlankObjectName() throws Exception {
+            // When
+            DataResult<String> result = fileUrlManager.getFileUrl(" ");
+
+            // Then
+            assertFalse(result.isSuccess());
+            verifyNoInteractions(storageBackend);
+        }
+    }
+
+    @Nested
+    @DisplayName("Get Document URL Tests")
+    class GetDocumentUrlTests {
+
+        @Test
+        @DisplayName("Should return presigned URL when storage can sign")
+        void shouldReturnPresignedUrl() throws Exception {
+            // Given
+            when(storageBackend.supportsPresignedUrls()).thenReturn(true);
+            when(storageBackend.getPresignedUrl("file.pdf", EXPIRY_SECONDS, null)).thenReturn("https://url/file.pdf");
+
+            // When
+            DataResult<String> result = fileUrlManager.getDocumentUrl(7L, "file.pdf", StorageCodec.NONE);
+
+            // Then
+            assertEquals("https://url/file.pdf", result.getData());
+        }
+
+        @Test
+        @DisplayName("Should return content endpoint when storage cannot sign")
+        void shouldReturnContentEndpoint() throws Exception {
+            // Given
+            when(storageBackend.supportsPresignedUrls()).thenReturn(false);
+
+            // When
+            DataResult<String> result = fileUrlManager.getDocumentUrl(7L, "file.pdf", StorageCodec.GZIP);
+
+            // Then
+            assertTrue(result.isSuccess());
+            assertEquals("/api/v1/documents/7/content", result.getData());
+            verify(storageBackend, never()).getPresignedUrl(anyString(), anyInt(), any());
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.moneymate.documentationManagement.business.concretes;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.moneymate.documentationManagement.business.responses.ReconciliationReport;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
+import com.moneymate.documentationManagement.dataAccess.abstracts.DirectUploadRepository;
+import com.moneymate.documentationManagement.dataAccess.abstracts.DocumentRepository;
+import com.moneymate.documentationManagement.dataAccess.abstracts.StoredObjectRepository;
+import com.moneymate.documentationManagement.dataAccess.abstracts.UploadSessionRepository;
+import com.moneymate.documentationManagement.dataAccess.concretes.FileSystemStorageBackend;
+import com.moneymate.documentationManagement.entities.concretes.DirectUpload;
+import com.moneymate.documentationManagement.entities.concretes.UploadSession;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StorageReconciliationManager Service Tests")
+class StorageReconciliationManagerTest {
+
+    @TempDir
+    Path rootDirectory;
+
+    @Mock
+    private DocumentRepository documentRepository;
+
+    @Mock
+    private StoredObjectRepository storedObjectRepository;
+
+    @Mock
+    private DirectUploadRepository directUploadRepository;
+
+    @Mock
+    private UploadSessionRepository uploadSessionRepository;
+
+    private FileSystemStorageBackend storageBackend;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        storageBackend = new FileSystemStorageBackend(rootDirectory);
+        lenient().when(storedObjectRepository.findObjectNamesIn(any())).thenReturn(Set.of());
+        lenient().when(directUploadRepository.findObjectNamesIn(eq(DirectUpload.Status.PENDING), any())).thenReturn(Set.of());
+        lenient().when(uploadSessionRepository.findObjectNamesIn(eq(UploadSession.Status.ACTIVE), any())).thenReturn(Set.of());
+    }
+
+    private StorageReconciliationManager manager(int batchSize, long maxDeletesPerRun) {
+        return new StorageReconciliationManager(storageBackend, documentRepository, storedObjectRepository,
+                directUploadRepository, uploadSessionRepository, false, 24, batchSize, 1000, maxDeletesPerRun, 100);
+    }
+
+    private void put(String objectName, Duration age) throws Exception {
+        storageBackend.putObject(objectName, new ByteArrayInputStream(new byte[10]), 10, null);
+        Files.setLastModifiedTime(rootDirectory.resolve(objectName), FileTime.from(Instant.now().minus(age)));
+    }
+
+    // Verilen adlar dökümanlarca kullanılıyor gibi davranır
+    private void referencedByDocuments(String... names) {
+        Set<String> referenced = Set.of(names);
+        when(documentRepository.findMinioFileNamesIn(any())).thenAnswer(invocation -> {
+            Set<String> result = new HashSet<>(invocation.<Collection<String>>getArgument(0));
+            result.retainAll(referenced);
+            return result;
+        });
+    }
+
+    @Nested
+    @DisplayName("Reconcile Tests")
+    class ReconcileTests {
+
+        @Test
+        @DisplayName("Should report orphans without deleting in report mode")
+        void shouldReportOrphans() throws Exception {
+            // Given
+            put("used.pdf", Duration.ofDays(2));
+            put("used.pdf.thumb.jpg", Duration.ofDays(2));
+            put("orphan.pdf", Duration.ofDays(2));
+            put("orphan.pdf.thumb.jpg", Duration.ofDays(2));
+            referencedByDocuments("used.pdf");
+
+            // When
+            DataResult<ReconciliationReport> result = manager(1000, 100).reconcile(false);
+
+            // Then
+            ReconciliationReport report = result.getData();
+            assertTrue(result.isSuccess());
+            assertEquals(4, report.getScannedObjects());
+            assertEquals(2, report.getOrphanObjects());
+            assertEquals(20, report.getOrphanBytes());
+            assertEquals(Set.of("orphan.pdf", "orphan.pdf.thumb.jpg"), Set.copyOf(report.getSampleOrphans()));
+            assertEquals(0, report.getDeletedObjects());
+            assertTrue(Files.exists(rootDirectory.resolve("orphan.pdf")));
+        }
+
+        @Test
+        @DisplayName("Should delete orphans in batches and keep recent or pending objects")
+        void shouldDeleteOrphans() throws Exception {
+            // Given
+            put("a.pdf", Duration.ofDays(2));
+            put("b.pdf", Duration.ofDays(2));
+            put("c.pdf", Duration.ofDays(2));
+            put("pending.pdf", Duration.ofDays(2));
+            put("uploading.pdf", Duration.ofMinutes(5));
+            referencedByDocuments("a.pdf");
+            when(directUploadRepository.findObjectNamesIn(eq(DirectUpload.Status.PENDING), any()))
+                    .thenAnswer(invocation -> invocation.<Collection<String>>getArgument(1).contains("pending.pdf")
+                            ? Set.of("pending.pdf") : Set.of());
+
+            // When
+            ReconciliationReport report = manager(2, 100).reconcile(true).getData();
+
+            // Then
+            assertEquals(1, report.getRecentObjects());
+            assertEquals(2, report.getDeletedObjects());
+            assertFalse(Files.exists(rootDirectory.resolve("b.pdf")));
+            assertFalse(Files.exists(rootDirectory.resolve("c.pdf")));
+            assertTrue(Files.exists(rootDirectory.resolve("a.pdf")));
+            assertTrue(Files.exists(rootDirectory.resolve("pending.pdf")));
+            assertTrue(Files.exists(rootDirectory.resolve("uploading.pdf")));
+            verify(documentRepository, times(2)).findMinioFileNamesIn(any());
+        }
+
+        @Test
+        @DisplayName("Should stop at the per-run delete limit")
+        void shouldStopAtDeleteLimit() throws Exception {
+            // Given
+            for (int i = 0; i < 5; i++) {
+                put("orphan-" + i + ".pdf", Duration.ofDays(2));
+            }
+            referencedByDocuments();
+
+            // When
+            ReconciliationReport report = manager(1000, 3).reconcile(true).getData();
+
+            // Then
+            assertEquals(3, report.getDeletedObjects());
+            assertTrue(report.isLimitReached());
+            try (var files = Files.list(rootDirectory)) {
+                assertEquals(2, files.filter(Files::isRegularFile).count());
+            }
+        }
+
+        @Test
+        @DisplayName("Should keep the last report for later reads")
+        void shouldKeepLastReport() {
+            // Given
+            StorageReconciliationManager manager = manager(1000, 100);
+            assertFalse(manager.getLastReport().isSuccess());
+
+            // When
+            manager.reconcile(false);
+
+            // Then
+            assertTrue(manager.getLastReport().isSuccess());
+            assertNotNull(manager.getLastReport().getData().getFinishedAt());
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.moneymate.documentationManagement.business.concretes;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.moneymate.documentationManagement.business.abstracts.FileUrlService;
+import com.moneymate.documentationManagement.business.abstracts.StoredObjectService;
+import com.moneymate.documentationManagement.business.responses.TieringReport;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.ErrorDataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.ErrorResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.SuccessDataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.SuccessResult;
+import com.moneymate.documentationManagement.core.utilities.io.CompressionPolicy;
+import com.moneymate.documentationManagement.core.utilities.io.StorageCodec;
+import com.moneymate.documentationManagement.dataAccess.abstracts.DocumentRepository;
+import com.moneymate.documentationManagement.dataAccess.concretes.FileSystemStorageBackend;
+import com.moneymate.documentationManagement.dataAccess.concretes.TieredStorageBackend;
+import com.moneymate.documentationManagement.entities.concretes.Document.StorageTier;
+import com.moneymate.documentationManagement.entities.concretes.StoredObject;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StorageTieringManager Service Tests")
+class StorageTieringManagerTest {
+
+    @TempDir
+    Path hotDirectory;
+
+    @TempDir
+    Path archiveDirectory;
+
+    @Mock
+    private DocumentRepository documentRepository;
+
+    @Mock
+    private StoredObjectService storedObjectService;
+
+    @Mock
+    private FileUrlService fileUrlService;
+
+    // Veritabanındaki katman kaydının yerine geçer
+    private final Map<String, StorageTier> tiers = new ConcurrentHashMap<>();
+    private FileSystemStorageBackend hot;
+    private TieredStorageBackend storageBackend;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        hot = new FileSystemStorageBackend(hotDirectory);
+        storageBackend = new TieredStorageBackend(hot, new FileSystemStorageBackend(archiveDirectory),
+                name -> tiers.getOrDefault(name, StorageTier.HOT), 100);
+        lenient().when(storedObjectService.getByObjectName(anyString())).thenReturn(new ErrorDataResult<>("yok"));
+        lenient().when(storedObjectService.updateStorageTier(anyString(), any(), any())).thenAnswer(invocation -> {
+            tiers.put(invocation.getArgument(0), invocation.getArgument(1));
+            return new SuccessResult("ok");
+        });
+    }
+
+    private StorageTieringManager manager(boolean recompress, long maxMovesPerRun) {
+        return new StorageTieringManager(storageBackend, documentRepository, storedObjectService, fileUrlService,
+                new CompressionPolicy(true, List.of("text/"), 16, 1, 1024, 0.9),
+                180, 90, recompress, 9, 2, 1000, maxMovesPerRun);
+    }
+
+    private void candidates(String... names) {
+        when(documentRepository.findTieringCandidates(eq(StorageTier.ARCHIVE), anyString(), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    String after = invocation.getArgument(1);
+                    return List.of(names).stream().filter(name -> name.compareTo(after) > 0).limit(2).toList();
+                });
+    }
+
+    private byte[] read(String objectName) throws Exception {
+        try (InputStream inputStream = storageBackend.getObject(objectName)) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    @Nested
+    @DisplayName("Migrate Tests")
+    class MigrateTests {
+
+        @Test
+        @DisplayName("Should move cold objects to the archive and keep reads working")
+        void shouldMoveObjectsToArchive() throws Exception {
+            // Given
+            byte[] content = "arşivlenecek içerik".getBytes(StandardCharsets.UTF_8);
+            for (String name : List.of("a.pdf", "b.pdf", "c.pdf")) {
+                hot.putObject(name, new ByteArrayInputStream(content), content.length, null);
+            }
+            candidates("a.pdf", "b.pdf", "c.pdf");
+
+            // When
+            TieringReport report = manager(false, 100).migrate().getData();
+
+            // Then
+            assertEquals(3, report.getMovedObjects());
+            assertEquals(3L * content.length, report.getMovedBytes());
+            assertFalse(Files.exists(hotDirectory.resolve("a.pdf")));
+            assertTrue(Files.exists(archiveDirectory.resolve("a.pdf")));
+            assertArrayEquals(content, read("a.pdf"));
+            verify(storedObjectService).updateStorageTier("c.pdf", StorageTier.ARCHIVE, StorageCodec.NONE);
+            verify(fileUrlService).evict("b.pdf");
+        }
+
+        @Test
+        @DisplayName("Should recompress gzip objects at the archive level")
+        void shouldRecompressObjects() throws Exception {
+            // Given
+            byte[] csv = "tarih;tutar;aciklama\n".repeat(500).getBytes(StandardCharsets.UTF_8);
+            hot.putObject("export.csv", StorageCodec.GZIP.encode(new ByteArrayInputStream(csv), 1), -1, null);
+            when(storedObjectService.getByObjectName("export.csv")).thenReturn(new SuccessDataResult<>(
+                    StoredObject.builder().objectName("export.csv").storageCodec(StorageCodec.GZIP).build()));
+            candidates("export.csv");
+
+            // When
+            TieringReport report = manager(true, 100).migrate().getData();
+
+            // Then
+            assertEquals(1, report.getRecompressedObjects());
+            verify(storedObjectService).updateStorageTier("export.csv", StorageTier.ARCHIVE, StorageCodec.GZIP);
+            try (InputStream inputStream = StorageCodec.GZIP.decode(storageBackend.getObject("export.csv"))) {
+                assertArrayEquals(csv, inputStream.readAllBytes());
+            }
+        }
+
+        @Test
+        @DisplayName("Should archive gzip'd objects of range-served types uncompressed")
+        void shouldDecompressNonCandidateTypes() throws Exception {
+            // Given: PDF'ler daha önce gzip'lenerek yüklenmiş
+            byte[] pdf = "%PDF-1.7 ".repeat(500).getBytes(StandardCharsets.UTF_8);
+            hot.putObject("report.pdf", StorageCodec.GZIP.encode(new ByteArrayInputStream(pdf), 1), -1, "application/pdf");
+            when(storedObjectService.getByObjectName("report.pdf")).thenReturn(new SuccessDataResult<>(
+                    StoredObject.builder().objectName("report.pdf").storageCodec(StorageCodec.GZIP).build()));
+            candidates("report.pdf");
+
+            // When
+            TieringReport report = manager(true, 100).migrate().getData();
+
+            // Then
+            assertEquals(0, report.getRecompressedObjects());
+            verify(storedObjectService).updateStorageTier("report.pdf", StorageTier.ARCHIVE, StorageCodec.NONE);
+            assertArrayEquals(pdf, read("report.pdf"));
+        }
+
+        @Test
+        @DisplayName("Should drop the archive copy when the document is deleted during the move")
+        void shouldSkipDeletedObjects() throws Exception {
+            // Given
+            hot.putObject("deleted.pdf", new ByteArrayInputStream(new byte[10]), 10, null);
+            when(storedObjectService.updateStorageTier(eq("deleted.pdf"), any(), any()))
+                    .thenReturn(new ErrorResult("Nesneyi kullanan döküman bulunamadı"));
+            candidates("deleted.pdf");
+
+            // When
+            TieringReport report = manager(false, 100).migrate().getData();
+
+            // Then
+            assertEquals(1, report.getSkippedObjects());
+            assertEquals(0, report.getMovedObjects());
+            assertFalse(Files.exists(archiveDirectory.resolve("deleted.pdf")));
+        }
+
+        @Test
+        @DisplayName("Should report and retry hot copies that could not be removed after the move")
+        void shouldRetryHotRemovalAfterMove() throws Exception {
+            // Given
+            FileSystemStorageBackend failingHot = spy(hot);
+            doThrow(new IOException("erişim reddedildi")).doCallRealMethod().when(failingHot).removeObject("a.pdf");
+            storageBackend = new TieredStorageBackend(failingHot, new FileSystemStorageBackend(archiveDirectory),
+                    name -> tiers.getOrDefault(name, StorageTier.HOT), 100);
+            hot.putObject("a.pdf", new ByteArrayInputStream(new byte[10]), 10, null);
+            candidates("a.pdf");
+            StorageTieringManager manager = manager(false, 100);
+
+            // When
+            TieringReport first = manager.migrate().getData();
+
+            // Then: taşıma kayıtta tamamlandı, sıcak kopya raporlanır
+            assertEquals(1, first.getMovedObjects());
+            assertEquals(0, first.getFailedObjects());
+            assertEquals(1, first.getPendingHotRemovals());
+            assertEquals(List.of("a.pdf"), first.getSamplePendingHotRemovals());
+            assertTrue(Files.exists(hotDirectory.resolve("a.pdf")));
+
+            // When: nesne artık aday değil; sonraki çalışma silmeyi tekrar dener
+            when(documentRepository.findTieringCandidates(any(), anyString(), any(), any(), any())).thenReturn(List.of());
+            TieringReport second = manager.migrate().getData();
+
+            // Then
+            assertEquals(0, second.getPendingHotRemovals());
+            assertFalse(Files.exists(hotDirectory.resolve("a.pdf")));
+        }
+
+        @Test
+        @DisplayName("Should stop at the per-run move limit")
+        void shouldStopAtMoveLimit() throws Exception {
+            // Given
+            for (String name : List.of("a.pdf", "b.pdf", "c.pdf")) {
+                hot.putObject(name, new ByteArrayInputStream(new byte[10]), 10, null);
+            }
+            candidates("a.pdf", "b.pdf", "c.pdf");
+
+            // When
+            DataResult<TieringReport> result = manager(false, 2).migrate();
+
+            // Then
+            assertTrue(result.getData().isLimitReached());
+            assertEquals(2, result.getData().getMovedObjects());
+            assertTrue(Files.exists(hotDirectory.resolve("c.pdf")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Read Routing Tests")
+    class ReadRoutingTests {
+
+        @Test
+        @DisplayName("Should fall back to the other tier while an object is being moved")
+        void shouldFallBackToOtherTier() throws Exception {
+            // Given: kayıt henüz güncellenmeden nesne arşive taşındı
+            byte[] content = new byte[] {1, 2, 3};
+            storageBackend.getBackend(StorageTier.ARCHIVE)
+                    .putObject("moved.pdf", new ByteArrayInputStream(content), content.length, null);
+
+            // When
+            byte[] result = read("moved.pdf");
+
+            // Then
+            assertArrayEquals(content, result);
+            assertEquals(3, storageBackend.statObject("moved.pdf").size());
+        }
+    }
+}
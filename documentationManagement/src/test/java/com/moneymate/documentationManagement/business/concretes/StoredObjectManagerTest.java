@@ -0,0 +1,120 @@
+package com.moneymate.documentationManagement.business.concretes;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
+import com.moneymate.documentationManagement.dataAccess.abstracts.StoredObjectRepository;
+import com.moneymate.documentationManagement.entities.concretes.StoredObject;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StoredObjectManager Service Tests")
+class StoredObjectManagerTest {
+
+    @Mock
+    private StoredObjectRepository storedObjectRepository;
+
+    @InjectMocks
+    private StoredObjectManager storedObjectManager;
+
+    private final String sha256 = "a".repeat(64);
+
+    @Nested
+    @DisplayName("Register Tests")
+    class RegisterTests {
+
+        @Test
+        @DisplayName("Should create stored object for new content")
+        void shouldCreateStoredObjectForNewContent() {
+            // Given
+            when(storedObjectRepository.findBySha256(sha256)).thenReturn(Optional.empty());
+            when(storedObjectRepository.saveAndFlush(any(StoredObject.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            DataResult<StoredObject> result = storedObjectManager.register(sha256, "new.pdf", 1024L, null);
+
+            // Then
+            assertTrue(result.isSuccess());
+            assertEquals("new.pdf", result.getData().getObjectName());
+            assertEquals(1, result.getData().getReferenceCount());
+        }
+
+        @Test
+        @DisplayName("Should increment reference count for existing content")
+        void shouldIncrementReferenceCountForExistingContent() {
+            // Given
+            StoredObject existing = StoredObject.builder().id(1L).sha256(sha256).objectName("existing.pdf")
+                    .size(1024L).referenceCount(1).build();
+            when(storedObjectRepository.findBySha256(sha256)).thenReturn(Optional.of(existing));
+            when(storedObjectRepository.save(any(StoredObject.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            DataResult<StoredObject> result = storedObjectManager.register(sha256, "new.pdf", 1024L, null);
+
+            // Then
+            assertEquals("existing.pdf", result.getData().getObjectName());
+            assertEquals(2, result.getData().getReferenceCount());
+            verify(storedObjectRepository, never()).saveAndFlush(any(StoredObject.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Release Tests")
+    class ReleaseTests {
+
+        @Test
+        @DisplayName("Should delete record when last reference is released")
+        void shouldDeleteRecordWhenLastReferenceReleased() {
+            // Given
+            StoredObject existing = StoredObject.builder().id(1L).objectName("single.pdf").referenceCount(1).build();
+            when(storedObjectRepository.findByObjectName("single.pdf")).thenReturn(Optional.of(existing));
+
+            // When
+            DataResult<Boolean> result = storedObjectManager.release("single.pdf");
+
+            // Then
+            assertTrue(result.getData());
+            verify(storedObjectRepository).delete(existing);
+        }
+
+        @Test
+        @DisplayName("Should decrement reference count when other references remain")
+        void shouldDecrementReferenceCountWhenReferencesRemain() {
+            // Given
+            StoredObject existing = StoredObject.builder().id(1L).objectName("shared.pdf").referenceCount(3).build();
+            when(storedObjectRepository.findByObjectName("shared.pdf")).thenReturn(Optional.of(existing));
+
+            // When
+            DataResult<Boolean> result = storedObjectManager.release("shared.pdf");
+
+            // Then
+            assertFalse(result.getData());
+            assertEquals(2, existing.getReferenceCount());
+            verify(storedObjectRepository).save(existing);
+        }
+
+        @Test
+        @DisplayName("Should allow deletion of legacy objects without a record")
+        void shouldAllowDeletionOfLegacyObjects() {
+            // Given
+            when(storedObjectRepository.findByObjectName("legacy.pdf")).thenReturn(Optional.empty());
+
+            // When
+            DataResult<Boolean> result = storedObjectManager.release("legacy.pdf");
+
+            // Then
+            assertTrue(result.getData());
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.moneymate.documentationManagement.business.concretes;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
+import com.moneymate.documentationManagement.core.utilities.io.StorageCodec;
+import com.moneymate.documentationManagement.dataAccess.abstracts.DocumentRepository;
+import com.moneymate.documentationManagement.dataAccess.abstracts.DocumentTextRepository;
+import com.moneymate.documentationManagement.dataAccess.concretes.FileSystemStorageBackend;
+import com.moneymate.documentationManagement.entities.concretes.Document;
+import com.moneymate.documentationManagement.entities.concretes.DocumentText;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TextExtractionManager Service Tests")
+class TextExtractionManagerTest {
+
+    private static final int MAX_CHARS = 1000;
+
+    @TempDir
+    Path rootDirectory;
+
+    @Mock
+    private DocumentRepository documentRepository;
+
+    @Mock
+    private DocumentTextRepository documentTextRepository;
+
+    @Mock
+    private ExecutorService textExtractionExecutor;
+
+    private FileSystemStorageBackend storageBackend;
+    private TextExtractionManager textExtractionManager;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        storageBackend = new FileSystemStorageBackend(rootDirectory);
+        textExtractionManager = new TextExtractionManager(storageBackend, documentRepository, documentTextRepository,
+                textExtractionExecutor, MAX_CHARS, 10 * 1024 * 1024, 2);
+    }
+
+    private void store(Long id, String objectName, InputStream content, StorageCodec codec) throws Exception {
+        storageBackend.putObject(objectName, content, -1, "application/octet-stream");
+        Document document = Document.builder().id(id).minioFileName(objectName).storageCodec(codec).build();
+        when(documentRepository.findById(id)).thenReturn(Optional.of(document));
+    }
+
+    private DocumentText savedText() {
+        ArgumentCaptor<DocumentText> captor = ArgumentCaptor.forClass(DocumentText.class);
+        verify(documentTextRepository).save(captor.capture());
+        return captor.getValue();
+    }
+
+    private static byte[] pdf(String... pages) throws Exception {
+        try (PDDocument document = new PDDocument()) {
+            for (String text : pages) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 12);
+                    content.newLineAtOffset(72, 700);
+                    content.showText(text);
+                    content.endText();
+                }
+            }
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            document.save(outputStream);
+            return outputStream.toByteArray();
+        }
+    }
+
+    @Nested
+    @DisplayName("Extract Text Tests")
+    class ExtractTextTests {
+
+        @Test
+        @DisplayName("Should extract text from every PDF page")
+        void shouldExtractPdfText() throws Exception {
+            // Given
+            store(1L, "statement.pdf", new ByteArrayInputStream(pdf("Hesap ozeti Ocak", "Faiz orani yuzde 4")), null);
+
+            // When
+            DataResult<DocumentText.Status> result = textExtractionManager.extractText(1L);
+
+            // Then
+            assertEquals(DocumentText.Status.EXTRACTED, result.getData());
+            DocumentText text = savedText();
+            assertEquals(1L, text.getDocumentId());
+            assertTrue(text.getContent().contains("Hesap ozeti Ocak"));
+            assertTrue(text.getContent().contains("Faiz orani yuzde 4"));
+            assertFalse(text.isTruncated());
+        }
+
+        @Test
+        @DisplayName("Should decode compressed text objects and truncate at the limit")
+        void shouldDecodeAndTruncateText() throws Exception {
+            // Given
+            byte[] csv = "tarih;tutar;aciklama\n".repeat(200).getBytes(StandardCharsets.UTF_8);
+            store(2L, "export.csv", StorageCodec.GZIP.encode(new ByteArrayInputStream(csv), 1), StorageCodec.GZIP);
+
+            // When
+            textExtractionManager.extractText(2L);
+
+            // Then
+            DocumentText text = savedText();
+            assertEquals(DocumentText.Status.EXTRACTED, text.getStatus());
+            assertEquals(MAX_CHARS, text.getContent().length());
+            assertTrue(text.getContent().startsWith("tarih;tutar;aciklama\n"));
+            assertTrue(text.isTruncated());
+        }
+
+        @Test
+        @DisplayName("Should reuse text of documents sharing the same object")
+        void shouldReuseSharedText() throws Exception {
+            // Given
+            store(3L, "shared.pdf", new ByteArrayInputStream(new byte[0]), null);
+            when(documentTextRepository.findFirstByDocument_MinioFileNameAndStatus("shared.pdf", DocumentText.Status.EXTRACTED))
+                    .thenReturn(Optional.of(DocumentText.builder().content("ortak metin").build()));
+
+            // When
+            textExtractionManager.extractText(3L);
+
+            // Then
+            assertEquals("ortak metin", savedText().getContent());
+        }
+
+        @Test
+        @DisplayName("Should record unsupported and corrupt files so they are not retried")
+        void shouldRecordUnsupportedAndFailed() throws Exception {
+            // Given
+            store(4L, "photo.png", new ByteArrayInputStream(new byte[10]), null);
+            store(5L, "broken.pdf", new ByteArrayInputStream("bozuk".getBytes(StandardCharsets.UTF_8)), null);
+
+            // When
+            DataResult<DocumentText.Status> unsupported = textExtractionManager.extractText(4L);
+            DataResult<DocumentText.Status> failed = textExtractionManager.extractText(5L);
+
+            // Then
+            assertEquals(DocumentText.Status.UNSUPPORTED, unsupported.getData());
+            assertEquals(DocumentText.Status.FAILED, failed.getData());
+            verify(documentTextRepository, times(2)).save(any(DocumentText.class));
+        }
+
+        @Test
+        @DisplayName("Should not record storage errors so the backfill retries them")
+        void shouldNotRecordStorageErrors() {
+            // Given: nesne depolamada yok (ya da depolamaya erişilemiyor)
+            Document document = Document.builder().id(6L).minioFileName("missing.pdf").build();
+            when(documentRepository.findById(6L)).thenReturn(Optional.of(document));
+
+            // When
+            DataResult<DocumentText.Status> result = textExtractionManager.extractText(6L);
+
+            // Then
+            assertFalse(result.isSuccess());
+            verify(documentTextRepository, never()).save(any(DocumentText.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Backfill Tests")
+    class BackfillTests {
+
+        @Test
+        @DisplayName("Should continue from the last submitted document on the next run")
+        void shouldResumeFromCursor() {
+            // Given
+            when(documentTextRepository.findPendingDocumentIds(eq(0L), any(), any())).thenReturn(List.of(1L, 2L));
+            when(documentTextRepository.findPendingDocumentIds(eq(2L), any(), any())).thenReturn(List.of(3L));
+
+            // When
+            textExtractionManager.backfillTexts();
+            textExtractionManager.backfillTexts();
+
+            // Then
+            verify(documentTextRepository).findPendingDocumentIds(eq(2L), any(), any());
+            verify(textExtractionExecutor, times(3)).execute(any(Runnable.class));
+        }
+
+        @Test
+        @DisplayName("Should stop and retry the same document when the queue is full")
+        void shouldStopWhenQueueIsFull() {
+            // Given
+            when(documentTextRepository.findPendingDocumentIds(eq(0L), any(), any())).thenReturn(List.of(1L, 2L));
+            doThrow(new RejectedExecutionException()).when(textExtractionExecutor).execute(any(Runnable.class));
+
+            // When
+            textExtractionManager.backfillTexts();
+            textExtractionManager.backfillTexts();
+
+            // Then
+            verify(documentTextRepository, times(2)).findPendingDocumentIds(eq(0L), any(), any());
+            verify(textExtractionExecutor, times(2)).execute(any(Runnable.class));
+        }
+    }
+}
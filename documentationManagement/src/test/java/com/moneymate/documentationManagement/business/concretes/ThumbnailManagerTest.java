@@ -0,0 +1,221 @@
+package com.moneymate.documentationManagement.business.concretes;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import javax.imageio.ImageIO;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.moneymate.documentationManagement.business.events.DocumentSavedEvent;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
+import com.moneymate.documentationManagement.core.utilities.io.FileNames;
+import com.moneymate.documentationManagement.dataAccess.abstracts.DocumentRepository;
+import com.moneymate.documentationManagement.dataAccess.concretes.FileSystemStorageBackend;
+import com.moneymate.documentationManagement.entities.concretes.Document;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ThumbnailManager Service Tests")
+class ThumbnailManagerTest {
+
+    private static final int WIDTH = 320;
+
+    @TempDir
+    Path rootDirectory;
+
+    @Mock
+    private DocumentRepository documentRepository;
+
+    @Mock
+    private ExecutorService thumbnailExecutor;
+
+    private FileSystemStorageBackend storageBackend;
+    private ThumbnailManager thumbnailManager;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        storageBackend = new FileSystemStorageBackend(rootDirectory);
+        thumbnailManager = new ThumbnailManager(storageBackend, documentRepository, thumbnailExecutor, WIDTH, 10 * 1024 * 1024);
+    }
+
+    private Document store(Long id, String objectName, byte[] content, String contentType) throws Exception {
+        storageBackend.putObject(objectName, new ByteArrayInputStream(content), content.length, contentType);
+        Document document = Document.builder().id(id).minioFileName(objectName).build();
+        when(documentRepository.findById(id)).thenReturn(Optional.of(document));
+        return document;
+    }
+
+    private BufferedImage readThumbnail(String objectName) throws Exception {
+        try (InputStream inputStream = storageBackend.getObject(FileNames.thumbnailObjectName(objectName))) {
+            return ImageIO.read(inputStream);
+        }
+    }
+
+    private static byte[] pdf() throws Exception {
+        try (PDDocument document = new PDDocument()) {
+            PDPage page = new PDPage(PDRectangle.A4);
+            document.addPage(page);
+            try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                content.setNonStrokingColor(Color.BLUE);
+                content.addRect(50, 50, 400, 600);
+                content.fill();
+            }
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            document.save(outputStream);
+            return outputStream.toByteArray();
+        }
+    }
+
+    private static byte[] png(int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.RED);
+        graphics.fillRect(0, 0, width / 2, height);
+        graphics.dispose();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+        return outputStream.toByteArray();
+    }
+
+    @Nested
+    @DisplayName("Generate Thumbnail Tests")
+    class GenerateThumbnailTests {
+
+        @Test
+        @DisplayName("Should render first PDF page as JPEG thumbnail")
+        void shouldRenderPdfFirstPage() throws Exception {
+            // Given
+            store(1L, "report.pdf", pdf(), "application/pdf");
+
+            // When
+            DataResult<Document.ThumbnailStatus> result = thumbnailManager.generateThumbnail(1L);
+
+            // Then
+            assertEquals(Document.ThumbnailStatus.READY, result.getData());
+            BufferedImage thumbnail = readThumbnail("report.pdf");
+            assertEquals(WIDTH, thumbnail.getWidth());
+            assertTrue(thumbnail.getHeight() > WIDTH);
+            assertEquals("image/jpeg", storageBackend.statObject(FileNames.thumbnailObjectName("report.pdf")).contentType());
+            verify(documentRepository).updateThumbnailStatus(1L, Document.ThumbnailStatus.READY);
+        }
+
+        @Test
+        @DisplayName("Should downscale large images and flatten transparency")
+        void shouldDownscaleImages() throws Exception {
+            // Given
+            store(2L, "scan.png", png(2000, 1000), "image/png");
+
+            // When
+            DataResult<Document.ThumbnailStatus> result = thumbnailManager.generateThumbnail(2L);
+
+            // Then
+            assertEquals(Document.ThumbnailStatus.READY, result.getData());
+            BufferedImage thumbnail = readThumbnail("scan.png");
+            assertEquals(WIDTH, thumbnail.getWidth());
+            assertEquals(WIDTH / 2, thumbnail.getHeight());
+            // Saydam yarı beyaz olmalı
+            Color right = new Color(thumbnail.getRGB(WIDTH - 10, 10));
+            assertTrue(right.getRed() > 240 && right.getGreen() > 240 && right.getBlue() > 240);
+        }
+
+        @Test
+        @DisplayName("Should reuse existing thumbnail of deduplicated content")
+        void shouldReuseExistingThumbnail() throws Exception {
+            // Given
+            store(3L, "shared.png", png(100, 100), "image/png");
+            byte[] existing = png(10, 10);
+            storageBackend.putObject(FileNames.thumbnailObjectName("shared.png"), new ByteArrayInputStream(existing),
+                    existing.length, "image/jpeg");
+
+            // When
+            DataResult<Document.ThumbnailStatus> result = thumbnailManager.generateThumbnail(3L);
+
+            // Then
+            assertEquals(Document.ThumbnailStatus.READY, result.getData());
+            assertEquals(10, readThumbnail("shared.png").getWidth());
+        }
+
+        @Test
+        @DisplayName("Should mark unsupported types without rendering")
+        void shouldMarkUnsupportedTypes() throws Exception {
+            // Given
+            store(4L, "data.csv", "a;b\n".getBytes(StandardCharsets.UTF_8), "text/csv");
+
+            // When
+            DataResult<Document.ThumbnailStatus> result = thumbnailManager.generateThumbnail(4L);
+
+            // Then
+            assertEquals(Document.ThumbnailStatus.UNSUPPORTED, result.getData());
+            verify(documentRepository).updateThumbnailStatus(4L, Document.ThumbnailStatus.UNSUPPORTED);
+        }
+
+        @Test
+        @DisplayName("Should mark corrupt files as failed")
+        void shouldMarkCorruptFilesAsFailed() throws Exception {
+            // Given
+            store(5L, "broken.pdf", "not a pdf".getBytes(StandardCharsets.UTF_8), "application/pdf");
+
+            // When
+            DataResult<Document.ThumbnailStatus> result = thumbnailManager.generateThumbnail(5L);
+
+            // Then
+            assertEquals(Document.ThumbnailStatus.FAILED, result.getData());
+            verify(documentRepository).updateThumbnailStatus(5L, Document.ThumbnailStatus.FAILED);
+        }
+    }
+
+    @Nested
+    @DisplayName("Scheduling Tests")
+    class SchedulingTests {
+
+        @Test
+        @DisplayName("Should hand saved documents to the thumbnail executor")
+        void shouldSubmitSavedDocuments() {
+            // When
+            thumbnailManager.onDocumentSaved(new DocumentSavedEvent(1L));
+
+            // Then
+            verify(thumbnailExecutor).execute(any(Runnable.class));
+        }
+
+        @Test
+        @DisplayName("Should stop backfill when the queue is full")
+        void shouldStopBackfillWhenQueueIsFull() {
+            // Given
+            when(documentRepository.findTop100ByThumbnailStatusIsNullAndUploadAtBefore(any())).thenReturn(List.of(
+                    Document.builder().id(1L).build(), Document.builder().id(2L).build()));
+            doThrow(new RejectedExecutionException()).when(thumbnailExecutor).execute(any(Runnable.class));
+
+            // When
+            thumbnailManager.backfillThumbnails();
+
+            // Then
+            verify(thumbnailExecutor, times(1)).execute(any(Runnable.class));
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.moneymate.documentationManagement.business.concretes;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.moneymate.documentationManagement.business.abstracts.FileUploadService;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.ErrorDataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.SuccessDataResult;
+import com.moneymate.documentationManagement.dataAccess.abstracts.UploadJobRepository;
+import com.moneymate.documentationManagement.entities.concretes.Document;
+import com.moneymate.documentationManagement.entities.concretes.UploadJob;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UploadJobManager Service Tests")
+class UploadJobManagerTest {
+
+    @Mock
+    private FileUploadService fileUploadService;
+
+    @Mock
+    private UploadJobRepository uploadJobRepository;
+
+    @InjectMocks
+    private UploadJobManager uploadJobManager;
+
+    @TempDir
+    Path spoolDirectory;
+
+    private ExecutorService executor;
+
+    private final Map<String, UploadJob> savedJobs = new ConcurrentHashMap<>();
+
+    private final MockMultipartFile file = new MockMultipartFile("file", "report.pdf", "application/pdf",
+            "Test file content".getBytes());
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+        ReflectionTestUtils.setField(uploadJobManager, "uploadJobExecutor", executor);
+        ReflectionTestUtils.setField(uploadJobManager, "spoolDirectory", spoolDirectory);
+        ReflectionTestUtils.setField(uploadJobManager, "instanceId", "node-1");
+        lenient().when(uploadJobRepository.save(any(UploadJob.class))).thenAnswer(invocation -> {
+            UploadJob job = invocation.getArgument(0);
+            savedJobs.put(job.getId(), job);
+            return job;
+        });
+        // İş awaitJob çağrılmadan bitebilir; bu durumda durum depodan okunur
+        lenient().when(uploadJobRepository.findById(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(savedJobs.get(invocation.getArgument(0))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private DataResult<UploadJob> submit() {
+        return uploadJobManager.submitUpload(file, "Title", "Institution", "Type", "https://test.com", "PDF",
+                "Description");
+    }
+
+    @Nested
+    @DisplayName("Submit Upload Tests")
+    class SubmitUploadTests {
+
+        @Test
+        @DisplayName("Should run upload in background and complete job with document id")
+        void shouldCompleteJobInBackground() throws Exception {
+            // Given
+            Document document = Document.builder().id(42L).build();
+            // Geçici dosyanın boyutu iletilir; küçük dosya tek PUT ile gönderilir
+            when(fileUploadService.uploadStreamWithMetadata(any(InputStream.class), eq(file.getSize()),
+                    eq("report.pdf"), eq("application/pdf"), eq("Title"), eq("Institution"), eq("Type"), eq("https://test.com"),
+                    eq("PDF"), eq("Description")))
+                    .thenReturn(new SuccessDataResult<>(document, "Success"));
+
+            // When
+            DataResult<UploadJob> submitted = submit();
+            DataResult<UploadJob> finished = uploadJobManager.awaitJob(submitted.getData().getId())
+                    .get(5, TimeUnit.SECONDS);
+
+            // Then
+            assertTrue(submitted.isSuccess());
+            assertEquals("node-1", submitted.getData().getOwnerInstance());
+            assertEquals(UploadJob.Status.COMPLETED, finished.getData().getStatus());
+            assertEquals(42L, finished.getData().getDocumentId());
+            try (var files = Files.list(spoolDirectory)) {
+                assertEquals(0, files.count(), "Geçici dosya silinmeli");
+            }
+        }
+
+        @Test
+        @DisplayName("Should mark job failed when upload fails")
+        void shouldFailJobWhenUploadFails() throws Exception {
+            // Given
+            when(fileUploadService.uploadStreamWithMetadata(any(InputStream.class), anyLong(), anyString(), anyString(),
+                    anyString(), anyString(), anyString(), anyString(), anyString(), anyString()))
+                    .thenReturn(new ErrorDataResult<>("Storage error"));
+
+            // When
+            DataResult<UploadJob> submitted = submit();
+            DataResult<UploadJob> finished = uploadJobManager.awaitJob(submitted.getData().getId())
+                    .get(5, TimeUnit.SECONDS);
+
+            // Then
+            assertEquals(UploadJob.Status.FAILED, finished.getData().getStatus());
+            assertEquals("Storage error", finished.getData().getMessage());
+        }
+
+        @Test
+        @DisplayName("Should reject empty file without creating a job")
+        void shouldRejectEmptyFile() {
+            // When
+            DataResult<UploadJob> result = uploadJobManager.submitUpload(
+                    new MockMultipartFile("file", "empty.pdf", "application/pdf", new byte[0]),
+                    "Title", "Institution", "Type", "https://test.com", "PDF", "Description");
+
+            // Then
+            assertFalse(result.isSuccess());
+            verify(uploadJobRepository, never()).save(any(UploadJob.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Job Status Tests")
+    class JobStatusTests {
+
+        @Test
+        @DisplayName("Should return stored state immediately for jobs not running on this server")
+        void shouldReturnStoredStateForUnknownJob() throws Exception {
+            // Given
+            UploadJob job = UploadJob.builder().id("job-1").status(UploadJob.Status.COMPLETED).documentId(7L).build();
+            when(uploadJobRepository.findById("job-1")).thenReturn(Optional.of(job));
+
+            // When
+            DataResult<UploadJob> result = uploadJobManager.awaitJob("job-1").getNow(null);
+
+            // Then
+            assertNotNull(result);
+            assertEquals(7L, result.getData().getDocumentId());
+        }
+
+        @Test
+        @DisplayName("Should fail only this instance's jobs interrupted by a restart")
+        void shouldFailInterruptedJobs() {
+            // Given
+            UploadJob job = UploadJob.builder().id("job-1").status(UploadJob.Status.RUNNING).ownerInstance("node-1").build();
+            when(uploadJobRepository.findByOwnerInstanceAndStatusIn(eq("node-1"), anyCollection())).thenReturn(List.of(job));
+
+            // When
+            uploadJobManager.failInterruptedJobs();
+
+            // Then
+            assertEquals(UploadJob.Status.FAILED, job.getStatus());
+            verify(uploadJobRepository).save(job);
+        }
+    }
+}
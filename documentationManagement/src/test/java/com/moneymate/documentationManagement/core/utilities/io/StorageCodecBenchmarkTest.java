@@ -0,0 +1,127 @@
+package com.moneymate.documentationManagement.core.utilities.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Döküman tiplerine göre gzip sıkıştırma oranını ve CPU maliyetini ölçer.
+ *
+ * mvn test -Dtest=StorageCodecBenchmarkTest -Dbenchmark=true [-Dbenchmark.samples-dir=/path/to/samples]
+ *     [-Dbenchmark.size-mb=16]
+ *
+ * Örnek dizini verilirse her dosya uzantısına göre gruplanıp ölçülür; verilmezse tipik içerikler üretilir.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("StorageCodec Benchmark")
+class StorageCodecBenchmarkTest {
+
+    private static final int MB = 1024 * 1024;
+    private static final List<Integer> LEVELS = List.of(1, 6, 9);
+
+    @Test
+    @DisplayName("Compression ratio and CPU cost by document type")
+    void measureCompression() throws Exception {
+        Map<String, byte[]> samples = loadSamples();
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+        System.out.printf("%-18s %6s %10s %10s %12s %10s%n", "type", "level", "size(MB)", "ratio", "cpu(ms/MB)", "MB/s");
+        for (Map.Entry<String, byte[]> sample : samples.entrySet()) {
+            byte[] content = sample.getValue();
+            double sizeMb = content.length / (double) MB;
+            for (int level : LEVELS) {
+                // JIT ısınması
+                encode(content, level);
+
+                long cpuStart = threads.getCurrentThreadCpuTime();
+                long start = System.nanoTime();
+                long encodedSize = encode(content, level);
+                double seconds = (System.nanoTime() - start) / 1e9;
+                double cpuMs = (threads.getCurrentThreadCpuTime() - cpuStart) / 1e6;
+
+                System.out.printf("%-18s %6d %10.1f %10.3f %12.1f %10.1f%n", sample.getKey(), level, sizeMb,
+                        encodedSize / (double) content.length, cpuMs / sizeMb, sizeMb / seconds);
+            }
+        }
+    }
+
+    private static long encode(byte[] content, int level) throws Exception {
+        try (InputStream encoded = StorageCodec.GZIP.encode(new ByteArrayInputStream(content), level)) {
+            return encoded.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+
+    private static Map<String, byte[]> loadSamples() throws Exception {
+        Map<String, byte[]> samples = new LinkedHashMap<>();
+        String samplesDir = System.getProperty("benchmark.samples-dir");
+        if (samplesDir != null) {
+            try (Stream<Path> files = Files.list(Path.of(samplesDir))) {
+                for (Path file : files.filter(Files::isRegularFile).sorted().toList()) {
+                    String name = file.getFileName().toString();
+                    String extension = name.contains(".") ? name.substring(name.lastIndexOf('.') + 1) : "?";
+                    samples.merge(extension, Files.readAllBytes(file), StorageCodecBenchmarkTest::concat);
+                }
+            }
+            return samples;
+        }
+
+        int size = Integer.getInteger("benchmark.size-mb", 16) * MB;
+        Random random = new Random(42);
+        samples.put("text/csv", generate(size, i -> i + ";" + (random.nextInt(1_000_000) / 100.0) + ";TR"
+                + (100000 + random.nextInt(900000)) + ";Ziraat Bankası;2024-0" + (1 + i % 9) + "-1" + (i % 10) + "\n"));
+        samples.put("application/xml", generate(size, i -> "<islem id=\"" + i + "\"><tutar>" + random.nextInt(100000)
+                + "</tutar><aciklama>Kredi kartı ödemesi</aciklama></islem>\n"));
+        samples.put("application/json", generate(size, i -> "{\"id\":" + i + ",\"tutar\":" + random.nextInt(100000)
+                + ",\"kurum\":\"Merkez Bankası\",\"tip\":\"rapor\"}\n"));
+        // Sıkıştırılmamış içerik stream'lerine sahip PDF (metin operatörleri)
+        samples.put("pdf (raw)", generate(size, i -> "BT /F1 10 Tf 72 " + (720 - i % 60 * 12) + " Td (Satir " + i
+                + " toplam bakiye " + random.nextInt(100000) + ") Tj ET\n"));
+        // FlateDecode ile sıkıştırılmış stream'lere sahip PDF
+        samples.put("pdf (flate)", deflate(samples.get("pdf (raw)")));
+        byte[] binary = new byte[size];
+        random.nextBytes(binary);
+        samples.put("image/jpeg", binary);
+        return samples;
+    }
+
+    private static byte[] generate(int size, IntFunction<String> line) {
+        StringBuilder builder = new StringBuilder(size + 256);
+        for (int i = 0; builder.length() < size; i++) {
+            builder.append(line.apply(i));
+        }
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] deflate(byte[] content) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(outputStream, new Deflater(6))) {
+            deflater.write(content);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] result = new byte[first.length + second.length];
+        System.arraycopy(first, 0, result, 0, first.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+}
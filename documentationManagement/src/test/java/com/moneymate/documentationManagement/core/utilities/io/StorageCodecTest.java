@@ -0,0 +1,91 @@
+package com.moneymate.documentationManagement.core.utilities.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("StorageCodec Tests")
+class StorageCodecTest {
+
+    private static byte[] gzip(byte[] content) throws Exception {
+        try (InputStream encoded = StorageCodec.GZIP.encode(new ByteArrayInputStream(content), 6)) {
+            return encoded.readAllBytes();
+        }
+    }
+
+    @Nested
+    @DisplayName("Gzip Round Trip Tests")
+    class GzipRoundTripTests {
+
+        @Test
+        @DisplayName("Should produce gzip readable by the JDK decoder")
+        void shouldProduceStandardGzip() throws Exception {
+            // Given
+            byte[] content = "<kayit><tutar>100</tutar></kayit>\n".repeat(5000).getBytes(StandardCharsets.UTF_8);
+
+            // When
+            byte[] gzipped = gzip(content);
+
+            // Then
+            try (InputStream decoded = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+                assertArrayEquals(content, decoded.readAllBytes());
+            }
+            assertTrue(gzipped.length < content.length / 10);
+        }
+
+        @Test
+        @DisplayName("Should round trip empty and random content")
+        void shouldRoundTripEdgeCases() throws Exception {
+            // Given
+            byte[] random = new byte[300_000];
+            new Random(7).nextBytes(random);
+
+            for (byte[] content : List.of(new byte[0], random)) {
+                // When
+                try (InputStream decoded = StorageCodec.GZIP.decode(new ByteArrayInputStream(gzip(content)))) {
+                    // Then
+                    assertArrayEquals(content, decoded.readAllBytes());
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Compression Policy Tests")
+    class CompressionPolicyTests {
+
+        private final CompressionPolicy policy = new CompressionPolicy(true,
+                List.of("text/", "application/json"), 1024, 6, 65536, 0.9);
+
+        @Test
+        @DisplayName("Should match content types by prefix or exact value and skip small files")
+        void shouldSelectCandidates() {
+            assertTrue(policy.isCandidate("text/csv; charset=utf-8", 4096));
+            assertTrue(policy.isCandidate("application/json", -1));
+            assertFalse(policy.isCandidate("application/json-patch+json", 4096));
+            assertFalse(policy.isCandidate("image/png", 4096));
+            assertFalse(policy.isCandidate("text/plain", 100));
+            assertFalse(policy.isCandidate(null, 4096));
+        }
+
+        @Test
+        @DisplayName("Should choose gzip only when the sample shrinks enough")
+        void shouldChooseCodecBySample() {
+            byte[] random = new byte[8192];
+            new Random(3).nextBytes(random);
+
+            assertEquals(StorageCodec.GZIP, policy.choose("a;b;c\n".repeat(2000).getBytes(StandardCharsets.UTF_8)));
+            assertEquals(StorageCodec.NONE, policy.choose(random));
+            assertEquals(StorageCodec.NONE, policy.choose(new byte[100]));
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.moneymate.documentationManagement.dataAccess.abstracts;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.jpa.repository.Query;
+
+/**
+ * Başlık aramasında LIKE sorgularını tam metin aramayla (GIN indeksli search_vector) karşılaştırır.
+ *
+ * mvn test -Dtest=DocumentFullTextSearchBenchmarkTest -Dbenchmark=true
+ *     [-Dbenchmark.jdbc-url=jdbc:postgresql://localhost:5432/docappdb -Dbenchmark.username=postgres
+ *      -Dbenchmark.password=postgres] [-Dbenchmark.rows=1000000]
+ *
+ * Migration'lar ayrı bir şemaya (docman_benchmark) uygulanır, tablo üretilen dökümanlarla doldurulur ve şema
+ * sonunda silinir. Tam metin sorgusu DocumentRepository.searchFullText'teki sorgunun kendisidir.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Document Full Text Search Benchmark")
+class DocumentFullTextSearchBenchmarkTest {
+
+    private static final String SCHEMA = "docman_benchmark";
+    private static final int INSERT_CHUNK = 100_000;
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 20;
+    private static final int PAGE_SIZE = 50;
+
+    // Sık geçen, orta sıklıkta ve nadir (1/1000 satır) terimler
+    private static final List<String> TERMS = List.of("faiz", "kur riski", "swap");
+
+    private static final String WORDS = "ARRAY['faiz', 'kararı', 'enflasyon', 'raporu', 'para', 'politikası', "
+            + "'kurul', 'toplantısı', 'özeti', 'bankacılık', 'düzenleme', 'yönetmelik', 'tebliğ', 'genelge', "
+            + "'sermaye', 'yeterliliği', 'likidite', 'karşılık', 'oranı', 'kredi', 'kartı', 'mevduat', 'zorunlu', "
+            + "'döviz', 'kur', 'riski', 'ödeme', 'sistemleri', 'finansal', 'istikrar', 'çeyrek', 'yıllık', "
+            + "'faaliyet', 'bülten', 'istatistik', 'büyüme', 'ihracat', 'ithalat', 'cari', 'açık', 'bütçe', "
+            + "'borçlanma', 'tahvil', 'hazine', 'ihale', 'sonuçları', 'İstanbul', 'Ankara', 'şube', 'müşteri', "
+            + "'şikayet', 'değerlendirme', 'güncelleme', 'taslak', 'görüş', 'ilke', 'kararı', 'duyuru', 'basın', "
+            + "'açıklaması']";
+
+    @Test
+    @DisplayName("LIKE vs full text search latency")
+    void measureSearch() throws Exception {
+        String url = System.getProperty("benchmark.jdbc-url", "jdbc:postgresql://localhost:5432/docappdb");
+        String username = System.getProperty("benchmark.username", "postgres");
+        String password = System.getProperty("benchmark.password", "postgres");
+        long rows = Long.getLong("benchmark.rows", 1_000_000);
+
+        try (Connection connection = DriverManager.getConnection(url, username, password)) {
+            execute(connection, "DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            try {
+                Flyway.configure().dataSource(url, username, password).schemas(SCHEMA)
+                        .locations("classpath:db/migration/postgresql").load().migrate();
+                execute(connection, "SET search_path TO " + SCHEMA + ", public");
+                populate(connection, rows);
+                measure(connection);
+            } finally {
+                execute(connection, "DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            }
+        }
+    }
+
+    private static void populate(Connection connection, long rows) throws Exception {
+        long start = System.nanoTime();
+        String insert = "INSERT INTO documents (title, minio_file_name, institution_name, institution_type, "
+                + "document_type, document_description, upload_at, update_at) "
+                + "SELECT initcap(w[1 + floor(random() * cardinality(w))::int]) || ' ' "
+                + "    || w[1 + floor(random() * cardinality(w))::int] || ' ' "
+                + "    || w[1 + floor(random() * cardinality(w))::int] "
+                + "    || CASE WHEN i % 1000 = 0 THEN ' swap' ELSE '' END, "
+                + "  'benchmark-' || i, 'TCMB', 'Merkez Bankası', 'PDF', "
+                // i'ye bağlı alt sorgu her satır için yeniden çalışır
+                + "  (SELECT string_agg(w[1 + floor(random() * cardinality(w))::int], ' ') "
+                + "   FROM generate_series(1, 20 + i % 10)), "
+                + "  now(), now() "
+                + "FROM generate_series(?, ?) AS i, (SELECT " + WORDS + " AS w) AS words";
+        try (PreparedStatement statement = connection.prepareStatement(insert)) {
+            for (long from = 1; from <= rows; from += INSERT_CHUNK) {
+                statement.setLong(1, from);
+                statement.setLong(2, Math.min(from + INSERT_CHUNK - 1, rows));
+                statement.executeUpdate();
+            }
+        }
+        execute(connection, "VACUUM ANALYZE documents");
+        System.out.printf("%d satır %.1f saniyede eklendi%n", rows, (System.nanoTime() - start) / 1e9);
+    }
+
+    private static void measure(Connection connection) throws Exception {
+        // Eski /search sorgusu (sayfasız) ve keyset sayfalı hali; Spring Data ContainingIgnoreCase -> upper() LIKE
+        String likeAll = "SELECT id, title FROM documents WHERE upper(title) LIKE upper(?) ORDER BY id DESC";
+        String likePage = "SELECT id, title FROM documents WHERE upper(title) LIKE upper(?) AND id < ? "
+                + "ORDER BY id DESC LIMIT " + (PAGE_SIZE + 1);
+        String fullText = DocumentRepository.class.getMethod("searchFullText", String.class, int.class)
+                .getAnnotation(Query.class).value()
+                .replace(":query", "?").replace(":limit", "?");
+
+        System.out.printf("%-12s %-16s %8s %12s %12s%n", "term", "query", "rows", "median(ms)", "p95(ms)");
+        for (String term : TERMS) {
+            run(connection, term, "LIKE (tümü)", likeAll, statement -> statement.setString(1, "%" + term + "%"));
+            run(connection, term, "LIKE (sayfa)", likePage, statement -> {
+                statement.setString(1, "%" + term + "%");
+                statement.setLong(2, Long.MAX_VALUE);
+            });
+            run(connection, term, "tam metin", fullText, statement -> {
+                statement.setString(1, term);
+                statement.setInt(2, PAGE_SIZE);
+            });
+
+            String plan = explain(connection, fullText, term);
+            assertTrue(plan.contains("idx_documents_search_vector"), plan);
+        }
+    }
+
+    private static void run(Connection connection, String term, String name, String sql, Binder binder)
+            throws Exception {
+        List<Double> timings = new ArrayList<>();
+        int rows = 0;
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            binder.bind(statement);
+            for (int i = 0; i < WARMUP_RUNS + MEASURED_RUNS; i++) {
+                long start = System.nanoTime();
+                rows = 0;
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        rows++;
+                    }
+                }
+                if (i >= WARMUP_RUNS) {
+                    timings.add((System.nanoTime() - start) / 1e6);
+                }
+            }
+        }
+        Collections.sort(timings);
+        System.out.printf("%-12s %-16s %8d %12.2f %12.2f%n", term, name, rows,
+                timings.get(timings.size() / 2), timings.get((int) Math.ceil(timings.size() * 0.95) - 1));
+    }
+
+    private static String explain(Connection connection, String sql, String term) throws Exception {
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            statement.setString(1, term);
+            statement.setInt(2, PAGE_SIZE);
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1)).append('\n');
+                }
+            }
+            return plan.toString();
+        }
+    }
+
+    private static void execute(Connection connection, String sql) throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Binder {
+        void bind(PreparedStatement statement) throws Exception;
+    }
+}
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Nested;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
@@ -215,9 +216,9 @@ class DocumentRepositoryTest {
         @DisplayName("Should find documents by title containing ignore case")
         void shouldFindDocumentsByTitleContainingIgnoreCase() {
             // When
-            List<Document> springDocuments = documentRepository.findByTitleContainingIgnoreCase("spring");
-            List<Document> guideDocuments = documentRepository.findByTitleContainingIgnoreCase("GUIDE");
-            List<Document> javaDocuments = documentRepository.findByTitleContainingIgnoreCase("Java");
+            List<Document> springDocuments = searchByTitle("spring");
+            List<Document> guideDocuments = searchByTitle("GUIDE");
+            List<Document> javaDocuments = searchByTitle("Java");
 
             // Then
             assertThat(springDocuments).hasSize(2);
@@ -236,27 +237,11 @@ class DocumentRepositoryTest {
         @DisplayName("Should return empty list when no title matches")
         void shouldReturnEmptyListWhenNoTitleMatches() {
             // When
-            List<Document> documents = documentRepository.findByTitleContainingIgnoreCase("Python");
+            List<Document> documents = searchByTitle("Python");
 
             // Then
             assertThat(documents).isEmpty();
         }
-
-        @Test
-        @DisplayName("Should find document by file URL")
-        void shouldFindDocumentByFileUrl() {
-            // When
-            Optional<Document> foundDocument = documentRepository
-                    .findByFileUrl("https://storage.example.com/spring-boot-guide.pdf");
-            Optional<Document> notFoundDocument = documentRepository
-                    .findByFileUrl("https://storage.example.com/non-existent.pdf");
-
-            // Then
-            assertThat(foundDocument).isPresent();
-            assertThat(foundDocument.get().getTitle()).isEqualTo("Spring Boot Guide");
-
-            assertThat(notFoundDocument).isEmpty();
-        }
     }
 
     @Nested
@@ -396,8 +381,7 @@ class DocumentRepositoryTest {
             // When & Then
             assertThat(documentRepository.findByInstitutionName(null)).isEmpty();
             assertThat(documentRepository.findByDocumentType(null)).isEmpty();
-            assertThat(documentRepository.findByTitleContainingIgnoreCase(null)).isEmpty();
-            assertThat(documentRepository.findByFileUrl(null)).isEmpty();
+            assertThat(searchByTitle(null)).isEmpty();
             assertThat(documentRepository.findByInstitutionAndType(null, "PDF")).isEmpty();
             assertThat(documentRepository.findByInstitutionAndType("Tech University", null)).isEmpty();
             assertThat(documentRepository.findByInstitutionAndType(null, null)).isEmpty();
@@ -409,15 +393,13 @@ class DocumentRepositoryTest {
             // When
             List<Document> byInstitution = documentRepository.findByInstitutionName("");
             List<Document> byDocType = documentRepository.findByDocumentType("");
-            List<Document> byTitle = documentRepository.findByTitleContainingIgnoreCase("");
-            Optional<Document> byFileUrl = documentRepository.findByFileUrl("");
+            List<Document> byTitle = searchByTitle("");
             List<Document> byInstitutionAndType = documentRepository.findByInstitutionAndType("", "PDF");
 
             // Then
             assertThat(byInstitution).isEmpty();
             assertThat(byDocType).isEmpty();
             assertThat(byTitle).hasSize(3); // Empty string matches all titles
-            assertThat(byFileUrl).isEmpty();
             assertThat(byInstitutionAndType).isEmpty();
         }
 
@@ -425,9 +407,9 @@ class DocumentRepositoryTest {
         @DisplayName("Should handle case sensitivity correctly")
         void shouldHandleCaseSensitivityCorrectly() {
             // When
-            List<Document> upperCase = documentRepository.findByTitleContainingIgnoreCase("SPRING");
-            List<Document> lowerCase = documentRepository.findByTitleContainingIgnoreCase("spring");
-            List<Document> mixedCase = documentRepository.findByTitleContainingIgnoreCase("SpRiNg");
+            List<Document> upperCase = searchByTitle("SPRING");
+            List<Document> lowerCase = searchByTitle("spring");
+            List<Document> mixedCase = searchByTitle("SpRiNg");
 
             // Then - All should return same results due to ignore case
             assertThat(upperCase).hasSize(2);
@@ -451,8 +433,8 @@ class DocumentRepositoryTest {
             entityManager.persistAndFlush(specialDocument);
 
             // When
-            List<Document> documentsWithPlus = documentRepository.findByTitleContainingIgnoreCase("C++");
-            List<Document> documentsWithAmpersand = documentRepository.findByTitleContainingIgnoreCase("&");
+            List<Document> documentsWithPlus = searchByTitle("C++");
+            List<Document> documentsWithAmpersand = searchByTitle("&");
             List<Document> documentsWithHyphen = documentRepository.findByInstitutionName("Special-Chars University");
 
             // Then
@@ -520,4 +502,10 @@ class DocumentRepositoryTest {
             assertThat(endTime - startTime).isLessThan(1000); // Should complete within 1 second
         }
     }
+
+    // Başlık araması yalnızca keyset sayfalı sorguyla yapılır; ilk sayfa tüm test verisini kapsar
+    private List<Document> searchByTitle(String title) {
+        return documentRepository.findByTitleContainingIgnoreCaseAndIdLessThanOrderByIdDesc(
+                title, Long.MAX_VALUE, PageRequest.of(0, 50));
+    }
 }
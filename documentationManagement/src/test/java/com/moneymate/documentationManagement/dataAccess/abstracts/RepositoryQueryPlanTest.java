@@ -0,0 +1,197 @@
+package com.moneymate.documentationManagement.dataAccess.abstracts;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Sık kullanılan repository sorgularının PostgreSQL planlarını (EXPLAIN) kontrol eder; bir sorgu tablo
+ * taramasına (Seq Scan) dönerse ya da beklenen indeksi kullanmazsa test başarısız olur.
+ *
+ * Şema migration'larla (db/migration/postgresql) oluşturulur ve planlayıcının gerçekçi seçim yapması için
+ * tablolar üretilen satırlarla doldurulur. Sorgular Hibernate'in ürettiği SQL'in karşılığıdır.
+ * Docker yoksa test atlanır.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Repository Query Plan Tests")
+class RepositoryQueryPlanTest {
+
+    private static final int DOCUMENT_ROWS = 50_000;
+    private static final int USER_ROWS = 10_000;
+    private static final int PAGE_SIZE = 50;
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        Flyway.configure().dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .locations("classpath:db/migration/postgresql").load().migrate();
+        connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+
+        // 500 kurum (her biri ~100 döküman), üç yaygın tip ve nadir bir tip (CSV, ~%0.4),
+        // önizlemesi henüz üretilmemiş ~50 döküman; her döküman dakikada bir güncellenmiş
+        execute("INSERT INTO documents (title, minio_file_name, institution_name, institution_type, document_type, "
+                + "document_description, upload_at, update_at, thumbnail_status) "
+                + "SELECT 'Döküman ' || i, 'object-' || i, 'Kurum ' || (i % 500), 'Banka', "
+                + "  CASE WHEN i % 250 = 0 THEN 'CSV' ELSE (ARRAY['PDF', 'DOCX', 'XLSX'])[1 + i % 3] END, "
+                + "  'Açıklama ' || i, now() - i * interval '1 minute', now() - i * interval '1 minute', "
+                + "  CASE WHEN i % 1000 = 0 THEN NULL ELSE 'READY' END "
+                + "FROM generate_series(1, " + DOCUMENT_ROWS + ") AS i");
+        // Her dökümanın çıkarılmış metni; ~%10'u desteklenmeyen dosya
+        execute("INSERT INTO document_texts (document_id, status, content, truncated, extracted_at) "
+                + "SELECT id, CASE WHEN id % 10 = 0 THEN 'UNSUPPORTED' ELSE 'EXTRACTED' END, "
+                + "  CASE WHEN id % 10 = 0 THEN NULL ELSE 'Hesap özeti ' || id || ' dönem faiz oranı yüzde ' || (id % 50) END, "
+                + "  false, now() FROM documents");
+        execute("INSERT INTO users (user_id, email, password) "
+                + "SELECT 'user-' || i, 'user' || i || '@example.com', 'x' FROM generate_series(1, " + USER_ROWS + ") AS i");
+        execute("VACUUM ANALYZE documents");
+        execute("VACUUM ANALYZE document_texts");
+        execute("VACUUM ANALYZE users");
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @Test
+    @DisplayName("findByInstitutionName should use an index")
+    void findByInstitutionName() throws Exception {
+        String plan = explain("SELECT * FROM documents WHERE institution_name = ?", "Kurum 42");
+        assertNoSeqScan(plan, "documents");
+    }
+
+    @Test
+    @DisplayName("Institution keyset page should read (institution_name, id) in order")
+    void findByInstitutionNameKeyset() throws Exception {
+        String plan = explain("SELECT * FROM documents WHERE institution_name = ? AND id < ? ORDER BY id DESC LIMIT "
+                + (PAGE_SIZE + 1), "Kurum 42", Long.MAX_VALUE);
+        assertUsesIndex(plan, "documents", "idx_documents_institution_name_id");
+        assertFalse(plan.contains("Sort"), plan);
+    }
+
+    @Test
+    @DisplayName("findByInstitutionAndType should use the composite index")
+    void findByInstitutionAndType() throws Exception {
+        String plan = explain("SELECT * FROM documents WHERE institution_name = ? AND document_type = ?",
+                "Kurum 42", "PDF");
+        assertUsesIndex(plan, "documents", "idx_documents_institution_name_document_type");
+    }
+
+    @Test
+    @DisplayName("findByDocumentType should use an index for a selective type")
+    void findByDocumentType() throws Exception {
+        String plan = explain("SELECT * FROM documents WHERE document_type = ?", "CSV");
+        assertUsesIndex(plan, "documents", "idx_documents_document_type_id");
+    }
+
+    @Test
+    @DisplayName("Type keyset page should read (document_type, id) in order")
+    void findByDocumentTypeKeyset() throws Exception {
+        String plan = explain("SELECT * FROM documents WHERE document_type = ? AND id < ? ORDER BY id DESC LIMIT "
+                + (PAGE_SIZE + 1), "CSV", Long.MAX_VALUE);
+        assertUsesIndex(plan, "documents", "idx_documents_document_type_id");
+        assertFalse(plan.contains("Sort"), plan);
+    }
+
+    @Test
+    @DisplayName("findMinioFileNamesIn should use the object name index")
+    void findMinioFileNamesIn() throws Exception {
+        String plan = explain("SELECT minio_file_name FROM documents WHERE minio_file_name IN (?, ?, ?)",
+                "object-1", "object-2", "missing");
+        assertUsesIndex(plan, "documents", "idx_documents_minio_file_name");
+    }
+
+    @Test
+    @DisplayName("findStorageTiers should use the object name index")
+    void findStorageTiers() throws Exception {
+        String plan = explain("SELECT DISTINCT storage_tier FROM documents WHERE minio_file_name = ?", "object-1");
+        assertUsesIndex(plan, "documents", "idx_documents_minio_file_name");
+    }
+
+    @Test
+    @DisplayName("Thumbnail backfill should use the partial pending index")
+    void findTop100ByThumbnailStatusIsNullAndUploadAtBefore() throws Exception {
+        String plan = explain("SELECT * FROM documents WHERE thumbnail_status IS NULL AND upload_at < ? LIMIT 100",
+                Timestamp.valueOf(LocalDateTime.now().minusMinutes(5)));
+        assertUsesIndex(plan, "documents", "idx_documents_upload_at_thumbnail_pending");
+    }
+
+    @Test
+    @DisplayName("Search index catch-up should read recent changes from the (update_at, id) index")
+    void findUpdatedAfter() throws Exception {
+        Timestamp since = Timestamp.valueOf(LocalDateTime.now().minusMinutes(5));
+        String plan = explain("SELECT * FROM documents WHERE update_at > ? OR (update_at = ? AND id > ?) "
+                + "ORDER BY update_at, id LIMIT 500", since, since, 0L);
+        assertUsesIndex(plan, "documents", "idx_documents_update_at_id");
+    }
+
+    @Test
+    @DisplayName("searchByContent should use the partial trigram index on extracted texts")
+    void searchByContent() throws Exception {
+        String plan = explain("SELECT d.* FROM document_texts t JOIN documents d ON d.id = t.document_id "
+                + "WHERE t.status = 'EXTRACTED' AND t.content ILIKE ? ESCAPE '\\' ORDER BY t.document_id DESC LIMIT "
+                + PAGE_SIZE, "%özeti 4242 dönem%");
+        assertUsesIndex(plan, "document_texts", "idx_document_texts_content_trgm");
+    }
+
+    @Test
+    @DisplayName("findByEmail should use the unique email index")
+    void findByEmail() throws Exception {
+        // Flyway'den önce ddl-auto ile oluşturulmuş veritabanlarında kısıtın adı farklıdır; sadece tarama tipi kontrol edilir
+        String plan = explain("SELECT * FROM users WHERE email = ?", "user42@example.com");
+        assertNoSeqScan(plan, "users");
+        assertTrue(plan.contains("Index Scan") || plan.contains("Index Only Scan"), plan);
+    }
+
+    private static void assertUsesIndex(String plan, String table, String index) {
+        assertNoSeqScan(plan, table);
+        assertTrue(plan.contains(" " + index + " "), "Beklenen indeks " + index + " kullanılmıyor:\n" + plan);
+    }
+
+    private static void assertNoSeqScan(String plan, String table) {
+        assertFalse(plan.contains("Seq Scan on " + table), "Tablo taraması:\n" + plan);
+    }
+
+    private static String explain(String sql, Object... parameters) throws Exception {
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1)).append('\n');
+                }
+            }
+            return plan.toString();
+        }
+    }
+
+    private static void execute(String sql) throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.moneymate.documentationManagement.dataAccess.concretes;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("CachingStorageBackend Tests")
+class CachingStorageBackendTest {
+
+    private static final int MEMORY_MAX_OBJECT_SIZE = 100;
+    private static final int DISK_MAX_OBJECT_SIZE = 1000;
+
+    @TempDir
+    Path rootDirectory;
+
+    @TempDir
+    Path cacheDirectory;
+
+    private FileSystemStorageBackend delegate;
+    private CachingStorageBackend storageBackend;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        delegate = spy(new FileSystemStorageBackend(rootDirectory));
+        storageBackend = new CachingStorageBackend(delegate, cacheDirectory, 100,
+                10_000, MEMORY_MAX_OBJECT_SIZE, 100_000, DISK_MAX_OBJECT_SIZE);
+        meterRegistry = new SimpleMeterRegistry();
+        storageBackend.bindTo(meterRegistry);
+    }
+
+    private byte[] put(String objectName, int size) throws Exception {
+        byte[] content = new byte[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = (byte) i;
+        }
+        delegate.putObject(objectName, new ByteArrayInputStream(content), size, null);
+        return content;
+    }
+
+    private byte[] read(String objectName) throws Exception {
+        try (InputStream inputStream = storageBackend.getObject(objectName)) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    private long diskFiles() throws Exception {
+        try (var files = Files.list(cacheDirectory.resolve(CachingStorageBackend.CACHE_SUBDIRECTORY))) {
+            return files.count();
+        }
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads of small objects from memory")
+    void shouldServeSmallObjectsFromMemory() throws Exception {
+        // Given
+        byte[] content = put("small.pdf", 50);
+
+        // When
+        byte[] first = read("small.pdf");
+        byte[] second = read("small.pdf");
+
+        // Then
+        assertArrayEquals(content, first);
+        assertArrayEquals(content, second);
+        verify(delegate, times(1)).getObject("small.pdf");
+        verify(delegate, times(1)).statObject("small.pdf");
+        assertEquals(0, diskFiles());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "storage.memory").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should keep medium objects on local disk and transfer ranges from there")
+    void shouldServeMediumObjectsFromDisk() throws Exception {
+        // Given
+        byte[] content = put("medium.pdf", 500);
+        assertArrayEquals(content, read("medium.pdf"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long transferred = storageBackend.transferTo("medium.pdf", 10, 20, Channels.newChannel(out));
+
+        // Then
+        assertEquals(20, transferred);
+        assertArrayEquals(Arrays.copyOfRange(content, 10, 30), out.toByteArray());
+        verify(delegate, times(1)).getObject("medium.pdf");
+        assertEquals(1, diskFiles());
+    }
+
+    @Test
+    @DisplayName("Should bypass the cache for objects above the disk limit")
+    void shouldBypassLargeObjects() throws Exception {
+        // Given
+        byte[] content = put("large.pdf", 2000);
+
+        // When
+        read("large.pdf");
+        byte[] second = read("large.pdf");
+
+        // Then
+        assertArrayEquals(content, second);
+        verify(delegate, times(2)).getObject("large.pdf");
+        assertEquals(0, diskFiles());
+        assertEquals(2.0, meterRegistry.get("storage.cache.bypass").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should drop cached entries when the object is removed or overwritten")
+    void shouldInvalidateOnWrite() throws Exception {
+        // Given
+        put("medium.pdf", 500);
+        read("medium.pdf");
+
+        // When
+        storageBackend.putObject("medium.pdf", new ByteArrayInputStream(new byte[50]), 50, null);
+        byte[] overwritten = read("medium.pdf");
+        storageBackend.removeObject("medium.pdf");
+
+        // Then
+        assertArrayEquals(new byte[50], overwritten);
+        assertEquals(0, diskFiles());
+        assertThrows(Exception.class, () -> read("medium.pdf"));
+    }
+
+    @Test
+    @DisplayName("Should not cache failed loads")
+    void shouldNotCacheFailures() throws Exception {
+        // Given
+        assertThrows(Exception.class, () -> read("later.pdf"));
+        byte[] content = put("later.pdf", 50);
+
+        // When
+        byte[] result = read("later.pdf");
+
+        // Then
+        assertArrayEquals(content, result);
+        verify(delegate, times(2)).statObject(eq("later.pdf"));
+    }
+
+    @Test
+    @DisplayName("Should refresh stat and drop cached content when the object was rewritten outside the cache")
+    void shouldRefreshStatWhenRewrittenExternally() throws Exception {
+        // Given: imzalı PUT ile yazma önbelleğe uğramaz
+        put("direct.pdf", 50);
+        read("direct.pdf");
+        byte[] rewritten = put("direct.pdf", 80);
+
+        // When
+        long cachedSize = storageBackend.statObject("direct.pdf").size();
+        long freshSize = storageBackend.statObjectUncached("direct.pdf").size();
+
+        // Then
+        assertEquals(50, cachedSize);
+        assertEquals(80, freshSize);
+        assertEquals(80, storageBackend.statObject("direct.pdf").size());
+        assertArrayEquals(rewritten, read("direct.pdf"));
+    }
+
+    @Test
+    @DisplayName("Should only clean its own subdirectory on startup")
+    void shouldOnlyCleanOwnSubdirectory() throws Exception {
+        // Given
+        Path unrelated = Files.writeString(cacheDirectory.resolve("unrelated.bin"), "başka uygulama");
+        Path leftover = Files.writeString(
+                cacheDirectory.resolve(CachingStorageBackend.CACHE_SUBDIRECTORY).resolve("old.bin"), "eski");
+
+        // When
+        new CachingStorageBackend(delegate, cacheDirectory, 100, 10_000, MEMORY_MAX_OBJECT_SIZE, 100_000,
+                DISK_MAX_OBJECT_SIZE);
+
+        // Then
+        assertTrue(Files.exists(unrelated));
+        assertFalse(Files.exists(leftover));
+    }
+}
@@ -0,0 +1,182 @@
+package com.moneymate.documentationManagement.dataAccess.concretes;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.moneymate.documentationManagement.dataAccess.abstracts.StorageBackend.CompletedPart;
+import com.moneymate.documentationManagement.dataAccess.abstracts.StorageBackend.ObjectInfo;
+
+@DisplayName("FileSystemStorageBackend Tests")
+class FileSystemStorageBackendTest {
+
+    @TempDir
+    Path rootDirectory;
+
+    private FileSystemStorageBackend storageBackend;
+
+    private final byte[] content = "Spring Boot ile döküman yönetimi".getBytes(StandardCharsets.UTF_8);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        storageBackend = new FileSystemStorageBackend(rootDirectory);
+    }
+
+    @Test
+    @DisplayName("Should write object and read it back")
+    void shouldWriteAndReadObject() throws Exception {
+        // When
+        storageBackend.putObject("test.pdf", new ByteArrayInputStream(content), -1, "application/pdf");
+
+        // Then
+        try (InputStream inputStream = storageBackend.getObject("test.pdf")) {
+            assertArrayEquals(content, inputStream.readAllBytes());
+        }
+        try (var files = Files.list(rootDirectory)) {
+            assertEquals(1, files.count(), "Geçici dosya kalmamalı");
+        }
+    }
+
+    @Test
+    @DisplayName("Should transfer requested byte range to target channel")
+    void shouldTransferRequestedRange() throws Exception {
+        // Given
+        storageBackend.putObject("test.pdf", new ByteArrayInputStream(content), content.length, "application/pdf");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long transferred = storageBackend.transferTo("test.pdf", 7, 4, Channels.newChannel(out));
+
+        // Then
+        assertEquals(4, transferred);
+        assertEquals("Boot", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should transfer requested byte range directly into a file channel")
+    void shouldTransferRangeToFileChannel() throws Exception {
+        // Given
+        storageBackend.putObject("test.pdf", new ByteArrayInputStream(content), content.length, "application/pdf");
+        Path target = Files.createTempFile("range", ".out");
+
+        // When
+        long transferred;
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            transferred = storageBackend.transferTo("test.pdf", 7, 4, channel);
+        }
+
+        // Then
+        assertEquals(4, transferred);
+        assertEquals("Boot", Files.readString(target));
+    }
+
+    @Test
+    @DisplayName("Should not expose presigned or direct upload capability")
+    void shouldNotSupportPresignedUrls() {
+        assertFalse(storageBackend.supportsPresignedUrls());
+        assertFalse(storageBackend.supportsDirectUpload());
+    }
+
+    @Test
+    @DisplayName("Should report object size without reading content")
+    void shouldStatObject() throws Exception {
+        // Given
+        storageBackend.putObject("test.pdf", new ByteArrayInputStream(content), content.length, "application/pdf");
+
+        // When
+        var stat = storageBackend.statObject("test.pdf");
+
+        // Then
+        assertEquals(content.length, stat.size());
+        assertNotNull(stat.etag());
+    }
+
+    @Test
+    @DisplayName("Should remove object")
+    void shouldRemoveObject() throws Exception {
+        // Given
+        storageBackend.putObject("test.pdf", new ByteArrayInputStream(content), content.length, "application/pdf");
+
+        // When
+        storageBackend.removeObject("test.pdf");
+
+        // Then
+        assertFalse(Files.exists(rootDirectory.resolve("test.pdf")));
+    }
+
+    @Test
+    @DisplayName("Should list nested objects but not pending multipart parts")
+    void shouldListObjects() throws Exception {
+        // Given
+        storageBackend.putObject("a.pdf", new ByteArrayInputStream(content), content.length, "application/pdf");
+        storageBackend.putObject("2024/b.pdf", new ByteArrayInputStream(content), content.length, "application/pdf");
+        String uploadId = storageBackend.createMultipartUpload("c.pdf", "application/pdf");
+        storageBackend.uploadPart("c.pdf", uploadId, 1, new ByteArrayInputStream(content), content.length);
+
+        // When
+        List<String> names;
+        try (var objects = storageBackend.listObjects()) {
+            names = objects.map(ObjectInfo::name).sorted().toList();
+        }
+
+        // Then
+        assertEquals(List.of("2024/b.pdf", "a.pdf"), names);
+    }
+
+    @Test
+    @DisplayName("Should reject object names escaping the root directory")
+    void shouldRejectPathTraversal() {
+        assertThrows(IllegalArgumentException.class,
+                () -> storageBackend.getObject("../outside.pdf"));
+    }
+
+    @Test
+    @DisplayName("Should assemble multipart upload parts in part number order")
+    void shouldCompleteMultipartUpload() throws Exception {
+        // Given
+        String uploadId = storageBackend.createMultipartUpload("big.pdf", "application/pdf");
+        byte[] first = "Spring Boot ".getBytes(StandardCharsets.UTF_8);
+        byte[] second = "ile döküman yönetimi".getBytes(StandardCharsets.UTF_8);
+
+        // When - parçalar ters sırada gönderilir
+        String secondEtag = storageBackend.uploadPart("big.pdf", uploadId, 2, new ByteArrayInputStream(second), second.length);
+        String firstEtag = storageBackend.uploadPart("big.pdf", uploadId, 1, new ByteArrayInputStream(first), first.length);
+        storageBackend.completeMultipartUpload("big.pdf", uploadId,
+                List.of(new CompletedPart(2, secondEtag), new CompletedPart(1, firstEtag)));
+
+        // Then
+        try (InputStream inputStream = storageBackend.getObject("big.pdf")) {
+            assertArrayEquals(content, inputStream.readAllBytes());
+        }
+        assertFalse(Files.exists(rootDirectory.resolve(".multipart").resolve(uploadId)));
+    }
+
+    @Test
+    @DisplayName("Should discard parts when multipart upload is aborted")
+    void shouldAbortMultipartUpload() throws Exception {
+        // Given
+        String uploadId = storageBackend.createMultipartUpload("big.pdf", "application/pdf");
+        storageBackend.uploadPart("big.pdf", uploadId, 1, new ByteArrayInputStream(content), content.length);
+
+        // When
+        storageBackend.abortMultipartUpload("big.pdf", uploadId);
+
+        // Then
+        assertFalse(Files.exists(rootDirectory.resolve(".multipart").resolve(uploadId)));
+        assertFalse(Files.exists(rootDirectory.resolve("big.pdf")));
+    }
+}
@@ -0,0 +1,62 @@
+package com.moneymate.documentationManagement.dataAccess.concretes;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.moneymate.documentationManagement.core.utilities.io.StorageCodec;
+import com.moneymate.documentationManagement.dataAccess.abstracts.DocumentRepository;
+import com.moneymate.documentationManagement.entities.concretes.Document;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(JdbcDocumentBatchRepository.class)
+@DisplayName("JdbcDocumentBatchRepository Integration Tests")
+class JdbcDocumentBatchRepositoryTest {
+
+    @Autowired
+    private JdbcDocumentBatchRepository documentBatchRepository;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    private Document document(String title, StorageCodec codec) {
+        return Document.builder()
+                .title(title)
+                .minioFileName(title + ".pdf")
+                .institutionName("TCMB")
+                .institutionType("Merkez Bankası")
+                .documentType("PDF")
+                .contentHash("a".repeat(64))
+                .storageCodec(codec)
+                .uploadAt(LocalDateTime.of(2024, 1, 1, 10, 0))
+                .updateAt(LocalDateTime.of(2024, 1, 1, 10, 0))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should insert documents in one batch and assign generated ids")
+    void shouldInsertAllAndAssignIds() {
+        // Given
+        List<Document> documents = List.of(document("a", StorageCodec.GZIP), document("b", null));
+
+        // When
+        documentBatchRepository.insertAll(documents);
+
+        // Then
+        assertNotNull(documents.get(0).getId());
+        assertNotEquals(documents.get(0).getId(), documents.get(1).getId());
+        Document first = documentRepository.findById(documents.get(0).getId()).orElseThrow();
+        assertEquals("a", first.getTitle());
+        assertEquals(StorageCodec.GZIP, first.getStorageCodec());
+        assertEquals("b.pdf", documentRepository.findById(documents.get(1).getId()).orElseThrow().getMinioFileName());
+    }
+}
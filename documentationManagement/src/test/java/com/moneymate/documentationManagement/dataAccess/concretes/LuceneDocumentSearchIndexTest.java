@@ -0,0 +1,202 @@
+package com.moneymate.documentationManagement.dataAccess.concretes;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.moneymate.documentationManagement.dataAccess.abstracts.DocumentSearchIndex.Hit;
+import com.moneymate.documentationManagement.entities.concretes.Document;
+
+@DisplayName("LuceneDocumentSearchIndex Tests")
+class LuceneDocumentSearchIndexTest {
+
+    @TempDir
+    Path indexDirectory;
+
+    private LuceneDocumentSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        searchIndex = new LuceneDocumentSearchIndex(indexDirectory.toString());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        searchIndex.close();
+    }
+
+    private static Document document(Long id, String title, String description) {
+        return Document.builder()
+                .id(id)
+                .title(title)
+                .documentDescription(description)
+                .institutionName("Türkiye Cumhuriyet Merkez Bankası")
+                .institutionType("Merkez Bankası")
+                .documentType("PDF")
+                .minioFileName("document-" + id + ".pdf")
+                .build();
+    }
+
+    private List<Long> search(String query) throws Exception {
+        return searchIndex.search(query, 10).stream().map(hit -> hit.document().getId()).toList();
+    }
+
+    @Test
+    @DisplayName("Should match inflected Turkish words by stem")
+    void shouldMatchByStem() throws Exception {
+        // Given
+        searchIndex.upsert(document(1L, "Faiz kararları", "Para politikası kurulu toplantısı"));
+        searchIndex.upsert(document(2L, "Enflasyon raporu", "Yıllık değerlendirme"));
+        searchIndex.refresh();
+
+        // When & Then
+        assertEquals(List.of(1L), search("faiz kararı"));
+        assertEquals(List.of(2L), search("raporlar"));
+    }
+
+    @Test
+    @DisplayName("Should match queries typed without Turkish characters")
+    void shouldMatchAsciiQueries() throws Exception {
+        // Given
+        searchIndex.upsert(document(1L, "İSTANBUL şube düzenlemesi", null));
+        searchIndex.refresh();
+
+        // When & Then
+        assertEquals(List.of(1L), search("istanbul sube"));
+        assertEquals(List.of(1L), search("ŞUBE"));
+    }
+
+    @Test
+    @DisplayName("Should match the last word as a prefix while typing")
+    void shouldMatchLastWordAsPrefix() throws Exception {
+        // Given
+        searchIndex.upsert(document(1L, "Bankacılık düzenleme tebliği", null));
+        searchIndex.upsert(document(2L, "Bankacılık istatistikleri", null));
+        searchIndex.refresh();
+
+        // When & Then
+        assertEquals(List.of(1L), search("bankacılık düzen"));
+        assertEquals(2, search("bank").size());
+    }
+
+    @Test
+    @DisplayName("Should rank title matches above description matches")
+    void shouldRankTitleAboveDescription() throws Exception {
+        // Given
+        searchIndex.upsert(document(1L, "Yıllık faaliyet bülteni", "Likidite ve döviz görünümü"));
+        searchIndex.upsert(document(2L, "Likidite raporu", "Yıllık bülten"));
+        searchIndex.refresh();
+
+        // When
+        List<Hit> hits = searchIndex.search("likidite", 10);
+
+        // Then
+        assertEquals(2L, hits.get(0).document().getId());
+        assertTrue(hits.get(0).score() > hits.get(1).score());
+    }
+
+    @Test
+    @DisplayName("Should return stored fields without a file url")
+    void shouldReturnStoredFields() throws Exception {
+        // Given
+        searchIndex.upsert(document(7L, "Swap işlemleri", "Döviz swap ihalesi"));
+        searchIndex.refresh();
+
+        // When
+        Document result = searchIndex.search("swap", 10).get(0).document();
+
+        // Then
+        assertEquals("Swap işlemleri", result.getTitle());
+        assertEquals("Döviz swap ihalesi", result.getDocumentDescription());
+        assertEquals("Merkez Bankası", result.getInstitutionType());
+        assertNull(result.getMinioFileName());
+        assertNull(result.getFileUrl());
+    }
+
+    @Test
+    @DisplayName("Should replace updated documents and drop deleted ones")
+    void shouldUpdateAndDelete() throws Exception {
+        // Given
+        searchIndex.upsert(document(1L, "Taslak genelge", null));
+        searchIndex.upsert(document(2L, "Taslak yönetmelik", null));
+        searchIndex.refresh();
+
+        // When
+        searchIndex.upsert(document(1L, "Yürürlükteki genelge", null));
+        searchIndex.delete(2L);
+        searchIndex.refresh();
+
+        // Then
+        assertEquals(List.of(), search("taslak"));
+        assertEquals(List.of(1L), search("genelge"));
+    }
+
+    @Test
+    @DisplayName("Should ignore stop words and blank queries")
+    void shouldIgnoreStopWords() throws Exception {
+        // Given
+        searchIndex.upsert(document(1L, "Kur riski", null));
+        searchIndex.refresh();
+
+        // When & Then
+        assertEquals(List.of(1L), search("kur ve riski"));
+        assertEquals(List.of(), search("  "));
+    }
+
+    @Test
+    @DisplayName("Should remove documents not rewritten during rebuild")
+    void shouldRemoveStaleDocumentsOnRebuild() throws Exception {
+        // Given
+        searchIndex.upsert(document(1L, "Hazine ihalesi", null));
+        searchIndex.upsert(document(2L, "Hazine tahvili", null));
+        searchIndex.refresh();
+
+        // When
+        long generation = searchIndex.beginRebuild();
+        searchIndex.upsert(document(1L, "Hazine ihalesi", null));
+        searchIndex.finishRebuild(generation);
+
+        // Then
+        assertEquals(List.of(1L), search("hazine"));
+    }
+
+    @Test
+    @DisplayName("Should keep index and rebuild generation after reopen")
+    void shouldPersistAcrossReopen() throws Exception {
+        // Given
+        long generation = searchIndex.beginRebuild();
+        searchIndex.upsert(document(1L, "Ödeme sistemleri", null));
+        searchIndex.finishRebuild(generation);
+        searchIndex.close();
+
+        // When
+        searchIndex = new LuceneDocumentSearchIndex(indexDirectory.toString());
+
+        // Then
+        assertEquals(List.of(1L), search("ödeme"));
+        assertEquals(generation + 1, searchIndex.beginRebuild());
+    }
+
+    @Test
+    @DisplayName("Should page through indexed ids after a cursor")
+    void shouldListDocumentIds() throws Exception {
+        // Given
+        searchIndex.upsert(document(9L, "Faiz kararları", null));
+        searchIndex.upsert(document(10L, "Enflasyon raporu", null));
+        searchIndex.upsert(document(11L, "Finansal istikrar raporu", null));
+        searchIndex.refresh();
+
+        // When & Then: id'ler metin olarak sıralıdır
+        assertEquals(List.of(10L, 11L), searchIndex.documentIds(null, 2));
+        assertEquals(List.of(9L), searchIndex.documentIds(11L, 2));
+        assertEquals(List.of(11L, 9L), searchIndex.documentIds(100L, 2));
+        assertEquals(List.of(), searchIndex.documentIds(9L, 2));
+    }
+}
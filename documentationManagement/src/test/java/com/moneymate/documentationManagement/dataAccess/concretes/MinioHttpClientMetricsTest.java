@@ -0,0 +1,117 @@
+package com.moneymate.documentationManagement.dataAccess.concretes;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.minio.BucketExistsArgs;
+import io.minio.MinioClient;
+import io.minio.RemoveObjectArgs;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+@DisplayName("MinIO Client Metrics Tests")
+class MinioHttpClientMetricsTest {
+
+    private HttpServer server;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should record request latency and pool state")
+    void shouldRecordRequestsAndPool() throws Exception {
+        // Given
+        MinioHttpClientMetrics metrics = new MinioHttpClientMetrics();
+        OkHttpClient httpClient = metrics.instrument(new OkHttpClient.Builder());
+        metrics.bindTo(meterRegistry);
+
+        // When
+        Request request = new Request.Builder()
+                .url("http://127.0.0.1:" + server.getAddress().getPort() + "/bucket/object")
+                .build();
+        try (Response response = httpClient.newCall(request).execute()) {
+            assertEquals("ok", response.body().string());
+        }
+
+        // Then
+        assertEquals(1, meterRegistry.get("minio.http.requests").tag("method", "GET").tag("status", "200")
+                .timer().count());
+        assertEquals(0.0, meterRegistry.get("minio.http.connections").tag("state", "active").gauge().value());
+        assertEquals(1.0, meterRegistry.get("minio.http.connections").tag("state", "idle").gauge().value());
+        assertEquals(0.0, meterRegistry.get("minio.http.calls").tag("state", "queued").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should time storage operations by outcome")
+    void shouldTimeOperations() throws Exception {
+        // Given
+        MinioClient minioClient = mock(MinioClient.class);
+        doThrow(new IllegalStateException("bağlantı yok")).when(minioClient).removeObject(any(RemoveObjectArgs.class));
+        MinioStorageBackend storageBackend = new MinioStorageBackend(minioClient, null, "bucket");
+        storageBackend.bindTo(meterRegistry);
+
+        // When
+        storageBackend.getPresignedUrl("object.pdf", 60);
+        assertThrows(IllegalStateException.class, () -> storageBackend.removeObject("object.pdf"));
+
+        // Then
+        assertEquals(1, meterRegistry.get("minio.operations").tag("operation", "presign").tag("outcome", "success")
+                .timer().count());
+        assertEquals(1, meterRegistry.get("minio.operations").tag("operation", "remove").tag("outcome", "error")
+                .timer().count());
+    }
+
+    @Test
+    @DisplayName("Should time bucket existence check and bucket creation")
+    void shouldTimeBucketCreation() throws Exception {
+        // Given
+        MinioClient minioClient = mock(MinioClient.class);
+        when(minioClient.bucketExists(any(BucketExistsArgs.class))).thenReturn(false);
+        MinioStorageBackend storageBackend = new MinioStorageBackend(minioClient, null, "bucket");
+        storageBackend.bindTo(meterRegistry);
+        // Timer'lar bağlanırken oluşturulur; işlem sırasında yeni meter kaydedilmez
+        int meterCount = meterRegistry.getMeters().size();
+
+        // When
+        storageBackend.putObject("object.pdf", new ByteArrayInputStream(new byte[4]), 4, "application/pdf");
+
+        // Then
+        assertEquals(1, meterRegistry.get("minio.operations").tag("operation", "bucketExists").tag("outcome", "success")
+                .timer().count());
+        assertEquals(1, meterRegistry.get("minio.operations").tag("operation", "makeBucket").tag("outcome", "success")
+                .timer().count());
+        assertEquals(1, meterRegistry.get("minio.operations").tag("operation", "put").tag("outcome", "success")
+                .timer().count());
+        assertEquals(meterCount, meterRegistry.getMeters().size());
+    }
+}
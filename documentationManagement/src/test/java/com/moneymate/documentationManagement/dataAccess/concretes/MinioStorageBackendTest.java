@@ -0,0 +1,58 @@
+package com.moneymate.documentationManagement.dataAccess.concretes;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.minio.MinioClient;
+
+@DisplayName("MinioStorageBackend Tests")
+class MinioStorageBackendTest {
+
+    private static final String SHA256 = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+
+    private HttpServer server;
+    private MinioStorageBackend storageBackend;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Bucket varlık kontrolü (HEAD) için 200 dönen sunucu; imzalama ağ gerektirmez
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+        MinioClient minioClient = MinioClient.builder()
+                .endpoint("http://127.0.0.1:" + server.getAddress().getPort())
+                .credentials("access", "secret")
+                .region("us-east-1")
+                .build();
+        storageBackend = new MinioStorageBackend(minioClient, null, "bucket");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should sign the declared checksum header into the presigned PUT URL")
+    void shouldSignChecksumIntoUploadUrl() throws Exception {
+        // When
+        String url = URLDecoder.decode(storageBackend.getPresignedUploadUrl("object.pdf", 900, SHA256),
+                StandardCharsets.UTF_8);
+
+        // Then: istemci başlığı göndermezse ya da değiştirirse imza tutmaz
+        assertTrue(url.contains("X-Amz-SignedHeaders=host;x-amz-checksum-sha256"), url);
+    }
+}
@@ -0,0 +1,180 @@
+package com.moneymate.documentationManagement.dataAccess.concretes;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import com.moneymate.documentationManagement.dataAccess.abstracts.StorageBackend;
+
+import io.minio.MinioAsyncClient;
+import io.minio.MinioClient;
+
+/**
+ * Parça boyutu ve paralellik değerlerine göre yükleme hızını ölçer.
+ *
+ * mvn test -Dtest=ParallelMultipartUploaderBenchmarkTest -Dbenchmark=true
+ *     [-Dbenchmark.minio.endpoint=http://minio:9000 -Dbenchmark.minio.bucket=benchmark]
+ *     [-Dbenchmark.size-mb=256]
+ *
+ * MinIO adresi verilmezse bağlantı başına bant genişliği ve istek gecikmesi simüle edilir.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("ParallelMultipartUploader Benchmark")
+class ParallelMultipartUploaderBenchmarkTest {
+
+    private static final int MB = 1024 * 1024;
+    private static final List<Integer> PART_SIZES_MB = List.of(5, 8, 16, 32);
+    private static final List<Integer> PARALLELISMS = List.of(1, 2, 4, 8);
+
+    @Test
+    @DisplayName("Throughput by part size and parallelism")
+    void measureThroughput() throws Exception {
+        long fileSize = Long.getLong("benchmark.size-mb", 256) * MB;
+        StorageBackend storageBackend = createStorageBackend();
+
+        System.out.printf("%-10s %-12s %12s%n", "part(MB)", "parallelism", "MB/s");
+        for (int partSizeMb : PART_SIZES_MB) {
+            for (int parallelism : PARALLELISMS) {
+                ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+                try {
+                    ParallelMultipartUploader uploader = new ParallelMultipartUploader(
+                            storageBackend, executor, partSizeMb * MB, parallelism * 2);
+                    String objectName = "benchmark-" + partSizeMb + "-" + parallelism + ".bin";
+
+                    long start = System.nanoTime();
+                    uploader.upload(objectName, new PatternInputStream(fileSize), -1, "application/octet-stream");
+                    double seconds = (System.nanoTime() - start) / 1e9;
+                    storageBackend.removeObject(objectName);
+
+                    System.out.printf("%-10d %-12d %12.1f%n", partSizeMb, parallelism, fileSize / (double) MB / seconds);
+                } finally {
+                    executor.shutdownNow();
+                }
+            }
+        }
+    }
+
+    private StorageBackend createStorageBackend() {
+        String endpoint = System.getProperty("benchmark.minio.endpoint");
+        if (endpoint == null) {
+            return new SimulatedStorageBackend(
+                    Integer.getInteger("benchmark.simulated.mbps-per-connection", 40),
+                    Integer.getInteger("benchmark.simulated.latency-ms", 20));
+        }
+        String accessKey = System.getProperty("benchmark.minio.access-key", "minioadmin");
+        String secretKey = System.getProperty("benchmark.minio.secret-key", "minioadmin");
+        return new MinioStorageBackend(
+                MinioClient.builder().endpoint(endpoint).credentials(accessKey, secretKey).build(),
+                new MinioMultipartClient(MinioAsyncClient.builder().endpoint(endpoint).credentials(accessKey, secretKey).build()),
+                System.getProperty("benchmark.minio.bucket", "benchmark"));
+    }
+
+    // Belirli boyutta, bellekte tutulmayan deterministik veri üretir
+    private static class PatternInputStream extends InputStream {
+        private long remaining;
+
+        PatternInputStream(long size) {
+            this.remaining = size;
+        }
+
+        @Override
+        public int read() {
+            if (remaining <= 0) {
+                return -1;
+            }
+            return (int) (remaining-- & 0xFF);
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int count = (int) Math.min(length, remaining);
+            for (int i = 0; i < count; i++) {
+                buffer[offset + i] = (byte) (remaining - i);
+            }
+            remaining -= count;
+            return count;
+        }
+    }
+
+    // Her istek sabit gecikme, her bağlantı sınırlı bant genişliği ile çalışır (tek bağlantı hattı dolduramaz)
+    private static class SimulatedStorageBackend implements StorageBackend {
+        private final int bytesPerMillisecond;
+        private final int latencyMillis;
+
+        SimulatedStorageBackend(int mbpsPerConnection, int latencyMillis) {
+            this.bytesPerMillisecond = mbpsPerConnection * MB / 1000;
+            this.latencyMillis = latencyMillis;
+        }
+
+        private void transfer(InputStream inputStream) throws Exception {
+            long bytes = inputStream.transferTo(OutputStream.nullOutputStream());
+            Thread.sleep(latencyMillis + bytes / bytesPerMillisecond);
+        }
+
+        @Override
+        public void putObject(String objectName, InputStream inputStream, long size, String contentType) throws Exception {
+            transfer(inputStream);
+        }
+
+        @Override
+        public InputStream getObject(String objectName) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void removeObject(String objectName) {
+        }
+
+        @Override
+        public Stream<ObjectInfo> listObjects() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ObjectStat statObject(String objectName) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getPresignedUrl(String objectName, int expirySeconds, String contentEncoding) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getPresignedUploadUrl(String objectName, int expirySeconds, String sha256) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String createMultipartUpload(String objectName, String contentType) throws Exception {
+            Thread.sleep(latencyMillis);
+            return objectName;
+        }
+
+        @Override
+        public String uploadPart(String objectName, String uploadId, int partNumber, InputStream inputStream,
+                                 long size) throws Exception {
+            transfer(inputStream);
+            return String.valueOf(partNumber);
+        }
+
+        @Override
+        public void completeMultipartUpload(String objectName, String uploadId, List<CompletedPart> parts) throws Exception {
+            Thread.sleep(latencyMillis);
+        }
+
+        @Override
+        public void abortMultipartUpload(String objectName, String uploadId) {
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.moneymate.documentationManagement.dataAccess.concretes;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.moneymate.documentationManagement.dataAccess.abstracts.StorageBackend;
+
+@DisplayName("ParallelMultipartUploader Tests")
+class ParallelMultipartUploaderTest {
+
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+
+    @TempDir
+    Path rootDirectory;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private byte[] randomContent(int length) {
+        byte[] content = new byte[length];
+        new Random(42).nextBytes(content);
+        return content;
+    }
+
+    @Test
+    @DisplayName("Should split unknown-size stream into parts and reassemble it")
+    void shouldUploadLargeStreamInParallelParts() throws Exception {
+        // Given
+        FileSystemStorageBackend storageBackend = new FileSystemStorageBackend(rootDirectory);
+        ParallelMultipartUploader uploader = new ParallelMultipartUploader(storageBackend, executor, PART_SIZE, 2);
+        byte[] content = randomContent(2 * PART_SIZE + 1234);
+
+        // When
+        long uploaded = uploader.upload("large.bin", new ByteArrayInputStream(content), -1, null);
+
+        // Then
+        assertEquals(content.length, uploaded);
+        try (InputStream inputStream = storageBackend.getObject("large.bin")) {
+            assertArrayEquals(content, inputStream.readAllBytes());
+        }
+    }
+
+    @Test
+    @DisplayName("Should use single put for unknown-size stream fitting into one part")
+    void shouldUseSinglePutForSmallStream() throws Exception {
+        // Given
+        StorageBackend storageBackend = mock(StorageBackend.class);
+        ParallelMultipartUploader uploader = new ParallelMultipartUploader(storageBackend, executor, PART_SIZE, 2);
+
+        // When
+        long uploaded = uploader.upload("small.pdf", new ByteArrayInputStream(new byte[1024]), -1, "application/pdf");
+
+        // Then
+        assertEquals(1024, uploaded);
+        verify(storageBackend).putObject(eq("small.pdf"), any(InputStream.class), eq(1024L), eq("application/pdf"));
+        verify(storageBackend, never()).createMultipartUpload(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should abort multipart upload when a part fails")
+    void shouldAbortWhenPartFails() throws Exception {
+        // Given
+        StorageBackend storageBackend = mock(StorageBackend.class);
+        when(storageBackend.createMultipartUpload("large.bin", null)).thenReturn("upload-1");
+        when(storageBackend.uploadPart(eq("large.bin"), eq("upload-1"), anyInt(), any(InputStream.class), anyLong()))
+                .thenThrow(new IOException("Bağlantı koptu"));
+        ParallelMultipartUploader uploader = new ParallelMultipartUploader(storageBackend, executor, PART_SIZE, 2);
+        byte[] content = randomContent(3 * PART_SIZE);
+
+        // When & Then
+        assertThrows(IOException.class,
+                () -> uploader.upload("large.bin", new ByteArrayInputStream(content), content.length, null));
+        verify(storageBackend).abortMultipartUpload("large.bin", "upload-1");
+        verify(storageBackend, never()).completeMultipartUpload(anyString(), anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("Should reject part size below storage minimum")
+    void shouldRejectTooSmallPartSize() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParallelMultipartUploader(mock(StorageBackend.class), executor, 1024, 2));
+    }
+}
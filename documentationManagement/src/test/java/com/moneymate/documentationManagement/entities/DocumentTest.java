@@ -1,5 +1,6 @@
 package com.moneymate.documentationManagement.entities;
 
+import com.moneymate.documentationManagement.core.utilities.io.StorageCodec;
 import com.moneymate.documentationManagement.entities.concretes.Document;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -62,11 +63,15 @@ class DocumentTest {
             String documentDescription = "Test description";
             String fileSize = "1024KB";
             String fileUrl = "https://example.com/document.pdf";
+            String contentHash = "a".repeat(64);
+            String crc32c = "e3069283";
+            StorageCodec storageCodec = StorageCodec.GZIP;
 
             // When
             Document newDocument = new Document(id, title, minioFileName, institutionName, institutionType,
                     institutionUrl, documentType, uploadAt, updateAt,
-                    documentDescription, fileSize, fileUrl);
+                    documentDescription, fileSize, fileUrl, contentHash, crc32c, storageCodec, Document.ThumbnailStatus.READY,
+                    Document.StorageTier.ARCHIVE, updateAt);
 
             // Then
             assertNotNull(newDocument);
@@ -81,6 +86,12 @@ class DocumentTest {
             assertEquals(documentDescription, newDocument.getDocumentDescription());
             assertEquals(fileSize, newDocument.getFileSize());
             assertEquals(fileUrl, newDocument.getFileUrl());
+            assertEquals(contentHash, newDocument.getContentHash());
+            assertEquals(crc32c, newDocument.getCrc32c());
+            assertEquals(storageCodec, newDocument.getStorageCodec());
+            assertEquals(Document.ThumbnailStatus.READY, newDocument.getThumbnailStatus());
+            assertEquals(Document.StorageTier.ARCHIVE, newDocument.getStorageTier());
+            assertEquals(updateAt, newDocument.getLastAccessedAt());
         }
 
         @Test
@@ -23,9 +23,14 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moneymate.documentationManagement.business.abstracts.ChunkedUploadService;
+import com.moneymate.documentationManagement.business.abstracts.DirectUploadService;
+import com.moneymate.documentationManagement.business.abstracts.DocumentExportService;
 import com.moneymate.documentationManagement.business.abstracts.DocumentService;
 import com.moneymate.documentationManagement.business.abstracts.FileUploadService;
+import com.moneymate.documentationManagement.business.abstracts.UploadJobService;
 import com.moneymate.documentationManagement.business.requests.DocumentUpdateRequest;
+import com.moneymate.documentationManagement.business.responses.CursorPage;
 import com.moneymate.documentationManagement.core.utilities.exceptions.Results.DataResult;
 import com.moneymate.documentationManagement.core.utilities.exceptions.Results.ErrorDataResult;
 import com.moneymate.documentationManagement.core.utilities.exceptions.Results.Result;
@@ -49,6 +54,18 @@ class DocumentApiTest {
     @MockBean
     private FileUploadService fileUploadService;
 
+    @MockBean
+    private ChunkedUploadService chunkedUploadService;
+
+    @MockBean
+    private UploadJobService uploadJobService;
+
+    @MockBean
+    private DirectUploadService directUploadService;
+
+    @MockBean
+    private DocumentExportService documentExportService;
+
     private Document testDocument;
     private List<Document> testDocuments;
     private DocumentUpdateRequest updateRequest;
@@ -96,47 +113,67 @@ class DocumentApiTest {
         @DisplayName("Should return all documents successfully")
         void shouldReturnAllDocumentsSuccessfully() throws Exception {
             // Given
-            DataResult<List<Document>> successResult = new SuccessDataResult<>(testDocuments, "Success");
-            when(documentService.getAllDocuments()).thenReturn(successResult);
+            DataResult<CursorPage<Document>> successResult = new SuccessDataResult<>(new CursorPage<>(testDocuments, null), "Success");
+            when(documentService.getAllDocuments(null, null)).thenReturn(successResult);
 
             // When & Then
             mockMvc.perform(get("/api/v1/documents/"))
                     .andExpect(status().isOk())
                     .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                     .andExpect(jsonPath("$.success").value(true))
-                    .andExpect(jsonPath("$.data").isArray())
-                    .andExpect(jsonPath("$.data.length()").value(2))
-                    .andExpect(jsonPath("$.data[0].id").value(1))
-                    .andExpect(jsonPath("$.data[0].title").value("Test Document"))
-                    .andExpect(jsonPath("$.data[1].id").value(2))
-                    .andExpect(jsonPath("$.data[1].title").value("Another Document"));
+                    .andExpect(jsonPath("$.data.items").isArray())
+                    .andExpect(jsonPath("$.data.items.length()").value(2))
+                    .andExpect(jsonPath("$.data.items[0].id").value(1))
+                    .andExpect(jsonPath("$.data.items[0].title").value("Test Document"))
+                    .andExpect(jsonPath("$.data.items[1].id").value(2))
+                    .andExpect(jsonPath("$.data.items[1].title").value("Another Document"));
 
-            verify(documentService).getAllDocuments();
+            verify(documentService).getAllDocuments(null, null);
         }
 
         @Test
         @DisplayName("Should return empty list when no documents exist")
         void shouldReturnEmptyListWhenNoDocumentsExist() throws Exception {
             // Given
-            DataResult<List<Document>> successResult = new SuccessDataResult<>(Collections.emptyList(), "Success");
-            when(documentService.getAllDocuments()).thenReturn(successResult);
+            DataResult<CursorPage<Document>> successResult = new SuccessDataResult<>(new CursorPage<>(Collections.emptyList(), null), "Success");
+            when(documentService.getAllDocuments(null, null)).thenReturn(successResult);
 
             // When & Then
             mockMvc.perform(get("/api/v1/documents/"))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.success").value(true))
-                    .andExpect(jsonPath("$.data").isArray())
-                    .andExpect(jsonPath("$.data.length()").value(0));
+                    .andExpect(jsonPath("$.data.items").isArray())
+                    .andExpect(jsonPath("$.data.items.length()").value(0));
+
+            verify(documentService).getAllDocuments(null, null);
+        }
+
+        @Test
+        @DisplayName("Should pass cursor and size to the service and return the next cursor")
+        void shouldPassCursorAndSize() throws Exception {
+            // Given
+            DataResult<CursorPage<Document>> successResult =
+                    new SuccessDataResult<>(new CursorPage<>(testDocuments, "aWQxOjE"), "Success");
+            when(documentService.getAllDocuments("aWQxOjM", 2)).thenReturn(successResult);
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/documents/")
+                    .param("cursor", "aWQxOjM")
+                    .param("size", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.items.length()").value(2))
+                    .andExpect(jsonPath("$.data.nextCursor").value("aWQxOjE"))
+                    .andExpect(jsonPath("$.data.hasMore").value(true));
 
-            verify(documentService).getAllDocuments();
+            verify(documentService).getAllDocuments("aWQxOjM", 2);
         }
 
         @Test
         @DisplayName("Should handle service error gracefully")
         void shouldHandleServiceErrorGracefully() throws Exception {
             // Given
-            DataResult<List<Document>> errorResult = new ErrorDataResult<>("Database error");
-            when(documentService.getAllDocuments()).thenReturn(errorResult);
+            DataResult<CursorPage<Document>> errorResult = new ErrorDataResult<>("Database error");
+            when(documentService.getAllDocuments(null, null)).thenReturn(errorResult);
 
             // When & Then
             mockMvc.perform(get("/api/v1/documents/"))
@@ -144,7 +181,7 @@ class DocumentApiTest {
                     .andExpect(jsonPath("$.success").value(false))
                     .andExpect(jsonPath("$.message").value("Database error"));
 
-            verify(documentService).getAllDocuments();
+            verify(documentService).getAllDocuments(null, null);
         }
     }
 
@@ -169,6 +206,8 @@ class DocumentApiTest {
                     .andExpect(jsonPath("$.data.institutionName").value("Test University"));
 
             verify(documentService).getDocumentById(documentId);
+            // Yanıtta içerik URL'i verildiği için erişim kaydedilir
+            verify(documentService).recordAccess(testDocument);
         }
 
         @Test
@@ -186,6 +225,7 @@ class DocumentApiTest {
                     .andExpect(jsonPath("$.message").value("Document not found"));
 
             verify(documentService).getDocumentById(documentId);
+            verify(documentService, never()).recordAccess(any());
         }
 
         @Test
@@ -346,18 +386,18 @@ class DocumentApiTest {
             // Given
             String institutionName = "Test University";
             List<Document> institutionDocuments = Arrays.asList(testDocument);
-            DataResult<List<Document>> successResult = new SuccessDataResult<>(institutionDocuments, "Success");
-            when(documentService.getDocumentsByInstitution(institutionName)).thenReturn(successResult);
+            DataResult<CursorPage<Document>> successResult = new SuccessDataResult<>(new CursorPage<>(institutionDocuments, null), "Success");
+            when(documentService.getDocumentsByInstitution(institutionName, null, null)).thenReturn(successResult);
 
             // When & Then
             mockMvc.perform(get("/api/v1/documents/institution/{institutionName}", institutionName))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.success").value(true))
-                    .andExpect(jsonPath("$.data").isArray())
-                    .andExpect(jsonPath("$.data.length()").value(1))
-                    .andExpect(jsonPath("$.data[0].institutionName").value("Test University"));
+                    .andExpect(jsonPath("$.data.items").isArray())
+                    .andExpect(jsonPath("$.data.items.length()").value(1))
+                    .andExpect(jsonPath("$.data.items[0].institutionName").value("Test University"));
 
-            verify(documentService).getDocumentsByInstitution(institutionName);
+            verify(documentService).getDocumentsByInstitution(institutionName, null, null);
         }
 
         @Test
@@ -365,17 +405,17 @@ class DocumentApiTest {
         void shouldReturnEmptyListForNonExistentInstitution() throws Exception {
             // Given
             String institutionName = "Non Existent University";
-            DataResult<List<Document>> successResult = new SuccessDataResult<>(Collections.emptyList(), "Success");
-            when(documentService.getDocumentsByInstitution(institutionName)).thenReturn(successResult);
+            DataResult<CursorPage<Document>> successResult = new SuccessDataResult<>(new CursorPage<>(Collections.emptyList(), null), "Success");
+            when(documentService.getDocumentsByInstitution(institutionName, null, null)).thenReturn(successResult);
 
             // When & Then
             mockMvc.perform(get("/api/v1/documents/institution/{institutionName}", institutionName))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.success").value(true))
-                    .andExpect(jsonPath("$.data").isArray())
-                    .andExpect(jsonPath("$.data.length()").value(0));
+                    .andExpect(jsonPath("$.data.items").isArray())
+                    .andExpect(jsonPath("$.data.items.length()").value(0));
 
-            verify(documentService).getDocumentsByInstitution(institutionName);
+            verify(documentService).getDocumentsByInstitution(institutionName, null, null);
         }
 
         @Test
@@ -383,15 +423,15 @@ class DocumentApiTest {
         void shouldHandleSpecialCharactersInInstitutionName() throws Exception {
             // Given
             String institutionName = "Test & Research University";
-            DataResult<List<Document>> successResult = new SuccessDataResult<>(Collections.emptyList(), "Success");
-            when(documentService.getDocumentsByInstitution(institutionName)).thenReturn(successResult);
+            DataResult<CursorPage<Document>> successResult = new SuccessDataResult<>(new CursorPage<>(Collections.emptyList(), null), "Success");
+            when(documentService.getDocumentsByInstitution(institutionName, null, null)).thenReturn(successResult);
 
             // When & Then
             mockMvc.perform(get("/api/v1/documents/institution/{institutionName}", institutionName))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.success").value(true));
 
-            verify(documentService).getDocumentsByInstitution(institutionName);
+            verify(documentService).getDocumentsByInstitution(institutionName, null, null);
         }
     }
 
@@ -405,18 +445,18 @@ class DocumentApiTest {
             // Given
             String documentType = "PDF";
             List<Document> pdfDocuments = Arrays.asList(testDocument);
-            DataResult<List<Document>> successResult = new SuccessDataResult<>(pdfDocuments, "Success");
-            when(documentService.getDocumentsByType(documentType)).thenReturn(successResult);
+            DataResult<CursorPage<Document>> successResult = new SuccessDataResult<>(new CursorPage<>(pdfDocuments, null), "Success");
+            when(documentService.getDocumentsByType(documentType, null, null)).thenReturn(successResult);
 
             // When & Then
             mockMvc.perform(get("/api/v1/documents/type/{documentType}", documentType))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.success").value(true))
-                    .andExpect(jsonPath("$.data").isArray())
-                    .andExpect(jsonPath("$.data.length()").value(1))
-                    .andExpect(jsonPath("$.data[0].documentType").value("PDF"));
+                    .andExpect(jsonPath("$.data.items").isArray())
+                    .andExpect(jsonPath("$.data.items.length()").value(1))
+                    .andExpect(jsonPath("$.data.items[0].documentType").value("PDF"));
 
-            verify(documentService).getDocumentsByType(documentType);
+            verify(documentService).getDocumentsByType(documentType, null, null);
         }
 
         @Test
@@ -424,17 +464,17 @@ class DocumentApiTest {
         void shouldReturnEmptyListForNonExistentDocumentType() throws Exception {
             // Given
             String documentType = "XLS";
-            DataResult<List<Document>> successResult = new SuccessDataResult<>(Collections.emptyList(), "Success");
-            when(documentService.getDocumentsByType(documentType)).thenReturn(successResult);
+            DataResult<CursorPage<Document>> successResult = new SuccessDataResult<>(new CursorPage<>(Collections.emptyList(), null), "Success");
+            when(documentService.getDocumentsByType(documentType, null, null)).thenReturn(successResult);
 
             // When & Then
             mockMvc.perform(get("/api/v1/documents/type/{documentType}", documentType))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.success").value(true))
-                    .andExpect(jsonPath("$.data").isArray())
-                    .andExpect(jsonPath("$.data.length()").value(0));
+                    .andExpect(jsonPath("$.data.items").isArray())
+                    .andExpect(jsonPath("$.data.items.length()").value(0));
 
-            verify(documentService).getDocumentsByType(documentType);
+            verify(documentService).getDocumentsByType(documentType, null, null);
         }
     }
 
@@ -448,19 +488,19 @@ class DocumentApiTest {
             // Given
             String searchTitle = "Test";
             List<Document> searchResults = Arrays.asList(testDocument);
-            DataResult<List<Document>> successResult = new SuccessDataResult<>(searchResults, "Success");
-            when(documentService.searchDocumentsByTitle(searchTitle)).thenReturn(successResult);
+            DataResult<CursorPage<Document>> successResult = new SuccessDataResult<>(new CursorPage<>(searchResults, null), "Success");
+            when(documentService.searchDocumentsByTitle(searchTitle, null, null)).thenReturn(successResult);
 
             // When & Then
             mockMvc.perform(get("/api/v1/documents/search")
                     .param("title", searchTitle))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.success").value(true))
-                    .andExpect(jsonPath("$.data").isArray())
-                    .andExpect(jsonPath("$.data.length()").value(1))
-                    .andExpect(jsonPath("$.data[0].title").value("Test Document"));
+                    .andExpect(jsonPath("$.data.items").isArray())
+                    .andExpect(jsonPath("$.data.items.length()").value(1))
+                    .andExpect(jsonPath("$.data.items[0].title").value("Test Document"));
 
-            verify(documentService).searchDocumentsByTitle(searchTitle);
+            verify(documentService).searchDocumentsByTitle(searchTitle, null, null);
         }
 
         @Test
@@ -468,18 +508,18 @@ class DocumentApiTest {
         void shouldReturnEmptyListWhenNoMatchesFound() throws Exception {
             // Given
             String searchTitle = "NonExistent";
-            DataResult<List<Document>> successResult = new SuccessDataResult<>(Collections.emptyList(), "Success");
-            when(documentService.searchDocumentsByTitle(searchTitle)).thenReturn(successResult);
+            DataResult<CursorPage<Document>> successResult = new SuccessDataResult<>(new CursorPage<>(Collections.emptyList(), null), "Success");
+            when(documentService.searchDocumentsByTitle(searchTitle, null, null)).thenReturn(successResult);
 
             // When & Then
             mockMvc.perform(get("/api/v1/documents/search")
                     .param("title", searchTitle))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.success").value(true))
-                    .andExpect(jsonPath("$.data").isArray())
-                    .andExpect(jsonPath("$.data.length()").value(0));
+                    .andExpect(jsonPath("$.data.items").isArray())
+                    .andExpect(jsonPath("$.data.items.length()").value(0));
 
-            verify(documentService).searchDocumentsByTitle(searchTitle);
+            verify(documentService).searchDocumentsByTitle(searchTitle, null, null);
         }
 
         @Test
@@ -489,7 +529,7 @@ class DocumentApiTest {
             mockMvc.perform(get("/api/v1/documents/search"))
                     .andExpect(status().isBadRequest());
 
-            verify(documentService, never()).searchDocumentsByTitle(any());
+            verify(documentService, never()).searchDocumentsByTitle(any(), any(), any());
         }
 
         @Test
@@ -497,8 +537,8 @@ class DocumentApiTest {
         void shouldHandleEmptySearchParameter() throws Exception {
             // Given
             String emptySearch = "";
-            DataResult<List<Document>> successResult = new SuccessDataResult<>(testDocuments, "Success");
-            when(documentService.searchDocumentsByTitle(emptySearch)).thenReturn(successResult);
+            DataResult<CursorPage<Document>> successResult = new SuccessDataResult<>(new CursorPage<>(testDocuments, null), "Success");
+            when(documentService.searchDocumentsByTitle(emptySearch, null, null)).thenReturn(successResult);
 
             // When & Then
             mockMvc.perform(get("/api/v1/documents/search")
@@ -506,7 +546,7 @@ class DocumentApiTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.success").value(true));
 
-            verify(documentService).searchDocumentsByTitle(emptySearch);
+            verify(documentService).searchDocumentsByTitle(emptySearch, null, null);
         }
     }
 
@@ -596,7 +636,7 @@ class DocumentApiTest {
             Result deleteResult = new SuccessResult("Document deleted");
             
             when(documentService.getDocumentById(documentId)).thenReturn(getResult);
-            when(fileUploadService.deleteFile(fileName)).thenReturn(deleteResult);
+            when(fileUploadService.releaseFile(fileName)).thenReturn(deleteResult);
             when(documentService.deleteDocument(documentId)).thenReturn(deleteResult);
 
             // When & Then
@@ -606,7 +646,7 @@ class DocumentApiTest {
                     .andExpect(jsonPath("$.message").value("Document deleted"));
 
             verify(documentService).getDocumentById(documentId);
-            verify(fileUploadService).deleteFile(fileName);
+            verify(fileUploadService).releaseFile(fileName);
             verify(documentService).deleteDocument(documentId);
         }
 
@@ -625,7 +665,7 @@ class DocumentApiTest {
                     .andExpect(jsonPath("$.message").value("Document not found"));
 
             verify(documentService).getDocumentById(documentId);
-            verify(fileUploadService, never()).deleteFile(any());
+            verify(fileUploadService, never()).releaseFile(any());
             verify(documentService, never()).deleteDocument(any());
         }
 
@@ -644,7 +684,7 @@ class DocumentApiTest {
             Result deleteResult = new SuccessResult("Document deleted");
             
             when(documentService.getDocumentById(documentId)).thenReturn(getResult);
-            when(fileUploadService.deleteFile("document.pdf")).thenReturn(deleteResult);
+            when(fileUploadService.releaseFile("document.pdf")).thenReturn(deleteResult);
             when(documentService.deleteDocument(documentId)).thenReturn(deleteResult);
 
             // When & Then
@@ -652,7 +692,7 @@ class DocumentApiTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.success").value(true));
 
-            verify(fileUploadService).deleteFile("document.pdf");
+            verify(fileUploadService).releaseFile("document.pdf");
         }
 
         @Test
@@ -670,7 +710,7 @@ class DocumentApiTest {
             Result deleteResult = new SuccessResult("Document deleted");
             
             when(documentService.getDocumentById(documentId)).thenReturn(getResult);
-            when(fileUploadService.deleteFile("simple-filename.pdf")).thenReturn(deleteResult);
+            when(fileUploadService.releaseFile("simple-filename.pdf")).thenReturn(deleteResult);
             when(documentService.deleteDocument(documentId)).thenReturn(deleteResult);
 
             // When & Then
@@ -678,7 +718,7 @@ class DocumentApiTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.success").value(true));
 
-            verify(fileUploadService).deleteFile("simple-filename.pdf");
+            verify(fileUploadService).releaseFile("simple-filename.pdf");
         }
     }
 
@@ -702,8 +742,8 @@ class DocumentApiTest {
         @DisplayName("Should allow cross-origin requests")
         void shouldAllowCrossOriginRequests() throws Exception {
             // Given
-            DataResult<List<Document>> successResult = new SuccessDataResult<>(testDocuments, "Success");
-            when(documentService.getAllDocuments()).thenReturn(successResult);
+            DataResult<CursorPage<Document>> successResult = new SuccessDataResult<>(new CursorPage<>(testDocuments, null), "Success");
+            when(documentService.getAllDocuments(null, null)).thenReturn(successResult);
 
             // When & Then
             mockMvc.perform(get("/api/v1/documents/")
@@ -711,7 +751,7 @@ class DocumentApiTest {
                     .andExpect(status().isOk())
                     .andExpect(header().string("Access-Control-Allow-Origin", "*"));
 
-            verify(documentService).getAllDocuments();
+            verify(documentService).getAllDocuments(null, null);
         }
     }
 
@@ -723,14 +763,14 @@ class DocumentApiTest {
         @DisplayName("Should handle service exceptions gracefully")
         void shouldHandleServiceExceptionsGracefully() throws Exception {
             // Given
-            when(documentService.getAllDocuments())
+            when(documentService.getAllDocuments(null, null))
                     .thenThrow(new RuntimeException("Database connection failed"));
 
             // When & Then
             mockMvc.perform(get("/api/v1/documents/"))
                     .andExpect(status().isInternalServerError());
 
-            verify(documentService).getAllDocuments();
+            verify(documentService).getAllDocuments(null, null);
         }
 
         @Test
@@ -775,8 +815,8 @@ class DocumentApiTest {
         @DisplayName("Should handle concurrent requests properly")
         void shouldHandleConcurrentRequestsProperly() throws Exception {
             // Given
-            DataResult<List<Document>> successResult = new SuccessDataResult<>(testDocuments, "Success");
-            when(documentService.getAllDocuments()).thenReturn(successResult);
+            DataResult<CursorPage<Document>> successResult = new SuccessDataResult<>(new CursorPage<>(testDocuments, null), "Success");
+            when(documentService.getAllDocuments(null, null)).thenReturn(successResult);
 
             // When & Then - Simulate concurrent requests
             for (int i = 0; i < 5; i++) {
@@ -785,7 +825,7 @@ class DocumentApiTest {
                         .andExpect(jsonPath("$.success").value(true));
             }
 
-            verify(documentService, times(5)).getAllDocuments();
+            verify(documentService, times(5)).getAllDocuments(null, null);
         }
     }
 
@@ -807,14 +847,14 @@ class DocumentApiTest {
             Result deleteResult = new SuccessResult("Deleted");
             
             when(documentService.getDocumentById(documentId)).thenReturn(getResult);
-            when(fileUploadService.deleteFile("my-document.pdf")).thenReturn(deleteResult);
+            when(fileUploadService.releaseFile("my-document.pdf")).thenReturn(deleteResult);
             when(documentService.deleteDocument(documentId)).thenReturn(deleteResult);
 
             // When & Then
             mockMvc.perform(delete("/api/v1/documents/{id}", documentId))
                     .andExpect(status().isOk());
 
-            verify(fileUploadService).deleteFile("my-document.pdf");
+            verify(fileUploadService).releaseFile("my-document.pdf");
         }
 
         @Test
@@ -831,14 +871,14 @@ class DocumentApiTest {
             Result deleteResult = new SuccessResult("Deleted");
             
             when(documentService.getDocumentById(documentId)).thenReturn(getResult);
-            when(fileUploadService.deleteFile(null)).thenReturn(deleteResult);
+            when(fileUploadService.releaseFile(null)).thenReturn(deleteResult);
             when(documentService.deleteDocument(documentId)).thenReturn(deleteResult);
 
             // When & Then
             mockMvc.perform(delete("/api/v1/documents/{id}", documentId))
                     .andExpect(status().isOk());
 
-            verify(fileUploadService).deleteFile(null);
+            verify(fileUploadService).releaseFile(null);
         }
 
         @Test
@@ -855,14 +895,14 @@ class DocumentApiTest {
             Result deleteResult = new SuccessResult("Deleted");
             
             when(documentService.getDocumentById(documentId)).thenReturn(getResult);
-            when(fileUploadService.deleteFile("")).thenReturn(deleteResult);
+            when(fileUploadService.releaseFile("")).thenReturn(deleteResult);
             when(documentService.deleteDocument(documentId)).thenReturn(deleteResult);
 
             // When & Then
             mockMvc.perform(delete("/api/v1/documents/{id}", documentId))
                     .andExpect(status().isOk());
 
-            verify(fileUploadService).deleteFile("");
+            verify(fileUploadService).releaseFile("");
         }
     }
 
@@ -877,15 +917,15 @@ class DocumentApiTest {
             // Swagger documentation is handled by annotations
             
             // Given
-            DataResult<List<Document>> successResult = new SuccessDataResult<>(testDocuments, "Success");
-            when(documentService.getAllDocuments()).thenReturn(successResult);
+            DataResult<CursorPage<Document>> successResult = new SuccessDataResult<>(new CursorPage<>(testDocuments, null), "Success");
+            when(documentService.getAllDocuments(null, null)).thenReturn(successResult);
 
             // When & Then
             mockMvc.perform(get("/api/v1/documents/"))
                     .andExpect(status().isOk())
                     .andExpect(content().contentType(MediaType.APPLICATION_JSON));
 
-            verify(documentService).getAllDocuments();
+            verify(documentService).getAllDocuments(null, null);
         }
     }
 
@@ -920,7 +960,7 @@ class DocumentApiTest {
                     any(), eq("Test"), eq("Uni"), eq("University"),
                     eq("https://test.edu"), eq("PDF"), eq("Desc")
             );
-            verify(documentService, never()).getAllDocuments(); // Should not call other methods
+            verify(documentService, never()).getAllDocuments(any(), any()); // Should not call other methods
         }
 
         @Test
@@ -933,7 +973,7 @@ class DocumentApiTest {
             Result deleteDocResult = new SuccessResult("Document deleted");
             
             when(documentService.getDocumentById(documentId)).thenReturn(getResult);
-            when(fileUploadService.deleteFile(any())).thenReturn(deleteFileResult);
+            when(fileUploadService.releaseFile(any())).thenReturn(deleteFileResult);
             when(documentService.deleteDocument(documentId)).thenReturn(deleteDocResult);
 
             // When
@@ -942,7 +982,7 @@ class DocumentApiTest {
             // Then - Verify order of operations
             var inOrder = inOrder(documentService, fileUploadService);
             inOrder.verify(documentService).getDocumentById(documentId);
-            inOrder.verify(fileUploadService).deleteFile(any());
+            inOrder.verify(fileUploadService).releaseFile(any());
             inOrder.verify(documentService).deleteDocument(documentId);
         }
 
@@ -966,7 +1006,7 @@ class DocumentApiTest {
 
             // Then
             verify(fileUploadService, never()).uploadFileWithMetadata(any(), any(), any(), any(), any(), any(), any());
-            verify(documentService, never()).getAllDocuments();
+            verify(documentService, never()).getAllDocuments(any(), any());
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,142 @@
+package com.moneymate.documentationManagement.webApi.controllers;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.moneymate.documentationManagement.business.abstracts.ChunkedUploadService;
+import com.moneymate.documentationManagement.business.abstracts.DirectUploadService;
+import com.moneymate.documentationManagement.business.abstracts.DocumentExportService;
+import com.moneymate.documentationManagement.business.abstracts.DocumentService;
+import com.moneymate.documentationManagement.business.abstracts.FileUploadService;
+import com.moneymate.documentationManagement.business.abstracts.UploadJobService;
+import com.moneymate.documentationManagement.core.utilities.exceptions.ExceptionHandlerController;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.ErrorDataResult;
+import com.moneymate.documentationManagement.core.utilities.exceptions.Results.SuccessDataResult;
+import com.moneymate.documentationManagement.dataAccess.abstracts.StorageBackend.ObjectStat;
+import com.moneymate.documentationManagement.entities.concretes.Document;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DocumentApi Content Download Tests")
+class DocumentContentApiTest {
+
+    @Mock
+    private DocumentService documentService;
+
+    @Mock
+    private FileUploadService fileUploadService;
+
+    @Mock
+    private ChunkedUploadService chunkedUploadService;
+
+    @Mock
+    private UploadJobService uploadJobService;
+
+    @Mock
+    private DirectUploadService directUploadService;
+
+    @Mock
+    private DocumentExportService documentExportService;
+
+    private MockMvc mockMvc;
+
+    private final byte[] content = "Spring Boot ile döküman yönetimi".getBytes(StandardCharsets.UTF_8);
+    private final String etag = "\"" + "a".repeat(64) + "\"";
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Güvenlik filtresi olmadan sadece controller'ı ayağa kaldır
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new DocumentApi(documentService, fileUploadService, chunkedUploadService, uploadJobService,
+                        directUploadService, documentExportService))
+                .setControllerAdvice(new ExceptionHandlerController())
+                .build();
+
+        Document document = Document.builder().id(1L).minioFileName("object.pdf").contentHash("a".repeat(64)).build();
+        lenient().when(documentService.getDocumentById(1L))
+                .thenReturn(new SuccessDataResult<>(Optional.of(document), "Success"));
+        lenient().when(fileUploadService.getFileInfo("object.pdf"))
+                .thenReturn(new SuccessDataResult<>(new ObjectStat(content.length, "etag", "application/pdf"), "Success"));
+        lenient().doAnswer(invocation -> {
+            long offset = invocation.getArgument(1);
+            long length = invocation.getArgument(2);
+            OutputStream outputStream = invocation.getArgument(3);
+            outputStream.write(Arrays.copyOfRange(content, (int) offset, (int) (offset + length)));
+            return null;
+        }).when(fileUploadService).writeFile(eq("object.pdf"), anyLong(), anyLong(), any(OutputStream.class));
+    }
+
+    @Test
+    @DisplayName("Should stream whole file with ETag and immutable cache headers")
+    void shouldStreamWholeFile() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/documents/1/content"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, private, immutable"))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, content.length))
+                .andExpect(content().contentType("application/pdf"))
+                .andExpect(content().bytes(content));
+    }
+
+    @Test
+    @DisplayName("Should return requested byte range with 206")
+    void shouldReturnPartialContent() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/documents/1/content").header(HttpHeaders.RANGE, "bytes=7-10"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 7-10/" + content.length))
+                .andExpect(content().string("Boot"));
+    }
+
+    @Test
+    @DisplayName("Should return 304 without touching storage when ETag matches")
+    void shouldReturnNotModified() throws Exception {
+        mockMvc.perform(get("/api/v1/documents/1/content").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        verify(fileUploadService, never()).getFileInfo(anyString());
+    }
+
+    @Test
+    @DisplayName("Should return 416 for range beyond end of file")
+    void shouldRejectUnsatisfiableRange() throws Exception {
+        mockMvc.perform(get("/api/v1/documents/1/content").header(HttpHeaders.RANGE, "bytes=1000-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + content.length));
+    }
+
+    @Test
+    @DisplayName("Should return 404 for unknown document")
+    void shouldReturnNotFoundForUnknownDocument() throws Exception {
+        when(documentService.getDocumentById(2L)).thenReturn(new ErrorDataResult<>("Doküman bulunamadı"));
+
+        mockMvc.perform(get("/api/v1/documents/2/content"))
+                .andExpect(status().isNotFound());
+    }
+}